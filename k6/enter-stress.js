@@ -3,6 +3,7 @@ import { check, sleep } from 'k6';
 import { Counter } from 'k6/metrics';
 
 const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const SHOW_URL = `${BASE_URL}/api/shows/${__ENV.SHOW_ID || 1}`;
 
 const enterSuccess = new Counter('enter_success');
 const enterFail = new Counter('enter_fail');
@@ -23,7 +24,7 @@ export const options = {
 };
 
 export default function () {
-    const res = http.post(`${BASE_URL}/api/queues/tokens`, null, {
+    const res = http.post(`${SHOW_URL}/queues/tokens`, null, {
         headers: { 'Content-Type': 'application/json' },
     });
 
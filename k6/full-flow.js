@@ -3,6 +3,7 @@ import { check, sleep } from 'k6';
 import { Counter, Trend } from 'k6/metrics';
 
 const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const SHOW_URL = `${BASE_URL}/api/shows/${__ENV.SHOW_ID || 1}`;
 
 // --- Custom Metrics ---
 const purchaseSuccess = new Counter('purchase_success');
@@ -27,7 +28,7 @@ export const options = {
 
 export default function () {
     // === 1. 대기열 진입 ===
-    const enterRes = http.post(`${BASE_URL}/api/queues/tokens`, null, {
+    const enterRes = http.post(`${SHOW_URL}/queues/tokens`, null, {
         headers: { 'Content-Type': 'application/json' },
     });
 
@@ -44,10 +45,13 @@ export default function () {
     const waitStart = Date.now();
     let active = false;
 
-    for (let i = 0; i < 60; i++) {  // 최대 5분 (60 * 5초)
-        sleep(5)
-        const statusRes = http.get(`${BASE_URL}/api/queues/tokens/${token}`);
+    // 서버가 권장한 간격(nextPollMs)마다 조회한다. 순번이 뒤일수록 드물게 조회한다.
+    let nextPollMs = 5000;
+    while (Date.now() - waitStart < 5 * 60 * 1000) {  // 최대 5분
+        sleep(nextPollMs / 1000);
+        const statusRes = http.get(`${SHOW_URL}/queues/tokens/${token}`);
         const status = statusRes.json('status');
+        nextPollMs = statusRes.json('nextPollMs') || 5000;
 
         if (status === 'ACTIVE') {
             active = true;
@@ -63,7 +67,7 @@ export default function () {
 
     // === 3~4. 좌석 조회 → 구매 (성공하거나 매진될 때까지 반복) ===
     while (true) {
-        const seatsRes = http.get(`${BASE_URL}/api/seats`, {
+        const seatsRes = http.get(`${SHOW_URL}/seats`, {
             headers: { 'X-Queue-Token': token },
         });
 
@@ -82,7 +86,7 @@ export default function () {
         const seat = available[Math.floor(Math.random() * available.length)];
 
         const purchaseRes = http.post(
-            `${BASE_URL}/api/tickets`,
+            `${SHOW_URL}/tickets`,
             JSON.stringify({ seatNumber: seat.seatNumber }),
             {
                 headers: {
@@ -3,6 +3,7 @@ import { check } from 'k6';
 import { Counter } from 'k6/metrics';
 
 const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const SHOW_URL = `${BASE_URL}/api/shows/${__ENV.SHOW_ID || 1}`;
 
 const pollSuccess = new Counter('poll_success');
 const pollFail = new Counter('poll_fail');
@@ -25,7 +26,7 @@ export const options = {
 
 export default function () {
     // 토큰 발급 (VU당 1회)
-    const enterRes = http.post(`${BASE_URL}/api/queues/tokens`, null, {
+    const enterRes = http.post(`${SHOW_URL}/queues/tokens`, null, {
         headers: { 'Content-Type': 'application/json' },
         responseType: 'text',
     });
@@ -39,7 +40,7 @@ export default function () {
 
     // ACTIVE될 때까지 폴링
     while (true) {
-        const res = http.get(`${BASE_URL}/api/queues/tokens/${token}`, {
+        const res = http.get(`${SHOW_URL}/queues/tokens/${token}`, {
             responseType: 'text',
         });
 
@@ -0,0 +1,57 @@
+package kr.jemi.zticket.common.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 모든 Lua 스크립트를 SCRIPT LOAD로 Redis 스크립트 캐시에 올린다.
+ * <p>
+ * RedisTemplate.execute(RedisScript)는 EVALSHA를 먼저 보내고 NOSCRIPT일 때만 EVAL로 스크립트 본문을 보낸다.
+ * 미리 올려 두면 첫 요청부터 EVALSHA 한 번으로 끝난다.
+ * Redis 재시작·failover로 캐시가 비어도 NOSCRIPT fallback이 있으므로 preload 실패는 기동을 막지 않는다.
+ */
+@Component
+public class LuaScriptPreloader {
+
+    private static final Logger log = LoggerFactory.getLogger(LuaScriptPreloader.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final List<LuaScriptProvider> providers;
+
+    public LuaScriptPreloader(StringRedisTemplate redisTemplate, List<LuaScriptProvider> providers) {
+        this.redisTemplate = redisTemplate;
+        this.providers = providers;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        List<RedisScript<?>> scripts = providers.stream()
+                .flatMap(provider -> provider.luaScripts().stream())
+                .toList();
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                for (RedisScript<?> script : scripts) {
+                    String sha = connection.scriptingCommands()
+                            .scriptLoad(script.getScriptAsString().getBytes(StandardCharsets.UTF_8));
+                    if (!script.getSha1().equals(sha)) {
+                        log.warn("Lua 스크립트 SHA 불일치: expected={}, actual={}", script.getSha1(), sha);
+                    }
+                }
+                return null;
+            });
+            log.info("Lua 스크립트 {}개 preload 완료", scripts.size());
+        } catch (DataAccessException e) {
+            log.warn("Lua 스크립트 preload 실패 - 첫 호출 시 EVAL로 대체된다", e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package kr.jemi.zticket.common.redis;
+
+import java.util.List;
+
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * 기동 시 Redis 스크립트 캐시에 미리 올려 둘 Lua 스크립트를 제공한다.
+ * 스크립트를 사용하는 adapter가 구현하면 {@link LuaScriptPreloader}가 수집한다.
+ */
+public interface LuaScriptProvider {
+
+    List<RedisScript<?>> luaScripts();
+}
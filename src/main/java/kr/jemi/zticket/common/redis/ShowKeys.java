@@ -0,0 +1,50 @@
+package kr.jemi.zticket.common.redis;
+
+import java.util.OptionalLong;
+
+/**
+ * 공연별 Redis 키 이름을 만든다.
+ * <p>
+ * 공연 ID를 해시 태그({...})로 감싸므로 한 공연의 키는 모두 같은 클러스터 슬롯에 모이고, 공연끼리는 여러 샤드로 흩어진다.
+ * 한 스크립트가 다루는 키가 모두 같은 공연이면 클러스터에서도 CROSSSLOT 없이 실행된다.
+ */
+public final class ShowKeys {
+
+    private static final String PREFIX = "show:{";
+    private static final String SUFFIX = "}:";
+
+    private ShowKeys() {}
+
+    /**
+     * 예: of(1, "seat:") + 7 = "show:{1}:seat:7"
+     */
+    public static String of(long showId, String name) {
+        return PREFIX + showId + SUFFIX + name;
+    }
+
+    /**
+     * 한 공연의 자료구조를 여러 슬롯으로 나눌 때 쓴다. 해시 태그에 샤드 번호까지 넣으므로 샤드마다 다른 슬롯에 놓인다.
+     * 예: shardOf(1, 3, "waiting_queue") = "show:{1:3}:waiting_queue"
+     */
+    public static String shardOf(long showId, int shard, String name) {
+        return PREFIX + showId + ":" + shard + SUFFIX + name;
+    }
+
+    /**
+     * {@link #of(long, String)}로 만든 키에서 공연 ID를 꺼낸다. 형식이 다른 키면 빈 값을 반환한다.
+     */
+    public static OptionalLong showIdOf(String key) {
+        if (!key.startsWith(PREFIX)) {
+            return OptionalLong.empty();
+        }
+        int end = key.indexOf(SUFFIX, PREFIX.length());
+        if (end < 0) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(key.substring(PREFIX.length(), end)));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package kr.jemi.zticket.common.show;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import kr.jemi.zticket.common.exception.BusinessException;
+import kr.jemi.zticket.common.exception.ErrorCode;
+
+/**
+ * 동시에 판매 중인 공연 ID 목록. 모든 모듈이 외부에서 들어온 공연 ID를 이 목록으로 검증하고,
+ * 스케줄러는 공연마다 작업을 실행한다. 좌석 수 등 나머지 설정은 모든 공연이 공유한다.
+ */
+@Component
+public class ShowCatalog {
+
+    private final List<Long> showIds;
+
+    public ShowCatalog(@Value("${zticket.show.ids}") List<Long> showIds) {
+        this.showIds = List.copyOf(showIds);
+    }
+
+    public List<Long> showIds() {
+        return showIds;
+    }
+
+    /**
+     * 등록되지 않은 공연이면 SHOW_NOT_FOUND 예외를 던진다. 검증 전에는 공연별 Redis 키나 캐시를 만들지 않는다.
+     */
+    public void validate(long showId) {
+        if (!showIds.contains(showId)) {
+            throw new BusinessException(ErrorCode.SHOW_NOT_FOUND);
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package kr.jemi.zticket.queue.api;
 
+import java.util.List;
+
 public interface QueueFacade {
 
-    boolean isActive(String token);
+    boolean isActive(long showId, String token);
+
+    void deactivate(long showId, String token);
 
-    void deactivate(String token);
+    void deactivateBatch(long showId, List<String> tokens);
 }
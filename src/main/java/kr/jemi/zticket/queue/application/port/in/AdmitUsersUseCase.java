@@ -2,5 +2,23 @@ package kr.jemi.zticket.queue.application.port.in;
 
 public interface AdmitUsersUseCase {
 
-    void admitBatch();
+    /**
+     * 잠수 유저를 대기열에서 제거하고 제거한 인원을 반환한다.
+     */
+    int removeExpired(long showId);
+
+    /**
+     * 최대 limit명을 입장시키고 입장한 인원을 반환한다. active 유저 상한과 잔여 좌석에 걸리면 limit보다 적게 입장시킨다.
+     */
+    int admit(long showId, int limit);
+
+    /**
+     * 구매 경로의 부하를 보고 공연별 초당 입장 인원을 다시 정해 반환한다.
+     */
+    double adjustRate();
+
+    /**
+     * 이 노드의 구매 경로 부하를 다른 노드(리더)가 읽을 수 있게 올린다.
+     */
+    void reportLoad();
 }
@@ -4,5 +4,5 @@ import kr.jemi.zticket.queue.domain.QueueToken;
 
 public interface EnterQueueUseCase {
 
-    QueueToken enter();
+    QueueToken enter(long showId);
 }
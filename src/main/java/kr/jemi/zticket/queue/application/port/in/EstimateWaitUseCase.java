@@ -0,0 +1,11 @@
+package kr.jemi.zticket.queue.application.port.in;
+
+import kr.jemi.zticket.queue.domain.WaitEstimate;
+
+public interface EstimateWaitUseCase {
+
+    /**
+     * 대기 순번 rank의 예상 대기 시간과 권장 다음 확인 간격을 계산한다.
+     */
+    WaitEstimate estimate(long showId, long rank);
+}
@@ -4,5 +4,5 @@ import kr.jemi.zticket.queue.domain.QueueToken;
 
 public interface GetQueueTokenUseCase {
 
-    QueueToken getQueueToken(String token);
+    QueueToken getQueueToken(long showId, String token);
 }
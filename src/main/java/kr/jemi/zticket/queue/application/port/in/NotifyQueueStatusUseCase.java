@@ -0,0 +1,10 @@
+package kr.jemi.zticket.queue.application.port.in;
+
+import java.util.List;
+
+public interface NotifyQueueStatusUseCase {
+
+    void notifyAdmitted(long showId, List<String> tokens);
+
+    void notifySoldOut(long showId);
+}
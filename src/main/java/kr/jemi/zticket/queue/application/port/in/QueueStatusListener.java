@@ -0,0 +1,16 @@
+package kr.jemi.zticket.queue.application.port.in;
+
+import kr.jemi.zticket.common.exception.ErrorCode;
+import kr.jemi.zticket.queue.domain.QueueToken;
+
+/**
+ * 대기열 상태 구독자. 전송 실패는 RuntimeException으로 알리며, 이 경우 구독이 종료된다.
+ */
+public interface QueueStatusListener {
+
+    void onStatus(QueueToken queueToken);
+
+    void onError(ErrorCode errorCode);
+
+    void onComplete();
+}
@@ -0,0 +1,11 @@
+package kr.jemi.zticket.queue.application.port.in;
+
+public interface SubscribeQueueStatusUseCase {
+
+    /**
+     * 토큰의 대기 상태가 바뀔 때마다 listener로 전달한다. ACTIVE/SOLD_OUT에 도달하거나 오류가 나면 구독이 끝난다.
+     *
+     * @return 구독을 취소하는 핸들 (연결 종료 시 호출)
+     */
+    Runnable subscribe(long showId, String token, QueueStatusListener listener);
+}
@@ -4,13 +4,15 @@ import java.util.List;
 
 public interface ActiveUserPort {
 
-    void activate(String token, long ttlSeconds);
+    void activate(long showId, String token, long ttlSeconds);
 
-    void activateBatch(List<String> tokens, long ttlSeconds);
+    void activateBatch(long showId, List<String> tokens, long ttlSeconds);
 
-    void deactivate(String token);
+    void deactivate(long showId, String token);
 
-    boolean isActive(String token);
+    void deactivateBatch(long showId, List<String> tokens);
 
-    int countActive();
+    boolean isActive(long showId, String token);
+
+    int countActive(long showId);
 }
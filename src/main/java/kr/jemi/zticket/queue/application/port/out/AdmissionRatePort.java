@@ -0,0 +1,18 @@
+package kr.jemi.zticket.queue.application.port.out;
+
+import java.util.Optional;
+
+import kr.jemi.zticket.queue.domain.AimdRate;
+
+/**
+ * 입장 속도(AIMD 상태)를 모든 노드가 공유하도록 저장한다. 리더가 바뀌어도 새 리더가 같은 값에서 이어서 조절한다.
+ */
+public interface AdmissionRatePort {
+
+    /**
+     * 저장된 상태가 없으면(최초 기동, 입장이 오래 멈춤) 빈 값을 반환한다.
+     */
+    Optional<AimdRate.State> find();
+
+    void save(AimdRate.State state);
+}
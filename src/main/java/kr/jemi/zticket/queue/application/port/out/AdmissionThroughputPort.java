@@ -0,0 +1,19 @@
+package kr.jemi.zticket.queue.application.port.out;
+
+/**
+ * 초당 입장 인원의 EWMA를 모든 노드가 공유하는 저장소에서 갱신하고 읽는다.
+ * 평균과 직전 기록 시각을 노드 메모리가 아닌 저장소에 두므로, 리더가 바뀌어도 이전 리더의 기록에 이어서 평균을 낸다.
+ */
+public interface AdmissionThroughputPort {
+
+    /**
+     * 직전 기록 이후 입장시킨 인원을 반영한다. 표본 처리량은 직전 기록 이후의 경과 시간으로 구하고,
+     * 경과 시간이 길수록 가중치를 키운다(시간 상수 windowMillis). 첫 기록은 기준 시각만 남긴다.
+     */
+    void record(long showId, int admitted, long windowMillis);
+
+    /**
+     * 저장된 값이 없으면(리더가 아직 입장시키지 않았거나 멈췄으면) 0을 반환한다.
+     */
+    double find(long showId);
+}
@@ -2,5 +2,5 @@ package kr.jemi.zticket.queue.application.port.out;
 
 public interface AvailableSeatCountPort {
 
-    int getAvailableCount();
+    int getAvailableCount(long showId);
 }
@@ -0,0 +1,19 @@
+package kr.jemi.zticket.queue.application.port.out;
+
+import java.util.List;
+
+import kr.jemi.zticket.queue.domain.DownstreamLoad;
+
+/**
+ * 노드마다 자기 구매 경로 부하를 올려 두고, 리더가 모든 노드의 최근 값을 읽는다.
+ * 구매 요청은 노드마다 나뉘어 들어오므로 리더 한 노드의 지표만으로는 전체 부하를 알 수 없다.
+ */
+public interface ClusterLoadPort {
+
+    void report(String nodeId, DownstreamLoad load);
+
+    /**
+     * 최근에 보고된 노드별 부하를 반환한다. 보고가 끊긴 노드의 값은 빠진다.
+     */
+    List<DownstreamLoad> findRecent();
+}
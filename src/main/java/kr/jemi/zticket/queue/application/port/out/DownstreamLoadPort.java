@@ -0,0 +1,11 @@
+package kr.jemi.zticket.queue.application.port.out;
+
+import kr.jemi.zticket.queue.domain.DownstreamLoad;
+
+/**
+ * 구매 경로(구매 API, DB 커넥션 풀, Redis)의 현재 부하를 읽는다. 입장 속도 조절의 입력이다.
+ */
+public interface DownstreamLoadPort {
+
+    DownstreamLoad read();
+}
@@ -0,0 +1,15 @@
+package kr.jemi.zticket.queue.application.port.out;
+
+import java.util.List;
+
+/**
+ * 입장·매진 사실을 모든 노드에 알린다. 각 노드는 자신에게 연결된 구독자에게 즉시 상태를 전달한다.
+ * 입장 알림은 공연 ID와 입장시킨 토큰을 함께 보내, 같은 공연의 나머지 구독자가 입장 인원만큼 순번을 줄일 수 있게 한다.
+ * 매진 알림은 해당 공연의 구독자만 깨운다.
+ */
+public interface QueueStatusEventPort {
+
+    void publishAdmitted(long showId, List<String> tokens);
+
+    void publishSoldOut(long showId);
+}
@@ -4,9 +4,21 @@ import java.util.List;
 
 public interface WaitingQueueHeartbeatPort {
 
-    void refresh(String token);
+    /**
+     * 대기열 진입 시 첫 heartbeat를 즉시 기록한다.
+     * heartbeat가 한 번도 기록되지 않은 토큰은 잠수 제거 대상에서 영원히 빠지므로 버퍼를 거치지 않는다.
+     */
+    void register(long showId, String token);
 
-    List<String> findExpired(long cutoffTimestamp, int size);
+    /**
+     * 폴링 heartbeat를 갱신한다. 구현체는 기록을 모아 지연 반영할 수 있다.
+     */
+    void refresh(long showId, String token);
 
-    void removeAll(List<String> tokens);
+    /**
+     * 지연 반영 중인 heartbeat를 즉시 기록한다. 잠수 판정 전에 호출해 방금 폴링한 유저를 잠수로 판정하지 않게 한다.
+     */
+    void flush();
+
+    void removeAll(long showId, List<String> tokens);
 }
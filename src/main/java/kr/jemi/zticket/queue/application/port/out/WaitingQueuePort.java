@@ -4,11 +4,23 @@ import java.util.List;
 
 public interface WaitingQueuePort {
 
-    long enqueue(String token);
+    long enqueue(long showId, String token);
 
-    Long getRank(String token);
+    Long getRank(long showId, String token);
 
-    List<String> peek(int count);
+    List<String> peek(long showId, int count);
 
-    void removeAll(List<String> tokens);
+    void removeAll(long showId, List<String> tokens);
+
+    /**
+     * heartbeat가 cutoffTimestamp 이전인 토큰을 최대 limit개까지 대기열과 heartbeat에서 함께 제거하고, 제거한 수를 반환한다.
+     * limit개를 반환하면 남은 잠수 유저가 더 있을 수 있다.
+     */
+    int removeExpired(long showId, long cutoffTimestamp, int limit);
+
+    /**
+     * 대기열 앞에서 최대 count명을 꺼내 active 유저로 등록하고 대기열과 heartbeat에서 제거한 뒤, 입장한 토큰을 순서대로 반환한다.
+     * 반환된 토큰은 이미 active이고 대기열에는 남아 있지 않다.
+     */
+    List<String> admit(long showId, int count, long activeTtlSeconds);
 }
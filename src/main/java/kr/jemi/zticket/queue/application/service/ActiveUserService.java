@@ -4,6 +4,8 @@ import kr.jemi.zticket.queue.api.QueueFacade;
 import kr.jemi.zticket.queue.application.port.out.ActiveUserPort;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public class ActiveUserService implements QueueFacade {
 
@@ -14,12 +16,17 @@ public class ActiveUserService implements QueueFacade {
     }
 
     @Override
-    public boolean isActive(String token) {
-        return activeUserPort.isActive(token);
+    public boolean isActive(long showId, String token) {
+        return activeUserPort.isActive(showId, token);
+    }
+
+    @Override
+    public void deactivate(long showId, String token) {
+        activeUserPort.deactivate(showId, token);
     }
 
     @Override
-    public void deactivate(String token) {
-        activeUserPort.deactivate(token);
+    public void deactivateBatch(long showId, List<String> tokens) {
+        activeUserPort.deactivateBatch(showId, tokens);
     }
 }
@@ -0,0 +1,99 @@
+package kr.jemi.zticket.queue.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import kr.jemi.zticket.queue.application.port.out.AdmissionRatePort;
+import kr.jemi.zticket.queue.application.port.out.ClusterLoadPort;
+import kr.jemi.zticket.queue.application.port.out.DownstreamLoadPort;
+import kr.jemi.zticket.queue.domain.AimdRate;
+import kr.jemi.zticket.queue.domain.DownstreamLoad;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구매 경로의 부하를 보고 공연별 초당 입장 인원을 AIMD로 조절한다.
+ * <p>
+ * 구매 API p99, 커넥션 대기 수, 구매 경로 Redis p99 중 하나라도 상한을 넘으면 속도를 줄이고, 모두 상한 안이면 조금씩 올린다.
+ * 모든 노드가 report-interval-ms마다 자기 부하를 올려 두고, 리더는 모든 노드의 최근 값 중 가장 나쁜 값으로 판단한다.
+ * 리더는 lease마다 바뀔 수 있으므로 속도와 마지막으로 줄인 시각도 공유 저장소에서 읽고 다시 쓴다.
+ */
+@Component
+public class AdmissionRateAdjuster {
+
+    private final DownstreamLoadPort downstreamLoadPort;
+    private final ClusterLoadPort clusterLoadPort;
+    private final AdmissionRatePort admissionRatePort;
+    private final DownstreamLoad limit;
+    private final AimdRate rate;
+    private final double initialRate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private volatile DownstreamLoad lastLoad = DownstreamLoad.NONE;
+    private volatile double lastRate;
+
+    public AdmissionRateAdjuster(DownstreamLoadPort downstreamLoadPort,
+                                   ClusterLoadPort clusterLoadPort,
+                                   AdmissionRatePort admissionRatePort,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${zticket.admission.rate-per-second}") double initialRate,
+                                   @Value("${zticket.admission.adaptive.min-rate-per-second}") double minRate,
+                                   @Value("${zticket.admission.adaptive.max-rate-per-second}") double maxRate,
+                                   @Value("${zticket.admission.adaptive.increase-per-second}") double increase,
+                                   @Value("${zticket.admission.adaptive.decrease-factor}") double decreaseFactor,
+                                   @Value("${zticket.admission.adaptive.cooldown-ms}") long cooldownMs,
+                                   @Value("${zticket.admission.adaptive.purchase-p99-ms}") double purchaseP99Ms,
+                                   @Value("${zticket.admission.adaptive.hikari-pending}") double hikariPending,
+                                   @Value("${zticket.admission.adaptive.redis-p99-ms}") double redisP99Ms) {
+        this.downstreamLoadPort = downstreamLoadPort;
+        this.clusterLoadPort = clusterLoadPort;
+        this.admissionRatePort = admissionRatePort;
+        this.limit = new DownstreamLoad(purchaseP99Ms, hikariPending, redisP99Ms);
+        this.rate = new AimdRate(minRate, maxRate, increase, decreaseFactor, cooldownMs);
+        this.initialRate = initialRate;
+        this.lastRate = rate.initial(initialRate).rate();
+        Gauge.builder("zticket.admission.rate", this, AdmissionRateAdjuster::currentRate)
+                .description("공연별 초당 입장 인원 (AIMD 조절값, 이 노드가 마지막으로 정한 값)")
+                .register(meterRegistry);
+        Gauge.builder("zticket.admission.input.purchase.p99", this, c -> c.lastLoad.purchaseP99Ms())
+                .description("입장 속도 조절에 쓴 구매 API p99 (ms, 전체 노드 중 최댓값)")
+                .register(meterRegistry);
+        Gauge.builder("zticket.admission.input.hikari.pending", this, c -> c.lastLoad.hikariPending())
+                .description("입장 속도 조절에 쓴 DB 커넥션 대기 수 (전체 노드 중 최댓값)")
+                .register(meterRegistry);
+        Gauge.builder("zticket.admission.input.redis.p99", this, c -> c.lastLoad.redisP99Ms())
+                .description("입장 속도 조절에 쓴 좌석 선점 Redis 호출 p99 (ms, 전체 노드 중 최댓값)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이 노드의 현재 부하를 공유 저장소에 올린다. 리더 여부와 관계없이 모든 노드가 호출한다.
+     */
+    public void report() {
+        clusterLoadPort.report(nodeId, downstreamLoadPort.read());
+    }
+
+    /**
+     * 전체 노드의 부하를 읽어 속도를 한 단계 조절하고, 조절된 초당 입장 인원을 반환한다.
+     * 리더의 부하는 방금 읽은 값으로 함께 반영한다.
+     */
+    public synchronized double adjust() {
+        DownstreamLoad local = downstreamLoadPort.read();
+        clusterLoadPort.report(nodeId, local);
+        List<DownstreamLoad> loads = new ArrayList<>(clusterLoadPort.findRecent());
+        loads.add(local);
+        DownstreamLoad load = DownstreamLoad.worstOf(loads);
+        lastLoad = load;
+        AimdRate.State current = admissionRatePort.find().orElseGet(() -> rate.initial(initialRate));
+        AimdRate.State next = rate.next(current, load.exceeds(limit), System.currentTimeMillis());
+        admissionRatePort.save(next);
+        lastRate = next.rate();
+        return next.rate();
+    }
+
+    public double currentRate() {
+        return lastRate;
+    }
+}
@@ -2,70 +2,124 @@ package kr.jemi.zticket.queue.application.service;
 
 import kr.jemi.zticket.queue.application.port.in.AdmitUsersUseCase;
 import kr.jemi.zticket.queue.application.port.out.ActiveUserPort;
+import kr.jemi.zticket.queue.application.port.out.AdmissionThroughputPort;
 import kr.jemi.zticket.queue.application.port.out.AvailableSeatCountPort;
+import kr.jemi.zticket.queue.application.port.out.QueueStatusEventPort;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class AdmissionService implements AdmitUsersUseCase {
 
+    private static final int SWEEP_SLICE_SIZE = 5000;
+
     private final WaitingQueueOperator waitingQueueOperator;
     private final ActiveUserPort activeUserPort;
     private final AvailableSeatCountPort availableSeatCountPort;
+    private final QueueStatusEventPort queueStatusEventPort;
+    private final AdmissionThroughputPort admissionThroughputPort;
+    private final AdmissionRateAdjuster admissionRateAdjuster;
     private final long activeTtlSeconds;
     private final int maxActiveUsers;
-    private final int batchSize;
+    private final long throughputWindowMs;
+    private final DistributionSummary sweepSize;
+    private final Timer sweepDuration;
+    private final Set<Long> soldOutShows = ConcurrentHashMap.newKeySet();
 
     public AdmissionService(WaitingQueueOperator waitingQueueOperator,
                             ActiveUserPort activeUserPort,
                             AvailableSeatCountPort availableSeatCountPort,
+                            QueueStatusEventPort queueStatusEventPort,
+                            AdmissionThroughputPort admissionThroughputPort,
+                            AdmissionRateAdjuster admissionRateAdjuster,
+                            MeterRegistry meterRegistry,
                             @Value("${zticket.admission.active-ttl-seconds}") long activeTtlSeconds,
                             @Value("${zticket.admission.max-active-users}") int maxActiveUsers,
-                            @Value("${zticket.admission.batch-size}") int batchSize) {
+                            @Value("${zticket.admission.throughput-window-ms}") long throughputWindowMs) {
         this.waitingQueueOperator = waitingQueueOperator;
         this.activeUserPort = activeUserPort;
         this.availableSeatCountPort = availableSeatCountPort;
+        this.queueStatusEventPort = queueStatusEventPort;
+        this.admissionThroughputPort = admissionThroughputPort;
+        this.admissionRateAdjuster = admissionRateAdjuster;
         this.activeTtlSeconds = activeTtlSeconds;
         this.maxActiveUsers = maxActiveUsers;
-        this.batchSize = batchSize;
+        this.throughputWindowMs = throughputWindowMs;
+        this.sweepSize = DistributionSummary.builder("zticket.admission.sweep.size")
+                .description("입장 주기 1회에 제거한 잠수 유저 수")
+                .register(meterRegistry);
+        this.sweepDuration = Timer.builder("zticket.admission.sweep.duration")
+                .description("입장 주기 1회의 잠수 유저 제거 소요 시간")
+                .register(meterRegistry);
     }
 
+    /**
+     * 스크립트 1회에 최대 SWEEP_SLICE_SIZE명씩 잠수 유저를 제거하고, 제거 인원과 소요 시간을 기록한다.
+     */
     @Override
-    public void admitBatch() {
-        // 1. removeExpired: 잠수 유저 제거
-        final int findExpiredBatchSize = 5000;
-        while (true) {
-            List<String> expiredTokens = waitingQueueOperator.findExpired(findExpiredBatchSize);
-            waitingQueueOperator.removeAll(expiredTokens);
+    public int removeExpired(long showId) {
+        int swept = sweepDuration.record(() -> waitingQueueOperator.removeExpired(showId, SWEEP_SLICE_SIZE));
+        sweepSize.record(swept);
+        return swept;
+    }
 
-            if (expiredTokens.size() < findExpiredBatchSize) {
-                break;
-            }
-        }
+    /**
+     * 입장시킨 인원을 공유 저장소의 처리량 EWMA에 반영한다. 대기 중인 유저의 예상 대기 시간은 이 값으로 계산한다.
+     * 입장시키지 못한 tick도 0명으로 기록해야 입장이 멈췄을 때 처리량이 내려간다.
+     */
+    @Override
+    public int admit(long showId, int limit) {
+        int admitted = admitUpTo(showId, limit);
+        admissionThroughputPort.record(showId, admitted, throughputWindowMs);
+        return admitted;
+    }
 
-        // 2. 입장 인원 계산
-        int currentActive = activeUserPort.countActive();
+    private int admitUpTo(long showId, int limit) {
+        // 1. 입장 인원 계산
+        int currentActive = activeUserPort.countActive(showId);
         int availableSlots = Math.max(0, maxActiveUsers - currentActive);
 
-        int remainingSeats = availableSeatCountPort.getAvailableCount();
-        int toAdmit = Math.min(batchSize, Math.min(availableSlots, Math.max(0, remainingSeats - currentActive)));
+        int remainingSeats = availableSeatCountPort.getAvailableCount(showId);
+        if (remainingSeats <= 0) {
+            // 입장 루프는 100ms마다 돌므로 매진으로 바뀐 시점에 한 번만 알린다
+            if (soldOutShows.add(showId)) {
+                queueStatusEventPort.publishSoldOut(showId);
+            }
+            return 0;
+        }
+        soldOutShows.remove(showId);
+        int toAdmit = Math.min(limit, Math.min(availableSlots, Math.max(0, remainingSeats - currentActive)));
 
         if (toAdmit <= 0) {
-            return;
+            return 0;
         }
 
-        // 3. peek: 잠수 유저 제거 후이므로 단순 FIFO 조회
-        List<String> tokens = waitingQueueOperator.peek(toAdmit);
+        // 2. admit: 대기열 앞에서 꺼내 active_user 등록 + 대기열·heartbeat 제거를 한 번에 처리
+        //    (샤드 모드 외에는 스크립트 1회라, 입장했는데 대기열에도 남아 있는 상태가 외부에 보이지 않음)
+        List<String> tokens = waitingQueueOperator.admit(showId, toAdmit, activeTtlSeconds);
         if (tokens.isEmpty()) {
-            return;
+            return 0;
         }
 
-        // 4. activate: active_user 키 생성 (파이프라이닝, 멱등 — 재실행해도 TTL만 갱신)
-        activeUserPort.activateBatch(tokens, activeTtlSeconds);
+        // 3. 입장 알림: 입장한 구독자에게는 바로 ACTIVE, 나머지 구독자는 입장 인원만큼 순번 감소
+        queueStatusEventPort.publishAdmitted(showId, tokens);
+        return tokens.size();
+    }
+
+    @Override
+    public double adjustRate() {
+        return admissionRateAdjuster.adjust();
+    }
 
-        // 5. remove: activate 완료 후에야 큐에서 제거
-        waitingQueueOperator.removeAll(tokens);
+    @Override
+    public void reportLoad() {
+        admissionRateAdjuster.report();
     }
 }
@@ -3,6 +3,7 @@ package kr.jemi.zticket.queue.application.service;
 import io.hypersistence.tsid.TSID;
 import kr.jemi.zticket.common.exception.BusinessException;
 import kr.jemi.zticket.common.exception.ErrorCode;
+import kr.jemi.zticket.common.show.ShowCatalog;
 import kr.jemi.zticket.queue.application.port.in.EnterQueueUseCase;
 import kr.jemi.zticket.queue.application.port.in.GetQueueTokenUseCase;
 import kr.jemi.zticket.queue.application.port.out.ActiveUserPort;
@@ -16,41 +17,46 @@ public class QueueService implements EnterQueueUseCase, GetQueueTokenUseCase {
     private final WaitingQueueOperator waitingQueueOperator;
     private final ActiveUserPort activeUserPort;
     private final AvailableSeatCountPort availableSeatCountPort;
+    private final ShowCatalog showCatalog;
     private final TSID.Factory tsidFactory;
 
     public QueueService(WaitingQueueOperator waitingQueueOperator,
                         ActiveUserPort activeUserPort,
                         AvailableSeatCountPort availableSeatCountPort,
+                        ShowCatalog showCatalog,
                         TSID.Factory tsidFactory) {
         this.waitingQueueOperator = waitingQueueOperator;
         this.activeUserPort = activeUserPort;
         this.availableSeatCountPort = availableSeatCountPort;
+        this.showCatalog = showCatalog;
         this.tsidFactory = tsidFactory;
     }
 
     @Override
-    public QueueToken enter() {
-        if (availableSeatCountPort.getAvailableCount() <= 0) {
+    public QueueToken enter(long showId) {
+        showCatalog.validate(showId);
+        if (availableSeatCountPort.getAvailableCount(showId) <= 0) {
             throw new BusinessException(ErrorCode.SOLD_OUT);
         }
         String token = tsidFactory.generate().encode(62);
-        long rank = waitingQueueOperator.enqueue(token);
+        long rank = waitingQueueOperator.enqueue(showId, token);
         return QueueToken.waiting(token, rank);
     }
 
     @Override
-    public QueueToken getQueueToken(String token) {
-        if (activeUserPort.isActive(token)) {
+    public QueueToken getQueueToken(long showId, String token) {
+        showCatalog.validate(showId);
+        if (activeUserPort.isActive(showId, token)) {
             return QueueToken.active(token);
         }
-        if (availableSeatCountPort.getAvailableCount() <= 0) {
+        if (availableSeatCountPort.getAvailableCount(showId) <= 0) {
             return QueueToken.soldOut(token);
         }
-        Long rank = waitingQueueOperator.getRank(token);
+        Long rank = waitingQueueOperator.getRank(showId, token);
         if (rank == null) {
             throw new BusinessException(ErrorCode.QUEUE_TOKEN_NOT_FOUND);
         }
-        waitingQueueOperator.refresh(token);
+        waitingQueueOperator.refresh(showId, token);
         return QueueToken.waiting(token, rank);
     }
 }
@@ -0,0 +1,215 @@
+package kr.jemi.zticket.queue.application.service;
+
+import kr.jemi.zticket.common.exception.BusinessException;
+import kr.jemi.zticket.queue.application.port.in.EstimateWaitUseCase;
+import kr.jemi.zticket.queue.application.port.in.GetQueueTokenUseCase;
+import kr.jemi.zticket.queue.application.port.in.NotifyQueueStatusUseCase;
+import kr.jemi.zticket.queue.application.port.in.QueueStatusListener;
+import kr.jemi.zticket.queue.application.port.in.SubscribeQueueStatusUseCase;
+import kr.jemi.zticket.queue.domain.QueueStatus;
+import kr.jemi.zticket.queue.domain.QueueToken;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 구독(연결)마다 가상 스레드 하나가 상태를 전달하되, 순번·상태 변화는 입장 스케줄러의 알림으로 계산한다.
+ * <p>
+ * 전체 상태 확인({@link GetQueueTokenUseCase})은 구독 시작, 매진 알림, 토큰이 대기열에서 사라진 경우에만 실행한다.
+ * 입장 알림에는 공연과 입장시킨 토큰이 함께 오므로, 목록에 있는 토큰은 바로 ACTIVE가 되고
+ * 나머지 구독자는 입장 인원만큼 순번을 줄인다(입장은 항상 대기열 앞에서 일어난다). Redis 조회는 필요 없다.
+ * <p>
+ * 줄어든 순번은 예상 대기 시간으로 권장한 다음 확인 간격(nextPollMs)마다 바뀐 경우에만 전달한다. 앞쪽 유저는 자주, 뒤쪽 유저는 드물게 받는다.
+ * heartbeat-interval-ms마다 heartbeat를 갱신(노드 로컬 버퍼)하고 ZRANK 한 번으로 순번을 보정한다. 이 간격이 queue-ttl-seconds 이상이면 기동하지 않는다.
+ * 연결이 열려 있는 것 자체가 heartbeat이며, 잠수 제거로 앞사람이 빠진 만큼의 오차와 유실된 입장 알림도 이때 바로잡힌다.
+ * 토큰당 구독은 노드에 하나만 유지하며, 같은 토큰으로 다시 구독하면 이전 구독을 끝낸다.
+ */
+@Service
+public class QueueStatusPushService implements SubscribeQueueStatusUseCase, NotifyQueueStatusUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(QueueStatusPushService.class);
+
+    private final GetQueueTokenUseCase getQueueTokenUseCase;
+    private final EstimateWaitUseCase estimateWaitUseCase;
+    private final WaitingQueueOperator waitingQueueOperator;
+    private final long heartbeatIntervalMs;
+    private final Map<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public QueueStatusPushService(GetQueueTokenUseCase getQueueTokenUseCase,
+                                  EstimateWaitUseCase estimateWaitUseCase,
+                                  WaitingQueueOperator waitingQueueOperator,
+                                  @Value("${zticket.queue.push.heartbeat-interval-ms}") long heartbeatIntervalMs,
+                                  @Value("${zticket.admission.queue-ttl-seconds}") long queueTtlSeconds) {
+        if (heartbeatIntervalMs >= queueTtlSeconds * 1000) {
+            throw new IllegalArgumentException(
+                    "heartbeat-interval-ms는 queue-ttl-seconds보다 짧아야 합니다. 연결된 구독자가 잠수로 제거됩니다.");
+        }
+        this.getQueueTokenUseCase = getQueueTokenUseCase;
+        this.estimateWaitUseCase = estimateWaitUseCase;
+        this.waitingQueueOperator = waitingQueueOperator;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+    }
+
+    @Override
+    public Runnable subscribe(long showId, String token, QueueStatusListener listener) {
+        Subscription subscription = new Subscription(showId, token, listener);
+        Subscription previous = subscriptions.put(token, subscription);
+        if (previous != null) {
+            previous.cancel();
+        }
+        executor.execute(() -> run(subscription));
+        return subscription::cancel;
+    }
+
+    @Override
+    public void notifyAdmitted(long showId, List<String> tokens) {
+        Set<String> admitted = new HashSet<>(tokens);
+        for (Subscription subscription : subscriptions.values()) {
+            if (subscription.showId != showId) {
+                continue;
+            }
+            if (admitted.contains(subscription.token)) {
+                subscription.admit();
+            } else {
+                subscription.advance(tokens.size());
+            }
+        }
+    }
+
+    @Override
+    public void notifySoldOut(long showId) {
+        for (Subscription subscription : subscriptions.values()) {
+            if (subscription.showId == showId) {
+                subscription.soldOut();
+            }
+        }
+    }
+
+    int subscriptionCount() {
+        return subscriptions.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscriptions.values().forEach(Subscription::cancel);
+        executor.shutdownNow();
+    }
+
+    private void run(Subscription subscription) {
+        QueueStatusListener listener = subscription.listener;
+        try {
+            QueueToken last = getQueueTokenUseCase.getQueueToken(subscription.showId, subscription.token);
+            listener.onStatus(last);
+            long nextHeartbeat = System.currentTimeMillis() + heartbeatIntervalMs;
+            while (last.status() == QueueStatus.WAITING) {
+                long nextPollMs = estimateWaitUseCase.estimate(subscription.showId, last.rank()).nextPollMs();
+                long untilHeartbeat = Math.max(0, nextHeartbeat - System.currentTimeMillis());
+                subscription.await(Math.min(untilHeartbeat, nextPollMs));
+                if (subscription.cancelled) {
+                    return;
+                }
+                QueueToken current;
+                if (subscription.admitted) {
+                    current = QueueToken.active(subscription.token);
+                } else if (subscription.soldOut) {
+                    subscription.soldOut = false;
+                    current = getQueueTokenUseCase.getQueueToken(subscription.showId, subscription.token);
+                } else if (System.currentTimeMillis() >= nextHeartbeat) {
+                    current = heartbeat(subscription);
+                    nextHeartbeat = System.currentTimeMillis() + heartbeatIntervalMs;
+                } else {
+                    // 대기 중인 유저의 순번은 1 이상이다. 알림만으로 계산한 값이 어긋나도 다음 heartbeat에서 보정된다
+                    current = QueueToken.waiting(subscription.token,
+                            Math.max(1, last.rank() - subscription.advanced.getAndSet(0)));
+                }
+                if (!current.equals(last)) {
+                    listener.onStatus(current);
+                    last = current;
+                }
+            }
+        } catch (BusinessException e) {
+            listener.onError(e.getErrorCode());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.debug("대기열 상태 전송 중단: token={}", subscription.token, e);
+        } finally {
+            subscriptions.remove(subscription.token, subscription);
+            listener.onComplete();
+        }
+    }
+
+    /**
+     * heartbeat는 버퍼에만 쌓이고, 순번은 ZRANK 한 번으로 다시 읽는다.
+     * 대기열에 없으면 입장 알림이 유실되었거나 잠수 제거된 경우이므로 전체 상태 확인으로 판정한다.
+     */
+    private QueueToken heartbeat(Subscription subscription) {
+        waitingQueueOperator.refresh(subscription.showId, subscription.token);
+        subscription.advanced.set(0);
+        Long rank = waitingQueueOperator.getRank(subscription.showId, subscription.token);
+        if (rank == null) {
+            return getQueueTokenUseCase.getQueueToken(subscription.showId, subscription.token);
+        }
+        return QueueToken.waiting(subscription.token, rank);
+    }
+
+    private static final class Subscription {
+
+        private final long showId;
+        private final String token;
+        private final QueueStatusListener listener;
+        private final Semaphore signal = new Semaphore(0);
+        private final AtomicLong advanced = new AtomicLong();
+        private volatile boolean admitted;
+        private volatile boolean soldOut;
+        private volatile boolean cancelled;
+
+        private Subscription(long showId, String token, QueueStatusListener listener) {
+            this.showId = showId;
+            this.token = token;
+            this.listener = listener;
+        }
+
+        /**
+         * 순번 변화는 깨우지 않고 쌓아 두었다가 다음 확인 간격에 한 번에 반영한다.
+         */
+        private void advance(long count) {
+            advanced.addAndGet(count);
+        }
+
+        private void admit() {
+            admitted = true;
+            signal.release();
+        }
+
+        private void soldOut() {
+            soldOut = true;
+            signal.release();
+        }
+
+        private void cancel() {
+            cancelled = true;
+            signal.release();
+        }
+
+        private void await(long timeoutMs) throws InterruptedException {
+            if (signal.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                signal.drainPermits();
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package kr.jemi.zticket.queue.application.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import kr.jemi.zticket.queue.application.port.in.EstimateWaitUseCase;
+import kr.jemi.zticket.queue.application.port.out.AdmissionThroughputPort;
+import kr.jemi.zticket.queue.domain.WaitEstimate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 리더가 저장한 초당 입장 인원으로 예상 대기 시간을 계산한다.
+ * <p>
+ * 처리량은 모든 폴링에서 읽으므로 노드마다 cache-ms 동안 캐시하여 폴링 1회에 Redis 명령이 늘지 않게 한다.
+ * 권장 확인 간격의 상한(max-poll-ms)은 잠수 제거 기준(queue-ttl-seconds)보다 충분히 짧아야 한다.
+ */
+@Service
+public class WaitEstimateService implements EstimateWaitUseCase {
+
+    private final AdmissionThroughputPort admissionThroughputPort;
+    private final long minPollMs;
+    private final long maxPollMs;
+    private final long defaultPollMs;
+    private final long cacheNanos;
+    private final Map<Long, CachedThroughput> cache = new ConcurrentHashMap<>();
+
+    public WaitEstimateService(AdmissionThroughputPort admissionThroughputPort,
+                               @Value("${zticket.queue.estimate.min-poll-ms}") long minPollMs,
+                               @Value("${zticket.queue.estimate.max-poll-ms}") long maxPollMs,
+                               @Value("${zticket.queue.estimate.default-poll-ms}") long defaultPollMs,
+                               @Value("${zticket.queue.estimate.cache-ms}") long cacheMs) {
+        this.admissionThroughputPort = admissionThroughputPort;
+        this.minPollMs = minPollMs;
+        this.maxPollMs = maxPollMs;
+        this.defaultPollMs = defaultPollMs;
+        this.cacheNanos = TimeUnit.MILLISECONDS.toNanos(cacheMs);
+    }
+
+    @Override
+    public WaitEstimate estimate(long showId, long rank) {
+        double perSecond = throughput(showId);
+        if (perSecond <= 0) {
+            return WaitEstimate.unknown(defaultPollMs);
+        }
+        return WaitEstimate.of(rank, perSecond, minPollMs, maxPollMs);
+    }
+
+    private double throughput(long showId) {
+        long now = System.nanoTime();
+        CachedThroughput cached = cache.get(showId);
+        if (cached == null || now - cached.fetchedAt() >= cacheNanos) {
+            cached = new CachedThroughput(admissionThroughputPort.find(showId), now);
+            cache.put(showId, cached);
+        }
+        return cached.perSecond();
+    }
+
+    private record CachedThroughput(double perSecond, long fetchedAt) {
+    }
+}
@@ -22,34 +22,54 @@ public class WaitingQueueOperator {
         this.queueTtlMs = queueTtlSeconds * 1000;
     }
 
-    public long enqueue(String token) {
-        long rank = waitingQueuePort.enqueue(token);
-        refresh(token);
+    public long enqueue(long showId, String token) {
+        long rank = waitingQueuePort.enqueue(showId, token);
+        waitingQueueHeartbeatPort.register(showId, token);
         return rank;
     }
 
-    public Long getRank(String token) {
-        return waitingQueuePort.getRank(token);
+    public Long getRank(long showId, String token) {
+        return waitingQueuePort.getRank(showId, token);
     }
 
-    public void refresh(String token) {
-        waitingQueueHeartbeatPort.refresh(token);
+    public void refresh(long showId, String token) {
+        waitingQueueHeartbeatPort.refresh(showId, token);
     }
 
-    public List<String> peek(int size) {
-        return waitingQueuePort.peek(size);
+    public List<String> peek(long showId, int size) {
+        return waitingQueuePort.peek(showId, size);
     }
 
-    public List<String> findExpired(int size) {
-        return waitingQueueHeartbeatPort.findExpired(getHeartbeatCutoff(), size);
+    /**
+     * 이 노드의 heartbeat 버퍼를 먼저 기록한 뒤, 잠수 유저를 sliceSize명씩 나눠 대기열과 heartbeat에서 제거한다.
+     * 한 조각이 스크립트 한 번이므로 도중에 실패해도 두 자료구조가 어긋나지 않는다. 제거한 총 인원을 반환한다.
+     */
+    public int removeExpired(long showId, int sliceSize) {
+        waitingQueueHeartbeatPort.flush();
+        long cutoff = getHeartbeatCutoff();
+        int total = 0;
+        while (true) {
+            int removed = waitingQueuePort.removeExpired(showId, cutoff, sliceSize);
+            total += removed;
+            if (removed < sliceSize) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * 대기열 앞에서 최대 count명을 입장시키고 입장한 토큰을 반환한다. 입장 등록과 대기열·heartbeat 제거는 어댑터가 함께 처리한다.
+     */
+    public List<String> admit(long showId, int count, long activeTtlSeconds) {
+        return waitingQueuePort.admit(showId, count, activeTtlSeconds);
     }
 
-    public void removeAll(List<String> tokens) {
+    public void removeAll(long showId, List<String> tokens) {
         if (tokens == null || tokens.isEmpty()) {
             return;
         }
-        waitingQueuePort.removeAll(tokens);
-        waitingQueueHeartbeatPort.removeAll(tokens);
+        waitingQueuePort.removeAll(showId, tokens);
+        waitingQueueHeartbeatPort.removeAll(showId, tokens);
     }
 
     private long getHeartbeatCutoff() {
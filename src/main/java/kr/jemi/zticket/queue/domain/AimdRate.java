@@ -0,0 +1,71 @@
+package kr.jemi.zticket.queue.domain;
+
+/**
+ * 과부하가 아니면 입장 속도를 increase씩 올리고, 과부하면 decreaseFactor배로 줄이는 AIMD 규칙.
+ * <p>
+ * 과부하 판단에 쓰는 지표는 일정 시간 창으로 집계되므로 한 번 줄인 뒤에도 한동안 과부하로 보인다.
+ * 그 동안 계속 줄이면 최솟값까지 곤두박질치므로, 줄인 뒤 cooldown 동안은 더 줄이지 않고 유지한다.
+ * <p>
+ * 리더가 노드 사이를 옮겨 다니므로 현재 속도와 마지막으로 줄인 시각은 {@link State}로 꺼내 공유 저장소에 둔다.
+ * 시각은 노드끼리 비교할 수 있도록 epoch 밀리초로 넘긴다. 규칙 자체는 상태를 갖지 않는다.
+ */
+public final class AimdRate {
+
+    private final double min;
+    private final double max;
+    private final double increase;
+    private final double decreaseFactor;
+    private final long cooldownMillis;
+
+    public AimdRate(double min, double max, double increase, double decreaseFactor, long cooldownMillis) {
+        if (min <= 0 || max < min) {
+            throw new IllegalArgumentException("0 < min <= max 이어야 합니다.");
+        }
+        if (increase <= 0) {
+            throw new IllegalArgumentException("increase는 0보다 커야 합니다.");
+        }
+        if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+            throw new IllegalArgumentException("decreaseFactor는 0과 1 사이여야 합니다.");
+        }
+        this.min = min;
+        this.max = max;
+        this.increase = increase;
+        this.decreaseFactor = decreaseFactor;
+        this.cooldownMillis = cooldownMillis;
+    }
+
+    /**
+     * 저장된 상태가 없을 때의 시작 상태. 한 번도 줄이지 않았으므로 cooldown이 아니다.
+     */
+    public State initial(double rate) {
+        return new State(clamp(rate), State.NEVER_DECREASED);
+    }
+
+    /**
+     * 이번 관측 결과를 반영한 다음 상태를 반환한다.
+     */
+    public State next(State state, boolean overloaded, long nowMillis) {
+        boolean coolingDown = state.decreasedAtMillis() != State.NEVER_DECREASED
+                && nowMillis - state.decreasedAtMillis() < cooldownMillis;
+        if (coolingDown) {
+            return new State(clamp(state.rate()), state.decreasedAtMillis());
+        }
+        if (overloaded) {
+            return new State(clamp(state.rate() * decreaseFactor), nowMillis);
+        }
+        return new State(clamp(state.rate() + increase), state.decreasedAtMillis());
+    }
+
+    private double clamp(double rate) {
+        return Math.max(min, Math.min(max, rate));
+    }
+
+    /**
+     * @param rate              초당 입장 인원
+     * @param decreasedAtMillis 마지막으로 줄인 시각(epoch ms), 줄인 적이 없으면 {@link #NEVER_DECREASED}
+     */
+    public record State(double rate, long decreasedAtMillis) {
+
+        public static final long NEVER_DECREASED = -1;
+    }
+}
@@ -0,0 +1,40 @@
+package kr.jemi.zticket.queue.domain;
+
+import java.util.Collection;
+
+/**
+ * 입장한 유저가 거쳐 가는 구매 경로의 부하 지표. 관측값이 없으면 0이다.
+ *
+ * @param purchaseP99Ms 구매 API 응답 시간 p99(ms)
+ * @param hikariPending 커넥션을 기다리는 스레드 수
+ * @param redisP99Ms    구매 경로 Redis 호출 응답 시간 p99(ms)
+ */
+public record DownstreamLoad(double purchaseP99Ms, double hikariPending, double redisP99Ms) {
+
+    public static final DownstreamLoad NONE = new DownstreamLoad(0, 0, 0);
+
+    /**
+     * 노드별 관측값을 지표마다 가장 나쁜 값으로 합친다.
+     * 노드별 p99는 더할 수 없고, 커넥션 풀도 노드마다 따로이므로 한 노드라도 한계에 닿으면 과부하로 본다.
+     */
+    public static DownstreamLoad worstOf(Collection<DownstreamLoad> loads) {
+        double purchaseP99Ms = 0;
+        double hikariPending = 0;
+        double redisP99Ms = 0;
+        for (DownstreamLoad load : loads) {
+            purchaseP99Ms = Math.max(purchaseP99Ms, load.purchaseP99Ms);
+            hikariPending = Math.max(hikariPending, load.hikariPending);
+            redisP99Ms = Math.max(redisP99Ms, load.redisP99Ms);
+        }
+        return new DownstreamLoad(purchaseP99Ms, hikariPending, redisP99Ms);
+    }
+
+    /**
+     * 지표 중 하나라도 상한을 넘으면 과부하로 본다.
+     */
+    public boolean exceeds(DownstreamLoad limit) {
+        return purchaseP99Ms > limit.purchaseP99Ms
+                || hikariPending > limit.hikariPending
+                || redisP99Ms > limit.redisP99Ms;
+    }
+}
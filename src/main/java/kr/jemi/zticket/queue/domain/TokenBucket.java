@@ -0,0 +1,71 @@
+package kr.jemi.zticket.queue.domain;
+
+/**
+ * 초당 ratePerSecond개씩 채워지고 최대 capacity개까지 쌓이는 입장 허가 버킷.
+ * <p>
+ * 빈 상태에서 시작하므로 리더가 바뀌거나 노드가 재시작해도 입장이 한꺼번에 몰리지 않고,
+ * 오래 쉬었다 다시 받아도 capacity를 넘겨 쌓이지 않는다.
+ * 시각은 호출자가 System.nanoTime() 값으로 넘긴다. 한 스레드에서만 쓰므로 동기화하지 않는다.
+ */
+public final class TokenBucket {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+    private double ratePerSecond;
+    private final int capacity;
+    private double permits;
+    private long refilledAt;
+
+    public TokenBucket(double ratePerSecond, int capacity, long nowNanos) {
+        validateRate(ratePerSecond);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다.");
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.capacity = capacity;
+        this.refilledAt = nowNanos;
+    }
+
+    /**
+     * 지금까지 쌓인 허가 중 정수 개를 모두 꺼낸다. 소수점 아래는 다음 호출로 넘어간다.
+     */
+    public int take(long nowNanos) {
+        refill(nowNanos);
+        int granted = (int) permits;
+        permits -= granted;
+        return granted;
+    }
+
+    /**
+     * 충전 속도를 바꾼다. 지금까지의 충전분은 이전 속도로 계산한다.
+     */
+    public void changeRate(double ratePerSecond, long nowNanos) {
+        validateRate(ratePerSecond);
+        refill(nowNanos);
+        this.ratePerSecond = ratePerSecond;
+    }
+
+    /**
+     * 꺼냈지만 쓰지 못한 허가를 돌려놓는다. 대기열이 비어 입장시킨 인원이 허가보다 적을 때 쓴다.
+     */
+    public void giveBack(int unused) {
+        if (unused > 0) {
+            permits = Math.min(capacity, permits + unused);
+        }
+    }
+
+    private static void validateRate(double ratePerSecond) {
+        if (ratePerSecond <= 0) {
+            throw new IllegalArgumentException("ratePerSecond는 0보다 커야 합니다.");
+        }
+    }
+
+    private void refill(long nowNanos) {
+        long elapsed = nowNanos - refilledAt;
+        if (elapsed <= 0) {
+            return;
+        }
+        permits = Math.min(capacity, permits + elapsed / NANOS_PER_SECOND * ratePerSecond);
+        refilledAt = nowNanos;
+    }
+}
@@ -0,0 +1,21 @@
+package kr.jemi.zticket.queue.domain;
+
+/**
+ * 대기 순번과 입장 처리량으로 계산한 예상 대기 시간과 권장 다음 확인 간격.
+ * <p>
+ * 다음 확인은 남은 시간의 절반 뒤로 잡는다. 앞쪽 유저는 자주, 뒤쪽 유저는 드물게 확인하며,
+ * 처리량이 바뀌어도 남은 시간의 절반 안에는 다시 확인하게 된다.
+ * 처리량을 모르면(입장 전이거나 리더가 없을 때) 예상 시간은 null이다.
+ */
+public record WaitEstimate(Long etaSeconds, long nextPollMs) {
+
+    public static WaitEstimate of(long rank, double admittedPerSecond, long minPollMs, long maxPollMs) {
+        double etaMs = rank / admittedPerSecond * 1000;
+        long nextPollMs = Math.max(minPollMs, Math.min(maxPollMs, (long) (etaMs / 2)));
+        return new WaitEstimate((long) Math.ceil(etaMs / 1000), nextPollMs);
+    }
+
+    public static WaitEstimate unknown(long pollMs) {
+        return new WaitEstimate(null, pollMs);
+    }
+}
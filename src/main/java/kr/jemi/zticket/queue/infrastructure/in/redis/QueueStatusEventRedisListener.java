@@ -0,0 +1,48 @@
+package kr.jemi.zticket.queue.infrastructure.in.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import kr.jemi.zticket.queue.application.port.in.NotifyQueueStatusUseCase;
+
+/**
+ * 다른 노드(입장 스케줄러를 실행한 노드 포함)가 발행한 입장·매진 알림을 받아 이 노드의 구독자에게 반영한다.
+ * 채널 이름과 본문 형식("공연 ID:토큰1,토큰2,...")은 발행 측 QueueStatusEventRedisAdapter와 같아야 한다.
+ */
+@Component
+public class QueueStatusEventRedisListener implements MessageListener {
+
+    private static final String ADMITTED_CHANNEL = "queue:admitted";
+    private static final String SOLD_OUT_CHANNEL = "queue:sold_out";
+
+    private final NotifyQueueStatusUseCase notifyQueueStatusUseCase;
+
+    public QueueStatusEventRedisListener(RedisMessageListenerContainer listenerContainer,
+                                         NotifyQueueStatusUseCase notifyQueueStatusUseCase) {
+        this.notifyQueueStatusUseCase = notifyQueueStatusUseCase;
+        listenerContainer.addMessageListener(this,
+                List.of(new ChannelTopic(ADMITTED_CHANNEL), new ChannelTopic(SOLD_OUT_CHANNEL)));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (SOLD_OUT_CHANNEL.equals(channel)) {
+            notifyQueueStatusUseCase.notifySoldOut(Long.parseLong(body));
+            return;
+        }
+        int separator = body.indexOf(':');
+        if (separator > 0 && separator < body.length() - 1) {
+            notifyQueueStatusUseCase.notifyAdmitted(Long.parseLong(body.substring(0, separator)),
+                    Arrays.asList(body.substring(separator + 1).split(",")));
+        }
+    }
+}
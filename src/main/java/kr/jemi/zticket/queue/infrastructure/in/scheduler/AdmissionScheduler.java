@@ -1,32 +1,109 @@
 package kr.jemi.zticket.queue.infrastructure.in.scheduler;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import kr.jemi.zticket.common.show.ShowCatalog;
 import kr.jemi.zticket.queue.application.port.in.AdmitUsersUseCase;
+import kr.jemi.zticket.queue.domain.TokenBucket;
 import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+/**
+ * 입장 루프. cron마다 락을 잡은 노드가 리더가 되어 lease-ms 동안 다음을 실행한다.
+ * <p>
+ * 먼저 {@link AdmitUsersUseCase#adjustRate()}로 구매 경로 부하에 맞춰 초당 입장 인원을 다시 정해 공연별 토큰 버킷의 충전 속도를 바꾸고,
+ * 공연마다 잠수 유저를 한 번 제거한다. 이후 tick-ms마다 공연별 버킷에서 허가를 꺼내 그 수만큼만 입장시키고,
+ * active 상한이나 잔여 좌석에 걸려 쓰지 못한 허가는 버킷에 돌려준다.
+ * <p>
+ * 버킷은 노드마다 따로 두지만 락을 잡은 노드만 꺼내고, 쉬는 동안 쌓이는 양은 burst로 제한되므로 리더가 바뀌어도 burst 이상 몰리지 않는다.
+ */
 @Component
 public class AdmissionScheduler {
 
     private static final Logger log = LoggerFactory.getLogger(AdmissionScheduler.class);
 
     private final AdmitUsersUseCase admitUsersUseCase;
+    private final ShowCatalog showCatalog;
+    private final int burst;
+    private final long tickMs;
+    private final long leaseMs;
+    private final Map<Long, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private double ratePerSecond;
 
-    public AdmissionScheduler(AdmitUsersUseCase admitUsersUseCase) {
+    public AdmissionScheduler(AdmitUsersUseCase admitUsersUseCase,
+                              ShowCatalog showCatalog,
+                              @Value("${zticket.admission.rate-per-second}") double initialRatePerSecond,
+                              @Value("${zticket.admission.burst}") int burst,
+                              @Value("${zticket.admission.tick-ms}") long tickMs,
+                              @Value("${zticket.admission.lease-ms}") long leaseMs) {
         this.admitUsersUseCase = admitUsersUseCase;
+        this.showCatalog = showCatalog;
+        this.ratePerSecond = initialRatePerSecond;
+        this.burst = burst;
+        this.tickMs = tickMs;
+        this.leaseMs = leaseMs;
     }
 
+    /**
+     * 공연마다 따로 입장시킨다. 한 공연의 실패가 다른 공연의 입장을 막지 않는다.
+     * 입장 속도 조절과 잠수 유저 제거는 lease마다 한 번, 입장은 tick마다 실행한다.
+     */
     @Scheduled(cron = "${zticket.admission.cron}")
     @SchedulerLock(name = "admit",
             lockAtMostFor = "${zticket.admission.lock-at-most-for}",
             lockAtLeastFor = "${zticket.admission.lock-at-least-for}")
     public void admit() {
+        long leaseEnd = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(leaseMs);
+        try {
+            ratePerSecond = admitUsersUseCase.adjustRate();
+            long now = System.nanoTime();
+            buckets.values().forEach(bucket -> bucket.changeRate(ratePerSecond, now));
+        } catch (Exception e) {
+            log.error("입장 속도 조절 실패, 이전 속도 유지: ratePerSecond={}", ratePerSecond, e);
+        }
+        for (long showId : showCatalog.showIds()) {
+            try {
+                admitUsersUseCase.removeExpired(showId);
+            } catch (Exception e) {
+                log.error("잠수 유저 제거 실패: showId={}", showId, e);
+            }
+        }
+        while (true) {
+            for (long showId : showCatalog.showIds()) {
+                tick(showId);
+            }
+            if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(tickMs) >= leaseEnd) {
+                return;
+            }
+            try {
+                Thread.sleep(tickMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void tick(long showId) {
+        TokenBucket bucket = buckets.computeIfAbsent(showId,
+                id -> new TokenBucket(ratePerSecond, burst, System.nanoTime()));
+        int permits = bucket.take(System.nanoTime());
+        if (permits == 0) {
+            return;
+        }
+        int admitted = 0;
         try {
-            admitUsersUseCase.admitBatch();
+            admitted = admitUsersUseCase.admit(showId, permits);
         } catch (Exception e) {
-            log.error("입장 배치 처리 실패", e);
+            log.error("입장 처리 실패: showId={}", showId, e);
+        } finally {
+            bucket.giveBack(permits - admitted);
         }
     }
 }
@@ -0,0 +1,32 @@
+package kr.jemi.zticket.queue.infrastructure.in.scheduler;
+
+import kr.jemi.zticket.queue.application.port.in.AdmitUsersUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 모든 노드가 자기 구매 경로 부하를 주기적으로 올린다. 입장 리더는 이 값들을 모아 입장 속도를 정한다.
+ * 노드마다 자기 값을 올려야 하므로 ShedLock을 걸지 않는다.
+ */
+@Component
+public class DownstreamLoadReportScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(DownstreamLoadReportScheduler.class);
+
+    private final AdmitUsersUseCase admitUsersUseCase;
+
+    public DownstreamLoadReportScheduler(AdmitUsersUseCase admitUsersUseCase) {
+        this.admitUsersUseCase = admitUsersUseCase;
+    }
+
+    @Scheduled(fixedDelayString = "${zticket.admission.adaptive.report-interval-ms}")
+    public void report() {
+        try {
+            admitUsersUseCase.reportLoad();
+        } catch (Exception e) {
+            log.warn("구매 경로 부하 보고 실패", e);
+        }
+    }
+}
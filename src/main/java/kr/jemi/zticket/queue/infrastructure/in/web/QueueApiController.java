@@ -1,17 +1,31 @@
 package kr.jemi.zticket.queue.infrastructure.in.web;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.jemi.zticket.queue.infrastructure.in.web.dto.QueueStatusResponse;
 import kr.jemi.zticket.queue.infrastructure.in.web.dto.TokenResponse;
 import kr.jemi.zticket.queue.application.port.in.EnterQueueUseCase;
+import kr.jemi.zticket.queue.application.port.in.EstimateWaitUseCase;
 import kr.jemi.zticket.queue.application.port.in.GetQueueTokenUseCase;
+import kr.jemi.zticket.queue.application.port.in.QueueStatusListener;
+import kr.jemi.zticket.queue.application.port.in.SubscribeQueueStatusUseCase;
+import kr.jemi.zticket.common.dto.ErrorResponse;
+import kr.jemi.zticket.common.exception.ErrorCode;
+import kr.jemi.zticket.queue.domain.QueueStatus;
 import kr.jemi.zticket.queue.domain.QueueToken;
+import kr.jemi.zticket.queue.domain.WaitEstimate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
 
 @Tag(name = "Queue", description = "대기열 진입 및 상태 조회")
 @RestController
@@ -19,24 +33,83 @@ public class QueueApiController {
 
     private final EnterQueueUseCase enterQueueUseCase;
     private final GetQueueTokenUseCase getQueueTokenUseCase;
+    private final SubscribeQueueStatusUseCase subscribeQueueStatusUseCase;
+    private final EstimateWaitUseCase estimateWaitUseCase;
+    private final long emitterTimeoutMs;
 
     public QueueApiController(EnterQueueUseCase enterQueueUseCase,
-                              GetQueueTokenUseCase getQueueTokenUseCase) {
+                              GetQueueTokenUseCase getQueueTokenUseCase,
+                              SubscribeQueueStatusUseCase subscribeQueueStatusUseCase,
+                              EstimateWaitUseCase estimateWaitUseCase,
+                              @Value("${zticket.queue.push.emitter-timeout-ms}") long emitterTimeoutMs) {
         this.enterQueueUseCase = enterQueueUseCase;
         this.getQueueTokenUseCase = getQueueTokenUseCase;
+        this.subscribeQueueStatusUseCase = subscribeQueueStatusUseCase;
+        this.estimateWaitUseCase = estimateWaitUseCase;
+        this.emitterTimeoutMs = emitterTimeoutMs;
     }
 
     @Operation(summary = "대기열 진입", description = "대기열에 진입하고 대기열 토큰과 대기 순번을 반환합니다.")
-    @PostMapping("/api/queues/tokens")
-    public ResponseEntity<TokenResponse> enter() {
-        QueueToken queueToken = enterQueueUseCase.enter();
+    @PostMapping("/api/shows/{showId}/queues/tokens")
+    public ResponseEntity<TokenResponse> enter(@Parameter(description = "공연 ID") @PathVariable long showId) {
+        QueueToken queueToken = enterQueueUseCase.enter(showId);
         return ResponseEntity.ok(new TokenResponse(queueToken.token(), queueToken.rank()));
     }
 
-    @Operation(summary = "대기열 상태 조회", description = "대기열 토큰으로 현재 대기 상태와 순번을 조회합니다.")
-    @GetMapping("/api/queues/tokens/{token}")
-    public ResponseEntity<QueueStatusResponse> getQueueToken(@PathVariable String token) {
-        QueueToken queueToken = getQueueTokenUseCase.getQueueToken(token);
-        return ResponseEntity.ok(QueueStatusResponse.from(queueToken));
+    @Operation(summary = "대기열 상태 조회",
+            description = "대기열 토큰으로 현재 대기 상태와 순번을 조회합니다. "
+                    + "대기 중이면 예상 대기 시간(etaSeconds)과 다음 조회까지 기다릴 시간(nextPollMs)을 함께 반환합니다.")
+    @GetMapping("/api/shows/{showId}/queues/tokens/{token}")
+    public ResponseEntity<QueueStatusResponse> getQueueToken(
+            @Parameter(description = "공연 ID") @PathVariable long showId,
+            @PathVariable String token) {
+        QueueToken queueToken = getQueueTokenUseCase.getQueueToken(showId, token);
+        return ResponseEntity.ok(QueueStatusResponse.from(queueToken, estimate(showId, queueToken)));
+    }
+
+    @Operation(summary = "대기열 상태 구독 (SSE)",
+            description = "대기 상태가 바뀔 때만 status 이벤트를 보냅니다. ACTIVE/SOLD_OUT 또는 failure 이벤트 후 연결을 닫습니다. "
+                    + "연결이 열려 있는 동안은 폴링 없이도 heartbeat가 유지됩니다.")
+    @GetMapping(value = "/api/shows/{showId}/queues/tokens/{token}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeQueueToken(
+            @Parameter(description = "공연 ID") @PathVariable long showId,
+            @PathVariable String token) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        Runnable unsubscribe = subscribeQueueStatusUseCase.subscribe(showId, token, new QueueStatusListener() {
+            @Override
+            public void onStatus(QueueToken queueToken) {
+                send(emitter, SseEmitter.event().name("status").data(
+                        QueueStatusResponse.from(queueToken, estimate(showId, queueToken))));
+            }
+
+            @Override
+            public void onError(ErrorCode errorCode) {
+                send(emitter, SseEmitter.event().name("failure").data(ErrorResponse.from(errorCode)));
+            }
+
+            @Override
+            public void onComplete() {
+                emitter.complete();
+            }
+        });
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        return emitter;
+    }
+
+    private WaitEstimate estimate(long showId, QueueToken queueToken) {
+        if (queueToken.status() != QueueStatus.WAITING) {
+            return null;
+        }
+        return estimateWaitUseCase.estimate(showId, queueToken.rank());
+    }
+
+    private static void send(SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
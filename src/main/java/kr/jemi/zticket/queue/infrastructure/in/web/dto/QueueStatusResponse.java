@@ -1,10 +1,18 @@
 package kr.jemi.zticket.queue.infrastructure.in.web.dto;
 
 import kr.jemi.zticket.queue.domain.QueueToken;
+import kr.jemi.zticket.queue.domain.WaitEstimate;
 
-public record QueueStatusResponse(String token, long rank, String status) {
+/**
+ * etaSeconds와 nextPollMs는 WAITING일 때만 채운다. etaSeconds는 입장 처리량을 모르면 null이다.
+ */
+public record QueueStatusResponse(String token, long rank, String status, Long etaSeconds, Long nextPollMs) {
 
-    public static QueueStatusResponse from(QueueToken queueToken) {
-        return new QueueStatusResponse(queueToken.token(), queueToken.rank(), queueToken.status().name());
+    public static QueueStatusResponse from(QueueToken queueToken, WaitEstimate estimate) {
+        if (estimate == null) {
+            return new QueueStatusResponse(queueToken.token(), queueToken.rank(), queueToken.status().name(), null, null);
+        }
+        return new QueueStatusResponse(queueToken.token(), queueToken.rank(), queueToken.status().name(),
+                estimate.etaSeconds(), estimate.nextPollMs());
     }
 }
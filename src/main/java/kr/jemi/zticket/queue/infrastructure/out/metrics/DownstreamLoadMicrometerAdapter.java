@@ -0,0 +1,66 @@
+package kr.jemi.zticket.queue.infrastructure.out.metrics;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import kr.jemi.zticket.queue.application.port.out.DownstreamLoadPort;
+import kr.jemi.zticket.queue.domain.DownstreamLoad;
+
+/**
+ * 이미 수집 중인 Micrometer 지표에서 이 노드의 구매 경로 부하를 읽는다.
+ * <p>
+ * 구매 API p99는 http.server.requests 중 티켓 구매 URI, Redis p99는 구매 요청의 좌석 선점 호출(zticket.ticket.seat.hold),
+ * 커넥션 대기는 hikaricp.connections.pending의 합이다. lettuce.command.completion은 입장·잠수 제거 스크립트까지 섞이므로 쓰지 않는다.
+ * p99는 management.metrics.distribution.percentiles로 노드에서 직접 계산한 시간 창 값이라 이 노드가 처리한 요청만 반영된다.
+ * 노드별 값은 AdmissionRateAdjuster가 공유 저장소에 모아 합친다.
+ */
+@Component
+public class DownstreamLoadMicrometerAdapter implements DownstreamLoadPort {
+
+    private static final String PURCHASE_URI_PREFIX = "/api/shows/{showId}/tickets";
+    private static final String SEAT_HOLD_TIMER = "zticket.ticket.seat.hold";
+    private static final double P99 = 0.99;
+
+    private final MeterRegistry meterRegistry;
+
+    public DownstreamLoadMicrometerAdapter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public DownstreamLoad read() {
+        Collection<Timer> purchase = meterRegistry.find("http.server.requests")
+                .tag("method", "POST")
+                .timers()
+                .stream()
+                .filter(timer -> {
+                    String uri = timer.getId().getTag("uri");
+                    return uri != null && uri.startsWith(PURCHASE_URI_PREFIX);
+                })
+                .toList();
+        double hikariPending = meterRegistry.find("hikaricp.connections.pending").gauges().stream()
+                .mapToDouble(Gauge::value)
+                .filter(value -> !Double.isNaN(value))
+                .sum();
+        return new DownstreamLoad(p99Millis(purchase), hikariPending,
+                p99Millis(meterRegistry.find(SEAT_HOLD_TIMER).timers()));
+    }
+
+    private double p99Millis(Collection<Timer> timers) {
+        double max = 0;
+        for (Timer timer : timers) {
+            for (ValueAtPercentile value : timer.takeSnapshot().percentileValues()) {
+                if (value.percentile() == P99) {
+                    max = Math.max(max, value.value(TimeUnit.MILLISECONDS));
+                }
+            }
+        }
+        return max;
+    }
+}
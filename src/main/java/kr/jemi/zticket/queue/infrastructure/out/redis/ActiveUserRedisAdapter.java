@@ -1,20 +1,87 @@
 package kr.jemi.zticket.queue.infrastructure.out.redis;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
-import org.springframework.dao.DataAccessException;
-import org.springframework.data.redis.core.RedisOperations;
-import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import kr.jemi.zticket.common.redis.LuaScriptProvider;
+import kr.jemi.zticket.common.redis.ShowKeys;
 import kr.jemi.zticket.queue.application.port.out.ActiveUserPort;
 
+/**
+ * 입장 유저를 active_user:{token} TTL 키와 active_users 인덱스(Sorted Set, score = 만료 시각 ms)로 관리한다.
+ * <p>
+ * 입장 여부는 TTL 키로, 입장 인원 수는 인덱스로 판단한다. 두 자료구조는 항상 같은 스크립트 안에서 함께 갱신되고,
+ * 인덱스의 score는 키의 TTL과 같은 Redis 시각 기준으로 계산하므로 키가 만료되는 시점에 인덱스 항목도 만료된다.
+ * 키와 인덱스는 공연별로 {@link ShowKeys} 접두사가 붙어 같은 슬롯에 모인다.
+ */
 @Component
-public class ActiveUserRedisAdapter implements ActiveUserPort {
+public class ActiveUserRedisAdapter implements ActiveUserPort, LuaScriptProvider {
 
     private static final String KEY_PREFIX = "active_user:";
+    private static final String INDEX_KEY = "active_users";
+
+    private static final String NOW_MILLIS = """
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            """;
+
+    /**
+     * 대기열 어댑터의 입장 스크립트가 대기열에서 꺼낸 토큰을 같은 스크립트 안에서 입장시킬 때 쓴다.
+     * 꺼낼 토큰을 미리 알 수 없어 active_user 키를 KEYS로 넘기지 못하지만, 공연 해시 태그로 대기열과 같은 슬롯에 놓인다.
+     */
+    static final String ACTIVATE_FUNCTION = NOW_MILLIS + """
+            local function activate(index, prefix, ttlSeconds, tokens)
+                local ttl = tonumber(ttlSeconds) * 1000
+                for _, token in ipairs(tokens) do
+                    redis.call('SET', prefix .. token, '1', 'PX', ttl)
+                    redis.call('ZADD', index, now + ttl, token)
+                end
+            end
+            """;
+
+    /**
+     * KEYS[1] = 인덱스, KEYS[2..] = active_user:{token}, ARGV[1] = TTL(초), ARGV[2..] = 토큰.
+     */
+    private static final DefaultRedisScript<Long> ACTIVATE_SCRIPT = new DefaultRedisScript<>(
+            NOW_MILLIS + """
+            local ttl = tonumber(ARGV[1]) * 1000
+            for i = 2, #KEYS do
+                redis.call('SET', KEYS[i], '1', 'PX', ttl)
+                redis.call('ZADD', KEYS[1], now + ttl, ARGV[i])
+            end
+            return #KEYS - 1
+            """, Long.class);
+
+    private static final DefaultRedisScript<Long> DEACTIVATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[2])
+            return redis.call('ZREM', KEYS[1], ARGV[1])
+            """, Long.class);
+
+    /**
+     * KEYS[1] = 인덱스, KEYS[2..] = active_user:{token}, ARGV[1..] = 토큰.
+     */
+    private static final DefaultRedisScript<Long> DEACTIVATE_ALL_SCRIPT = new DefaultRedisScript<>("""
+            local removed = 0
+            for i = 2, #KEYS do
+                redis.call('DEL', KEYS[i])
+                removed = removed + redis.call('ZREM', KEYS[1], ARGV[i - 1])
+            end
+            return removed
+            """, Long.class);
+
+    /**
+     * 만료된 항목을 정리한 뒤 아직 만료되지 않은 입장 인원 수를 반환한다.
+     */
+    private static final DefaultRedisScript<Long> COUNT_SCRIPT = new DefaultRedisScript<>(
+            NOW_MILLIS + """
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', now)
+            return redis.call('ZCOUNT', KEYS[1], '(' .. now, '+inf')
+            """, Long.class);
 
     private final StringRedisTemplate redisTemplate;
 
@@ -23,35 +90,64 @@ public class ActiveUserRedisAdapter implements ActiveUserPort {
     }
 
     @Override
-    public void activate(String token, long ttlSeconds) {
-        redisTemplate.opsForValue().set(KEY_PREFIX + token, "1", ttlSeconds, TimeUnit.SECONDS);
+    public void activate(long showId, String token, long ttlSeconds) {
+        activateBatch(showId, List.of(token), ttlSeconds);
+    }
+
+    @Override
+    public void activateBatch(long showId, List<String> tokens, long ttlSeconds) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(tokens.size() + 1);
+        keys.add(indexKey(showId));
+        Object[] args = new Object[tokens.size() + 1];
+        args[0] = String.valueOf(ttlSeconds);
+        for (int i = 0; i < tokens.size(); i++) {
+            keys.add(keyPrefix(showId) + tokens.get(i));
+            args[i + 1] = tokens.get(i);
+        }
+        redisTemplate.execute(ACTIVATE_SCRIPT, keys, args);
+    }
+
+    @Override
+    public void deactivate(long showId, String token) {
+        redisTemplate.execute(DEACTIVATE_SCRIPT,
+                List.of(indexKey(showId), keyPrefix(showId) + token), token);
     }
 
     @Override
-    public void activateBatch(List<String> tokens, long ttlSeconds) {
-        redisTemplate.executePipelined(new SessionCallback<>() {
-            @Override
-            public Object execute(RedisOperations operations) throws DataAccessException {
-                for (String token : tokens) {
-                    operations.opsForValue().set(KEY_PREFIX + token, "1", ttlSeconds, TimeUnit.SECONDS);
-                }
-                return null;
-            }
-        });
+    public void deactivateBatch(long showId, List<String> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(tokens.size() + 1);
+        keys.add(indexKey(showId));
+        tokens.forEach(token -> keys.add(keyPrefix(showId) + token));
+        redisTemplate.execute(DEACTIVATE_ALL_SCRIPT, keys, tokens.toArray());
     }
 
     @Override
-    public void deactivate(String token) {
-        redisTemplate.delete(KEY_PREFIX + token);
+    public boolean isActive(long showId, String token) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(keyPrefix(showId) + token));
     }
 
     @Override
-    public boolean isActive(String token) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + token));
+    public int countActive(long showId) {
+        Long count = redisTemplate.execute(COUNT_SCRIPT, List.of(indexKey(showId)));
+        return count == null ? 0 : count.intValue();
     }
 
     @Override
-    public int countActive() {
-        return redisTemplate.keys(KEY_PREFIX + "*").size();
+    public List<RedisScript<?>> luaScripts() {
+        return List.of(ACTIVATE_SCRIPT, DEACTIVATE_SCRIPT, DEACTIVATE_ALL_SCRIPT, COUNT_SCRIPT);
+    }
+
+    static String indexKey(long showId) {
+        return ShowKeys.of(showId, INDEX_KEY);
+    }
+
+    static String keyPrefix(long showId) {
+        return ShowKeys.of(showId, KEY_PREFIX);
     }
 }
@@ -0,0 +1,43 @@
+package kr.jemi.zticket.queue.infrastructure.out.redis;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import kr.jemi.zticket.queue.application.port.out.AdmissionRatePort;
+import kr.jemi.zticket.queue.domain.AimdRate;
+
+/**
+ * admission_rate: "초당 입장 인원,마지막으로 줄인 시각(epoch ms)" 문자열.
+ * 공연에 관계없이 하나의 속도를 쓰므로 공연 해시 태그를 붙이지 않는다.
+ * 리더가 lease마다 덮어쓰고, 입장이 TTL보다 오래 멈추면 값이 사라져 다음 리더는 초기 속도부터 시작한다.
+ */
+@Component
+public class AdmissionRateRedisAdapter implements AdmissionRatePort {
+
+    private static final String KEY = "admission_rate";
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public AdmissionRateRedisAdapter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Optional<AimdRate.State> find() {
+        String value = redisTemplate.opsForValue().get(KEY);
+        if (value == null) {
+            return Optional.empty();
+        }
+        String[] parts = value.split(",");
+        return Optional.of(new AimdRate.State(Double.parseDouble(parts[0]), Long.parseLong(parts[1])));
+    }
+
+    @Override
+    public void save(AimdRate.State state) {
+        redisTemplate.opsForValue().set(KEY, state.rate() + "," + state.decreasedAtMillis(), TTL);
+    }
+}
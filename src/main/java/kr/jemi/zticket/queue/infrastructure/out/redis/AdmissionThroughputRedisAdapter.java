@@ -0,0 +1,78 @@
+package kr.jemi.zticket.queue.infrastructure.out.redis;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import kr.jemi.zticket.common.redis.LuaScriptProvider;
+import kr.jemi.zticket.common.redis.ShowKeys;
+import kr.jemi.zticket.queue.application.port.out.AdmissionThroughputPort;
+
+/**
+ * 초당 입장 인원의 EWMA를 공연별 해시({@code rate}, {@code pending}, {@code at})에 두고 Lua 스크립트로 갱신한다.
+ * <p>
+ * 경과 시간은 Redis TIME으로 재므로 리더가 바뀌어도 노드 간 시계 차이 없이 직전 리더의 기록 시각에 이어진다.
+ * 리더가 멈추면 TTL이 지나 값이 사라지고 예상 시간은 "모름"으로 돌아간다.
+ */
+@Component
+public class AdmissionThroughputRedisAdapter implements AdmissionThroughputPort, LuaScriptProvider {
+
+    private static final String KEY = "admission_throughput";
+    private static final Duration TTL = Duration.ofSeconds(10);
+
+    /**
+     * KEYS[1] = 처리량 해시, ARGV[1] = 입장 인원, ARGV[2] = 시간 상수(ms), ARGV[3] = TTL(ms).
+     * 경과 시간이 0이면 입장 인원을 pending에 쌓아 다음 기록으로 넘긴다.
+     */
+    private static final DefaultRedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'rate', 'pending', 'at')
+            local pending = (tonumber(state[2]) or 0) + tonumber(ARGV[1])
+            local at = tonumber(state[3])
+            if at == nil then
+                redis.call('HSET', KEYS[1], 'pending', pending, 'at', now)
+            elseif now > at then
+                local elapsed = now - at
+                local sample = pending * 1000 / elapsed
+                local rate = tonumber(state[1])
+                if rate == nil then
+                    rate = sample
+                else
+                    rate = rate + (1 - math.exp(-elapsed / tonumber(ARGV[2]))) * (sample - rate)
+                end
+                redis.call('HSET', KEYS[1], 'rate', tostring(rate), 'pending', 0, 'at', now)
+            else
+                redis.call('HSET', KEYS[1], 'pending', pending)
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public AdmissionThroughputRedisAdapter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void record(long showId, int admitted, long windowMillis) {
+        redisTemplate.execute(RECORD_SCRIPT, List.of(ShowKeys.of(showId, KEY)),
+                String.valueOf(admitted), String.valueOf(windowMillis), String.valueOf(TTL.toMillis()));
+    }
+
+    @Override
+    public double find(long showId) {
+        Object value = redisTemplate.opsForHash().get(ShowKeys.of(showId, KEY), "rate");
+        return value == null ? 0 : Double.parseDouble((String) value);
+    }
+
+    @Override
+    public List<RedisScript<?>> luaScripts() {
+        return List.of(RECORD_SCRIPT);
+    }
+}
@@ -0,0 +1,61 @@
+package kr.jemi.zticket.queue.infrastructure.out.redis;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import kr.jemi.zticket.queue.application.port.out.ClusterLoadPort;
+import kr.jemi.zticket.queue.domain.DownstreamLoad;
+
+/**
+ * downstream_load: field=노드 ID, value="구매 p99,커넥션 대기,Redis p99,보고 시각(epoch ms)" Hash.
+ * 노드 수만큼만 field가 생기므로 HGETALL 한 번으로 읽는다. STALE_AFTER보다 오래된 값은 꺼진 노드로 보고 지운다.
+ * 모든 노드가 보고를 멈추면 키 TTL이 지나 통째로 사라진다. 공연과 무관하므로 공연 해시 태그를 붙이지 않는다.
+ */
+@Component
+public class ClusterLoadRedisAdapter implements ClusterLoadPort {
+
+    private static final String KEY = "downstream_load";
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final long STALE_AFTER_MS = 5_000;
+
+    private final StringRedisTemplate redisTemplate;
+
+    public ClusterLoadRedisAdapter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void report(String nodeId, DownstreamLoad load) {
+        String value = load.purchaseP99Ms() + "," + load.hikariPending() + "," + load.redisP99Ms()
+                + "," + System.currentTimeMillis();
+        redisTemplate.opsForHash().put(KEY, nodeId, value);
+        redisTemplate.expire(KEY, TTL);
+    }
+
+    @Override
+    public List<DownstreamLoad> findRecent() {
+        HashOperations<String, String, String> hash = redisTemplate.opsForHash();
+        long staleBefore = System.currentTimeMillis() - STALE_AFTER_MS;
+        List<DownstreamLoad> loads = new ArrayList<>();
+        List<Object> stale = new ArrayList<>();
+        for (Map.Entry<String, String> entry : hash.entries(KEY).entrySet()) {
+            String[] parts = entry.getValue().split(",");
+            if (Long.parseLong(parts[3]) < staleBefore) {
+                stale.add(entry.getKey());
+                continue;
+            }
+            loads.add(new DownstreamLoad(Double.parseDouble(parts[0]), Double.parseDouble(parts[1]),
+                    Double.parseDouble(parts[2])));
+        }
+        if (!stale.isEmpty()) {
+            hash.delete(KEY, stale.toArray());
+        }
+        return loads;
+    }
+}
@@ -0,0 +1,38 @@
+package kr.jemi.zticket.queue.infrastructure.out.redis;
+
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import kr.jemi.zticket.queue.application.port.out.QueueStatusEventPort;
+
+/**
+ * 입장·매진 알림을 Redis pub/sub으로 모든 노드에 발행한다.
+ * 채널 이름과 본문 형식은 수신 측 QueueStatusEventRedisListener와 같아야 한다.
+ * 입장 알림의 본문은 "공연 ID:토큰1,토큰2,...", 매진 알림의 본문은 공연 ID이다.
+ */
+@Component
+public class QueueStatusEventRedisAdapter implements QueueStatusEventPort {
+
+    private static final String ADMITTED_CHANNEL = "queue:admitted";
+    private static final String SOLD_OUT_CHANNEL = "queue:sold_out";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public QueueStatusEventRedisAdapter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void publishAdmitted(long showId, List<String> tokens) {
+        if (!tokens.isEmpty()) {
+            redisTemplate.convertAndSend(ADMITTED_CHANNEL, showId + ":" + String.join(",", tokens));
+        }
+    }
+
+    @Override
+    public void publishSoldOut(long showId) {
+        redisTemplate.convertAndSend(SOLD_OUT_CHANNEL, String.valueOf(showId));
+    }
+}
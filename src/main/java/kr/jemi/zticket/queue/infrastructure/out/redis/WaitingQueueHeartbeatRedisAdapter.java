@@ -1,43 +1,164 @@
 package kr.jemi.zticket.queue.infrastructure.out.redis;
 
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.connection.zset.DefaultTuple;
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import kr.jemi.zticket.common.redis.ShowKeys;
 import kr.jemi.zticket.queue.application.port.out.WaitingQueueHeartbeatPort;
 
+/**
+ * 폴링 heartbeat를 노드 로컬 버퍼에 모았다가 주기적으로 한 번에 ZADD하는 WaitingQueueHeartbeatPort 구현.
+ * <p>
+ * 같은 토큰의 폴링은 버퍼에서 가장 최근 시각 하나로 합쳐지고, flush 시 폴링 시각 그대로 ZADD GT XX로 기록한다.
+ * 다른 노드가 먼저 더 최근 시각을 기록했다면 덮어쓰지 않고, 버퍼에 담긴 뒤 입장·잠수 제거로 heartbeat에서 빠진 토큰은
+ * 다시 만들지 않는다. heartbeat 항목은 진입 시 {@link #register}만 만든다.
+ * 버퍼가 max-pending에 도달하면 폴링한 스레드가 직접 flush하여 메모리를 제한한다.
+ * <p>
+ * 다른 노드의 버퍼는 최대 flush 주기만큼 늦게 반영되므로, 잠수 판정은 queue-ttl-seconds보다 flush 주기만큼 여유가 줄어든다.
+ * 잠수 제거는 이 노드의 버퍼를 flush한 뒤 대기열 어댑터의 스크립트가 heartbeat와 대기열에서 함께 지운다.
+ * <p>
+ * heartbeat Sorted Set은 공연별로 따로 두고, 버퍼는 모든 공연이 공유하되 flush 시 공연별 키로 나눠 기록한다.
+ */
 @Component
 public class WaitingQueueHeartbeatRedisAdapter implements WaitingQueueHeartbeatPort {
 
-    private static final String KEY = "waiting_queue_heartbeat";
+    /**
+     * 대기열 어댑터의 잠수 제거 스크립트도 이 키를 쓴다.
+     */
+    static final String KEY = "waiting_queue_heartbeat";
+    private static final int ZADD_CHUNK_SIZE = 1000;
 
     private final StringRedisTemplate redisTemplate;
+    private final int maxPending;
+    private final ConcurrentHashMap<PendingHeartbeat, Long> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
 
-    public WaitingQueueHeartbeatRedisAdapter(StringRedisTemplate redisTemplate) {
+    private final DistributionSummary flushSize;
+    private final Timer flushLag;
+    private final Counter overflowFlushes;
+
+    public WaitingQueueHeartbeatRedisAdapter(StringRedisTemplate redisTemplate,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${zticket.queue.heartbeat.max-pending}") int maxPending) {
         this.redisTemplate = redisTemplate;
+        this.maxPending = maxPending;
+        this.flushSize = DistributionSummary.builder("zticket.queue.heartbeat.flush.size")
+                .description("flush 1회에 기록한 heartbeat 수")
+                .register(meterRegistry);
+        this.flushLag = Timer.builder("zticket.queue.heartbeat.flush.lag")
+                .description("버퍼에서 가장 오래 기다린 폴링이 Redis에 기록되기까지 걸린 시간")
+                .register(meterRegistry);
+        this.overflowFlushes = Counter.builder("zticket.queue.heartbeat.overflow.flush")
+                .description("버퍼가 max-pending에 도달해 폴링 스레드가 직접 flush한 횟수")
+                .register(meterRegistry);
+        Gauge.builder("zticket.queue.heartbeat.pending", pending, Map::size)
+                .description("flush 대기 중인 heartbeat 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void register(long showId, String token) {
+        redisTemplate.opsForZSet().add(ShowKeys.of(showId, KEY), token, System.currentTimeMillis());
     }
 
     @Override
-    public void refresh(String token) {
-        redisTemplate.opsForZSet().add(KEY, token, System.currentTimeMillis());
+    public void refresh(long showId, String token) {
+        pending.merge(new PendingHeartbeat(showId, token), System.currentTimeMillis(), Math::max);
+        if (pending.size() >= maxPending) {
+            overflowFlushes.increment();
+            flush();
+        }
     }
 
+    /**
+     * flush와 같은 락 안에서 버퍼와 Redis에서 함께 제거하여, 제거 직후 flush가 heartbeat를 되살리지 않게 한다.
+     */
     @Override
-    public List<String> findExpired(long cutoffTimestamp, int size) {
-        Set<String> batch = redisTemplate.opsForZSet()
-                .rangeByScore(KEY, Double.NEGATIVE_INFINITY, cutoffTimestamp, 0, size);
-        if (batch == null || batch.isEmpty()) {
-            return List.of();
+    public void removeAll(long showId, List<String> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            tokens.forEach(token -> pending.remove(new PendingHeartbeat(showId, token)));
+            redisTemplate.opsForZSet().remove(ShowKeys.of(showId, KEY), tokens.toArray());
+        } finally {
+            flushLock.unlock();
         }
-        return List.copyOf(batch);
     }
 
+    /**
+     * 버퍼를 복사해 ZADD한 뒤, 그 사이 더 최근 폴링으로 갱신되지 않은 항목만 버퍼에서 지운다.
+     * Redis 기록에 실패하면 버퍼에 남아 다음 flush에서 다시 시도한다.
+     */
     @Override
-    public void removeAll(List<String> tokens) {
-        if (!tokens.isEmpty()) {
-            redisTemplate.opsForZSet().remove(KEY, tokens.toArray());
+    @Scheduled(fixedDelayString = "${zticket.queue.heartbeat.flush-interval-ms}")
+    @PreDestroy
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+            Map<PendingHeartbeat, Long> batch = new HashMap<>(pending);
+            long oldest = batch.values().stream().mapToLong(Long::longValue).min().orElseThrow();
+
+            write(batch);
+
+            batch.forEach((heartbeat, timestamp) -> pending.remove(heartbeat, timestamp));
+            flushSize.record(batch.size());
+            flushLag.record(System.currentTimeMillis() - oldest, TimeUnit.MILLISECONDS);
+        } finally {
+            flushLock.unlock();
         }
     }
+
+    private void write(Map<PendingHeartbeat, Long> batch) {
+        Map<Long, Map<String, Long>> byShow = new HashMap<>();
+        batch.forEach((heartbeat, timestamp) ->
+                byShow.computeIfAbsent(heartbeat.showId(), id -> new HashMap<>()).put(heartbeat.token(), timestamp));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<Long, Map<String, Long>> show : byShow.entrySet()) {
+                byte[] key = ShowKeys.of(show.getKey(), KEY).getBytes(StandardCharsets.UTF_8);
+                Set<Tuple> tuples = new LinkedHashSet<>();
+                for (Map.Entry<String, Long> entry : show.getValue().entrySet()) {
+                    tuples.add(new DefaultTuple(entry.getKey().getBytes(StandardCharsets.UTF_8),
+                            entry.getValue().doubleValue()));
+                    if (tuples.size() == ZADD_CHUNK_SIZE) {
+                        connection.zSetCommands().zAdd(key, tuples, ZAddArgs.empty().gt().xx());
+                        tuples = new LinkedHashSet<>();
+                    }
+                }
+                if (!tuples.isEmpty()) {
+                    connection.zSetCommands().zAdd(key, tuples, ZAddArgs.empty().gt().xx());
+                }
+            }
+            return null;
+        });
+    }
+
+    private record PendingHeartbeat(long showId, String token) {
+    }
 }
@@ -4,16 +4,52 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import kr.jemi.zticket.common.redis.LuaScriptProvider;
+import kr.jemi.zticket.common.redis.ShowKeys;
 import kr.jemi.zticket.queue.application.port.out.WaitingQueuePort;
 
 @Component
-public class WaitingQueueRedisAdapter implements WaitingQueuePort {
+@ConditionalOnProperty(name = "zticket.queue.mode", havingValue = "zset", matchIfMissing = true)
+public class WaitingQueueRedisAdapter implements WaitingQueuePort, LuaScriptProvider {
 
     private static final String KEY = "waiting_queue";
 
+    /**
+     * KEYS[1] = heartbeat, KEYS[2] = 대기열, ARGV[1] = cutoff(ms), ARGV[2] = 최대 제거 수.
+     */
+    private static final DefaultRedisScript<Long> REMOVE_EXPIRED_SCRIPT = new DefaultRedisScript<>("""
+            local tokens = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            if #tokens == 0 then
+                return 0
+            end
+            redis.call('ZREM', KEYS[2], unpack(tokens))
+            redis.call('ZREM', KEYS[1], unpack(tokens))
+            return #tokens
+            """, Long.class);
+
+    /**
+     * 대기열 앞에서 꺼낸 토큰을 입장시키고 대기열과 heartbeat에서 제거한다.
+     * KEYS[1] = 대기열, KEYS[2] = heartbeat, KEYS[3] = active 인덱스, ARGV[1] = 인원, ARGV[2] = TTL(초), ARGV[3] = active_user 키 접두사.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> ADMIT_SCRIPT = new DefaultRedisScript<>(
+            ActiveUserRedisAdapter.ACTIVATE_FUNCTION + """
+            local tokens = redis.call('ZRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            if #tokens == 0 then
+                return tokens
+            end
+            activate(KEYS[3], ARGV[3], ARGV[2], tokens)
+            redis.call('ZREM', KEYS[1], unpack(tokens))
+            redis.call('ZREM', KEYS[2], unpack(tokens))
+            return tokens
+            """, List.class);
+
     private final StringRedisTemplate redisTemplate;
 
     public WaitingQueueRedisAdapter(StringRedisTemplate redisTemplate) {
@@ -21,9 +57,9 @@ public class WaitingQueueRedisAdapter implements WaitingQueuePort {
     }
 
     @Override
-    public long enqueue(String token) {
-        redisTemplate.opsForZSet().add(KEY, token, System.currentTimeMillis());
-        Long rank = this.getRank(token);
+    public long enqueue(long showId, String token) {
+        redisTemplate.opsForZSet().add(ShowKeys.of(showId, KEY), token, System.currentTimeMillis());
+        Long rank = this.getRank(showId, token);
         if (rank == null) {
             throw new IllegalStateException("rank는 null일 수 없습니다.");
         }
@@ -31,8 +67,8 @@ public class WaitingQueueRedisAdapter implements WaitingQueuePort {
     }
 
     @Override
-    public Long getRank(String token) {
-        Long rank = redisTemplate.opsForZSet().rank(KEY, token);
+    public Long getRank(long showId, String token) {
+        Long rank = redisTemplate.opsForZSet().rank(ShowKeys.of(showId, KEY), token);
         if (rank == null) {
             return null;
         }
@@ -40,11 +76,11 @@ public class WaitingQueueRedisAdapter implements WaitingQueuePort {
     }
 
     @Override
-    public List<String> peek(int count) {
+    public List<String> peek(long showId, int count) {
         if (count <= 0) {
             return List.of();
         }
-        Set<String> members = redisTemplate.opsForZSet().range(KEY, 0, (long) count - 1);
+        Set<String> members = redisTemplate.opsForZSet().range(ShowKeys.of(showId, KEY), 0, (long) count - 1);
         if (members == null || members.isEmpty()) {
             return List.of();
         }
@@ -52,9 +88,35 @@ public class WaitingQueueRedisAdapter implements WaitingQueuePort {
     }
 
     @Override
-    public void removeAll(List<String> tokens) {
+    public void removeAll(long showId, List<String> tokens) {
         if (!tokens.isEmpty()) {
-            redisTemplate.opsForZSet().remove(KEY, tokens.toArray());
+            redisTemplate.opsForZSet().remove(ShowKeys.of(showId, KEY), tokens.toArray());
+        }
+    }
+
+    @Override
+    public int removeExpired(long showId, long cutoffTimestamp, int limit) {
+        Long removed = redisTemplate.execute(REMOVE_EXPIRED_SCRIPT,
+                List.of(ShowKeys.of(showId, WaitingQueueHeartbeatRedisAdapter.KEY), ShowKeys.of(showId, KEY)),
+                String.valueOf(cutoffTimestamp), String.valueOf(limit));
+        return removed == null ? 0 : removed.intValue();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> admit(long showId, int count, long activeTtlSeconds) {
+        if (count <= 0) {
+            return List.of();
         }
+        List<String> tokens = redisTemplate.execute(ADMIT_SCRIPT,
+                List.of(ShowKeys.of(showId, KEY), ShowKeys.of(showId, WaitingQueueHeartbeatRedisAdapter.KEY),
+                        ActiveUserRedisAdapter.indexKey(showId)),
+                String.valueOf(count), String.valueOf(activeTtlSeconds), ActiveUserRedisAdapter.keyPrefix(showId));
+        return tokens == null ? List.of() : tokens;
+    }
+
+    @Override
+    public List<RedisScript<?>> luaScripts() {
+        return List.of(REMOVE_EXPIRED_SCRIPT, ADMIT_SCRIPT);
     }
 }
@@ -0,0 +1,225 @@
+package kr.jemi.zticket.queue.infrastructure.out.redis;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import kr.jemi.zticket.common.redis.LuaScriptProvider;
+import kr.jemi.zticket.common.redis.ShowKeys;
+import kr.jemi.zticket.queue.application.port.out.WaitingQueuePort;
+
+/**
+ * 진입 순서대로 INCR 번호표를 발급하는 WaitingQueuePort 구현.
+ * <p>
+ * waiting_queue_seq: 마지막 발급 번호, waiting_queue_number: 토큰 → 번호 Hash, waiting_queue_token: 번호 → 토큰 Hash,
+ * waiting_queue_cursor: 이 번호 이하는 모두 대기열을 떠남, waiting_queue_removed: cursor 이후에 먼저 빠진 번호 Sorted Set(score = 번호).
+ * <p>
+ * 순번 = 내 번호 - cursor - (cursor, 내 번호] 구간에서 먼저 빠진 번호 수.
+ * 빠진 번호가 cursor 바로 다음부터 이어지면 cursor를 당기고 waiting_queue_removed에서 정리하므로,
+ * removed에는 대기 중인 번호 사이의 구멍만 남는다.
+ * 번호는 진입 순서 그 자체이므로 같은 밀리초에 진입해도 FIFO가 흐려지지 않는다.
+ * 모든 키는 공연별로 {@link ShowKeys} 접두사가 붙어 한 스크립트의 키가 같은 슬롯에 모인다.
+ */
+@Component
+@ConditionalOnProperty(name = "zticket.queue.mode", havingValue = "sequence")
+public class WaitingQueueSequenceRedisAdapter implements WaitingQueuePort, LuaScriptProvider {
+
+    private static final String SEQ_KEY = "waiting_queue_seq";
+    private static final String NUMBER_KEY = "waiting_queue_number";
+    private static final String TOKEN_KEY = "waiting_queue_token";
+    private static final String CURSOR_KEY = "waiting_queue_cursor";
+    private static final String REMOVED_KEY = "waiting_queue_removed";
+
+    private static final String RANK_FUNCTION = """
+            local function rank(number)
+                local cursor = tonumber(redis.call('GET', KEYS[4]) or '0')
+                return number - cursor - redis.call('ZCOUNT', KEYS[5], '(' .. cursor, number)
+            end
+            """;
+
+    /**
+     * 이미 대기 중인 토큰이면 기존 번호의 순번을 반환한다.
+     */
+    private static final DefaultRedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>(
+            RANK_FUNCTION + """
+            local number = redis.call('HGET', KEYS[2], ARGV[1])
+            if number then
+                return rank(tonumber(number))
+            end
+            number = redis.call('INCR', KEYS[1])
+            redis.call('HSET', KEYS[2], ARGV[1], number)
+            redis.call('HSET', KEYS[3], number, ARGV[1])
+            return rank(number)
+            """, Long.class);
+
+    private static final DefaultRedisScript<Long> RANK_SCRIPT = new DefaultRedisScript<>(
+            RANK_FUNCTION + """
+            local number = redis.call('HGET', KEYS[2], ARGV[1])
+            if not number then
+                return nil
+            end
+            return rank(tonumber(number))
+            """, Long.class);
+
+    private static final String PEEK_FUNCTION = """
+            local function peek(count)
+                local last = tonumber(redis.call('GET', KEYS[1]) or '0')
+                local number = tonumber(redis.call('GET', KEYS[4]) or '0') + 1
+                local tokens = {}
+                while #tokens < count and number <= last do
+                    local token = redis.call('HGET', KEYS[3], number)
+                    if token then
+                        tokens[#tokens + 1] = token
+                    end
+                    number = number + 1
+                end
+                return tokens
+            end
+            """;
+
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> PEEK_SCRIPT = new DefaultRedisScript<>(
+            PEEK_FUNCTION + """
+            return peek(tonumber(ARGV[1]))
+            """, List.class);
+
+    /**
+     * 토큰을 제거한 뒤, cursor 다음 번호부터 연속으로 빠진 구간만큼 cursor를 당기고 removed를 정리한다.
+     */
+    private static final String REMOVE_FUNCTION = """
+            local function remove(tokens)
+                local removed = 0
+                for _, token in ipairs(tokens) do
+                    local number = redis.call('HGET', KEYS[2], token)
+                    if number then
+                        redis.call('HDEL', KEYS[2], token)
+                        redis.call('HDEL', KEYS[3], number)
+                        redis.call('ZADD', KEYS[5], number, number)
+                        removed = removed + 1
+                    end
+                end
+                local last = tonumber(redis.call('GET', KEYS[1]) or '0')
+                local cursor = tonumber(redis.call('GET', KEYS[4]) or '0')
+                local advanced = cursor
+                while advanced < last and redis.call('HEXISTS', KEYS[3], advanced + 1) == 0 do
+                    advanced = advanced + 1
+                end
+                if advanced > cursor then
+                    redis.call('SET', KEYS[4], advanced)
+                    redis.call('ZREMRANGEBYSCORE', KEYS[5], '-inf', advanced)
+                end
+                return removed
+            end
+            """;
+
+    private static final DefaultRedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>(
+            REMOVE_FUNCTION + """
+            return remove(ARGV)
+            """, Long.class);
+
+    /**
+     * KEYS[6] = heartbeat, ARGV[1] = cutoff(ms), ARGV[2] = 최대 제거 수.
+     */
+    private static final DefaultRedisScript<Long> REMOVE_EXPIRED_SCRIPT = new DefaultRedisScript<>(
+            REMOVE_FUNCTION + """
+            local tokens = redis.call('ZRANGEBYSCORE', KEYS[6], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            if #tokens == 0 then
+                return 0
+            end
+            remove(tokens)
+            redis.call('ZREM', KEYS[6], unpack(tokens))
+            return #tokens
+            """, Long.class);
+
+    /**
+     * 번호 순으로 꺼낸 토큰을 입장시키고 removeAll과 같은 방식으로 제거한다.
+     * KEYS[6] = heartbeat, KEYS[7] = active 인덱스, ARGV[1] = 인원, ARGV[2] = TTL(초), ARGV[3] = active_user 키 접두사.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> ADMIT_SCRIPT = new DefaultRedisScript<>(
+            PEEK_FUNCTION + REMOVE_FUNCTION + ActiveUserRedisAdapter.ACTIVATE_FUNCTION + """
+            local tokens = peek(tonumber(ARGV[1]))
+            if #tokens == 0 then
+                return tokens
+            end
+            activate(KEYS[7], ARGV[3], ARGV[2], tokens)
+            remove(tokens)
+            redis.call('ZREM', KEYS[6], unpack(tokens))
+            return tokens
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public WaitingQueueSequenceRedisAdapter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public long enqueue(long showId, String token) {
+        Long rank = redisTemplate.execute(ENQUEUE_SCRIPT, keys(showId), token);
+        if (rank == null) {
+            throw new IllegalStateException("rank는 null일 수 없습니다.");
+        }
+        return rank;
+    }
+
+    @Override
+    public Long getRank(long showId, String token) {
+        return redisTemplate.execute(RANK_SCRIPT, keys(showId), token);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> peek(long showId, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        List<String> tokens = redisTemplate.execute(PEEK_SCRIPT, keys(showId), String.valueOf(count));
+        return tokens == null ? List.of() : tokens;
+    }
+
+    @Override
+    public void removeAll(long showId, List<String> tokens) {
+        if (!tokens.isEmpty()) {
+            redisTemplate.execute(REMOVE_SCRIPT, keys(showId), tokens.toArray());
+        }
+    }
+
+    @Override
+    public int removeExpired(long showId, long cutoffTimestamp, int limit) {
+        List<String> keys = new ArrayList<>(keys(showId));
+        keys.add(ShowKeys.of(showId, WaitingQueueHeartbeatRedisAdapter.KEY));
+        Long removed = redisTemplate.execute(REMOVE_EXPIRED_SCRIPT, keys,
+                String.valueOf(cutoffTimestamp), String.valueOf(limit));
+        return removed == null ? 0 : removed.intValue();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> admit(long showId, int count, long activeTtlSeconds) {
+        if (count <= 0) {
+            return List.of();
+        }
+        List<String> keys = new ArrayList<>(keys(showId));
+        keys.add(ShowKeys.of(showId, WaitingQueueHeartbeatRedisAdapter.KEY));
+        keys.add(ActiveUserRedisAdapter.indexKey(showId));
+        List<String> tokens = redisTemplate.execute(ADMIT_SCRIPT, keys,
+                String.valueOf(count), String.valueOf(activeTtlSeconds), ActiveUserRedisAdapter.keyPrefix(showId));
+        return tokens == null ? List.of() : tokens;
+    }
+
+    @Override
+    public List<RedisScript<?>> luaScripts() {
+        return List.of(ENQUEUE_SCRIPT, RANK_SCRIPT, PEEK_SCRIPT, REMOVE_SCRIPT, REMOVE_EXPIRED_SCRIPT, ADMIT_SCRIPT);
+    }
+
+    private List<String> keys(long showId) {
+        return List.of(ShowKeys.of(showId, SEQ_KEY), ShowKeys.of(showId, NUMBER_KEY), ShowKeys.of(showId, TOKEN_KEY),
+                ShowKeys.of(showId, CURSOR_KEY), ShowKeys.of(showId, REMOVED_KEY));
+    }
+}
@@ -0,0 +1,211 @@
+package kr.jemi.zticket.queue.infrastructure.out.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import kr.jemi.zticket.common.redis.LuaScriptProvider;
+import kr.jemi.zticket.common.redis.ShowKeys;
+import kr.jemi.zticket.queue.application.port.out.WaitingQueuePort;
+
+/**
+ * 대기열을 토큰 해시로 K개의 Sorted Set에 나눠 담는 WaitingQueuePort 구현.
+ * <p>
+ * waiting_queue_shard_seq: 공연별 진입 번호(INCR), waiting_queue: 샤드별 Sorted Set(member = 토큰, score = 진입 번호).
+ * 샤드 키는 {@link ShowKeys#shardOf}로 해시 태그에 샤드 번호를 넣으므로 Redis Cluster에서 서로 다른 노드에 놓일 수 있고,
+ * 폴링(ZSCORE + ZCOUNT)과 입장(ZRANGE/ZREM) 부하가 한 코어에 몰리지 않는다.
+ * <p>
+ * 순번 = 모든 샤드에서 내 진입 번호 이하인 토큰 수의 합. 샤드를 한 번에 읽지 않으므로 조회 중에 빠진 토큰은
+ * 반영되지 않을 수 있지만, 순번은 다음 폴링에서 바로 맞춰진다.
+ * 입장 대상은 샤드마다 앞에서 count개씩 읽어 진입 번호 순으로 병합하므로 샤드를 나눠도 FIFO가 유지된다.
+ * <p>
+ * 샤드는 서로 다른 슬롯이라 잠수 제거와 입장을 한 스크립트로 묶을 수 없다. 잠수 제거는 대기열에서 먼저 지우고 heartbeat를 마지막에 지우므로,
+ * 도중에 실패해도 heartbeat가 남아 다음 주기에 다시 제거된다. 입장은 공연 슬롯에서 active 등록 스크립트를 먼저 실행한 뒤 대기열에서 제거하므로,
+ * 도중에 실패하면 다음 주기에 같은 토큰이 다시 입장 처리될 뿐 유실되지 않는다(active 등록은 멱등).
+ */
+@Component
+@ConditionalOnProperty(name = "zticket.queue.mode", havingValue = "sharded")
+public class WaitingQueueShardedRedisAdapter implements WaitingQueuePort, LuaScriptProvider {
+
+    private static final String SEQ_KEY = "waiting_queue_shard_seq";
+    private static final String QUEUE_KEY = "waiting_queue";
+
+    /**
+     * 이미 대기 중인 토큰이면 기존 진입 번호를 유지하고 그 번호를 반환한다.
+     * KEYS[1] = 샤드 키, ARGV[1] = 토큰, ARGV[2] = 새 진입 번호.
+     */
+    private static final DefaultRedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('ZADD', KEYS[1], 'NX', ARGV[2], ARGV[1])
+            return tonumber(redis.call('ZSCORE', KEYS[1], ARGV[1]))
+            """, Long.class);
+
+    /**
+     * 샤드에서 꺼낸 토큰을 입장시킨다. active 키와 인덱스는 공연 해시 태그로 같은 슬롯에 있어 한 스크립트로 등록한다.
+     * KEYS[1] = active 인덱스, ARGV[1] = TTL(초), ARGV[2] = active 키 접두사, ARGV[3..] = 토큰.
+     */
+    private static final DefaultRedisScript<Long> ACTIVATE_SCRIPT = new DefaultRedisScript<>(
+            ActiveUserRedisAdapter.ACTIVATE_FUNCTION + """
+            local tokens = {}
+            for i = 3, #ARGV do
+                tokens[#tokens + 1] = ARGV[i]
+            end
+            activate(KEYS[1], ARGV[2], ARGV[1], tokens)
+            return #tokens
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final int shardCount;
+
+    public WaitingQueueShardedRedisAdapter(StringRedisTemplate redisTemplate,
+                                           @Value("${zticket.queue.shard-count}") int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shard-count는 1 이상이어야 합니다.");
+        }
+        this.redisTemplate = redisTemplate;
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    public long enqueue(long showId, String token) {
+        Long sequence = redisTemplate.opsForValue().increment(ShowKeys.of(showId, SEQ_KEY));
+        Long number = redisTemplate.execute(ADD_SCRIPT, List.of(shardKey(showId, token)),
+                token, String.valueOf(sequence));
+        if (number == null) {
+            throw new IllegalStateException("진입 번호는 null일 수 없습니다.");
+        }
+        return countUpTo(showId, number);
+    }
+
+    @Override
+    public Long getRank(long showId, String token) {
+        Double number = redisTemplate.opsForZSet().score(shardKey(showId, token), token);
+        if (number == null) {
+            return null;
+        }
+        return countUpTo(showId, number.longValue());
+    }
+
+    /**
+     * 샤드마다 앞에서 count개씩 읽어 진입 번호 순으로 병합한다.
+     * 전체 앞쪽 count개는 어느 샤드에서든 그 샤드의 앞쪽 count개 안에 있으므로 빠지는 토큰이 없다.
+     */
+    @Override
+    public List<String> peek(long showId, int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+        List<Object> heads = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int shard = 0; shard < shardCount; shard++) {
+                connection.zSetCommands().zRangeWithScores(bytes(ShowKeys.shardOf(showId, shard, QUEUE_KEY)),
+                        0, count - 1L);
+            }
+            return null;
+        });
+        Comparator<TypedTuple<String>> byNumber = Comparator.comparingDouble(TypedTuple::getScore);
+        PriorityQueue<TypedTuple<String>> merged = new PriorityQueue<>(byNumber);
+        for (Object head : heads) {
+            if (head instanceof Set<?> tuples) {
+                tuples.forEach(tuple -> merged.add(asTuple(tuple)));
+            }
+        }
+        List<String> tokens = new ArrayList<>(Math.min(count, merged.size()));
+        while (tokens.size() < count && !merged.isEmpty()) {
+            tokens.add(merged.poll().getValue());
+        }
+        return tokens;
+    }
+
+    @Override
+    public void removeAll(long showId, List<String> tokens) {
+        if (tokens.isEmpty()) {
+            return;
+        }
+        Map<String, List<String>> byShard = new HashMap<>();
+        tokens.forEach(token -> byShard.computeIfAbsent(shardKey(showId, token), key -> new ArrayList<>()).add(token));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            byShard.forEach((key, members) -> connection.zSetCommands().zRem(bytes(key),
+                    members.stream().map(this::bytes).toArray(byte[][]::new)));
+            return null;
+        });
+    }
+
+    @Override
+    public int removeExpired(long showId, long cutoffTimestamp, int limit) {
+        String heartbeatKey = ShowKeys.of(showId, WaitingQueueHeartbeatRedisAdapter.KEY);
+        Set<String> expired = redisTemplate.opsForZSet()
+                .rangeByScore(heartbeatKey, Double.NEGATIVE_INFINITY, cutoffTimestamp, 0, limit);
+        if (expired == null || expired.isEmpty()) {
+            return 0;
+        }
+        List<String> tokens = List.copyOf(expired);
+        removeAll(showId, tokens);
+        redisTemplate.opsForZSet().remove(heartbeatKey, tokens.toArray());
+        return tokens.size();
+    }
+
+    @Override
+    public List<String> admit(long showId, int count, long activeTtlSeconds) {
+        List<String> tokens = peek(showId, count);
+        if (tokens.isEmpty()) {
+            return tokens;
+        }
+        List<String> args = new ArrayList<>(tokens.size() + 2);
+        args.add(String.valueOf(activeTtlSeconds));
+        args.add(ActiveUserRedisAdapter.keyPrefix(showId));
+        args.addAll(tokens);
+        redisTemplate.execute(ACTIVATE_SCRIPT, List.of(ActiveUserRedisAdapter.indexKey(showId)), args.toArray());
+        removeAll(showId, tokens);
+        redisTemplate.opsForZSet().remove(ShowKeys.of(showId, WaitingQueueHeartbeatRedisAdapter.KEY), tokens.toArray());
+        return tokens;
+    }
+
+    @Override
+    public List<RedisScript<?>> luaScripts() {
+        return List.of(ADD_SCRIPT, ACTIVATE_SCRIPT);
+    }
+
+    /**
+     * 모든 샤드에서 진입 번호가 number 이하인 토큰 수를 더한다. 본인도 포함되므로 1부터 시작하는 순번이 된다.
+     */
+    private long countUpTo(long showId, long number) {
+        Range<Double> range = Range.leftUnbounded(Range.Bound.inclusive((double) number));
+        List<Object> counts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int shard = 0; shard < shardCount; shard++) {
+                connection.zSetCommands().zCount(bytes(ShowKeys.shardOf(showId, shard, QUEUE_KEY)), range);
+            }
+            return null;
+        });
+        return counts.stream().mapToLong(count -> count == null ? 0 : (Long) count).sum();
+    }
+
+    private String shardKey(long showId, String token) {
+        return ShowKeys.shardOf(showId, Math.floorMod(token.hashCode(), shardCount), QUEUE_KEY);
+    }
+
+    /**
+     * 파이프라인 결과는 템플릿의 직렬화기로 역직렬화되어 TypedTuple&lt;String&gt;으로 돌아온다.
+     */
+    @SuppressWarnings("unchecked")
+    private TypedTuple<String> asTuple(Object tuple) {
+        return (TypedTuple<String>) tuple;
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -14,7 +14,7 @@ public class AvailableSeatCountAdapter implements AvailableSeatCountPort {
     }
 
     @Override
-    public int getAvailableCount() {
-        return seatFacade.getAvailableCount();
+    public int getAvailableCount(long showId) {
+        return seatFacade.getAvailableCount(showId);
     }
 }
@@ -1,12 +1,27 @@
 package kr.jemi.zticket.seat.api;
 
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
 public interface SeatFacade {
 
-    boolean holdSeat(int seatNumber, String token, long ttlSeconds);
+    boolean holdSeat(long showId, int seatNumber, String token, long ttlSeconds);
+
+    boolean holdSeats(long showId, List<Integer> seatNumbers, String token, long ttlSeconds);
+
+    OptionalInt holdAnySeat(long showId, int fromSeat, int toSeat, String token, long ttlSeconds);
+
+    /**
+     * 이 노드가 이미 PAID로 확인한 좌석이면 true이다. Redis를 조회하지 않으므로 false가 빈 좌석을 뜻하지는 않는다.
+     */
+    boolean isPaid(long showId, int seatNumber);
+
+    void paySeat(long showId, int seatNumber, String token);
 
-    void paySeat(int seatNumber, String token);
+    void paySeats(long showId, Map<Integer, String> tokensBySeat);
 
-    void releaseSeat(int seatNumber, String token);
+    void releaseSeat(long showId, int seatNumber, String token);
 
-    int getAvailableCount();
+    int getAvailableCount(long showId);
 }
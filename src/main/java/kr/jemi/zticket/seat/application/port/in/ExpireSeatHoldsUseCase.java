@@ -0,0 +1,21 @@
+package kr.jemi.zticket.seat.application.port.in;
+
+import java.util.List;
+
+public interface ExpireSeatHoldsUseCase {
+
+    /**
+     * 만료된 hold를 해제하고 해제한 좌석 번호를 반환한다. 이미 반영된 만료는 다시 처리하지 않는다.
+     */
+    List<Integer> expireHolds(long showId);
+
+    /**
+     * 만료 알림을 받은 공연을 표시만 한다. 실제 해제는 {@link #expireMarkedHolds()}에서 공연당 한 번 한다.
+     */
+    void markHoldsExpired(long showId);
+
+    /**
+     * 표시된 공연마다 만료된 hold를 한 번씩 해제하고 해제한 좌석 수를 반환한다.
+     */
+    int expireMarkedHolds();
+}
@@ -1,10 +1,33 @@
 package kr.jemi.zticket.seat.application.port.in;
 
+import kr.jemi.zticket.seat.domain.SeatAvailability;
+import kr.jemi.zticket.seat.domain.SeatMap;
 import kr.jemi.zticket.seat.domain.Seats;
 
 public interface GetSeatsUseCase {
 
-    Seats getSeats();
+    Seats getSeats(long showId);
 
-    int getAvailableCount();
+    /**
+     * 좌석 상태가 바뀔 때마다 증가하는 좌석 맵 버전. 조건부 요청(ETag) 판단에 쓴다.
+     */
+    long getSeatMapVersion(long showId);
+
+    /**
+     * 전체 좌석 상태를 좌석 맵 버전과 함께 반환한다.
+     */
+    SeatMap getSeatMap(long showId);
+
+    /**
+     * sinceVersion 이후 바뀐 좌석만 반환한다.
+     * sinceVersion이 현재 버전보다 크면(Redis 초기화 등) 전체 좌석 맵을 반환한다.
+     */
+    SeatMap getSeatMapChangedSince(long showId, long sinceVersion);
+
+    /**
+     * 현재 좌석 맵 버전의 선점 가능 비트셋을 반환한다. 같은 버전 동안에는 한 번 만든 결과를 공유한다.
+     */
+    SeatAvailability getSeatAvailability(long showId);
+
+    int getAvailableCount(long showId);
 }
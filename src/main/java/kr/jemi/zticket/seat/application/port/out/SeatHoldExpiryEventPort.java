@@ -0,0 +1,17 @@
+package kr.jemi.zticket.seat.application.port.out;
+
+import java.util.List;
+
+/**
+ * 만료 알림을 받은 공연을 모든 노드가 공유하는 집합에 표시하고, 한 노드가 꺼내 간다.
+ * 같은 공연의 만료 알림이 여러 번, 여러 노드에서 와도 꺼낼 때는 한 번만 나온다.
+ */
+public interface SeatHoldExpiryEventPort {
+
+    void markExpired(long showId);
+
+    /**
+     * 표시된 공연을 모두 꺼내고 표시를 지운다. 꺼낸 뒤 들어온 표시는 다음 호출에서 나온다.
+     */
+    List<Long> drainExpired();
+}
@@ -3,17 +3,60 @@ package kr.jemi.zticket.seat.application.port.out;
 import kr.jemi.zticket.seat.domain.Seats;
 
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
 
+/**
+ * 모든 좌석 상태는 공연(showId)별로 분리된다. 좌석 번호는 공연마다 1부터 시작한다.
+ */
 public interface SeatPort {
 
     /**
      * 좌석을 선점한다. 이미 같은 유저가 선점한 경우 TTL을 갱신하고 성공으로 처리한다.
      */
-    boolean holdSeat(int seatNumber, String token, long ttlSeconds);
+    boolean holdSeat(long showId, int seatNumber, String token, long ttlSeconds);
 
-    void paySeat(int seatNumber, String token);
+    /**
+     * 여러 좌석을 한 번에 선점한다. 하나라도 다른 유저가 점유 중이면 아무 좌석도 선점하지 않고 false를 반환한다.
+     * 같은 유저가 이미 선점한 좌석은 TTL만 갱신한다.
+     */
+    boolean holdSeats(long showId, List<Integer> seatNumbers, String token, long ttlSeconds);
+
+    /**
+     * [fromSeat, toSeat] 구간에서 번호가 가장 작은 빈 좌석을 골라 원자적으로 선점하고 그 번호를 반환한다.
+     * 구간에 빈 좌석이 없으면 빈 값을 반환한다.
+     */
+    OptionalInt holdAnySeat(long showId, int fromSeat, int toSeat, String token, long ttlSeconds);
 
-    void releaseSeat(int seatNumber, String token);
+    void paySeat(long showId, int seatNumber, String token);
 
-    Seats getStatuses(List<Integer> seatNumbers);
+    /**
+     * 여러 좌석을 좌석 번호 → 결제한 유저 토큰대로 한 번에 PAID로 확정한다. 이미 같은 유저로 PAID인 좌석은 건너뛴다.
+     */
+    void paySeats(long showId, Map<Integer, String> tokensBySeat);
+
+    void releaseSeat(long showId, int seatNumber, String token);
+
+    Seats getStatuses(long showId, List<Integer> seatNumbers);
+
+    /**
+     * hold/pay/release 시 원자적으로 갱신되는 잔여 좌석 카운터를 조회한다. 만료된 hold도 반영된다.
+     */
+    int countAvailable(long showId);
+
+    /**
+     * 좌석 상태가 바뀔 때마다(hold/pay/release/만료 반영) 1씩 증가하는 좌석 맵 버전을 조회한다.
+     */
+    long getSeatMapVersion(long showId);
+
+    /**
+     * 주어진 버전 이후 상태가 바뀐 좌석 번호를 조회한다. 아직 반영되지 않은 hold 만료도 먼저 반영한다.
+     */
+    List<Integer> getChangedSeatNumbers(long showId, long sinceVersion);
+
+    /**
+     * 만료 시각이 지난 hold를 AVAILABLE로 되돌리고(카운터 복구, 버전 증가) 해제한 좌석 번호를 반환한다.
+     * 이미 반영된 만료는 다시 처리하지 않으므로 여러 노드가 동시에 호출해도 된다.
+     */
+    List<Integer> releaseExpiredHolds(long showId);
 }
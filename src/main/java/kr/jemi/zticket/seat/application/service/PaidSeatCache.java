@@ -0,0 +1,77 @@
+package kr.jemi.zticket.seat.application.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 이 노드가 PAID로 확인한 좌석의 소유자를 공연별로, 좌석 번호로 인덱싱해 담는다.
+ * <p>
+ * PAID 좌석은 다시 바뀌지 않으므로 한 번 기록된 칸은 덮어쓰지 않고, 만료도 없다.
+ * 비어 있는 칸은 "모름"일 뿐이므로 캐시에 없는 좌석은 항상 Redis에서 확인한다.
+ * 공연별 배열은 처음 PAID를 기록할 때 만든다.
+ * <p>
+ * 이 불변은 Redis 데이터가 남아 있는 동안만 성립한다. seat_map_version은 좌석 상태가 바뀔 때마다 오르기만 하므로,
+ * 읽은 버전이 이전에 본 버전보다 작으면(FLUSHALL 등으로 키가 사라져 0부터 다시 시작) 그 공연의 기록을 버린다.
+ */
+@Component
+public class PaidSeatCache {
+
+    private final int totalSeats;
+    private final Map<Long, AtomicReferenceArray<String>> ownersByShow = new ConcurrentHashMap<>();
+    private final Map<Long, Long> versionsByShow = new ConcurrentHashMap<>();
+
+    public PaidSeatCache(@Value("${zticket.seat.total-count}") int totalSeats) {
+        this.totalSeats = totalSeats;
+    }
+
+    public boolean isPaid(long showId, int seatNumber) {
+        return ownerOf(showId, seatNumber) != null;
+    }
+
+    /**
+     * PAID로 기록된 좌석의 소유자를 반환한다. 기록되지 않았거나 범위를 벗어난 좌석은 null이다.
+     */
+    public String ownerOf(long showId, int seatNumber) {
+        AtomicReferenceArray<String> owners = ownersByShow.get(showId);
+        if (owners == null || seatNumber <= 0 || seatNumber >= owners.length()) {
+            return null;
+        }
+        return owners.get(seatNumber);
+    }
+
+    public void markPaid(long showId, int seatNumber, String owner) {
+        if (seatNumber <= 0 || seatNumber > totalSeats) {
+            return;
+        }
+        ownersByShow.computeIfAbsent(showId, id -> new AtomicReferenceArray<>(totalSeats + 1))
+                .compareAndSet(seatNumber, null, owner);
+    }
+
+    /**
+     * Redis에서 읽은 좌석 맵 버전을 기록한다. 이전에 본 버전보다 작으면 Redis 데이터가 지워진 것으로 보고
+     * 그 공연의 PAID 기록을 버린 뒤 true를 반환한다.
+     */
+    public boolean observeVersion(long showId, long version) {
+        boolean[] reset = {false};
+        versionsByShow.compute(showId, (id, seen) -> {
+            if (seen != null && version < seen) {
+                ownersByShow.remove(showId);
+                reset[0] = true;
+            }
+            return version;
+        });
+        return reset[0];
+    }
+
+    /**
+     * 모든 공연의 기록을 버린다. 테스트가 매번 FLUSHALL한 뒤 버전을 읽기 전에 호출한다.
+     */
+    public void clear() {
+        ownersByShow.clear();
+        versionsByShow.clear();
+    }
+}
@@ -1,57 +1,249 @@
 package kr.jemi.zticket.seat.application.service;
 
+import kr.jemi.zticket.common.show.ShowCatalog;
 import kr.jemi.zticket.seat.api.SeatFacade;
+import kr.jemi.zticket.seat.application.port.in.ExpireSeatHoldsUseCase;
 import kr.jemi.zticket.seat.application.port.in.GetSeatsUseCase;
+import kr.jemi.zticket.seat.application.port.out.SeatHoldExpiryEventPort;
 import kr.jemi.zticket.seat.application.port.out.SeatPort;
+import kr.jemi.zticket.seat.domain.SeatAvailability;
+import kr.jemi.zticket.seat.domain.SeatMap;
+import kr.jemi.zticket.seat.domain.SeatStatus;
 import kr.jemi.zticket.seat.domain.Seats;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
 
 @Service
-public class SeatService implements GetSeatsUseCase, SeatFacade {
+public class SeatService implements GetSeatsUseCase, ExpireSeatHoldsUseCase, SeatFacade {
 
     private final SeatPort seatPort;
+    private final SeatHoldExpiryEventPort seatHoldExpiryEventPort;
+    private final PaidSeatCache paidSeatCache;
+    private final ShowCatalog showCatalog;
     private final int totalSeats;
+    private final Map<Long, SeatAvailability> availabilityCache = new ConcurrentHashMap<>();
+    private final Map<Long, CompletableFuture<SeatAvailability>> availabilityLoads = new ConcurrentHashMap<>();
 
     public SeatService(SeatPort seatPort,
+                       SeatHoldExpiryEventPort seatHoldExpiryEventPort,
+                       PaidSeatCache paidSeatCache,
+                       ShowCatalog showCatalog,
                        @Value("${zticket.seat.total-count}") int totalSeats) {
         this.seatPort = seatPort;
+        this.seatHoldExpiryEventPort = seatHoldExpiryEventPort;
+        this.paidSeatCache = paidSeatCache;
+        this.showCatalog = showCatalog;
         this.totalSeats = totalSeats;
     }
 
     @Override
-    public Seats getSeats() {
+    public Seats getSeats(long showId) {
+        showCatalog.validate(showId);
         List<Integer> allSeats = IntStream.rangeClosed(1, totalSeats)
                 .boxed()
                 .toList();
-        return seatPort.getStatuses(allSeats);
+        return statusesOf(showId, allSeats);
     }
 
+    /**
+     * 버전이 이전에 읽은 값보다 작아졌으면 Redis 데이터가 지워진 것이므로 노드 로컬 PAID 캐시와 비트셋 캐시를 버린다.
+     */
     @Override
-    @Cacheable(value = "availableCount", sync = true)
-    public int getAvailableCount() {
-        Seats statuses = getSeats();
-        return (int) statuses.seatNumbers().stream()
-            .filter(seat -> statuses.of(seat).isAvailableFor(null))
-            .count();
+    public long getSeatMapVersion(long showId) {
+        showCatalog.validate(showId);
+        long version = seatPort.getSeatMapVersion(showId);
+        if (paidSeatCache.observeVersion(showId, version)) {
+            availabilityCache.remove(showId);
+        }
+        return version;
     }
 
+    /**
+     * 버전을 먼저 읽고 상태를 조회한다. 그 사이의 변경은 다음 델타에 다시 포함되므로 빠지는 좌석이 없다.
+     */
     @Override
-    public boolean holdSeat(int seatNumber, String token, long ttlSeconds) {
-        return seatPort.holdSeat(seatNumber, token, ttlSeconds);
+    public SeatMap getSeatMap(long showId) {
+        long version = getSeatMapVersion(showId);
+        return new SeatMap(version, getSeats(showId));
     }
 
     @Override
-    public void paySeat(int seatNumber, String token) {
-        seatPort.paySeat(seatNumber, token);
+    public SeatMap getSeatMapChangedSince(long showId, long sinceVersion) {
+        long version = getSeatMapVersion(showId);
+        if (sinceVersion > version) {
+            return new SeatMap(version, getSeats(showId));
+        }
+        List<Integer> changed = seatPort.getChangedSeatNumbers(showId, sinceVersion);
+        return new SeatMap(version, statusesOf(showId, changed));
     }
 
+    /**
+     * 캐시된 비트셋이 현재 버전 이상이면 그대로 돌려주고, 아니면 전체 좌석을 조회해 다시 만든다.
+     * 버전을 먼저 읽으므로 캐시 내용은 항상 그 버전 이후의 상태이다. 캐시는 공연별로 하나씩 둔다.
+     * <p>
+     * 버전이 바뀐 직후 몰린 요청은 공연별로 한 요청만 다시 만들고 나머지는 그 결과를 기다린다(single-flight).
+     * 기다린 결과가 자신이 읽은 버전보다 오래되었으면 다시 시도한다.
+     * 캐시는 버전이 같거나 높을 때만 덮어쓰므로, 늦게 끝난 오래된 조회가 새 비트셋을 되돌리지 않는다.
+     */
     @Override
-    public void releaseSeat(int seatNumber, String token) {
-        seatPort.releaseSeat(seatNumber, token);
+    public SeatAvailability getSeatAvailability(long showId) {
+        long version = getSeatMapVersion(showId);
+        while (true) {
+            SeatAvailability cached = availabilityCache.get(showId);
+            if (cached != null && cached.version() >= version) {
+                return cached;
+            }
+            CompletableFuture<SeatAvailability> load = new CompletableFuture<>();
+            CompletableFuture<SeatAvailability> inFlight = availabilityLoads.putIfAbsent(showId, load);
+            if (inFlight == null) {
+                return loadAvailability(showId, version, load);
+            }
+            SeatAvailability loaded = awaitLoad(inFlight);
+            if (loaded.version() >= version) {
+                return loaded;
+            }
+        }
+    }
+
+    private SeatAvailability loadAvailability(long showId, long version, CompletableFuture<SeatAvailability> load) {
+        try {
+            SeatAvailability fresh = SeatAvailability.of(version, totalSeats, getSeats(showId));
+            availabilityCache.merge(showId, fresh,
+                    (current, candidate) -> candidate.version() >= current.version() ? candidate : current);
+            load.complete(fresh);
+            return fresh;
+        } catch (Throwable e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            availabilityLoads.remove(showId, load);
+        }
+    }
+
+    private static SeatAvailability awaitLoad(CompletableFuture<SeatAvailability> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public int getAvailableCount(long showId) {
+        showCatalog.validate(showId);
+        return seatPort.countAvailable(showId);
+    }
+
+    /**
+     * 해제된 좌석은 좌석 맵 버전을 올리므로 노드별 비트셋 캐시는 다음 조회에서 다시 만들어지고,
+     * 클라이언트는 다음 델타 조회에서 해제된 좌석을 받는다.
+     */
+    @Override
+    public List<Integer> expireHolds(long showId) {
+        return seatPort.releaseExpiredHolds(showId);
+    }
+
+    @Override
+    public void markHoldsExpired(long showId) {
+        seatHoldExpiryEventPort.markExpired(showId);
+    }
+
+    /**
+     * 한 tick 동안 같은 공연의 좌석이 여러 개 만료돼도 sweep은 한 번이다.
+     * 한 공연의 해제가 실패해도 나머지 공연은 처리하고, 실패한 공연은 주기적 sweep이 다시 처리한다.
+     */
+    @Override
+    public int expireMarkedHolds() {
+        int released = 0;
+        RuntimeException failure = null;
+        for (long showId : seatHoldExpiryEventPort.drainExpired()) {
+            try {
+                released += seatPort.releaseExpiredHolds(showId).size();
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return released;
+    }
+
+    @Override
+    public boolean holdSeat(long showId, int seatNumber, String token, long ttlSeconds) {
+        return seatPort.holdSeat(showId, seatNumber, token, ttlSeconds);
+    }
+
+    @Override
+    public boolean holdSeats(long showId, List<Integer> seatNumbers, String token, long ttlSeconds) {
+        return seatPort.holdSeats(showId, seatNumbers, token, ttlSeconds);
+    }
+
+    @Override
+    public OptionalInt holdAnySeat(long showId, int fromSeat, int toSeat, String token, long ttlSeconds) {
+        return seatPort.holdAnySeat(showId, fromSeat, toSeat, token, ttlSeconds);
+    }
+
+    @Override
+    public boolean isPaid(long showId, int seatNumber) {
+        return paidSeatCache.isPaid(showId, seatNumber);
+    }
+
+    @Override
+    public void paySeat(long showId, int seatNumber, String token) {
+        seatPort.paySeat(showId, seatNumber, token);
+        paidSeatCache.markPaid(showId, seatNumber, token);
+    }
+
+    @Override
+    public void paySeats(long showId, Map<Integer, String> tokensBySeat) {
+        if (tokensBySeat.isEmpty()) {
+            return;
+        }
+        seatPort.paySeats(showId, tokensBySeat);
+        tokensBySeat.forEach((seatNumber, token) -> paidSeatCache.markPaid(showId, seatNumber, token));
+    }
+
+    @Override
+    public void releaseSeat(long showId, int seatNumber, String token) {
+        seatPort.releaseSeat(showId, seatNumber, token);
+    }
+
+    /**
+     * 캐시에 PAID로 기록된 좌석은 Redis에서 읽지 않고, Redis에서 PAID로 읽힌 좌석은 캐시에 기록한다.
+     * 판매 후반에는 대부분의 좌석이 PAID이므로 Redis 조회 대상이 남은 좌석 수만큼으로 줄어든다.
+     */
+    private Seats statusesOf(long showId, List<Integer> seatNumbers) {
+        Seats.Builder builder = Seats.builder(totalSeats);
+        List<Integer> unknown = new ArrayList<>(seatNumbers.size());
+        for (int seatNumber : seatNumbers) {
+            String owner = paidSeatCache.ownerOf(showId, seatNumber);
+            if (owner != null) {
+                builder.put(seatNumber, SeatStatus.PAID, owner);
+            } else {
+                unknown.add(seatNumber);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            seatPort.getStatuses(showId, unknown).forEach((seatNumber, status, owner) -> {
+                builder.put(seatNumber, status, owner);
+                if (status == SeatStatus.PAID) {
+                    paidSeatCache.markPaid(showId, seatNumber, owner);
+                }
+            });
+        }
+        return builder.build();
     }
 }
@@ -13,6 +13,18 @@ public record Seat(@NotNull SeatStatus status, String owner) implements SelfVali
 
     private void validate() {
         validateSelf();
+        checkOwner(status, owner);
+    }
+
+    /**
+     * 주어진 토큰의 사용자에게 결제 가능한 좌석인지 판단한다.
+     * token이 null이면 소유자 비교 없이 AVAILABLE만 결제 가능으로 본다.
+     */
+    public boolean isAvailableFor(String token) {
+        return isAvailableFor(status, owner, token);
+    }
+
+    static void checkOwner(SeatStatus status, String owner) {
         switch (status) {
             case AVAILABLE -> {
                 if (owner != null) {
@@ -27,11 +39,7 @@ public record Seat(@NotNull SeatStatus status, String owner) implements SelfVali
         }
     }
 
-    /**
-     * 주어진 토큰의 사용자에게 결제 가능한 좌석인지 판단한다.
-     * token이 null이면 소유자 비교 없이 AVAILABLE만 결제 가능으로 본다.
-     */
-    public boolean isAvailableFor(String token) {
+    static boolean isAvailableFor(SeatStatus status, String owner, String token) {
         return switch (status) {
             case AVAILABLE -> true;
             case HELD -> token != null && token.equals(owner);
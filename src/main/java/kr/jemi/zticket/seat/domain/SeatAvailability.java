@@ -0,0 +1,74 @@
+package kr.jemi.zticket.seat.domain;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 특정 좌석 맵 버전의 선점 가능 여부를 좌석당 1비트로 담는다.
+ * <p>
+ * 좌석 n은 byte[(n - 1) / 8]의 최상위 비트부터 차지하며, 1이면 선점 가능이다.
+ * 공용 비트셋은 AVAILABLE 좌석만 1이고, 요청한 토큰이 선점 중인 좌석만 {@link #bitsFor(String)}에서 덧씌운다.
+ * 같은 버전 동안 여러 요청이 한 인스턴스를 공유하므로 생성 후에는 변경하지 않는다.
+ */
+public final class SeatAvailability {
+
+    private final long version;
+    private final int maxSeatNumber;
+    private final byte[] bits;
+    private final Map<String, int[]> heldSeatsByOwner;
+
+    private SeatAvailability(long version, int maxSeatNumber, byte[] bits, Map<String, int[]> heldSeatsByOwner) {
+        this.version = version;
+        this.maxSeatNumber = maxSeatNumber;
+        this.bits = bits;
+        this.heldSeatsByOwner = heldSeatsByOwner;
+    }
+
+    public static SeatAvailability of(long version, int maxSeatNumber, Seats seats) {
+        byte[] bits = new byte[(maxSeatNumber + 7) / 8];
+        Map<String, int[]> heldSeatsByOwner = new HashMap<>();
+        seats.forEach((seatNumber, status, owner) -> {
+            switch (status) {
+                case AVAILABLE -> set(bits, seatNumber);
+                case HELD -> heldSeatsByOwner.merge(owner, new int[]{seatNumber}, SeatAvailability::concat);
+                case PAID -> { }
+            }
+        });
+        return new SeatAvailability(version, maxSeatNumber, bits, Map.copyOf(heldSeatsByOwner));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int maxSeatNumber() {
+        return maxSeatNumber;
+    }
+
+    /**
+     * 주어진 토큰 기준의 비트셋을 반환한다. 토큰이 선점한 좌석이 없으면 공용 배열을 그대로 반환하므로 수정하면 안 된다.
+     */
+    public byte[] bitsFor(String token) {
+        int[] held = token == null ? null : heldSeatsByOwner.get(token);
+        if (held == null) {
+            return bits;
+        }
+        byte[] overlaid = Arrays.copyOf(bits, bits.length);
+        for (int seatNumber : held) {
+            set(overlaid, seatNumber);
+        }
+        return overlaid;
+    }
+
+    private static void set(byte[] bits, int seatNumber) {
+        int index = seatNumber - 1;
+        bits[index >> 3] |= (byte) (0x80 >>> (index & 7));
+    }
+
+    private static int[] concat(int[] a, int[] b) {
+        int[] merged = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, merged, a.length, b.length);
+        return merged;
+    }
+}
@@ -0,0 +1,20 @@
+package kr.jemi.zticket.seat.domain;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import kr.jemi.zticket.common.validation.SelfValidating;
+
+/**
+ * 좌석 맵 버전과 그 시점의 좌석 상태.
+ * <p>
+ * 전체 좌석 맵이거나, 특정 버전 이후 변경된 좌석만 담은 델타이다.
+ * 버전은 hold/pay/release/만료로 좌석 상태가 바뀔 때마다 1씩 증가한다.
+ */
+public record SeatMap(@Min(0) long version, @NotNull Seats seats) implements SelfValidating {
+
+    public SeatMap(long version, Seats seats) {
+        this.version = version;
+        this.seats = seats;
+        validateSelf();
+    }
+}
@@ -3,28 +3,155 @@ package kr.jemi.zticket.seat.domain;
 import jakarta.validation.constraints.NotNull;
 import kr.jemi.zticket.common.validation.SelfValidating;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * 좌석 번호로 인덱싱한 상태 배열과 소유자 배열로 좌석 상태를 담는다.
+ * <p>
+ * 좌석마다 {@link Seat}를 만들지 않으므로 전체 좌석 맵도 배열 두 개로 표현된다.
+ * 상태 배열의 0은 포함되지 않은 좌석이고, 그 외 값은 {@link SeatStatus#ordinal()} + 1 이다.
+ */
 public class Seats implements SelfValidating {
 
+    private static final SeatStatus[] STATUSES = SeatStatus.values();
+    private static final byte ABSENT = 0;
+
     @NotNull
-    private final Map<Integer, Seat> statuses;
+    private final byte[] statuses;
+    private final String[] owners;
+    private final int size;
 
     public Seats(Map<Integer, Seat> statuses) {
-        this.statuses = statuses == null ? null : Map.copyOf(statuses);
+        this(statusesOf(statuses), ownersOf(statuses), statuses == null ? 0 : statuses.size());
+    }
+
+    private Seats(byte[] statuses, String[] owners, int size) {
+        this.statuses = statuses;
+        this.owners = owners;
+        this.size = size;
         validateSelf();
     }
 
+    /**
+     * 1부터 maxSeatNumber까지의 좌석을 담을 수 있는 빌더를 만든다.
+     */
+    public static Builder builder(int maxSeatNumber) {
+        return new Builder(maxSeatNumber);
+    }
+
     public Seat of(int seatNumber) {
-        Seat info = statuses.get(seatNumber);
-        if (info == null) {
+        return new Seat(statusOf(seatNumber), owners[seatNumber]);
+    }
+
+    public SeatStatus statusOf(int seatNumber) {
+        if (!contains(seatNumber)) {
             throw new IllegalArgumentException("존재하지 않는 좌석 번호: " + seatNumber);
         }
-        return info;
+        return STATUSES[statuses[seatNumber] - 1];
+    }
+
+    /**
+     * Seat 객체를 만들지 않고 {@link Seat#isAvailableFor(String)}와 같은 판단을 한다.
+     */
+    public boolean isAvailableFor(int seatNumber, String token) {
+        return Seat.isAvailableFor(statusOf(seatNumber), owners[seatNumber], token);
+    }
+
+    public boolean contains(int seatNumber) {
+        return seatNumber > 0 && seatNumber < statuses.length && statuses[seatNumber] != ABSENT;
+    }
+
+    public int size() {
+        return size;
     }
 
     public List<Integer> seatNumbers() {
-        return statuses.keySet().stream().sorted().toList();
+        List<Integer> seatNumbers = new ArrayList<>(size);
+        for (int n = 1; n < statuses.length; n++) {
+            if (statuses[n] != ABSENT) {
+                seatNumbers.add(n);
+            }
+        }
+        return seatNumbers;
+    }
+
+    /**
+     * 좌석 번호 오름차순으로 순회한다. 좌석별 객체를 만들지 않는다.
+     */
+    public void forEach(SeatVisitor visitor) {
+        for (int n = 1; n < statuses.length; n++) {
+            if (statuses[n] != ABSENT) {
+                visitor.visit(n, STATUSES[statuses[n] - 1], owners[n]);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface SeatVisitor {
+
+        void visit(int seatNumber, SeatStatus status, String owner);
+    }
+
+    /**
+     * 좌석 상태를 배열에 바로 채운다. Seat 생성자와 같은 소유자 규칙을 검사하며, build() 이후에는 재사용하지 않는다.
+     */
+    public static final class Builder {
+
+        private final byte[] statuses;
+        private final String[] owners;
+        private int size;
+
+        private Builder(int maxSeatNumber) {
+            this.statuses = new byte[maxSeatNumber + 1];
+            this.owners = new String[maxSeatNumber + 1];
+        }
+
+        public Builder put(int seatNumber, SeatStatus status, String owner) {
+            if (seatNumber <= 0 || seatNumber >= statuses.length) {
+                throw new IllegalArgumentException("범위를 벗어난 좌석 번호: " + seatNumber);
+            }
+            Seat.checkOwner(status, owner);
+            if (statuses[seatNumber] == ABSENT) {
+                size++;
+            }
+            statuses[seatNumber] = (byte) (status.ordinal() + 1);
+            owners[seatNumber] = owner;
+            return this;
+        }
+
+        public Seats build() {
+            return new Seats(statuses, owners, size);
+        }
+    }
+
+    private static byte[] statusesOf(Map<Integer, Seat> seats) {
+        if (seats == null) {
+            return null;
+        }
+        byte[] statuses = new byte[maxSeatNumber(seats) + 1];
+        seats.forEach((seatNumber, seat) -> statuses[seatNumber] = (byte) (seat.status().ordinal() + 1));
+        return statuses;
+    }
+
+    private static String[] ownersOf(Map<Integer, Seat> seats) {
+        if (seats == null) {
+            return null;
+        }
+        String[] owners = new String[maxSeatNumber(seats) + 1];
+        seats.forEach((seatNumber, seat) -> owners[seatNumber] = seat.owner());
+        return owners;
+    }
+
+    private static int maxSeatNumber(Map<Integer, Seat> seats) {
+        int max = 0;
+        for (int seatNumber : seats.keySet()) {
+            if (seatNumber <= 0) {
+                throw new IllegalArgumentException("좌석 번호는 1 이상이어야 합니다: " + seatNumber);
+            }
+            max = Math.max(max, seatNumber);
+        }
+        return max;
     }
 }
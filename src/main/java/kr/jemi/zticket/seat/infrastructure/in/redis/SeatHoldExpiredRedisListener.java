@@ -0,0 +1,110 @@
+package kr.jemi.zticket.seat.infrastructure.in.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.util.OptionalLong;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import kr.jemi.zticket.common.redis.ShowKeys;
+import kr.jemi.zticket.seat.application.port.in.ExpireSeatHoldsUseCase;
+
+/**
+ * show:{id}:seat:{n} 키의 TTL 만료 알림(__keyevent@*__:expired)을 받아 그 공연을 만료 표시한다.
+ * <p>
+ * 키 이름 접두사는 SeatRedisAdapter와 같아야 한다. 만료 알림은 모든 노드에 전달되므로 여기서 바로 sweep하면
+ * 만료된 키 수 × 노드 수만큼 sweep이 돈다. 대신 공유 집합에 표시만 하고(SADD, 멱등),
+ * SeatHoldExpiryScheduler가 drain-interval-ms마다 한 노드에서 표시된 공연을 공연당 한 번씩 sweep한다.
+ * pub/sub 알림은 유실될 수 있고 Redis가 키를 늦게 지울 수도 있으므로 1초 주기 sweep이 나머지를 처리한다.
+ */
+@Component
+@ConditionalOnProperty(name = "zticket.seat.store", havingValue = "key", matchIfMissing = true)
+public class SeatHoldExpiredRedisListener implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatHoldExpiredRedisListener.class);
+
+    private static final String EXPIRED_PATTERN = "__keyevent@*__:expired";
+    private static final String KEY_PREFIX = "seat:";
+    private static final String NOTIFY_KEYSPACE_EVENTS = "notify-keyspace-events";
+    private static final String ALL_ALIAS_FLAGS = "g$lshzxet";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ExpireSeatHoldsUseCase expireSeatHoldsUseCase;
+    private final String keyspaceConfig;
+
+    public SeatHoldExpiredRedisListener(RedisMessageListenerContainer listenerContainer,
+                                        StringRedisTemplate redisTemplate,
+                                        ExpireSeatHoldsUseCase expireSeatHoldsUseCase,
+                                        @Value("${zticket.seat.expiry-events.keyspace-config}") String keyspaceConfig) {
+        this.redisTemplate = redisTemplate;
+        this.expireSeatHoldsUseCase = expireSeatHoldsUseCase;
+        this.keyspaceConfig = keyspaceConfig;
+        listenerContainer.addMessageListener(this, new PatternTopic(EXPIRED_PATTERN));
+    }
+
+    /**
+     * keyspaceConfig가 비어 있지 않으면 현재 notify-keyspace-events에 없는 플래그만 더한다.
+     * 다른 용도로 켜 둔 플래그는 그대로 둔다. CONFIG 명령을 막아 둔 관리형 Redis에서는 빈 값으로 두고 서버 설정으로 켠다.
+     * 설정에 실패해도 1초 주기 sweep이 만료를 반영하므로 기동을 막지 않는다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void enableExpiredEvents() {
+        if (keyspaceConfig.isBlank()) {
+            return;
+        }
+        try {
+            redisTemplate.execute((RedisCallback<Object>) connection -> {
+                Properties config = connection.serverCommands().getConfig(NOTIFY_KEYSPACE_EVENTS);
+                String current = config == null ? "" : config.getProperty(NOTIFY_KEYSPACE_EVENTS, "");
+                String merged = mergeFlags(current, keyspaceConfig);
+                if (!merged.equals(current)) {
+                    connection.serverCommands().setConfig(NOTIFY_KEYSPACE_EVENTS, merged);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("notify-keyspace-events 설정 실패 - 만료 알림 없이 주기적 sweep으로 반영한다: flags={}", keyspaceConfig, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String key = new String(message.getBody(), StandardCharsets.UTF_8);
+        OptionalLong showId = ShowKeys.showIdOf(key);
+        if (showId.isEmpty() || !key.startsWith(ShowKeys.of(showId.getAsLong(), KEY_PREFIX))) {
+            return;
+        }
+        try {
+            expireSeatHoldsUseCase.markHoldsExpired(showId.getAsLong());
+        } catch (Exception e) {
+            log.warn("hold 만료 표시 실패, 주기적 sweep에서 반영: key={}", key, e);
+        }
+    }
+
+    /**
+     * 현재 설정에 없는 플래그만 뒤에 붙인다. A는 g$lshzxet를 모두 켠 것과 같으므로 이 플래그들은 다시 붙이지 않는다.
+     */
+    static String mergeFlags(String current, String required) {
+        StringBuilder merged = new StringBuilder(current);
+        for (char flag : required.toCharArray()) {
+            boolean coveredByAll = merged.indexOf("A") >= 0 && ALL_ALIAS_FLAGS.indexOf(flag) >= 0;
+            if (merged.indexOf(String.valueOf(flag)) < 0 && !coveredByAll) {
+                merged.append(flag);
+            }
+        }
+        return merged.toString();
+    }
+}
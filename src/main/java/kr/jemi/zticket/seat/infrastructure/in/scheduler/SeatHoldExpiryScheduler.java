@@ -0,0 +1,61 @@
+package kr.jemi.zticket.seat.infrastructure.in.scheduler;
+
+import java.util.List;
+
+import kr.jemi.zticket.common.show.ShowCatalog;
+import kr.jemi.zticket.seat.application.port.in.ExpireSeatHoldsUseCase;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공연마다 seat_hold_expiry를 주기적으로 훑어 만료된 hold를 반영한다.
+ * 만료 알림이 없는 비트맵 저장소와, 알림이 유실되거나 늦은 경우의 안전망이다.
+ * 만료 알림으로 표시된 공연은 drain-interval-ms마다 한 노드에서 공연당 한 번씩 따로 반영한다.
+ */
+@Component
+public class SeatHoldExpiryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(SeatHoldExpiryScheduler.class);
+
+    private final ExpireSeatHoldsUseCase expireSeatHoldsUseCase;
+    private final ShowCatalog showCatalog;
+
+    public SeatHoldExpiryScheduler(ExpireSeatHoldsUseCase expireSeatHoldsUseCase, ShowCatalog showCatalog) {
+        this.expireSeatHoldsUseCase = expireSeatHoldsUseCase;
+        this.showCatalog = showCatalog;
+    }
+
+    @Scheduled(cron = "${zticket.seat.expiry-sweep.cron}")
+    @SchedulerLock(name = "seat-hold-expiry",
+            lockAtMostFor = "${zticket.seat.expiry-sweep.lock-at-most-for}",
+            lockAtLeastFor = "${zticket.seat.expiry-sweep.lock-at-least-for}")
+    public void sweep() {
+        for (long showId : showCatalog.showIds()) {
+            try {
+                List<Integer> released = expireSeatHoldsUseCase.expireHolds(showId);
+                if (!released.isEmpty()) {
+                    log.debug("만료된 hold 해제: showId={}, seats={}", showId, released);
+                }
+            } catch (Exception e) {
+                log.error("hold 만료 sweep 실패: showId={}", showId, e);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${zticket.seat.expiry-events.drain-interval-ms}")
+    @SchedulerLock(name = "seat-hold-expiry-events",
+            lockAtMostFor = "${zticket.seat.expiry-sweep.lock-at-most-for}")
+    public void drainExpiredEvents() {
+        try {
+            int released = expireSeatHoldsUseCase.expireMarkedHolds();
+            if (released > 0) {
+                log.debug("만료 알림으로 hold 해제: seats={}", released);
+            }
+        } catch (Exception e) {
+            log.error("만료 알림 반영 실패, 주기적 sweep에서 재시도", e);
+        }
+    }
+}
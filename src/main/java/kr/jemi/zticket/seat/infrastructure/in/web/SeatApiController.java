@@ -6,43 +6,122 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import kr.jemi.zticket.seat.infrastructure.in.web.dto.AvailableCountResponse;
 import kr.jemi.zticket.seat.infrastructure.in.web.dto.SeatStatusResponse;
 import kr.jemi.zticket.seat.application.port.in.GetSeatsUseCase;
-import kr.jemi.zticket.seat.domain.Seat;
+import kr.jemi.zticket.seat.domain.SeatAvailability;
+import kr.jemi.zticket.seat.domain.SeatMap;
 import kr.jemi.zticket.seat.domain.Seats;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 좌석 현황 응답에는 좌석 맵 버전으로 만든 ETag를 붙인다.
+ * If-None-Match가 현재 버전과 같으면 버전 한 번만 읽고 304로 응답한다.
+ * 본인 선점 좌석 표시가 토큰마다 다르므로 좌석 현황 응답은 X-Queue-Token에 따라 Vary 하고,
+ * ETag에도 토큰을 반영한 weak ETag를 쓴다. 좌석 선점은 버전을 올리므로 버전과 토큰이 같으면 본문도 같다.
+ */
 @Tag(name = "Seat", description = "좌석 현황 조회")
 @RestController
 public class SeatApiController {
 
+    private static final String QUEUE_TOKEN_HEADER = "X-Queue-Token";
+    private static final String SEAT_MAP_VERSION_HEADER = "X-Seat-Map-Version";
+    private static final String SEAT_COUNT_HEADER = "X-Seat-Count";
+
     private final GetSeatsUseCase getSeatsUseCase;
 
     public SeatApiController(GetSeatsUseCase getSeatsUseCase) {
         this.getSeatsUseCase = getSeatsUseCase;
     }
 
-    @Operation(summary = "전체 좌석 현황 조회", description = "모든 좌석의 선점 상태를 반환합니다. 본인이 선점한 좌석은 available로 표시됩니다.")
-    @GetMapping("/api/seats")
+    @Operation(summary = "좌석 현황 조회",
+            description = "모든 좌석의 선점 상태를 반환합니다. 본인이 선점한 좌석은 available로 표시됩니다. "
+                    + "sinceVersion을 주면 그 버전 이후 바뀐 좌석만 반환합니다. "
+                    + "응답의 X-Seat-Map-Version 헤더를 다음 요청의 sinceVersion으로 사용합니다.")
+    @GetMapping("/api/shows/{showId}/seats")
     public ResponseEntity<List<SeatStatusResponse>> getStatus(
-            @Parameter(description = "대기열 토큰") @RequestHeader("X-Queue-Token") String token) {
-        Seats seatStatuses = getSeatsUseCase.getSeats();
-        List<SeatStatusResponse> response = seatStatuses.seatNumbers().stream()
-                .map(seatNo -> {
-                    Seat seat = seatStatuses.of(seatNo);
-                    boolean available = seat.isAvailableFor(token);
-                    return SeatStatusResponse.from(seatNo, available);
-                })
-                .toList();
-        return ResponseEntity.ok(response);
+            @Parameter(description = "공연 ID") @PathVariable long showId,
+            @Parameter(description = "대기열 토큰") @RequestHeader(QUEUE_TOKEN_HEADER) String token,
+            @Parameter(description = "마지막으로 받은 좌석 맵 버전") @RequestParam(required = false) Long sinceVersion,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(tokenETag("seats", getSeatsUseCase.getSeatMapVersion(showId), token))) {
+            return notModified();
+        }
+        SeatMap seatMap = sinceVersion == null
+                ? getSeatsUseCase.getSeatMap(showId)
+                : getSeatsUseCase.getSeatMapChangedSince(showId, sinceVersion);
+        Seats seatStatuses = seatMap.seats();
+        List<SeatStatusResponse> response = new ArrayList<>(seatStatuses.size());
+        seatStatuses.forEach((seatNo, status, owner) ->
+                response.add(SeatStatusResponse.from(seatNo, seatStatuses.isAvailableFor(seatNo, token))));
+        return ResponseEntity.ok()
+                .eTag(tokenETag("seats", seatMap.version(), token))
+                .varyBy(QUEUE_TOKEN_HEADER, HttpHeaders.ACCEPT)
+                .header(SEAT_MAP_VERSION_HEADER, String.valueOf(seatMap.version()))
+                .body(response);
+    }
+
+    @Operation(summary = "좌석 현황 조회 (비트셋)",
+            description = "Accept: application/octet-stream 요청 시 좌석당 1비트(1=선점 가능) 비트셋을 반환합니다. "
+                    + "좌석 n은 (n-1)/8번째 바이트의 최상위 비트부터 차지합니다. 본인이 선점한 좌석은 1로 표시됩니다.")
+    @GetMapping(value = "/api/shows/{showId}/seats", produces = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<byte[]> getStatusBits(
+            @Parameter(description = "공연 ID") @PathVariable long showId,
+            @Parameter(description = "대기열 토큰") @RequestHeader(QUEUE_TOKEN_HEADER) String token,
+            WebRequest webRequest) {
+        if (webRequest.checkNotModified(tokenETag("seat-bits", getSeatsUseCase.getSeatMapVersion(showId), token))) {
+            return notModified();
+        }
+        SeatAvailability availability = getSeatsUseCase.getSeatAvailability(showId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .eTag(tokenETag("seat-bits", availability.version(), token))
+                .varyBy(QUEUE_TOKEN_HEADER, HttpHeaders.ACCEPT)
+                .header(SEAT_MAP_VERSION_HEADER, String.valueOf(availability.version()))
+                .header(SEAT_COUNT_HEADER, String.valueOf(availability.maxSeatNumber()))
+                .body(availability.bitsFor(token));
     }
 
+    /**
+     * 잔여 좌석 수는 좌석 맵 버전이 오를 때만 바뀐다. 버전을 먼저 읽으므로 응답 값은 항상 ETag 버전 이후의 상태이다.
+     */
     @Operation(summary = "잔여 좌석 수 조회", description = "현재 선점 가능한 좌석 수를 반환합니다.")
-    @GetMapping("/api/seats/available-count")
-    public ResponseEntity<AvailableCountResponse> getAvailableCount() {
-        return ResponseEntity.ok(new AvailableCountResponse(getSeatsUseCase.getAvailableCount()));
+    @GetMapping("/api/shows/{showId}/seats/available-count")
+    public ResponseEntity<AvailableCountResponse> getAvailableCount(
+            @Parameter(description = "공연 ID") @PathVariable long showId,
+            WebRequest webRequest) {
+        String eTag = eTag("available-count", getSeatsUseCase.getSeatMapVersion(showId));
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .body(new AvailableCountResponse(getSeatsUseCase.getAvailableCount(showId)));
+    }
+
+    private static String eTag(String representation, long version) {
+        return "\"" + representation + "-" + version + "\"";
+    }
+
+    /**
+     * 토큰 원문을 응답 헤더에 싣지 않도록 해시만 붙인다. 해시 충돌은 Vary: X-Queue-Token이 한 번 더 막는다.
+     */
+    private static String tokenETag(String representation, long version, String token) {
+        return "W/\"" + representation + "-" + version + "-" + Integer.toHexString(token.hashCode()) + "\"";
+    }
+
+    private static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .varyBy(QUEUE_TOKEN_HEADER, HttpHeaders.ACCEPT)
+                .build();
     }
 }
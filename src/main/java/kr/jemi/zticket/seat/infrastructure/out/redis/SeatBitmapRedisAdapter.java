@@ -0,0 +1,391 @@
+package kr.jemi.zticket.seat.infrastructure.out.redis;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import kr.jemi.zticket.common.redis.LuaScriptProvider;
+import kr.jemi.zticket.common.redis.ShowKeys;
+import kr.jemi.zticket.seat.application.port.out.SeatPort;
+import kr.jemi.zticket.seat.domain.SeatStatus;
+import kr.jemi.zticket.seat.domain.Seats;
+import kr.jemi.zticket.seat.infrastructure.out.redis.dto.RedisHoldResult;
+import kr.jemi.zticket.seat.infrastructure.out.redis.dto.RedisSeatBitmap;
+
+/**
+ * 좌석 상태를 좌석당 2비트(BITFIELD u2)로 저장하는 SeatPort 구현.
+ * <p>
+ * seat_map: 상태 비트맵 (0=AVAILABLE, 1=HELD, 2=PAID), seat_owner: 좌석 번호 → 토큰 Hash,
+ * seat_hold_expiry: 좌석 번호 → hold 만료 시각(ms) Sorted Set, seat_available_count: 잔여 좌석 수 카운터.
+ * 비트맵에는 TTL이 없으므로 hold 만료는 seat_hold_expiry를 기준으로 스크립트 안에서 처리한다.
+ * 만료됐지만 아직 정리되지 않은 hold는 비트맵상 HELD이고 카운터도 차감된 상태로 남아 있다.
+ * seat_map_version / seat_changes: 좌석 맵 버전 카운터와 좌석 번호 → 마지막 변경 버전 Sorted Set.
+ * seat_taken: 좌석당 1비트 점유 여부(held/paid=1). u2 비트맵에는 BITPOS를 쓸 수 없어 빈 좌석 자동 배정용으로 따로 둔다.
+ * 모든 키에는 공연별 {@link ShowKeys} 접두사가 붙는다.
+ */
+@Component
+@ConditionalOnProperty(name = "zticket.seat.store", havingValue = "bitmap")
+public class SeatBitmapRedisAdapter implements SeatPort, LuaScriptProvider {
+
+    private static final String MAP_KEY = "seat_map";
+    private static final String OWNER_KEY = "seat_owner";
+    private static final String HOLD_EXPIRY_KEY = "seat_hold_expiry";
+    private static final String AVAILABLE_COUNT_KEY = "seat_available_count";
+    private static final String VERSION_KEY = "seat_map_version";
+    private static final String CHANGES_KEY = "seat_changes";
+    private static final String TAKEN_KEY = "seat_taken";
+
+    private static final String NOW_MILLIS = """
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            """;
+
+    /**
+     * 카운터가 없으면(최초 기동, FLUSHALL 직후) 전체 좌석 수로 초기화한다. 마지막 ARGV가 전체 좌석 수이다.
+     */
+    private static final String INIT_AVAILABLE_COUNT = """
+            if redis.call('EXISTS', KEYS[4]) == 0 then
+                redis.call('SET', KEYS[4], ARGV[#ARGV])
+            end
+            """;
+
+    /**
+     * 좌석 맵 버전을 올리고 해당 좌석의 마지막 변경 버전과 점유 여부(seat_taken)를 기록한다.
+     */
+    private static final String TOUCH_SEAT = """
+            local function touch(seat, taken)
+                redis.call('ZADD', KEYS[6], redis.call('INCR', KEYS[5]), seat)
+                redis.call('SETBIT', KEYS[7], seat, taken)
+            end
+            """;
+
+    /**
+     * 만료 시각이 지난 hold를 AVAILABLE로 되돌리고 카운터를 복구한다.
+     */
+    private static final String SWEEP_EXPIRED_HOLDS = TOUCH_SEAT + """
+            local released = {}
+            for _, seat in ipairs(redis.call('ZRANGEBYSCORE', KEYS[3], '-inf', now)) do
+                local offset = '#' .. seat
+                if redis.call('BITFIELD', KEYS[1], 'GET', 'u2', offset)[1] == 1 then
+                    redis.call('BITFIELD', KEYS[1], 'SET', 'u2', offset, 0)
+                    redis.call('HDEL', KEYS[2], seat)
+                    redis.call('INCR', KEYS[4])
+                    touch(seat, 0)
+                    released[#released + 1] = seat
+                end
+                redis.call('ZREM', KEYS[3], seat)
+            end
+            """;
+
+    /**
+     * 새 선점, 같은 유저의 재선점(TTL 갱신), 만료된 hold의 인수, 충돌을 한 번의 호출로 처리하고
+     * {@link RedisHoldResult} 코드를 반환한다.
+     */
+    private static final DefaultRedisScript<Long> HOLD_SCRIPT = new DefaultRedisScript<>(
+            NOW_MILLIS + INIT_AVAILABLE_COUNT + TOUCH_SEAT + """
+            local offset = '#' .. ARGV[1]
+            local state = redis.call('BITFIELD', KEYS[1], 'GET', 'u2', offset)[1]
+            if state == 2 then
+                return 0
+            end
+            local result = 1
+            if state == 1 then
+                if redis.call('HGET', KEYS[2], ARGV[1]) == ARGV[2] then
+                    result = 2
+                else
+                    local expireAt = redis.call('ZSCORE', KEYS[3], ARGV[1])
+                    if not expireAt or tonumber(expireAt) > now then
+                        return 0
+                    end
+                end
+            else
+                redis.call('DECR', KEYS[4])
+            end
+            redis.call('BITFIELD', KEYS[1], 'SET', 'u2', offset, 1)
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+            redis.call('ZADD', KEYS[3], now + tonumber(ARGV[3]) * 1000, ARGV[1])
+            if result == 1 then
+                touch(ARGV[1], 1)
+            end
+            return result
+            """, Long.class);
+
+    /**
+     * 여러 좌석을 전부 선점하거나 하나도 선점하지 않는다. ARGV[1]=토큰, ARGV[2]=TTL(초), ARGV[3..]=좌석 번호이다.
+     * 먼저 모든 좌석을 검사한 뒤 충돌이 없을 때만 선점한다. 만료된 다른 유저의 hold는 인수한다.
+     * 검사 단계에서 기록한 상태로 잔여 좌석 수를 줄이므로 좌석 번호가 중복되면 안 된다. 호출 전에 중복을 제거한다.
+     */
+    private static final DefaultRedisScript<Boolean> HOLD_ALL_SCRIPT = new DefaultRedisScript<>(
+            NOW_MILLIS + INIT_AVAILABLE_COUNT + TOUCH_SEAT + """
+            local last = #ARGV - 1
+            local states = {}
+            for i = 3, last do
+                local seat = ARGV[i]
+                local state = redis.call('BITFIELD', KEYS[1], 'GET', 'u2', '#' .. seat)[1]
+                if state == 2 then
+                    return 0
+                end
+                if state == 1 and redis.call('HGET', KEYS[2], seat) ~= ARGV[1] then
+                    local expireAt = redis.call('ZSCORE', KEYS[3], seat)
+                    if not expireAt or tonumber(expireAt) > now then
+                        return 0
+                    end
+                    state = -1
+                end
+                states[i] = state
+            end
+            local expireAt = now + tonumber(ARGV[2]) * 1000
+            for i = 3, last do
+                local seat = ARGV[i]
+                if states[i] == 0 then
+                    redis.call('DECR', KEYS[4])
+                end
+                if states[i] ~= 1 then
+                    redis.call('BITFIELD', KEYS[1], 'SET', 'u2', '#' .. seat, 1)
+                    redis.call('HSET', KEYS[2], seat, ARGV[1])
+                    touch(seat, 1)
+                end
+                redis.call('ZADD', KEYS[3], expireAt, seat)
+            end
+            return 1
+            """, Boolean.class);
+
+    /**
+     * 만료된 hold를 정리한 뒤 [ARGV[3], ARGV[4]] 구간에서 번호가 가장 작은 빈 좌석을 찾아 선점하고 그 번호를 반환한다.
+     * ARGV[1]=토큰, ARGV[2]=TTL(초)이다. 빈 좌석이 없으면 -1을 반환한다.
+     * seat_taken과 상태 비트맵이 어긋난 좌석은 비트를 바로잡고 다음 후보로 넘어간다.
+     */
+    private static final DefaultRedisScript<Long> HOLD_ANY_SCRIPT = new DefaultRedisScript<>(
+            NOW_MILLIS + INIT_AVAILABLE_COUNT + SWEEP_EXPIRED_HOLDS + """
+            local from = tonumber(ARGV[3])
+            local to = tonumber(ARGV[4])
+            if redis.call('STRLEN', KEYS[7]) * 8 <= to then
+                redis.call('SETBIT', KEYS[7], to, 0)
+            end
+            while from <= to do
+                local seat = redis.call('BITPOS', KEYS[7], 0, from, to, 'BIT')
+                if seat < 0 then
+                    return -1
+                end
+                local offset = '#' .. seat
+                if redis.call('BITFIELD', KEYS[1], 'GET', 'u2', offset)[1] == 0 then
+                    redis.call('DECR', KEYS[4])
+                    redis.call('BITFIELD', KEYS[1], 'SET', 'u2', offset, 1)
+                    redis.call('HSET', KEYS[2], seat, ARGV[1])
+                    redis.call('ZADD', KEYS[3], now + tonumber(ARGV[2]) * 1000, seat)
+                    touch(seat, 1)
+                    return seat
+                end
+                redis.call('SETBIT', KEYS[7], seat, 1)
+                from = seat + 1
+            end
+            return -1
+            """, Long.class);
+
+    private static final DefaultRedisScript<Boolean> PAY_SCRIPT = new DefaultRedisScript<>(
+            INIT_AVAILABLE_COUNT + TOUCH_SEAT + """
+            local offset = '#' .. ARGV[1]
+            local state = redis.call('BITFIELD', KEYS[1], 'GET', 'u2', offset)[1]
+            if state == 2 and redis.call('HGET', KEYS[2], ARGV[1]) == ARGV[2] then
+                return 1
+            end
+            if state == 0 then
+                redis.call('DECR', KEYS[4])
+            end
+            redis.call('BITFIELD', KEYS[1], 'SET', 'u2', offset, 2)
+            redis.call('HSET', KEYS[2], ARGV[1], ARGV[2])
+            redis.call('ZREM', KEYS[3], ARGV[1])
+            touch(ARGV[1], 1)
+            return 1
+            """, Boolean.class);
+
+    /**
+     * PAY_SCRIPT를 여러 좌석에 적용한다. ARGV는 (좌석 번호, 토큰) 쌍을 나열하고 마지막이 전체 좌석 수이다.
+     */
+    private static final DefaultRedisScript<Long> PAY_ALL_SCRIPT = new DefaultRedisScript<>(
+            INIT_AVAILABLE_COUNT + TOUCH_SEAT + """
+            for i = 1, #ARGV - 1, 2 do
+                local offset = '#' .. ARGV[i]
+                local state = redis.call('BITFIELD', KEYS[1], 'GET', 'u2', offset)[1]
+                if not (state == 2 and redis.call('HGET', KEYS[2], ARGV[i]) == ARGV[i + 1]) then
+                    if state == 0 then
+                        redis.call('DECR', KEYS[4])
+                    end
+                    redis.call('BITFIELD', KEYS[1], 'SET', 'u2', offset, 2)
+                    redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 1])
+                    redis.call('ZREM', KEYS[3], ARGV[i])
+                    touch(ARGV[i], 1)
+                end
+            end
+            return (#ARGV - 1) / 2
+            """, Long.class);
+
+    private static final DefaultRedisScript<Boolean> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            INIT_AVAILABLE_COUNT + TOUCH_SEAT + """
+            local offset = '#' .. ARGV[1]
+            if redis.call('BITFIELD', KEYS[1], 'GET', 'u2', offset)[1] == 1
+                    and redis.call('HGET', KEYS[2], ARGV[1]) == ARGV[2] then
+                redis.call('BITFIELD', KEYS[1], 'SET', 'u2', offset, 0)
+                redis.call('HDEL', KEYS[2], ARGV[1])
+                redis.call('ZREM', KEYS[3], ARGV[1])
+                redis.call('INCR', KEYS[4])
+                touch(ARGV[1], 0)
+                return 1
+            end
+            return 0
+            """, Boolean.class);
+
+    /**
+     * 만료된 hold를 AVAILABLE로 되돌린 뒤 비트맵 전체와 소유자 Hash를 한 번에 반환한다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> SNAPSHOT_SCRIPT = new DefaultRedisScript<>(
+            NOW_MILLIS + INIT_AVAILABLE_COUNT + SWEEP_EXPIRED_HOLDS + """
+            return { redis.call('GET', KEYS[1]) or '', redis.call('HGETALL', KEYS[2]) }
+            """, List.class);
+
+    private static final DefaultRedisScript<Long> AVAILABLE_COUNT_SCRIPT = new DefaultRedisScript<>(
+            NOW_MILLIS + INIT_AVAILABLE_COUNT + SWEEP_EXPIRED_HOLDS + """
+            return tonumber(redis.call('GET', KEYS[4]))
+            """, Long.class);
+
+    /**
+     * 만료된 hold를 반영한 뒤 ARGV[1] 버전 이후 변경된 좌석 번호를 반환한다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> CHANGED_SEATS_SCRIPT = new DefaultRedisScript<>(
+            NOW_MILLIS + INIT_AVAILABLE_COUNT + SWEEP_EXPIRED_HOLDS + """
+            return redis.call('ZRANGEBYSCORE', KEYS[6], '(' .. ARGV[1], '+inf')
+            """, List.class);
+
+    /**
+     * 만료된 hold만 반영하고 해제한 좌석 번호를 반환한다. 주기적 sweep이 호출한다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> RELEASE_EXPIRED_SCRIPT = new DefaultRedisScript<>(
+            NOW_MILLIS + INIT_AVAILABLE_COUNT + SWEEP_EXPIRED_HOLDS + """
+            return released
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String totalSeats;
+
+    public SeatBitmapRedisAdapter(StringRedisTemplate redisTemplate,
+                                  @Value("${zticket.seat.total-count}") int totalSeats) {
+        this.redisTemplate = redisTemplate;
+        this.totalSeats = String.valueOf(totalSeats);
+    }
+
+    @Override
+    public boolean holdSeat(long showId, int seatNumber, String token, long ttlSeconds) {
+        Long code = redisTemplate.execute(HOLD_SCRIPT, keys(showId),
+                String.valueOf(seatNumber), token, String.valueOf(ttlSeconds), totalSeats);
+        return RedisHoldResult.from(code).isHeld();
+    }
+
+    /**
+     * 같은 좌석 번호가 여러 번 들어와도 한 번만 선점하여 잔여 좌석 수가 한 번만 줄어들게 한다.
+     */
+    @Override
+    public boolean holdSeats(long showId, List<Integer> seatNumbers, String token, long ttlSeconds) {
+        List<String> args = new ArrayList<>(List.of(token, String.valueOf(ttlSeconds)));
+        seatNumbers.stream().distinct().forEach(seatNumber -> args.add(String.valueOf(seatNumber)));
+        args.add(totalSeats);
+        return Boolean.TRUE.equals(redisTemplate.execute(HOLD_ALL_SCRIPT, keys(showId), args.toArray()));
+    }
+
+    @Override
+    public OptionalInt holdAnySeat(long showId, int fromSeat, int toSeat, String token, long ttlSeconds) {
+        Long seat = redisTemplate.execute(HOLD_ANY_SCRIPT, keys(showId), token, String.valueOf(ttlSeconds),
+                String.valueOf(fromSeat), String.valueOf(toSeat), totalSeats);
+        return seat == null || seat < 0 ? OptionalInt.empty() : OptionalInt.of(seat.intValue());
+    }
+
+    @Override
+    public void paySeat(long showId, int seatNumber, String token) {
+        redisTemplate.execute(PAY_SCRIPT, keys(showId), String.valueOf(seatNumber), token, totalSeats);
+    }
+
+    @Override
+    public void paySeats(long showId, Map<Integer, String> tokensBySeat) {
+        List<String> args = new ArrayList<>(tokensBySeat.size() * 2 + 1);
+        tokensBySeat.forEach((seatNumber, token) -> {
+            args.add(String.valueOf(seatNumber));
+            args.add(token);
+        });
+        args.add(totalSeats);
+        redisTemplate.execute(PAY_ALL_SCRIPT, keys(showId), args.toArray());
+    }
+
+    @Override
+    public void releaseSeat(long showId, int seatNumber, String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, keys(showId), String.valueOf(seatNumber), token, totalSeats);
+    }
+
+    @Override
+    public Seats getStatuses(long showId, List<Integer> seatNumbers) {
+        RedisSeatBitmap bitmap = RedisSeatBitmap.from(snapshot(showId));
+        Seats.Builder builder = Seats.builder(seatNumbers.stream().mapToInt(Integer::intValue).max().orElse(0));
+        for (int seatNumber : seatNumbers) {
+            SeatStatus status = bitmap.statusOf(seatNumber);
+            builder.put(seatNumber, status, bitmap.ownerOf(seatNumber, status));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public int countAvailable(long showId) {
+        Long count = redisTemplate.execute(AVAILABLE_COUNT_SCRIPT, keys(showId), totalSeats);
+        return count == null ? 0 : count.intValue();
+    }
+
+    @Override
+    public long getSeatMapVersion(long showId) {
+        String version = redisTemplate.opsForValue().get(ShowKeys.of(showId, VERSION_KEY));
+        return version == null ? 0 : Long.parseLong(version);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Integer> getChangedSeatNumbers(long showId, long sinceVersion) {
+        List<String> seats = redisTemplate.execute(CHANGED_SEATS_SCRIPT, keys(showId), String.valueOf(sinceVersion), totalSeats);
+        return seats == null ? List.of() : seats.stream().map(Integer::parseInt).toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Integer> releaseExpiredHolds(long showId) {
+        List<String> seats = redisTemplate.execute(RELEASE_EXPIRED_SCRIPT, keys(showId), totalSeats);
+        return seats == null ? List.of() : seats.stream().map(Integer::parseInt).toList();
+    }
+
+    @Override
+    public List<RedisScript<?>> luaScripts() {
+        return List.of(HOLD_SCRIPT, HOLD_ALL_SCRIPT, HOLD_ANY_SCRIPT, PAY_SCRIPT, PAY_ALL_SCRIPT, RELEASE_SCRIPT, SNAPSHOT_SCRIPT, AVAILABLE_COUNT_SCRIPT,
+                CHANGED_SEATS_SCRIPT, RELEASE_EXPIRED_SCRIPT);
+    }
+
+    private List<String> keys(long showId) {
+        return List.of(ShowKeys.of(showId, MAP_KEY), ShowKeys.of(showId, OWNER_KEY), ShowKeys.of(showId, HOLD_EXPIRY_KEY),
+                ShowKeys.of(showId, AVAILABLE_COUNT_KEY), ShowKeys.of(showId, VERSION_KEY), ShowKeys.of(showId, CHANGES_KEY),
+                ShowKeys.of(showId, TAKEN_KEY));
+    }
+
+    /**
+     * 비트맵은 바이너리이므로 결과를 문자열이 아닌 byte[]로 역직렬화한다.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<Object> snapshot(long showId) {
+        return (List<Object>) redisTemplate.execute((RedisScript) SNAPSHOT_SCRIPT,
+                RedisSerializer.string(), (RedisSerializer) RedisSerializer.byteArray(), keys(showId), totalSeats);
+    }
+}
@@ -0,0 +1,46 @@
+package kr.jemi.zticket.seat.infrastructure.out.redis;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import kr.jemi.zticket.seat.application.port.out.SeatHoldExpiryEventPort;
+
+/**
+ * seat_hold_expired_shows: 만료 알림을 받았지만 아직 반영하지 않은 공연 ID Set.
+ * SADD는 멱등이라 노드 수·알림 수만큼 표시해도 공연당 원소 하나이고, SPOP으로 꺼내므로 한 노드만 가져간다.
+ * 여러 공연이 함께 쓰는 키라 공연 해시 태그를 붙이지 않는다.
+ */
+@Component
+public class SeatHoldExpiryEventRedisAdapter implements SeatHoldExpiryEventPort {
+
+    private static final String KEY = "seat_hold_expired_shows";
+    private static final int POP_COUNT = 100;
+
+    private final StringRedisTemplate redisTemplate;
+
+    public SeatHoldExpiryEventRedisAdapter(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void markExpired(long showId) {
+        redisTemplate.opsForSet().add(KEY, String.valueOf(showId));
+    }
+
+    @Override
+    public List<Long> drainExpired() {
+        List<Long> showIds = new ArrayList<>();
+        List<String> popped;
+        do {
+            popped = redisTemplate.opsForSet().pop(KEY, POP_COUNT);
+            if (popped == null) {
+                break;
+            }
+            popped.forEach(showId -> showIds.add(Long.parseLong(showId)));
+        } while (popped.size() == POP_COUNT);
+        return showIds;
+    }
+}
@@ -1,77 +1,381 @@
 package kr.jemi.zticket.seat.infrastructure.out.redis;
 
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.OptionalInt;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
 
+import kr.jemi.zticket.common.redis.LuaScriptProvider;
+import kr.jemi.zticket.common.redis.ShowKeys;
+import kr.jemi.zticket.seat.infrastructure.out.redis.dto.RedisHoldResult;
 import kr.jemi.zticket.seat.infrastructure.out.redis.dto.RedisSeat;
 import kr.jemi.zticket.seat.application.port.out.SeatPort;
-import kr.jemi.zticket.seat.domain.Seat;
 import kr.jemi.zticket.seat.domain.Seats;
 
+/**
+ * 좌석당 seat:{n} 키 하나로 상태를 저장하는 SeatPort 구현.
+ * 아래의 모든 키는 공연별로 {@link ShowKeys} 접두사(show:{id}:)가 붙으므로 한 공연의 키는 같은 클러스터 슬롯에 모인다.
+ * <p>
+ * 잔여 좌석 수는 seat_available_count 카운터로 관리한다. hold 만료는 키 TTL로 조용히 일어나므로
+ * seat_hold_expiry(좌석 번호 → 만료 시각)에 기록해 두고, 카운트 조회 시 만료된 hold만큼 카운터를 되돌린다.
+ * 만료됐지만 아직 반영되지 않은 hold가 seat_hold_expiry에 남아 있으면 카운터는 아직 차감된 상태이다.
+ * <p>
+ * 좌석 상태가 바뀔 때마다 seat_map_version을 INCR하고 seat_changes(좌석 번호 → 마지막 변경 버전)에 기록한다.
+ * hold 만료는 카운트/변경 조회 시 반영되는 시점에 버전이 올라간다.
+ * seat_taken 비트맵은 같은 시점에 갱신되며, 빈 좌석 자동 배정(BITPOS)에 쓰인다.
+ */
 @Component
-public class SeatRedisAdapter implements SeatPort {
+@ConditionalOnProperty(name = "zticket.seat.store", havingValue = "key", matchIfMissing = true)
+public class SeatRedisAdapter implements SeatPort, LuaScriptProvider {
 
     private static final String KEY_PREFIX = "seat:";
-    private static final DefaultRedisScript<Boolean> RELEASE_IF_VALUE_SCRIPT = new DefaultRedisScript<>("""
-            if redis.call('GET', KEYS[1]) == ARGV[1] then
-                return redis.call('DEL', KEYS[1])
-            else
-                return 0
+    private static final String AVAILABLE_COUNT_KEY = "seat_available_count";
+    private static final String HOLD_EXPIRY_KEY = "seat_hold_expiry";
+    private static final String VERSION_KEY = "seat_map_version";
+    private static final String CHANGES_KEY = "seat_changes";
+    private static final String TAKEN_KEY = "seat_taken";
+
+    private static final String NOW_MILLIS = """
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            """;
+
+    /**
+     * 카운터가 없으면(최초 기동, FLUSHALL 직후) 전체 좌석 수로 초기화한다. 마지막 ARGV가 전체 좌석 수이다.
+     * 모든 스크립트는 KEYS[1]=카운터, KEYS[2]=seat_hold_expiry, KEYS[3]=seat_map_version,
+     * KEYS[4]=seat_changes, KEYS[5]=seat_taken, KEYS[6]=seat:{n} 순서를 따른다.
+     */
+    private static final String INIT_AVAILABLE_COUNT = """
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('SET', KEYS[1], ARGV[#ARGV])
+            end
+            """;
+
+    /**
+     * 좌석 맵 버전을 올리고 해당 좌석의 마지막 변경 버전으로 기록한다.
+     * seat_taken 비트맵에는 점유 여부(held/paid=1, available=0)를 좌석 번호 위치에 기록한다.
+     */
+    private static final String TOUCH_SEAT = """
+            local function touch(seat, taken)
+                redis.call('ZADD', KEYS[4], redis.call('INCR', KEYS[3]), seat)
+                redis.call('SETBIT', KEYS[5], seat, taken)
+            end
+            """;
+
+    /**
+     * 만료 시각이 지났고 키도 사라진 hold만큼 카운터를 되돌린다. ARGV[1]은 좌석 키 접두사이다.
+     * <p>
+     * 만료된 좌석은 seat_hold_expiry를 읽어야 알 수 있어 seat:{n} 키를 KEYS로 넘기지 못하고 접두사로 만들어 접근한다.
+     * 이 키들은 KEYS[1..5]와 같은 공연 해시 태그(show:{id}:)를 쓰므로 Redis Cluster에서도 같은 슬롯·같은 노드에 놓인다.
+     * 해시 태그가 없는 접두사를 넘기면 이 가정이 깨지므로 접두사는 {@link #seatKeyPrefix(long)}로만 만든다.
+     */
+    private static final String SWEEP_EXPIRED_HOLDS = TOUCH_SEAT + """
+            local released = {}
+            for _, seat in ipairs(redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', now)) do
+                if redis.call('EXISTS', ARGV[1] .. seat) == 0 then
+                    redis.call('ZREM', KEYS[2], seat)
+                    redis.call('INCR', KEYS[1])
+                    touch(seat, 0)
+                    released[#released + 1] = seat
+                end
+            end
+            """;
+
+    /**
+     * 새 선점, 같은 유저의 재선점(TTL 갱신), 충돌을 한 번의 호출로 처리하고 {@link RedisHoldResult} 코드를 반환한다.
+     */
+    private static final DefaultRedisScript<Long> HOLD_SCRIPT = new DefaultRedisScript<>(
+            NOW_MILLIS + INIT_AVAILABLE_COUNT + TOUCH_SEAT + """
+            local ttl = tonumber(ARGV[3]) * 1000
+            local current = redis.call('GET', KEYS[6])
+            if current then
+                if current ~= ARGV[2] then
+                    return 0
+                end
+                redis.call('PEXPIRE', KEYS[6], ttl)
+                redis.call('ZADD', KEYS[2], now + ttl, ARGV[1])
+                return 2
+            end
+            redis.call('SET', KEYS[6], ARGV[2], 'PX', ttl)
+            if not redis.call('ZSCORE', KEYS[2], ARGV[1]) then
+                redis.call('DECR', KEYS[1])
+            end
+            redis.call('ZADD', KEYS[2], now + ttl, ARGV[1])
+            touch(ARGV[1], 1)
+            return 1
+            """, Long.class);
+
+    /**
+     * 여러 좌석을 전부 선점하거나 하나도 선점하지 않는다. KEYS[6..]=seat:{n}, ARGV[1]=값, ARGV[2]=TTL(초),
+     * ARGV[3..]=좌석 번호이다. 먼저 모든 좌석을 검사한 뒤 충돌이 없을 때만 선점한다.
+     */
+    private static final DefaultRedisScript<Boolean> HOLD_ALL_SCRIPT = new DefaultRedisScript<>(
+            NOW_MILLIS + INIT_AVAILABLE_COUNT + TOUCH_SEAT + """
+            local ttl = tonumber(ARGV[2]) * 1000
+            for i = 6, #KEYS do
+                local current = redis.call('GET', KEYS[i])
+                if current and current ~= ARGV[1] then
+                    return 0
+                end
+            end
+            for i = 6, #KEYS do
+                local seat = ARGV[i - 3]
+                if redis.call('GET', KEYS[i]) then
+                    redis.call('PEXPIRE', KEYS[i], ttl)
+                else
+                    redis.call('SET', KEYS[i], ARGV[1], 'PX', ttl)
+                    if not redis.call('ZSCORE', KEYS[2], seat) then
+                        redis.call('DECR', KEYS[1])
+                    end
+                    touch(seat, 1)
+                end
+                redis.call('ZADD', KEYS[2], now + ttl, seat)
+            end
+            return 1
+            """, Boolean.class);
+
+    /**
+     * 만료된 hold를 반영한 뒤 [ARGV[4], ARGV[5]] 구간에서 번호가 가장 작은 빈 좌석을 찾아 선점하고 그 번호를 반환한다.
+     * ARGV[1]=좌석 키 접두사, ARGV[2]=값, ARGV[3]=TTL(초)이다. 빈 좌석이 없으면 -1을 반환한다.
+     * seat_taken과 실제 키가 어긋난 좌석은 비트를 바로잡고 다음 후보로 넘어간다.
+     * <p>
+     * 어느 좌석을 잡을지는 BITPOS 결과로 정해지므로 seat:{n}을 KEYS로 넘기지 못한다. sweep과 마찬가지로
+     * 공연 해시 태그가 붙은 접두사로 키를 만들어 KEYS와 같은 슬롯에서만 접근한다.
+     */
+    private static final DefaultRedisScript<Long> HOLD_ANY_SCRIPT = new DefaultRedisScript<>(
+            NOW_MILLIS + INIT_AVAILABLE_COUNT + SWEEP_EXPIRED_HOLDS + """
+            local ttl = tonumber(ARGV[3]) * 1000
+            local from = tonumber(ARGV[4])
+            local to = tonumber(ARGV[5])
+            if redis.call('STRLEN', KEYS[5]) * 8 <= to then
+                redis.call('SETBIT', KEYS[5], to, 0)
             end
+            while from <= to do
+                local seat = redis.call('BITPOS', KEYS[5], 0, from, to, 'BIT')
+                if seat < 0 then
+                    return -1
+                end
+                local key = ARGV[1] .. seat
+                if redis.call('EXISTS', key) == 0 then
+                    redis.call('SET', key, ARGV[2], 'PX', ttl)
+                    if not redis.call('ZSCORE', KEYS[2], seat) then
+                        redis.call('DECR', KEYS[1])
+                    end
+                    redis.call('ZADD', KEYS[2], now + ttl, seat)
+                    touch(seat, 1)
+                    return seat
+                end
+                redis.call('SETBIT', KEYS[5], seat, 1)
+                from = seat + 1
+            end
+            return -1
+            """, Long.class);
+
+    private static final DefaultRedisScript<Boolean> PAY_SCRIPT = new DefaultRedisScript<>(
+            INIT_AVAILABLE_COUNT + TOUCH_SEAT + """
+            local current = redis.call('GET', KEYS[6])
+            if current == ARGV[2] then
+                return 1
+            end
+            if not current and not redis.call('ZSCORE', KEYS[2], ARGV[1]) then
+                redis.call('DECR', KEYS[1])
+            end
+            redis.call('SET', KEYS[6], ARGV[2])
+            redis.call('ZREM', KEYS[2], ARGV[1])
+            touch(ARGV[1], 1)
+            return 1
             """, Boolean.class);
 
+    /**
+     * PAY_SCRIPT를 여러 좌석에 적용한다. KEYS[6..] = seat:{n}, ARGV는 (좌석 번호, paid:{token}) 쌍을 KEYS 순서대로 나열한다.
+     */
+    private static final DefaultRedisScript<Long> PAY_ALL_SCRIPT = new DefaultRedisScript<>(
+            INIT_AVAILABLE_COUNT + TOUCH_SEAT + """
+            for i = 6, #KEYS do
+                local seat = ARGV[(i - 6) * 2 + 1]
+                local paid = ARGV[(i - 6) * 2 + 2]
+                local current = redis.call('GET', KEYS[i])
+                if current ~= paid then
+                    if not current and not redis.call('ZSCORE', KEYS[2], seat) then
+                        redis.call('DECR', KEYS[1])
+                    end
+                    redis.call('SET', KEYS[i], paid)
+                    redis.call('ZREM', KEYS[2], seat)
+                    touch(seat, 1)
+                end
+            end
+            return #KEYS - 5
+            """, Long.class);
+
+    private static final DefaultRedisScript<Boolean> RELEASE_IF_VALUE_SCRIPT = new DefaultRedisScript<>(
+            INIT_AVAILABLE_COUNT + TOUCH_SEAT + """
+            if redis.call('GET', KEYS[6]) == ARGV[2] then
+                redis.call('DEL', KEYS[6])
+                redis.call('ZREM', KEYS[2], ARGV[1])
+                redis.call('INCR', KEYS[1])
+                touch(ARGV[1], 0)
+                return 1
+            end
+            return 0
+            """, Boolean.class);
+
+    /**
+     * 만료된 hold를 반영한 뒤 잔여 좌석 수를 반환한다.
+     */
+    private static final DefaultRedisScript<Long> AVAILABLE_COUNT_SCRIPT = new DefaultRedisScript<>(
+            NOW_MILLIS + INIT_AVAILABLE_COUNT + SWEEP_EXPIRED_HOLDS + """
+            return tonumber(redis.call('GET', KEYS[1]))
+            """, Long.class);
+
+    /**
+     * 만료된 hold를 반영한 뒤 ARGV[2] 버전 이후 변경된 좌석 번호를 반환한다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> CHANGED_SEATS_SCRIPT = new DefaultRedisScript<>(
+            NOW_MILLIS + INIT_AVAILABLE_COUNT + SWEEP_EXPIRED_HOLDS + """
+            return redis.call('ZRANGEBYSCORE', KEYS[4], '(' .. ARGV[2], '+inf')
+            """, List.class);
+
+    /**
+     * 만료된 hold만 반영하고 해제한 좌석 번호를 반환한다. 만료 이벤트 리스너와 주기적 sweep이 호출한다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> RELEASE_EXPIRED_SCRIPT = new DefaultRedisScript<>(
+            NOW_MILLIS + INIT_AVAILABLE_COUNT + SWEEP_EXPIRED_HOLDS + """
+            return released
+            """, List.class);
+
     private final StringRedisTemplate redisTemplate;
+    private final String totalSeats;
 
-    public SeatRedisAdapter(StringRedisTemplate redisTemplate) {
+    public SeatRedisAdapter(StringRedisTemplate redisTemplate,
+                            @Value("${zticket.seat.total-count}") int totalSeats) {
         this.redisTemplate = redisTemplate;
+        this.totalSeats = String.valueOf(totalSeats);
     }
 
     @Override
-    public boolean holdSeat(int seatNumber, String token, long ttlSeconds) {
-        String key = KEY_PREFIX + seatNumber;
-        String value = "held:" + token;
-        Boolean success = redisTemplate.opsForValue()
-                .setIfAbsent(key, value, ttlSeconds, TimeUnit.SECONDS);
-        if (Boolean.TRUE.equals(success)) {
-            return true;
-        }
-        String existing = redisTemplate.opsForValue().get(key);
-        if (value.equals(existing)) {
-            redisTemplate.expire(key, ttlSeconds, TimeUnit.SECONDS);
-            return true;
+    public boolean holdSeat(long showId, int seatNumber, String token, long ttlSeconds) {
+        Long code = redisTemplate.execute(HOLD_SCRIPT, keys(showId, seatNumber),
+                String.valueOf(seatNumber), "held:" + token, String.valueOf(ttlSeconds), totalSeats);
+        return RedisHoldResult.from(code).isHeld();
+    }
+
+    @Override
+    public boolean holdSeats(long showId, List<Integer> seatNumbers, String token, long ttlSeconds) {
+        List<String> keys = new ArrayList<>(commonKeys(showId));
+        List<String> args = new ArrayList<>(List.of("held:" + token, String.valueOf(ttlSeconds)));
+        for (int seatNumber : seatNumbers) {
+            keys.add(seatKey(showId, seatNumber));
+            args.add(String.valueOf(seatNumber));
         }
-        return false;
+        args.add(totalSeats);
+        return Boolean.TRUE.equals(redisTemplate.execute(HOLD_ALL_SCRIPT, keys, args.toArray()));
+    }
+
+    @Override
+    public OptionalInt holdAnySeat(long showId, int fromSeat, int toSeat, String token, long ttlSeconds) {
+        Long seat = redisTemplate.execute(HOLD_ANY_SCRIPT, commonKeys(showId), seatKeyPrefix(showId), "held:" + token,
+                String.valueOf(ttlSeconds), String.valueOf(fromSeat), String.valueOf(toSeat), totalSeats);
+        return seat == null || seat < 0 ? OptionalInt.empty() : OptionalInt.of(seat.intValue());
     }
 
     @Override
-    public void paySeat(int seatNumber, String token) {
-        redisTemplate.opsForValue().set(KEY_PREFIX + seatNumber, "paid:" + token);
+    public void paySeat(long showId, int seatNumber, String token) {
+        redisTemplate.execute(PAY_SCRIPT, keys(showId, seatNumber),
+                String.valueOf(seatNumber), "paid:" + token, totalSeats);
     }
 
     @Override
-    public void releaseSeat(int seatNumber, String token) {
-        redisTemplate.execute(RELEASE_IF_VALUE_SCRIPT,
-                List.of(KEY_PREFIX + seatNumber), "held:" + token);
+    public void paySeats(long showId, Map<Integer, String> tokensBySeat) {
+        List<String> keys = new ArrayList<>(commonKeys(showId));
+        List<String> args = new ArrayList<>(tokensBySeat.size() * 2 + 1);
+        tokensBySeat.forEach((seatNumber, token) -> {
+            keys.add(seatKey(showId, seatNumber));
+            args.add(String.valueOf(seatNumber));
+            args.add("paid:" + token);
+        });
+        args.add(totalSeats);
+        redisTemplate.execute(PAY_ALL_SCRIPT, keys, args.toArray());
     }
 
     @Override
-    public Seats getStatuses(List<Integer> seatNumbers) {
+    public void releaseSeat(long showId, int seatNumber, String token) {
+        redisTemplate.execute(RELEASE_IF_VALUE_SCRIPT, keys(showId, seatNumber),
+                String.valueOf(seatNumber), "held:" + token, totalSeats);
+    }
+
+    @Override
+    public Seats getStatuses(long showId, List<Integer> seatNumbers) {
         List<String> keys = seatNumbers.stream()
-                .map(n -> KEY_PREFIX + n)
+                .map(n -> seatKey(showId, n))
                 .toList();
         List<String> values = redisTemplate.opsForValue().multiGet(keys);
-        Map<Integer, Seat> statuses = new HashMap<>();
+        Seats.Builder builder = Seats.builder(seatNumbers.stream().mapToInt(Integer::intValue).max().orElse(0));
         for (int i = 0; i < seatNumbers.size(); i++) {
-            String value = values.get(i);
-            int seatNumber = seatNumbers.get(i);
-            statuses.put(seatNumber, RedisSeat.from(value).toDomain());
+            RedisSeat seat = RedisSeat.from(values.get(i));
+            builder.put(seatNumbers.get(i), seat.status(), seat.owner());
         }
-        return new Seats(statuses);
+        return builder.build();
+    }
+
+    @Override
+    public int countAvailable(long showId) {
+        Long count = redisTemplate.execute(AVAILABLE_COUNT_SCRIPT, commonKeys(showId), seatKeyPrefix(showId), totalSeats);
+        return count == null ? 0 : count.intValue();
+    }
+
+    @Override
+    public long getSeatMapVersion(long showId) {
+        String version = redisTemplate.opsForValue().get(ShowKeys.of(showId, VERSION_KEY));
+        return version == null ? 0 : Long.parseLong(version);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Integer> getChangedSeatNumbers(long showId, long sinceVersion) {
+        List<String> seats = redisTemplate.execute(CHANGED_SEATS_SCRIPT, commonKeys(showId),
+                seatKeyPrefix(showId), String.valueOf(sinceVersion), totalSeats);
+        return seats == null ? List.of() : seats.stream().map(Integer::parseInt).toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Integer> releaseExpiredHolds(long showId) {
+        List<String> seats = redisTemplate.execute(RELEASE_EXPIRED_SCRIPT, commonKeys(showId),
+                seatKeyPrefix(showId), totalSeats);
+        return seats == null ? List.of() : seats.stream().map(Integer::parseInt).toList();
+    }
+
+    @Override
+    public List<RedisScript<?>> luaScripts() {
+        return List.of(HOLD_SCRIPT, HOLD_ALL_SCRIPT, HOLD_ANY_SCRIPT, PAY_SCRIPT, PAY_ALL_SCRIPT, RELEASE_IF_VALUE_SCRIPT, AVAILABLE_COUNT_SCRIPT,
+                CHANGED_SEATS_SCRIPT, RELEASE_EXPIRED_SCRIPT);
+    }
+
+    private List<String> commonKeys(long showId) {
+        return List.of(ShowKeys.of(showId, AVAILABLE_COUNT_KEY), ShowKeys.of(showId, HOLD_EXPIRY_KEY),
+                ShowKeys.of(showId, VERSION_KEY), ShowKeys.of(showId, CHANGES_KEY), ShowKeys.of(showId, TAKEN_KEY));
+    }
+
+    private List<String> keys(long showId, int seatNumber) {
+        List<String> keys = new ArrayList<>(commonKeys(showId));
+        keys.add(seatKey(showId, seatNumber));
+        return keys;
+    }
+
+    private String seatKeyPrefix(long showId) {
+        return ShowKeys.of(showId, KEY_PREFIX);
+    }
+
+    private String seatKey(long showId, int seatNumber) {
+        return seatKeyPrefix(showId) + seatNumber;
     }
 }
@@ -0,0 +1,28 @@
+package kr.jemi.zticket.seat.infrastructure.out.redis.dto;
+
+/**
+ * hold 스크립트가 반환하는 상태 코드.
+ * 0 = 다른 유저가 선점했거나 결제된 좌석, 1 = 새로 선점, 2 = 같은 유저의 재선점(TTL 갱신).
+ */
+public enum RedisHoldResult {
+
+    CONFLICT,
+    HELD,
+    REHELD;
+
+    public static RedisHoldResult from(Long code) {
+        if (code == null) {
+            return CONFLICT;
+        }
+        return switch (code.intValue()) {
+            case 0 -> CONFLICT;
+            case 1 -> HELD;
+            case 2 -> REHELD;
+            default -> throw new IllegalArgumentException("알 수 없는 hold 결과 코드: " + code);
+        };
+    }
+
+    public boolean isHeld() {
+        return this != CONFLICT;
+    }
+}
@@ -1,6 +1,5 @@
 package kr.jemi.zticket.seat.infrastructure.out.redis.dto;
 
-import kr.jemi.zticket.seat.domain.Seat;
 import kr.jemi.zticket.seat.domain.SeatStatus;
 
 /**
@@ -20,8 +19,4 @@ public record RedisSeat(SeatStatus status, String owner) {
         }
         throw new IllegalArgumentException("알 수 없는 Redis 좌석 값: " + redisValue);
     }
-
-    public Seat toDomain() {
-        return new Seat(status, owner);
-    }
 }
@@ -0,0 +1,51 @@
+package kr.jemi.zticket.seat.infrastructure.out.redis.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import kr.jemi.zticket.seat.domain.SeatStatus;
+
+/**
+ * Redis 좌석 비트맵(좌석당 u2, big-endian)과 소유자 Hash를 파싱하는 adapter DTO.
+ * BITFIELD의 '#n' 오프셋은 비트 n*2 위치이므로 좌석 n은 byte[n / 4]의 상위 비트부터 2비트씩 차지한다.
+ */
+public record RedisSeatBitmap(byte[] bitmap, Map<Integer, String> owners) {
+
+    private static final SeatStatus[] STATUSES = { SeatStatus.AVAILABLE, SeatStatus.HELD, SeatStatus.PAID };
+
+    /**
+     * [비트맵, HGETALL 결과(field, value 교차 목록)] 형태의 스크립트 응답을 파싱한다.
+     */
+    @SuppressWarnings("unchecked")
+    public static RedisSeatBitmap from(List<Object> snapshot) {
+        byte[] bitmap = (byte[]) snapshot.get(0);
+        List<byte[]> ownerEntries = (List<byte[]>) snapshot.get(1);
+        Map<Integer, String> owners = new HashMap<>();
+        for (int i = 0; i + 1 < ownerEntries.size(); i += 2) {
+            owners.put(Integer.parseInt(new String(ownerEntries.get(i), StandardCharsets.UTF_8)),
+                    new String(ownerEntries.get(i + 1), StandardCharsets.UTF_8));
+        }
+        return new RedisSeatBitmap(bitmap, owners);
+    }
+
+    public SeatStatus statusOf(int seatNumber) {
+        int byteIndex = seatNumber >> 2;
+        if (byteIndex >= bitmap.length) {
+            return SeatStatus.AVAILABLE;
+        }
+        int code = (bitmap[byteIndex] >> (6 - ((seatNumber & 3) << 1))) & 0b11;
+        if (code >= STATUSES.length) {
+            throw new IllegalArgumentException("알 수 없는 Redis 좌석 비트: seat=" + seatNumber + ", code=" + code);
+        }
+        return STATUSES[code];
+    }
+
+    /**
+     * AVAILABLE 좌석은 Hash에 남은 값과 관계없이 소유자가 없다.
+     */
+    public String ownerOf(int seatNumber, SeatStatus status) {
+        return status == SeatStatus.AVAILABLE ? null : owners.get(seatNumber);
+    }
+}
@@ -1,6 +1,10 @@
 package kr.jemi.zticket.ticket.application.port.in;
 
+import java.util.List;
+
 public interface HandleTicketPaidUseCase {
 
     void handle(long ticketId);
+
+    void handleGroup(List<Long> ticketIds);
 }
@@ -2,7 +2,20 @@ package kr.jemi.zticket.ticket.application.port.in;
 
 import kr.jemi.zticket.ticket.domain.Ticket;
 
+import java.util.List;
+
 public interface PurchaseTicketUseCase {
 
-    Ticket purchase(String queueToken, int seatNumber);
+    Ticket purchase(long showId, String queueToken, int seatNumber);
+
+    /**
+     * 여러 좌석을 전부 구매하거나 하나도 구매하지 않는다.
+     */
+    List<Ticket> purchaseGroup(long showId, String queueToken, List<Integer> seatNumbers);
+
+    /**
+     * [fromSeat, toSeat] 구간에서 서버가 고른 빈 좌석(번호가 가장 작은 좌석)을 구매한다.
+     * toSeat이 총 좌석 수보다 크면 총 좌석 수까지로 본다.
+     */
+    Ticket purchaseAny(long showId, String queueToken, int fromSeat, int toSeat);
 }
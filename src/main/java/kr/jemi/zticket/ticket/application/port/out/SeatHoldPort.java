@@ -1,10 +1,22 @@
 package kr.jemi.zticket.ticket.application.port.out;
 
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
 public interface SeatHoldPort {
 
-    boolean holdSeat(int seatNumber, String token, long ttlSeconds);
+    boolean holdSeat(long showId, int seatNumber, String token, long ttlSeconds);
+
+    boolean holdSeats(long showId, List<Integer> seatNumbers, String token, long ttlSeconds);
+
+    OptionalInt holdAnySeat(long showId, int fromSeat, int toSeat, String token, long ttlSeconds);
+
+    boolean isSold(long showId, int seatNumber);
+
+    void paySeat(long showId, int seatNumber, String token);
 
-    void paySeat(int seatNumber, String token);
+    void paySeats(long showId, Map<Integer, String> tokensBySeat);
 
-    void releaseSeat(int seatNumber, String token);
+    void releaseSeat(long showId, int seatNumber, String token);
 }
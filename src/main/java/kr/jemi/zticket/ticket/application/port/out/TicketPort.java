@@ -1,18 +1,18 @@
 package kr.jemi.zticket.ticket.application.port.out;
 
 import kr.jemi.zticket.ticket.domain.Ticket;
-import kr.jemi.zticket.ticket.domain.TicketStatus;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 public interface TicketPort {
 
-    Ticket insert(Ticket ticket);
+    List<Ticket> insertAll(List<Ticket> tickets);
 
-    void update(Ticket ticket);
+    /**
+     * PAID인 티켓만 한 번에 SYNCED로 바꾸고 바뀐 행 수를 반환한다. 이미 SYNCED인 티켓은 그대로 둔다.
+     */
+    int syncAll(List<Long> ticketIds, LocalDateTime updatedAt);
 
-    Optional<Ticket> findById(long ticketId);
-
-    List<Ticket> findByStatus(TicketStatus status);
+    List<Ticket> findAllById(List<Long> ticketIds);
 }
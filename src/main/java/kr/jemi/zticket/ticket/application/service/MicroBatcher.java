@@ -0,0 +1,168 @@
+package kr.jemi.zticket.ticket.application.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * 여러 스레드가 넣은 요청을 묶음으로 모아 처리하고, 각 호출자는 자기 요청의 결과를 기다린다.
+ * {@link TicketGroupCommitter}와 {@link TicketSyncProcessor}가 묶음 처리 방식만 달리해 함께 쓴다.
+ * <p>
+ * worker 스레드가 요청 무게의 합이 maxBatchWeight에 닿거나 첫 요청 이후 maxDelayMs가 지날 때까지 모아 processor에 넘긴다.
+ * 요청 하나는 나누지 않으므로 묶음이 maxBatchWeight를 조금 넘을 수 있다.
+ * <p>
+ * 호출자는 timeoutMs까지만 기다리고, 시간 초과로 떠난 요청은 아직 큐에 있으면 처리하지 않고 버린다.
+ * processor가 예외(Error 포함)를 던지거나 결과를 채우지 않고 끝나면 남은 요청을 모두 실패시키므로 기다리다 멈추는 호출자가 없다.
+ */
+final class MicroBatcher<T, R> {
+
+    private static final Logger log = LoggerFactory.getLogger(MicroBatcher.class);
+
+    private static final long IDLE_POLL_MS = 100;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+    private final String name;
+    private final int maxBatchWeight;
+    private final ToIntFunction<T> weigher;
+    private final long maxDelayNanos;
+    private final long timeoutMs;
+    private final Consumer<List<Request<T, R>>> processor;
+    private final BlockingQueue<Request<T, R>> queue = new LinkedBlockingQueue<>();
+    private final ExecutorService workers;
+    private volatile boolean running = true;
+
+    /**
+     * @param name      worker 스레드 이름(zticket-{name}-N)과 종료 메시지에 쓴다
+     * @param weigher   요청 하나가 묶음에서 차지하는 무게 (티켓 수 등)
+     * @param processor 묶음의 모든 요청에 결과를 채운다. 시간 초과로 떠난 요청은 넘기지 않는다
+     */
+    MicroBatcher(String name,
+                 int maxBatchWeight,
+                 ToIntFunction<T> weigher,
+                 long maxDelayMs,
+                 long timeoutMs,
+                 int workerCount,
+                 Consumer<List<Request<T, R>>> processor) {
+        this.name = name;
+        this.maxBatchWeight = maxBatchWeight;
+        this.weigher = weigher;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+        this.timeoutMs = timeoutMs;
+        this.processor = processor;
+        this.workers = Executors.newFixedThreadPool(workerCount,
+                Thread.ofPlatform().name("zticket-" + name + "-", 0).factory());
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::runWorker);
+        }
+    }
+
+    /**
+     * 요청을 묶음에 넣고 처리될 때까지 기다린다. 처리에 실패하면 원인 예외를 그대로 던진다.
+     * <p>
+     * 큐에 넣는 사이에 종료가 시작되어 종료 처리가 큐를 이미 비웠을 수 있으므로, 넣은 뒤 다시 확인하고 아직 큐에 있으면 꺼내서 실패시킨다.
+     */
+    R submit(T item) {
+        if (!running) {
+            throw closed();
+        }
+        Request<T, R> request = new Request<>(item, new CompletableFuture<>());
+        queue.add(request);
+        if (!running && queue.remove(request)) {
+            throw closed();
+        }
+        try {
+            return request.result().orTimeout(timeoutMs, TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 새 요청을 막고 큐에 남은 요청을 처리한 뒤 worker를 멈춘다. 제때 멈추지 못해 남은 요청은 실패시킨다.
+     */
+    void shutdown() throws InterruptedException {
+        running = false;
+        workers.shutdown();
+        if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+        Request<T, R> request;
+        while ((request = queue.poll()) != null) {
+            request.result().completeExceptionally(closed());
+        }
+    }
+
+    /**
+     * 종료 신호를 받아도 큐에 남은 요청은 모두 처리하고 끝낸다.
+     */
+    private void runWorker() {
+        List<Request<T, R>> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                process(batch);
+                return;
+            }
+            process(batch);
+            batch.clear();
+        }
+    }
+
+    private void collect(List<Request<T, R>> batch) throws InterruptedException {
+        Request<T, R> first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        int weight = weigher.applyAsInt(first.item());
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (weight < maxBatchWeight) {
+            long remaining = deadline - System.nanoTime();
+            Request<T, R> next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            weight += weigher.applyAsInt(next.item());
+        }
+    }
+
+    private void process(List<Request<T, R>> batch) {
+        batch.removeIf(request -> request.result().isDone());
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            processor.accept(List.copyOf(batch));
+        } catch (Throwable e) {
+            log.warn("묶음 처리 실패: name={}, size={}", name, batch.size(), e);
+            batch.forEach(request -> request.result().completeExceptionally(e));
+            return;
+        }
+        batch.forEach(request -> request.result().completeExceptionally(
+                new IllegalStateException("묶음 처리 결과가 없습니다: " + name)));
+    }
+
+    private IllegalStateException closed() {
+        return new IllegalStateException("묶음 처리가 종료되었습니다: " + name);
+    }
+
+    record Request<T, R>(T item, CompletableFuture<R> result) {
+    }
+}
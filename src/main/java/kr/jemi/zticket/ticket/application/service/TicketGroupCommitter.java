@@ -0,0 +1,98 @@
+package kr.jemi.zticket.ticket.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.jemi.zticket.ticket.application.service.MicroBatcher.Request;
+import kr.jemi.zticket.ticket.domain.Ticket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 동시에 들어온 단건 구매 티켓을 모아 한 트랜잭션으로 저장한다(group commit).
+ * <p>
+ * 구매마다 트랜잭션을 따로 커밋하면 티켓·event_publication INSERT와 커밋(fsync)이 구매 수만큼 일어나
+ * 커넥션 풀 크기가 매진 속도의 상한이 된다. 구매 스레드는 티켓을 {@link MicroBatcher}에 넣고 결과를 기다리고,
+ * writer 스레드가 max-batch-size개가 모이거나 첫 티켓 이후 max-delay-ms가 지나면 묶어서 저장한다.
+ * <p>
+ * 묶음 저장이 실패하면(한 좌석의 unique key 위반 등) 묶음의 티켓을 하나씩 다시 저장하므로, 실패한 티켓의 호출자만 실패한다.
+ * <p>
+ * 호출자는 commit-timeout-ms까지만 기다린다. 시간 초과로 끝난 티켓은 아직 큐에 있으면 저장하지 않고 버린다.
+ * 이미 저장 중인 묶음은 되돌릴 수 없으므로 commit-timeout-ms는 DB 커넥션·쿼리 타임아웃보다 넉넉하게 잡는다.
+ */
+@Service
+public class TicketGroupCommitter {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketGroupCommitter.class);
+
+    private final TicketWriter ticketWriter;
+    private final MicroBatcher<PendingTicket, Ticket> batcher;
+    private final DistributionSummary batchSize;
+    private final Counter fallbacks;
+
+    public TicketGroupCommitter(TicketWriter ticketWriter,
+                                MeterRegistry meterRegistry,
+                                @Value("${zticket.ticket.group-commit.max-batch-size}") int maxBatchSize,
+                                @Value("${zticket.ticket.group-commit.max-delay-ms}") long maxDelayMs,
+                                @Value("${zticket.ticket.group-commit.writer-count}") int writerCount,
+                                @Value("${zticket.ticket.group-commit.commit-timeout-ms}") long commitTimeoutMs) {
+        this.ticketWriter = ticketWriter;
+        this.batchSize = DistributionSummary.builder("zticket.ticket.group-commit.batch.size")
+                .description("트랜잭션 1회에 함께 저장한 티켓 수")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("zticket.ticket.group-commit.fallback")
+                .description("묶음 저장이 실패해 티켓별로 다시 저장한 횟수")
+                .register(meterRegistry);
+        this.batcher = new MicroBatcher<>("ticket-writer", maxBatchSize, pending -> 1,
+                maxDelayMs, commitTimeoutMs, writerCount, this::flush);
+    }
+
+    /**
+     * 티켓을 묶음에 넣고 저장될 때까지 기다린다. 저장에 실패하면 원인 예외를 그대로 던진다.
+     */
+    public Ticket commit(Ticket ticket) {
+        return batcher.submit(new PendingTicket(ticket, ticket.pullEvents()));
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        batcher.shutdown();
+    }
+
+    private void flush(List<Request<PendingTicket, Ticket>> batch) {
+        batchSize.record(batch.size());
+        try {
+            List<Ticket> saved = ticketWriter.insertAllAndPublish(
+                    batch.stream().map(request -> request.item().ticket()).toList(),
+                    batch.stream().flatMap(request -> request.item().events().stream()).toList());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(saved.get(i));
+            }
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+            fallbacks.increment();
+            log.warn("묶음 저장 실패, 티켓별로 다시 저장: size={}", batch.size(), e);
+            batch.forEach(this::flushOne);
+        }
+    }
+
+    private void flushOne(Request<PendingTicket, Ticket> request) {
+        try {
+            List<Ticket> saved = ticketWriter.insertAllAndPublish(List.of(request.item().ticket()), request.item().events());
+            request.result().complete(saved.get(0));
+        } catch (RuntimeException e) {
+            request.result().completeExceptionally(e);
+        }
+    }
+
+    private record PendingTicket(Ticket ticket, List<Object> events) {
+    }
+}
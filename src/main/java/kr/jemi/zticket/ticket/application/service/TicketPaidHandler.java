@@ -1,40 +1,32 @@
 package kr.jemi.zticket.ticket.application.service;
 
 import kr.jemi.zticket.ticket.application.port.in.HandleTicketPaidUseCase;
-import kr.jemi.zticket.ticket.application.port.out.ActiveUserCheckPort;
-import kr.jemi.zticket.ticket.application.port.out.SeatHoldPort;
-import kr.jemi.zticket.ticket.application.port.out.TicketPort;
-import kr.jemi.zticket.ticket.domain.Ticket;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
+/**
+ * 결제 이벤트의 티켓을 {@link TicketSyncProcessor}에 넘기고 동기화가 끝날 때까지 기다린다.
+ */
 @Service
 public class TicketPaidHandler implements HandleTicketPaidUseCase {
 
-    private final SeatHoldPort seatHoldPort;
-    private final TicketPort ticketPort;
-    private final ActiveUserCheckPort activeUserCheckPort;
+    private final TicketSyncProcessor ticketSyncProcessor;
 
-    public TicketPaidHandler(SeatHoldPort seatHoldPort,
-                             TicketPort ticketPort,
-                             ActiveUserCheckPort activeUserCheckPort) {
-        this.seatHoldPort = seatHoldPort;
-        this.ticketPort = ticketPort;
-        this.activeUserCheckPort = activeUserCheckPort;
+    public TicketPaidHandler(TicketSyncProcessor ticketSyncProcessor) {
+        this.ticketSyncProcessor = ticketSyncProcessor;
     }
 
     @Override
     public void handle(long ticketId) {
-        Ticket ticket = ticketPort.findById(ticketId)
-                .orElseThrow(() -> new IllegalStateException("티켓 없음: " + ticketId));
-
-        // 4. Redis 좌석 결제 확정 (held → paid)
-        seatHoldPort.paySeat(ticket.getSeatNumber(), ticket.getQueueToken());
-
-        // 5. DB 티켓 상태를 SYNCED로 변경
-        ticket.sync();
-        ticketPort.update(ticket);
+        ticketSyncProcessor.sync(List.of(ticketId));
+    }
 
-        // 6. active 유저에서 제거
-        activeUserCheckPort.deactivate(ticket.getQueueToken());
+    /**
+     * 단체 구매 티켓은 같은 chunk에 함께 들어가므로 토큰도 한 번만 비활성화된다.
+     */
+    @Override
+    public void handleGroup(List<Long> ticketIds) {
+        ticketSyncProcessor.sync(ticketIds);
     }
 }
@@ -6,12 +6,15 @@ import kr.jemi.zticket.ticket.application.port.out.ActiveUserCheckPort;
 import kr.jemi.zticket.ticket.application.port.out.SeatHoldPort;
 import kr.jemi.zticket.common.exception.BusinessException;
 import kr.jemi.zticket.common.exception.ErrorCode;
+import kr.jemi.zticket.common.show.ShowCatalog;
 import kr.jemi.zticket.ticket.domain.Ticket;
+import kr.jemi.zticket.ticket.domain.TicketGroup;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
 import java.util.List;
 
 
@@ -23,53 +26,133 @@ public class TicketService implements PurchaseTicketUseCase {
     private final SeatHoldPort seatHoldPort;
     private final ActiveUserCheckPort activeUserCheckPort;
     private final TicketWriter ticketWriter;
+    private final TicketGroupCommitter ticketGroupCommitter;
+    private final ShowCatalog showCatalog;
     private final TSID.Factory tsidFactory;
     private final long holdTtlSeconds;
     private final int totalSeatCount;
+    private final int maxGroupSize;
 
     public TicketService(SeatHoldPort seatHoldPort,
                          ActiveUserCheckPort activeUserCheckPort,
                          TicketWriter ticketWriter,
+                         TicketGroupCommitter ticketGroupCommitter,
+                         ShowCatalog showCatalog,
                          TSID.Factory tsidFactory,
                          @Value("${zticket.seat.hold-ttl-seconds}") long holdTtlSeconds,
-                         @Value("${zticket.seat.total-count}") int totalSeatCount) {
+                         @Value("${zticket.seat.total-count}") int totalSeatCount,
+                         @Value("${zticket.seat.max-group-size}") int maxGroupSize) {
         this.seatHoldPort = seatHoldPort;
         this.activeUserCheckPort = activeUserCheckPort;
         this.ticketWriter = ticketWriter;
+        this.ticketGroupCommitter = ticketGroupCommitter;
+        this.showCatalog = showCatalog;
         this.tsidFactory = tsidFactory;
         this.holdTtlSeconds = holdTtlSeconds;
         this.totalSeatCount = totalSeatCount;
+        this.maxGroupSize = maxGroupSize;
     }
 
     @Override
-    public Ticket purchase(String queueToken, int seatNumber) {
-        // 1. 좌석 번호 범위 검증
+    public Ticket purchase(long showId, String queueToken, int seatNumber) {
+        // 1. 공연, 좌석 번호 범위 검증
+        showCatalog.validate(showId);
         if (seatNumber < 1 || seatNumber > totalSeatCount) {
             throw new BusinessException(ErrorCode.INVALID_SEAT_NUMBERS);
         }
 
+        // 2. 이미 판매된 좌석은 Redis를 거치지 않고 거절 (노드 로컬 PAID 캐시)
+        if (seatHoldPort.isSold(showId, seatNumber)) {
+            throw new BusinessException(ErrorCode.SEAT_ALREADY_HELD);
+        }
+
+        // 3. 활성 사용자 검증
+        if (!activeUserCheckPort.isActive(showId, queueToken)) {
+            throw new BusinessException(ErrorCode.NOT_ACTIVE_USER);
+        }
+
+        // 4. Redis 좌석 선점 (hold 스크립트 1회 호출)
+        boolean held = seatHoldPort.holdSeat(showId, seatNumber, queueToken, holdTtlSeconds);
+        if (!held) {
+            throw new BusinessException(ErrorCode.SEAT_ALREADY_HELD);
+        }
+
+        // 5. DB에 PAID 티켓 저장 + 이벤트 발행 (동시에 들어온 구매와 묶어 한 트랜잭션으로 처리)
+        return issue(showId, queueToken, seatNumber);
+    }
+
+    @Override
+    public Ticket purchaseAny(long showId, String queueToken, int fromSeat, int toSeat) {
+        // 1. 공연, 구간 검증
+        showCatalog.validate(showId);
+        int lastSeat = Math.min(toSeat, totalSeatCount);
+        if (fromSeat < 1 || fromSeat > lastSeat) {
+            throw new BusinessException(ErrorCode.INVALID_SEAT_NUMBERS);
+        }
+
         // 2. 활성 사용자 검증
-        if (!activeUserCheckPort.isActive(queueToken)) {
+        if (!activeUserCheckPort.isActive(showId, queueToken)) {
             throw new BusinessException(ErrorCode.NOT_ACTIVE_USER);
         }
 
-        // 3. Redis 좌석 선점 (SET NX EX)
-        boolean held = seatHoldPort.holdSeat(seatNumber, queueToken, holdTtlSeconds);
+        // 3. Redis에서 빈 좌석을 골라 선점 (BITPOS 스크립트 1회 호출, 좌석이 남아 있으면 충돌 없음)
+        int seatNumber = seatHoldPort.holdAnySeat(showId, fromSeat, lastSeat, queueToken, holdTtlSeconds)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NO_SEAT_AVAILABLE));
+
+        // 4. DB에 PAID 티켓 저장 + 이벤트 발행
+        return issue(showId, queueToken, seatNumber);
+    }
+
+    @Override
+    public List<Ticket> purchaseGroup(long showId, String queueToken, List<Integer> seatNumbers) {
+        // 1. 공연, 좌석 수, 번호 범위, 중복 검증 + 이미 판매된 좌석 즉시 거절
+        showCatalog.validate(showId);
+        if (seatNumbers.size() > maxGroupSize) {
+            throw new BusinessException(ErrorCode.GROUP_SIZE_EXCEEDED);
+        }
+        if (seatNumbers.isEmpty()
+                || new HashSet<>(seatNumbers).size() != seatNumbers.size()
+                || seatNumbers.stream().anyMatch(n -> n < 1 || n > totalSeatCount)) {
+            throw new BusinessException(ErrorCode.INVALID_SEAT_NUMBERS);
+        }
+        if (seatNumbers.stream().anyMatch(n -> seatHoldPort.isSold(showId, n))) {
+            throw new BusinessException(ErrorCode.SEAT_ALREADY_HELD);
+        }
+
+        // 2. 활성 사용자 검증
+        if (!activeUserCheckPort.isActive(showId, queueToken)) {
+            throw new BusinessException(ErrorCode.NOT_ACTIVE_USER);
+        }
+
+        // 3. Redis 좌석 일괄 선점 (전부 성공하거나 하나도 선점하지 않음, 스크립트 1회 호출)
+        boolean held = seatHoldPort.holdSeats(showId, seatNumbers, queueToken, holdTtlSeconds);
         if (!held) {
             throw new BusinessException(ErrorCode.SEAT_ALREADY_HELD);
         }
 
-        // 4. DB에 PAID 티켓 저장 + 이벤트 발행 (@Transactional로 원자적 처리)
+        // 4. DB에 PAID 티켓 일괄 저장 + 묶음 이벤트 1건 발행 (한 트랜잭션)
+        List<Long> ids = seatNumbers.stream()
+                .map(n -> tsidFactory.generate().toLong())
+                .toList();
+        TicketGroup group = TicketGroup.create(ids, showId, queueToken, seatNumbers);
+        try {
+            return ticketWriter.insertAllAndPublish(group);
+        } catch (Exception e) {
+            log.error("DB 저장 실패, 좌석 해제: {}", seatNumbers, e);
+            seatNumbers.forEach(seatNumber -> seatHoldPort.releaseSeat(showId, seatNumber, queueToken));
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR);
+        }
+    }
+
+    private Ticket issue(long showId, String queueToken, int seatNumber) {
         long id = tsidFactory.generate().toLong();
-        Ticket ticket = Ticket.create(id, queueToken, seatNumber);
+        Ticket ticket = Ticket.create(id, showId, queueToken, seatNumber);
         try {
-            ticket = ticketWriter.insertAndPublish(ticket);
+            return ticketGroupCommitter.commit(ticket);
         } catch (Exception e) {
             log.error("DB 저장 실패, 좌석 해제: {}", seatNumber, e);
-            seatHoldPort.releaseSeat(seatNumber, queueToken);
+            seatHoldPort.releaseSeat(showId, seatNumber, queueToken);
             throw new BusinessException(ErrorCode.INTERNAL_ERROR);
         }
-
-        return ticket;
     }
 }
@@ -0,0 +1,170 @@
+package kr.jemi.zticket.ticket.application.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kr.jemi.zticket.ticket.application.port.out.ActiveUserCheckPort;
+import kr.jemi.zticket.ticket.application.port.out.SeatHoldPort;
+import kr.jemi.zticket.ticket.application.port.out.TicketPort;
+import kr.jemi.zticket.ticket.application.service.MicroBatcher.Request;
+import kr.jemi.zticket.ticket.domain.Ticket;
+import kr.jemi.zticket.ticket.domain.TicketStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 결제된(PAID) 티켓을 chunk 단위로 모아 Redis 좌석 확정 → DB SYNCED 변경 → active 유저 제거를 한꺼번에 처리한다.
+ * <p>
+ * 티켓마다 처리하면 조회·좌석 확정·UPDATE·커밋·토큰 제거가 티켓 수만큼 왕복한다.
+ * 여기서는 {@link MicroBatcher}로 chunk-size개까지 모아 조회 1회, 공연별 좌석 확정 스크립트 1회, UPDATE ... IN 1회, 공연별 토큰 제거 스크립트 1회로 끝낸다.
+ * <p>
+ * 호출자(이벤트 리스너)는 자기 티켓이 속한 chunk가 끝날 때까지(최대 timeout-ms) 기다리고, 실패하면 예외를 그대로 받는다.
+ * 그래서 event_publication은 동기화가 끝난 뒤에만 완료 처리되고, 실패한 이벤트는 재전송으로 다시 들어온다.
+ * chunk 처리가 실패하면 요청별로 다시 처리하므로, 실패한 티켓의 이벤트만 재전송을 기다린다.
+ * 각 단계는 이미 처리된 티켓·좌석·토큰에 대해 아무 일도 하지 않으므로 같은 티켓이 다시 들어와도 된다.
+ */
+@Service
+public class TicketSyncProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketSyncProcessor.class);
+
+    private final SeatHoldPort seatHoldPort;
+    private final TicketPort ticketPort;
+    private final ActiveUserCheckPort activeUserCheckPort;
+    private final MicroBatcher<List<Long>, Void> batcher;
+    private final DistributionSummary chunkTickets;
+    private final Counter fallbacks;
+
+    public TicketSyncProcessor(SeatHoldPort seatHoldPort,
+                               TicketPort ticketPort,
+                               ActiveUserCheckPort activeUserCheckPort,
+                               MeterRegistry meterRegistry,
+                               @Value("${zticket.ticket.sync.chunk-size}") int chunkSize,
+                               @Value("${zticket.ticket.sync.max-delay-ms}") long maxDelayMs,
+                               @Value("${zticket.ticket.sync.worker-count}") int workerCount,
+                               @Value("${zticket.ticket.sync.timeout-ms}") long timeoutMs) {
+        this.seatHoldPort = seatHoldPort;
+        this.ticketPort = ticketPort;
+        this.activeUserCheckPort = activeUserCheckPort;
+        this.chunkTickets = DistributionSummary.builder("zticket.ticket.sync.chunk.size")
+                .description("한 번에 동기화한 티켓 수")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder("zticket.ticket.sync.fallback")
+                .description("chunk 동기화가 실패해 요청별로 다시 동기화한 횟수")
+                .register(meterRegistry);
+        this.batcher = new MicroBatcher<>("ticket-sync", chunkSize, List::size,
+                maxDelayMs, timeoutMs, workerCount, this::process);
+    }
+
+    /**
+     * 티켓들을 chunk에 넣고 동기화가 끝날 때까지 기다린다. 실패하면 원인 예외를 그대로 던진다.
+     * 단체 구매는 한 요청으로 넣으므로 나뉘지 않고 같은 chunk에서 처리된다.
+     */
+    public void sync(List<Long> ticketIds) {
+        batcher.submit(List.copyOf(ticketIds));
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        batcher.shutdown();
+    }
+
+    private void process(List<Request<List<Long>, Void>> chunk) {
+        Map<Long, Ticket> found = ticketPort.findAllById(chunk.stream()
+                        .flatMap(request -> request.item().stream())
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Ticket::getId, ticket -> ticket));
+        List<Request<List<Long>, Void>> ready = new ArrayList<>(chunk.size());
+        for (Request<List<Long>, Void> request : chunk) {
+            if (found.keySet().containsAll(request.item())) {
+                ready.add(request);
+            } else {
+                request.result().completeExceptionally(new IllegalStateException("티켓 없음: " + request.item()));
+            }
+        }
+        if (ready.isEmpty()) {
+            return;
+        }
+        List<Ticket> tickets = ticketsOf(ready, found);
+        chunkTickets.record(tickets.size());
+        try {
+            syncAll(tickets);
+            ready.forEach(request -> request.result().complete(null));
+        } catch (RuntimeException e) {
+            if (ready.size() == 1) {
+                log.warn("티켓 동기화 실패, 재전송 대기: tickets={}", ready.get(0).item(), e);
+                ready.get(0).result().completeExceptionally(e);
+                return;
+            }
+            fallbacks.increment();
+            log.warn("chunk 동기화 실패, 요청별로 다시 동기화: requests={}", ready.size(), e);
+            ready.forEach(request -> syncOne(request, found));
+        }
+    }
+
+    private void syncOne(Request<List<Long>, Void> request, Map<Long, Ticket> found) {
+        try {
+            syncAll(ticketsOf(List.of(request), found));
+            request.result().complete(null);
+        } catch (RuntimeException e) {
+            log.warn("티켓 동기화 실패, 재전송 대기: tickets={}", request.item(), e);
+            request.result().completeExceptionally(e);
+        }
+    }
+
+    private static List<Ticket> ticketsOf(List<Request<List<Long>, Void>> requests, Map<Long, Ticket> found) {
+        return requests.stream()
+                .flatMap(request -> request.item().stream())
+                .distinct()
+                .map(found::get)
+                .toList();
+    }
+
+    /**
+     * 좌석 확정 → SYNCED → 토큰 제거 순서는 티켓 하나를 처리할 때와 같다.
+     * 좌석 확정과 SYNCED 변경은 PAID 티켓만 하고, 토큰 제거는 상태와 관계없이 모든 티켓에 한다.
+     * SYNCED로 바뀐 뒤 토큰 제거에서 실패한 티켓이 재전송되면 토큰 제거만 다시 하기 위해서다.
+     */
+    private void syncAll(List<Ticket> tickets) {
+        List<Ticket> paid = tickets.stream()
+                .filter(ticket -> ticket.getStatus() == TicketStatus.PAID)
+                .toList();
+        if (!paid.isEmpty()) {
+            // 4. Redis 좌석 결제 확정 (held → paid)
+            byShow(paid).forEach((showId, showTickets) -> {
+                Map<Integer, String> tokensBySeat = new LinkedHashMap<>();
+                showTickets.forEach(ticket -> tokensBySeat.put(ticket.getSeatNumber(), ticket.getQueueToken()));
+                seatHoldPort.paySeats(showId, tokensBySeat);
+            });
+
+            // 5. DB 티켓 상태를 SYNCED로 변경
+            ticketPort.syncAll(paid.stream().map(Ticket::getId).toList(), LocalDateTime.now());
+        }
+
+        // 6. active 유저에서 제거
+        byShow(tickets).forEach((showId, showTickets) -> {
+            Set<String> tokens = new LinkedHashSet<>();
+            showTickets.forEach(ticket -> tokens.add(ticket.getQueueToken()));
+            activeUserCheckPort.deactivateBatch(showId, List.copyOf(tokens));
+        });
+    }
+
+    private static Map<Long, List<Ticket>> byShow(List<Ticket> tickets) {
+        return tickets.stream()
+                .collect(Collectors.groupingBy(Ticket::getShowId, LinkedHashMap::new, Collectors.toList()));
+    }
+}
@@ -2,6 +2,7 @@ package kr.jemi.zticket.ticket.application.service;
 
 import kr.jemi.zticket.ticket.application.port.out.TicketPort;
 import kr.jemi.zticket.ticket.domain.Ticket;
+import kr.jemi.zticket.ticket.domain.TicketGroup;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,11 +20,22 @@ public class TicketWriter {
         this.eventPublisher = eventPublisher;
     }
 
+    /**
+     * 여러 구매의 티켓과 이벤트를 한 트랜잭션으로 저장·발행한다. {@link TicketGroupCommitter}가 묶음 단위로 호출하며,
+     * 이벤트는 묶음 저장이 실패해 티켓별로 다시 저장할 때도 쓸 수 있도록 호출자가 미리 꺼내 넘긴다.
+     */
     @Transactional
-    public Ticket insertAndPublish(Ticket ticket) {
-        List<Object> events = ticket.pullEvents();
-        ticket = ticketPort.insert(ticket);
+    public List<Ticket> insertAllAndPublish(List<Ticket> tickets, List<Object> events) {
+        List<Ticket> saved = ticketPort.insertAll(tickets);
         events.forEach(eventPublisher::publishEvent);
-        return ticket;
+        return saved;
+    }
+
+    @Transactional
+    public List<Ticket> insertAllAndPublish(TicketGroup group) {
+        List<Object> events = group.pullEvents();
+        List<Ticket> tickets = ticketPort.insertAll(group.getTickets());
+        events.forEach(eventPublisher::publishEvent);
+        return tickets;
     }
 }
@@ -12,6 +12,8 @@ public class Ticket implements SelfValidating {
 
     private final long id;
     @Min(1)
+    private final long showId;
+    @Min(1)
     private final int seatNumber;
     @NotNull
     private TicketStatus status;
@@ -24,9 +26,10 @@ public class Ticket implements SelfValidating {
 
     private final List<Object> events = new ArrayList<>();
 
-    public Ticket(long id, int seatNumber, TicketStatus status, String queueToken,
+    public Ticket(long id, long showId, int seatNumber, TicketStatus status, String queueToken,
                   LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
+        this.showId = showId;
         this.seatNumber = seatNumber;
         this.status = status;
         this.queueToken = queueToken;
@@ -35,14 +38,21 @@ public class Ticket implements SelfValidating {
         validateSelf();
     }
 
-    public static Ticket create(long id, String queueToken, int seatNumber) {
-        LocalDateTime now = java.time.LocalDateTime.now();
-        Ticket ticket = new Ticket(id, seatNumber, TicketStatus.PAID, queueToken,
-                now, now);
+    public static Ticket create(long id, long showId, String queueToken, int seatNumber) {
+        Ticket ticket = paid(id, showId, queueToken, seatNumber);
         ticket.registerEvent(new TicketPaidEvent(id));
         return ticket;
     }
 
+    /**
+     * 이벤트 없이 PAID 티켓을 만든다. 단체 구매는 {@link TicketGroup}이 묶음 단위 이벤트를 하나만 등록한다.
+     */
+    static Ticket paid(long id, long showId, String queueToken, int seatNumber) {
+        LocalDateTime now = java.time.LocalDateTime.now();
+        return new Ticket(id, showId, seatNumber, TicketStatus.PAID, queueToken,
+                now, now);
+    }
+
     private void registerEvent(Object event) {
         events.add(event);
     }
@@ -70,6 +80,10 @@ public class Ticket implements SelfValidating {
         return id;
     }
 
+    public long getShowId() {
+        return showId;
+    }
+
     public int getSeatNumber() {
         return seatNumber;
     }
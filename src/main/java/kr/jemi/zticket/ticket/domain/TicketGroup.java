@@ -0,0 +1,41 @@
+package kr.jemi.zticket.ticket.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 사용자가 한 번에 구매한 티켓 묶음. 티켓마다가 아니라 묶음 단위로 결제 이벤트를 하나만 등록한다.
+ */
+public class TicketGroup {
+
+    private final List<Ticket> tickets;
+    private final List<Object> events = new ArrayList<>();
+
+    private TicketGroup(List<Ticket> tickets) {
+        this.tickets = List.copyOf(tickets);
+    }
+
+    public static TicketGroup create(List<Long> ids, long showId, String queueToken, List<Integer> seatNumbers) {
+        if (ids.size() != seatNumbers.size() || ids.isEmpty()) {
+            throw new IllegalArgumentException(
+                    "티켓 ID와 좌석 수가 맞지 않습니다: ids=" + ids.size() + ", seats=" + seatNumbers.size());
+        }
+        List<Ticket> tickets = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            tickets.add(Ticket.paid(ids.get(i), showId, queueToken, seatNumbers.get(i)));
+        }
+        TicketGroup group = new TicketGroup(tickets);
+        group.events.add(new TicketGroupPaidEvent(ids));
+        return group;
+    }
+
+    public List<Ticket> getTickets() {
+        return tickets;
+    }
+
+    public List<Object> pullEvents() {
+        List<Object> result = List.copyOf(events);
+        events.clear();
+        return result;
+    }
+}
@@ -0,0 +1,10 @@
+package kr.jemi.zticket.ticket.domain;
+
+import java.util.List;
+
+public record TicketGroupPaidEvent(List<Long> ticketIds) {
+
+    public TicketGroupPaidEvent {
+        ticketIds = List.copyOf(ticketIds);
+    }
+}
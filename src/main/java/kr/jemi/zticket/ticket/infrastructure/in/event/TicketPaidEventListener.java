@@ -1,6 +1,7 @@
 package kr.jemi.zticket.ticket.infrastructure.in.event;
 
 import kr.jemi.zticket.ticket.application.port.in.HandleTicketPaidUseCase;
+import kr.jemi.zticket.ticket.domain.TicketGroupPaidEvent;
 import kr.jemi.zticket.ticket.domain.TicketPaidEvent;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
@@ -20,4 +21,10 @@ public class TicketPaidEventListener {
     public void handle(TicketPaidEvent event) {
         handleTicketPaidUseCase.handle(event.ticketId());
     }
+
+    @Async
+    @TransactionalEventListener
+    public void handle(TicketGroupPaidEvent event) {
+        handleTicketPaidUseCase.handleGroup(event.ticketIds());
+    }
 }
@@ -4,16 +4,21 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import kr.jemi.zticket.ticket.infrastructure.in.web.dto.AutoPurchaseRequest;
+import kr.jemi.zticket.ticket.infrastructure.in.web.dto.GroupPurchaseRequest;
 import kr.jemi.zticket.ticket.infrastructure.in.web.dto.PurchaseRequest;
 import kr.jemi.zticket.ticket.infrastructure.in.web.dto.PurchaseResponse;
 import kr.jemi.zticket.ticket.domain.Ticket;
 import kr.jemi.zticket.ticket.application.port.in.PurchaseTicketUseCase;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Tag(name = "Ticket", description = "티켓 구매")
 @RestController
 public class TicketApiController {
@@ -25,11 +30,33 @@ public class TicketApiController {
     }
 
     @Operation(summary = "티켓 구매", description = "좌석을 선점하고 티켓을 발급합니다. 입장 권한(ACTIVE)이 필요합니다.")
-    @PostMapping("/api/tickets")
+    @PostMapping("/api/shows/{showId}/tickets")
     public ResponseEntity<PurchaseResponse> purchase(
+            @Parameter(description = "공연 ID") @PathVariable long showId,
             @Parameter(description = "대기열 토큰") @RequestHeader("X-Queue-Token") String queueToken,
             @Valid @RequestBody PurchaseRequest request) {
-        Ticket ticket = purchaseTicketUseCase.purchase(queueToken, request.seatNumber());
+        Ticket ticket = purchaseTicketUseCase.purchase(showId, queueToken, request.seatNumber());
+        return ResponseEntity.ok(PurchaseResponse.from(ticket));
+    }
+
+    @Operation(summary = "좌석 자동 배정 구매", description = "구간(fromSeat~toSeat, 생략 시 전체)에서 번호가 가장 작은 빈 좌석을 서버가 골라 구매합니다. 좌석이 남아 있으면 선점 충돌 없이 성공합니다.")
+    @PostMapping("/api/shows/{showId}/tickets/auto")
+    public ResponseEntity<PurchaseResponse> purchaseAny(
+            @Parameter(description = "공연 ID") @PathVariable long showId,
+            @Parameter(description = "대기열 토큰") @RequestHeader("X-Queue-Token") String queueToken,
+            @Valid @RequestBody AutoPurchaseRequest request) {
+        Ticket ticket = purchaseTicketUseCase.purchaseAny(
+                showId, queueToken, request.fromSeatOrFirst(), request.toSeatOrLast());
         return ResponseEntity.ok(PurchaseResponse.from(ticket));
     }
+
+    @Operation(summary = "티켓 단체 구매", description = "여러 좌석을 한 번에 선점하고 티켓을 발급합니다. 하나라도 선점에 실패하면 아무 좌석도 구매되지 않습니다.")
+    @PostMapping("/api/shows/{showId}/tickets/group")
+    public ResponseEntity<List<PurchaseResponse>> purchaseGroup(
+            @Parameter(description = "공연 ID") @PathVariable long showId,
+            @Parameter(description = "대기열 토큰") @RequestHeader("X-Queue-Token") String queueToken,
+            @Valid @RequestBody GroupPurchaseRequest request) {
+        List<Ticket> tickets = purchaseTicketUseCase.purchaseGroup(showId, queueToken, request.seatNumbers());
+        return ResponseEntity.ok(tickets.stream().map(PurchaseResponse::from).toList());
+    }
 }
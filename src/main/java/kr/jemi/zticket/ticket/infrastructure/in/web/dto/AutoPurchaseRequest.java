@@ -0,0 +1,17 @@
+package kr.jemi.zticket.ticket.infrastructure.in.web.dto;
+
+import jakarta.validation.constraints.Min;
+
+/**
+ * 좌석 자동 배정 구매 요청. 구간을 생략하면 전체 좌석에서 고른다.
+ */
+public record AutoPurchaseRequest(@Min(1) Integer fromSeat, @Min(1) Integer toSeat) {
+
+    public int fromSeatOrFirst() {
+        return fromSeat == null ? 1 : fromSeat;
+    }
+
+    public int toSeatOrLast() {
+        return toSeat == null ? Integer.MAX_VALUE : toSeat;
+    }
+}
@@ -0,0 +1,10 @@
+package kr.jemi.zticket.ticket.infrastructure.in.web.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record GroupPurchaseRequest(@NotEmpty List<@NotNull @Min(1) Integer> seatNumbers) {
+}
@@ -3,11 +3,12 @@ package kr.jemi.zticket.ticket.infrastructure.in.web.dto;
 import io.hypersistence.tsid.TSID;
 import kr.jemi.zticket.ticket.domain.Ticket;
 
-public record PurchaseResponse(long ticketId, int seatNumber, String status) {
+public record PurchaseResponse(long ticketId, long showId, int seatNumber, String status) {
 
     public static PurchaseResponse from(Ticket ticket) {
         return new PurchaseResponse(
             ticket.getId(),
+                ticket.getShowId(),
                 ticket.getSeatNumber(),
                 ticket.getStatus().name()
         );
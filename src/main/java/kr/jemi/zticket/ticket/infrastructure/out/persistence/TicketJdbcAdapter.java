@@ -0,0 +1,100 @@
+package kr.jemi.zticket.ticket.infrastructure.out.persistence;
+
+import kr.jemi.zticket.ticket.application.port.out.TicketPort;
+import kr.jemi.zticket.ticket.domain.Ticket;
+import kr.jemi.zticket.ticket.domain.TicketStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.simple.JdbcClient;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * tickets 테이블을 JDBC로 직접 다루는 TicketPort 구현.
+ * <p>
+ * id를 애플리케이션(TSID)에서 정하므로 JPA save()는 merge로 처리되어 INSERT 전에 SELECT를 한 번 더 보낸다.
+ * 여기서는 INSERT만 JDBC 배치로 보내 rewriteBatchedStatements로 다중 행 INSERT 1회가 된다.
+ * 상태 변경은 조회 없이 IN 목록으로 여러 행을 UPDATE 1회에 바꾸며, PAID인 행만 바꾸므로 이미 SYNCED인 티켓을 다시 처리해도 아무 일도 일어나지 않는다.
+ * 호출자의 트랜잭션(JpaTransactionManager)과 같은 커넥션을 쓰므로 event_publication 저장과 함께 커밋·롤백된다.
+ */
+@Component
+@ConditionalOnProperty(name = "zticket.ticket.persistence", havingValue = "jdbc", matchIfMissing = true)
+public class TicketJdbcAdapter implements TicketPort {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO tickets (id, show_id, seat_number, status, queue_token, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final String SYNC_ALL_SQL = """
+            UPDATE tickets SET status = 'SYNCED', updated_at = :updatedAt WHERE id IN (:ids) AND status = 'PAID'
+            """;
+    private static final String SELECT_SQL = """
+            SELECT id, show_id, seat_number, status, queue_token, created_at, updated_at FROM tickets
+            """;
+
+    private static final RowMapper<Ticket> ROW_MAPPER = (rs, rowNum) -> new Ticket(
+            rs.getLong("id"),
+            rs.getLong("show_id"),
+            rs.getInt("seat_number"),
+            TicketStatus.valueOf(rs.getString("status")),
+            rs.getString("queue_token"),
+            rs.getObject("created_at", LocalDateTime.class),
+            rs.getObject("updated_at", LocalDateTime.class));
+
+    private final JdbcClient jdbcClient;
+    private final JdbcTemplate jdbcTemplate;
+
+    public TicketJdbcAdapter(JdbcClient jdbcClient, JdbcTemplate jdbcTemplate) {
+        this.jdbcClient = jdbcClient;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * JdbcClient에는 배치 API가 없어 JdbcTemplate.batchUpdate로 보낸다.
+     */
+    @Override
+    public List<Ticket> insertAll(List<Ticket> tickets) {
+        if (tickets.isEmpty()) {
+            return tickets;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, tickets, tickets.size(), TicketJdbcAdapter::bindInsert);
+        return tickets;
+    }
+
+    @Override
+    public int syncAll(List<Long> ticketIds, LocalDateTime updatedAt) {
+        if (ticketIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcClient.sql(SYNC_ALL_SQL)
+                .param("updatedAt", updatedAt)
+                .param("ids", ticketIds)
+                .update();
+    }
+
+    @Override
+    public List<Ticket> findAllById(List<Long> ticketIds) {
+        if (ticketIds.isEmpty()) {
+            return List.of();
+        }
+        return jdbcClient.sql(SELECT_SQL + "WHERE id IN (:ids)")
+                .param("ids", ticketIds)
+                .query(ROW_MAPPER)
+                .list();
+    }
+
+    private static void bindInsert(PreparedStatement ps, Ticket ticket) throws SQLException {
+        ps.setLong(1, ticket.getId());
+        ps.setLong(2, ticket.getShowId());
+        ps.setInt(3, ticket.getSeatNumber());
+        ps.setString(4, ticket.getStatus().name());
+        ps.setString(5, ticket.getQueueToken());
+        ps.setObject(6, ticket.getCreatedAt());
+        ps.setObject(7, ticket.getUpdatedAt());
+    }
+}
@@ -1,14 +1,16 @@
 package kr.jemi.zticket.ticket.infrastructure.out.persistence;
 
 import kr.jemi.zticket.ticket.domain.Ticket;
-import kr.jemi.zticket.ticket.domain.TicketStatus;
 import kr.jemi.zticket.ticket.application.port.out.TicketPort;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Component
+@ConditionalOnProperty(name = "zticket.ticket.persistence", havingValue = "jpa")
 public class TicketJpaAdapter implements TicketPort {
 
     private final TicketJpaRepository repository;
@@ -19,28 +21,27 @@ public class TicketJpaAdapter implements TicketPort {
 
     @Override
     @Transactional
-    public Ticket insert(Ticket ticket) {
-        TicketJpaEntity entity
-            = TicketJpaEntity.fromDomain(ticket);
-        return repository.save(entity).toDomain();
-    }
-
-    @Transactional
-    public void update(Ticket ticket) {
-        TicketJpaEntity entity = repository.findById(ticket.getId())
-            .orElseThrow(() ->
-                new IllegalStateException("티켓을 찾을 수 없습니다: id=" + ticket.getId()));
-        entity.update(ticket);
+    public List<Ticket> insertAll(List<Ticket> tickets) {
+        List<TicketJpaEntity> entities = tickets.stream()
+                .map(TicketJpaEntity::fromDomain)
+                .toList();
+        return repository.saveAll(entities).stream()
+                .map(TicketJpaEntity::toDomain)
+                .toList();
     }
 
     @Override
-    public Optional<Ticket> findById(long ticketId) {
-        return repository.findById(ticketId).map(TicketJpaEntity::toDomain);
+    @Transactional
+    public int syncAll(List<Long> ticketIds, LocalDateTime updatedAt) {
+        if (ticketIds.isEmpty()) {
+            return 0;
+        }
+        return repository.syncAll(ticketIds, updatedAt);
     }
 
     @Override
-    public List<Ticket> findByStatus(TicketStatus status) {
-        return repository.findByStatus(status).stream()
+    public List<Ticket> findAllById(List<Long> ticketIds) {
+        return repository.findAllById(ticketIds).stream()
                 .map(TicketJpaEntity::toDomain)
                 .toList();
     }
@@ -6,13 +6,18 @@ import kr.jemi.zticket.ticket.domain.TicketStatus;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "tickets", indexes = @Index(name = "idx_ticket_status", columnList = "status"))
+@Table(name = "tickets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_tickets_show_seat", columnNames = {"show_id", "seat_number"}),
+        indexes = @Index(name = "idx_ticket_status", columnList = "status"))
 public class TicketJpaEntity {
 
     @Id
     private Long id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
+    private long showId;
+
+    @Column(nullable = false)
     private int seatNumber;
 
     @Enumerated(EnumType.STRING)
@@ -33,6 +38,7 @@ public class TicketJpaEntity {
     public static TicketJpaEntity fromDomain(Ticket ticket) {
         TicketJpaEntity entity = new TicketJpaEntity();
         entity.id = ticket.getId();
+        entity.showId = ticket.getShowId();
         entity.seatNumber = ticket.getSeatNumber();
         entity.status = ticket.getStatus();
         entity.queueToken = ticket.getQueueToken();
@@ -42,15 +48,7 @@ public class TicketJpaEntity {
     }
 
     public Ticket toDomain() {
-        return new Ticket(id, seatNumber, status, queueToken, createdAt, updatedAt);
-    }
-
-    public void update(Ticket ticket) {
-        this.seatNumber = ticket.getSeatNumber();
-        this.status = ticket.getStatus();
-        this.queueToken = ticket.getQueueToken();
-        this.createdAt = ticket.getCreatedAt();
-        this.updatedAt = ticket.getUpdatedAt();
+        return new Ticket(id, showId, seatNumber, status, queueToken, createdAt, updatedAt);
     }
 
     public TicketStatus getStatus() { return status; }
@@ -1,9 +1,16 @@
 package kr.jemi.zticket.ticket.infrastructure.out.persistence;
 
-import kr.jemi.zticket.ticket.domain.TicketStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface TicketJpaRepository extends JpaRepository<TicketJpaEntity, Long> {
-    List<TicketJpaEntity> findByStatus(TicketStatus status);
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE TicketJpaEntity t SET t.status = kr.jemi.zticket.ticket.domain.TicketStatus.SYNCED, t.updatedAt = :updatedAt"
+            + " WHERE t.id IN :ids AND t.status = kr.jemi.zticket.ticket.domain.TicketStatus.PAID")
+    int syncAll(@Param("ids") List<Long> ids, @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -4,6 +4,8 @@ import kr.jemi.zticket.queue.api.QueueFacade;
 import kr.jemi.zticket.ticket.application.port.out.ActiveUserCheckPort;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class ActiveUserCheckAdapter implements ActiveUserCheckPort {
 
@@ -14,12 +16,17 @@ public class ActiveUserCheckAdapter implements ActiveUserCheckPort {
     }
 
     @Override
-    public boolean isActive(String token) {
-        return queueFacade.isActive(token);
+    public boolean isActive(long showId, String token) {
+        return queueFacade.isActive(showId, token);
+    }
+
+    @Override
+    public void deactivate(long showId, String token) {
+        queueFacade.deactivate(showId, token);
     }
 
     @Override
-    public void deactivate(String token) {
-        queueFacade.deactivate(token);
+    public void deactivateBatch(long showId, List<String> tokens) {
+        queueFacade.deactivateBatch(showId, tokens);
     }
 }
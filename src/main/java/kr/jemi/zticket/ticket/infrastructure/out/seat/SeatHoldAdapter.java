@@ -1,30 +1,64 @@
 package kr.jemi.zticket.ticket.infrastructure.out.seat;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import kr.jemi.zticket.seat.api.SeatFacade;
 import kr.jemi.zticket.ticket.application.port.out.SeatHoldPort;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+/**
+ * 구매 요청이 기다리는 좌석 선점 호출(Redis 스크립트 1회)의 소요 시간을 zticket.ticket.seat.hold로 기록한다.
+ * 입장 속도 조절은 Redis 전체 명령 대신 이 값을 구매 경로의 Redis 지연으로 쓴다.
+ */
 @Component
 public class SeatHoldAdapter implements SeatHoldPort {
 
     private final SeatFacade seatFacade;
+    private final Timer holdDuration;
 
-    public SeatHoldAdapter(SeatFacade seatFacade) {
+    public SeatHoldAdapter(SeatFacade seatFacade, MeterRegistry meterRegistry) {
         this.seatFacade = seatFacade;
+        this.holdDuration = Timer.builder("zticket.ticket.seat.hold")
+                .description("구매 요청의 좌석 선점 호출 소요 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean holdSeat(long showId, int seatNumber, String token, long ttlSeconds) {
+        return holdDuration.record(() -> seatFacade.holdSeat(showId, seatNumber, token, ttlSeconds));
+    }
+
+    @Override
+    public boolean holdSeats(long showId, List<Integer> seatNumbers, String token, long ttlSeconds) {
+        return holdDuration.record(() -> seatFacade.holdSeats(showId, seatNumbers, token, ttlSeconds));
+    }
+
+    @Override
+    public OptionalInt holdAnySeat(long showId, int fromSeat, int toSeat, String token, long ttlSeconds) {
+        return holdDuration.record(() -> seatFacade.holdAnySeat(showId, fromSeat, toSeat, token, ttlSeconds));
+    }
+
+    @Override
+    public boolean isSold(long showId, int seatNumber) {
+        return seatFacade.isPaid(showId, seatNumber);
     }
 
     @Override
-    public boolean holdSeat(int seatNumber, String token, long ttlSeconds) {
-        return seatFacade.holdSeat(seatNumber, token, ttlSeconds);
+    public void paySeat(long showId, int seatNumber, String token) {
+        seatFacade.paySeat(showId, seatNumber, token);
     }
 
     @Override
-    public void paySeat(int seatNumber, String token) {
-        seatFacade.paySeat(seatNumber, token);
+    public void paySeats(long showId, Map<Integer, String> tokensBySeat) {
+        seatFacade.paySeats(showId, tokensBySeat);
     }
 
     @Override
-    public void releaseSeat(int seatNumber, String token) {
-        seatFacade.releaseSeat(seatNumber, token);
+    public void releaseSeat(long showId, int seatNumber, String token) {
+        seatFacade.releaseSeat(showId, seatNumber, token);
     }
 }
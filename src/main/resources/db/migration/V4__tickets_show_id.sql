@@ -0,0 +1,7 @@
+ALTER TABLE tickets ADD COLUMN show_id BIGINT NOT NULL DEFAULT 1 AFTER id;
+
+ALTER TABLE tickets ALTER COLUMN show_id DROP DEFAULT;
+
+ALTER TABLE tickets DROP INDEX uk_tickets_seat_number;
+
+ALTER TABLE tickets ADD CONSTRAINT uk_tickets_show_seat UNIQUE (show_id, seat_number);
@@ -0,0 +1,106 @@
+package kr.jemi.zticket.integration;
+
+import kr.jemi.zticket.seat.application.port.out.SeatPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class AvailableSeatCountIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    SeatPort seatPort;
+
+    @Test
+    @DisplayName("카운터가 없으면 전체 좌석 수(50)로 초기화된다")
+    void count_initialized_to_total() {
+        assertThat(seatPort.countAvailable(SHOW_ID)).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("같은 유저의 재선점은 성공하고 카운터를 다시 차감하지 않는다")
+    void rehold_by_same_user_does_not_decrement_twice() {
+        assertThat(seatPort.holdSeat(SHOW_ID, 1, "token-1", 300)).isTrue();
+        assertThat(seatPort.holdSeat(SHOW_ID, 1, "token-1", 300)).as("재선점").isTrue();
+        assertThat(seatPort.holdSeat(SHOW_ID, 1, "token-2", 300)).as("다른 유저").isFalse();
+
+        assertThat(seatPort.countAvailable(SHOW_ID)).isEqualTo(49);
+        assertThat(redisTemplate.getExpire("show:{1}:seat:1", TimeUnit.SECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("release는 카운터를 복구하고, pay는 이미 차감된 카운터를 유지한다")
+    void release_and_pay_update_count() {
+        seatPort.holdSeat(SHOW_ID, 1, "token-1", 300);
+        seatPort.holdSeat(SHOW_ID, 2, "token-2", 300);
+
+        seatPort.releaseSeat(SHOW_ID, 1, "token-1");
+        seatPort.paySeat(SHOW_ID, 2, "token-2");
+        seatPort.paySeat(SHOW_ID, 2, "token-2");
+
+        assertThat(seatPort.countAvailable(SHOW_ID)).isEqualTo(49);
+    }
+
+    @Test
+    @DisplayName("hold TTL이 만료되면 카운터가 복구된다")
+    void expired_hold_is_restored_to_count() {
+        seatPort.holdSeat(SHOW_ID, 1, "token-1", 1);
+        assertThat(seatPort.countAvailable(SHOW_ID)).isEqualTo(49);
+
+        await().atMost(3, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(seatPort.countAvailable(SHOW_ID)).isEqualTo(50));
+    }
+
+    @Test
+    @DisplayName("만료 후 반영 전에 다시 선점돼도 카운터는 한 번만 차감된다")
+    void rehold_before_expiry_is_counted_does_not_decrement_twice() {
+        seatPort.holdSeat(SHOW_ID, 1, "token-1", 1);
+        await().atMost(3, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(redisTemplate.hasKey("show:{1}:seat:1")).isFalse());
+
+        assertThat(seatPort.holdSeat(SHOW_ID, 1, "token-2", 300)).isTrue();
+
+        assertThat(seatPort.countAvailable(SHOW_ID)).isEqualTo(49);
+    }
+
+    @Test
+    @DisplayName("일괄 선점은 새로 선점한 좌석만큼만 카운터를 차감하고, 실패 시 카운터를 건드리지 않는다")
+    void group_hold_updates_count_once_per_new_seat() {
+        seatPort.holdSeat(SHOW_ID, 1, "token-1", 300);
+
+        assertThat(seatPort.holdSeats(SHOW_ID, List.of(1, 2, 3), "token-1", 300)).isTrue();
+        assertThat(seatPort.holdSeats(SHOW_ID, List.of(3, 4), "token-2", 300)).isFalse();
+
+        assertThat(seatPort.countAvailable(SHOW_ID)).isEqualTo(47);
+        assertThat(redisTemplate.hasKey("show:{1}:seat:4")).isFalse();
+    }
+
+    @Test
+    @DisplayName("자동 배정은 구간에서 번호가 가장 작은 빈 좌석을 선점하고, 구간이 다 차면 빈 결과를 반환한다")
+    void hold_any_picks_lowest_free_seat_in_range() {
+        seatPort.holdSeat(SHOW_ID, 11, "token-1", 300);
+        seatPort.paySeat(SHOW_ID, 12, "token-2");
+
+        assertThat(seatPort.holdAnySeat(SHOW_ID, 11, 13, "token-3", 300)).hasValue(13);
+        assertThat(seatPort.holdAnySeat(SHOW_ID, 11, 13, "token-4", 300)).isEmpty();
+        seatPort.releaseSeat(SHOW_ID, 11, "token-1");
+        assertThat(seatPort.holdAnySeat(SHOW_ID, 11, 13, "token-4", 300)).hasValue(11);
+
+        assertThat(seatPort.countAvailable(SHOW_ID)).isEqualTo(47);
+    }
+
+    @Test
+    @DisplayName("자동 배정은 hold 만료로 풀린 좌석도 다시 배정한다")
+    void hold_any_reuses_expired_seat() {
+        seatPort.holdSeat(SHOW_ID, 1, "token-1", 1);
+        await().atMost(3, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(redisTemplate.hasKey("show:{1}:seat:1")).isFalse());
+
+        assertThat(seatPort.holdAnySeat(SHOW_ID, 1, 1, "token-2", 300)).hasValue(1);
+    }
+}
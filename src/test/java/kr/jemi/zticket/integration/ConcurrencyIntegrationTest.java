@@ -3,7 +3,6 @@ package kr.jemi.zticket.integration;
 import kr.jemi.zticket.ticket.infrastructure.out.persistence.TicketJpaEntity;
 import kr.jemi.zticket.ticket.application.port.in.PurchaseTicketUseCase;
 import kr.jemi.zticket.queue.application.port.out.ActiveUserPort;
-import kr.jemi.zticket.ticket.application.port.out.TicketPort;
 import kr.jemi.zticket.common.exception.BusinessException;
 import kr.jemi.zticket.ticket.domain.Ticket;
 import kr.jemi.zticket.ticket.domain.TicketStatus;
@@ -32,9 +31,6 @@ class ConcurrencyIntegrationTest extends IntegrationTestBase {
     @Autowired
     ActiveUserPort activeUserPort;
 
-    @Autowired
-    TicketPort ticketPort;
-
     @Test
     @DisplayName("동시 구매 경쟁: 100개 스레드 중 정확히 1개만 성공")
     void concurrent_purchase_only_one_succeeds() throws InterruptedException {
@@ -44,7 +40,7 @@ class ConcurrencyIntegrationTest extends IntegrationTestBase {
         List<String> tokens = IntStream.range(0, threadCount)
                 .mapToObj(i -> "token-" + i)
                 .toList();
-        tokens.forEach(t -> activeUserPort.activate(t, 300));
+        tokens.forEach(t -> activeUserPort.activate(SHOW_ID, t, 300));
 
         CountDownLatch readyLatch = new CountDownLatch(threadCount);
         CountDownLatch startLatch = new CountDownLatch(1);
@@ -57,7 +53,7 @@ class ConcurrencyIntegrationTest extends IntegrationTestBase {
                     readyLatch.countDown();
                     try {
                         startLatch.await();
-                        purchaseTicketUseCase.purchase(token, seatNumber);
+                        purchaseTicketUseCase.purchase(SHOW_ID, token, seatNumber);
                         successCount.incrementAndGet();
                     } catch (BusinessException e) {
                         failCount.incrementAndGet();
@@ -76,7 +72,7 @@ class ConcurrencyIntegrationTest extends IntegrationTestBase {
 
         // 비동기 후처리 완료 대기
         await().atMost(5, SECONDS).untilAsserted(() -> {
-            String winnerToken = redisTemplate.opsForValue().get("seat:" + seatNumber);
+            String winnerToken = redisTemplate.opsForValue().get("show:{1}:seat:" + seatNumber);
 
             assertThat(winnerToken)
                     .as("Redis seat 키")
@@ -85,25 +81,35 @@ class ConcurrencyIntegrationTest extends IntegrationTestBase {
             // 성공한 토큰 추출
             String winner = winnerToken.substring("paid:".length());
 
-            assertThat(ticketPort.findByStatus(TicketStatus.SYNCED))
+            assertThat(ticketJpaRepository.findAll())
                     .as("DB SYNCED 티켓")
+                    .filteredOn(entity -> entity.getStatus() == TicketStatus.SYNCED)
                     .singleElement()
-                    .extracting(Ticket::getSeatNumber)
+                    .extracting(entity -> entity.toDomain().getSeatNumber())
                     .isEqualTo(seatNumber);
 
-            assertThat(activeUserPort.isActive(winner))
+            assertThat(activeUserPort.isActive(SHOW_ID, winner))
                     .as("active 유저 제거")
                     .isFalse();
         });
     }
 
     @Test
-    @DisplayName("seatNumber UNIQUE 제약: 같은 좌석번호 중복 INSERT 실패")
+    @DisplayName("(showId, seatNumber) UNIQUE 제약: 같은 공연의 같은 좌석번호 중복 INSERT 실패")
     void duplicate_seatNumber_throws_DataIntegrityViolation() {
-        ticketJpaRepository.saveAndFlush(TicketJpaEntity.fromDomain(Ticket.create(1, "token-1", 1)));
+        ticketJpaRepository.saveAndFlush(TicketJpaEntity.fromDomain(Ticket.create(1, SHOW_ID, "token-1", 1)));
 
         assertThatThrownBy(() ->
-                ticketJpaRepository.saveAndFlush(TicketJpaEntity.fromDomain(Ticket.create(2, "token-2", 1)))
+                ticketJpaRepository.saveAndFlush(TicketJpaEntity.fromDomain(Ticket.create(2, SHOW_ID, "token-2", 1)))
         ).isInstanceOf(DataIntegrityViolationException.class);
     }
+
+    @Test
+    @DisplayName("(showId, seatNumber) UNIQUE 제약: 다른 공연의 같은 좌석번호는 INSERT 된다")
+    void same_seatNumber_in_other_show_is_allowed() {
+        ticketJpaRepository.saveAndFlush(TicketJpaEntity.fromDomain(Ticket.create(1, SHOW_ID, "token-1", 1)));
+        ticketJpaRepository.saveAndFlush(TicketJpaEntity.fromDomain(Ticket.create(2, SHOW_ID + 1, "token-2", 1)));
+
+        assertThat(ticketJpaRepository.count()).isEqualTo(2);
+    }
 }
@@ -0,0 +1,206 @@
+package kr.jemi.zticket.integration;
+
+import io.lettuce.core.metrics.CommandLatencyRecorder;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import kr.jemi.zticket.common.redis.LuaScriptPreloader;
+import kr.jemi.zticket.seat.infrastructure.out.redis.SeatRedisAdapter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.net.SocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 구매 1건당 좌석 Redis 왕복 횟수를 비교한다.
+ * 기존 경로(SET NX EX → GET → EXPIRE, SET)와 스크립트 경로(EVALSHA hold, EVALSHA pay)를
+ * Lettuce CommandLatencyRecorder로 클라이언트가 실제로 보낸 명령 수를 세어 비교한다.
+ */
+class HoldRoundTripBenchmarkTest extends IntegrationTestBase {
+
+    private static final Logger log = LoggerFactory.getLogger(HoldRoundTripBenchmarkTest.class);
+
+    private static final int PURCHASES = 50;
+    private static final long TTL_SECONDS = 300;
+
+    private final CountingRecorder recorder = new CountingRecorder();
+    private ClientResources clientResources;
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate countingTemplate;
+    private SeatRedisAdapter seatRedisAdapter;
+
+    @BeforeEach
+    void setUpCountingClient() {
+        clientResources = DefaultClientResources.builder()
+                .commandLatencyRecorder(recorder)
+                .build();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)),
+                LettuceClientConfiguration.builder().clientResources(clientResources).build());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        countingTemplate = new StringRedisTemplate(connectionFactory);
+
+        seatRedisAdapter = new SeatRedisAdapter(countingTemplate, PURCHASES);
+        new LuaScriptPreloader(countingTemplate, List.of(seatRedisAdapter)).preload();
+        recorder.reset();
+    }
+
+    @AfterEach
+    void tearDownCountingClient() {
+        connectionFactory.destroy();
+        clientResources.shutdown(0, 0, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("신규 구매: 스크립트 경로는 hold/pay 각각 EVALSHA 1회이며 EVAL로 본문을 보내지 않는다")
+    void newPurchase() {
+        long legacy = measure(() -> {
+            for (int seat = 1; seat <= PURCHASES; seat++) {
+                legacyHold(seat, "token-" + seat);
+                legacyPay(seat, "token-" + seat);
+            }
+        }, "legacy-new");
+        flush();
+
+        long scripted = measure(() -> {
+            for (int seat = 1; seat <= PURCHASES; seat++) {
+                seatRedisAdapter.holdSeat(SHOW_ID, seat, "token-" + seat, TTL_SECONDS);
+                seatRedisAdapter.paySeat(SHOW_ID, seat, "token-" + seat);
+            }
+        }, "scripted-new");
+
+        assertThat(legacy).isEqualTo(2L * PURCHASES);
+        assertThat(scripted).isEqualTo(2L * PURCHASES);
+        assertThat(recorder.count("EVALSHA")).isEqualTo(2L * PURCHASES);
+        assertThat(recorder.count("EVAL")).isZero();
+    }
+
+    @Test
+    @DisplayName("재선점 후 구매: 기존 경로는 재선점에 3회 왕복, 스크립트 경로는 1회 왕복")
+    void reHoldThenPurchase() {
+        long legacy = measure(() -> {
+            for (int seat = 1; seat <= PURCHASES; seat++) {
+                legacyHold(seat, "token-" + seat);
+                legacyHold(seat, "token-" + seat);
+                legacyPay(seat, "token-" + seat);
+            }
+        }, "legacy-rehold");
+        flush();
+
+        long scripted = measure(() -> {
+            for (int seat = 1; seat <= PURCHASES; seat++) {
+                seatRedisAdapter.holdSeat(SHOW_ID, seat, "token-" + seat, TTL_SECONDS);
+                seatRedisAdapter.holdSeat(SHOW_ID, seat, "token-" + seat, TTL_SECONDS);
+                seatRedisAdapter.paySeat(SHOW_ID, seat, "token-" + seat);
+            }
+        }, "scripted-rehold");
+
+        assertThat(legacy).isEqualTo(5L * PURCHASES);
+        assertThat(scripted).isEqualTo(3L * PURCHASES);
+    }
+
+    @Test
+    @DisplayName("충돌: 기존 경로는 SET NX 실패 후 GET까지 2회 왕복, 스크립트 경로는 1회 왕복")
+    void conflict() {
+        seatRedisAdapter.holdSeat(SHOW_ID, 1, "owner", TTL_SECONDS);
+        countingTemplate.opsForValue().set("show:{1}:seat:2", "held:owner");
+
+        long legacy = measure(() -> legacyHold(2, "other"), "legacy-conflict");
+        long scripted = measure(() -> seatRedisAdapter.holdSeat(SHOW_ID, 1, "other", TTL_SECONDS), "scripted-conflict");
+
+        assertThat(legacy).isEqualTo(2);
+        assertThat(scripted).isEqualTo(1);
+    }
+
+    private long measure(Runnable workload, String label) {
+        recorder.reset();
+        long started = System.nanoTime();
+        workload.run();
+        long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started);
+        long roundTrips = recorder.total();
+        log.info("[{}] round trips={}, commands={}, elapsed={}us", label, roundTrips, recorder.snapshot(), elapsedMicros);
+        return roundTrips;
+    }
+
+    private void flush() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    /**
+     * 스크립트 도입 전 SeatRedisAdapter.holdSeat 구현.
+     */
+    private boolean legacyHold(int seatNumber, String token) {
+        String key = "show:{1}:seat:" + seatNumber;
+        String value = "held:" + token;
+        Boolean success = countingTemplate.opsForValue().setIfAbsent(key, value, TTL_SECONDS, TimeUnit.SECONDS);
+        if (Boolean.TRUE.equals(success)) {
+            return true;
+        }
+        String existing = countingTemplate.opsForValue().get(key);
+        if (value.equals(existing)) {
+            countingTemplate.expire(key, TTL_SECONDS, TimeUnit.SECONDS);
+            return true;
+        }
+        return false;
+    }
+
+    private void legacyPay(int seatNumber, String token) {
+        countingTemplate.opsForValue().set("show:{1}:seat:" + seatNumber, "paid:" + token);
+    }
+
+    /**
+     * 완료된 명령을 종류별로 센다. 파이프라이닝을 쓰지 않으므로 명령 1개가 왕복 1회이다.
+     */
+    static class CountingRecorder implements CommandLatencyRecorder {
+
+        private final Map<String, LongAdder> counts = new ConcurrentHashMap<>();
+
+        @Override
+        public void recordCommandLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType,
+                                         long firstResponseLatency, long completionLatency) {
+            String name = new String(commandType.getBytes(), StandardCharsets.US_ASCII);
+            counts.computeIfAbsent(name, k -> new LongAdder()).increment();
+        }
+
+        long count(String command) {
+            LongAdder adder = counts.get(command);
+            return adder == null ? 0 : adder.sum();
+        }
+
+        long total() {
+            return counts.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+
+        Map<String, Long> snapshot() {
+            Map<String, Long> snapshot = new TreeMap<>();
+            counts.forEach((command, adder) -> snapshot.put(command, adder.sum()));
+            return snapshot;
+        }
+
+        void reset() {
+            counts.clear();
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package kr.jemi.zticket.integration;
 
 import kr.jemi.zticket.queue.infrastructure.in.scheduler.AdmissionScheduler;
+import kr.jemi.zticket.queue.infrastructure.out.redis.WaitingQueueHeartbeatRedisAdapter;
 import kr.jemi.zticket.common.scheduler.EventResubmitScheduler;
+import kr.jemi.zticket.seat.application.service.PaidSeatCache;
 import kr.jemi.zticket.ticket.infrastructure.out.persistence.TicketJpaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,8 +20,11 @@ import org.testcontainers.utility.DockerImageName;
 @SpringBootTest
 public abstract class IntegrationTestBase {
 
+    protected static final long SHOW_ID = 1L;
+
     @ServiceConnection
-    static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+    static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withUrlParam("rewriteBatchedStatements", "true");
 
     @ServiceConnection(name = "redis")
     static final GenericContainer<?> redis =
@@ -46,12 +51,22 @@ public abstract class IntegrationTestBase {
     @Autowired
     protected JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    WaitingQueueHeartbeatRedisAdapter waitingQueueHeartbeatRedisAdapter;
+
+    @Autowired
+    PaidSeatCache paidSeatCache;
+
     @BeforeEach
     void cleanUp() {
+        // 이전 테스트의 heartbeat 버퍼가 FLUSHALL 이후에 기록되지 않도록 먼저 비운다
+        waitingQueueHeartbeatRedisAdapter.flush();
         redisTemplate.execute((RedisCallback<Object>) connection -> {
             connection.serverCommands().flushAll();
             return null;
         });
+        // FLUSHALL로 사라진 PAID 좌석이 노드 캐시에 남지 않도록 함께 비운다
+        paidSeatCache.clear();
         ticketJpaRepository.deleteAll();
         jdbcTemplate.execute("DELETE FROM event_publication");
     }
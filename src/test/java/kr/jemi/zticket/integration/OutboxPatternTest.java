@@ -10,6 +10,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.List;
+
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -31,16 +33,17 @@ class OutboxPatternTest extends IntegrationTestBase {
         // given
         String token = "outbox-token-1";
         int seatNumber = 1;
-        activeUserPort.activate(token, 300);
+        activeUserPort.activate(SHOW_ID, token, 300);
 
         // when
-        Ticket ticket = purchaseTicketUseCase.purchase(token, seatNumber);
+        Ticket ticket = purchaseTicketUseCase.purchase(SHOW_ID, token, seatNumber);
 
         // then - event_publication 테이블에 레코드가 존재하거나, 이미 처리되어 삭제됨
         // 비동기 리스너 처리 전에는 INCOMPLETE 상태로 존재
         assertThat(ticket.getStatus()).isEqualTo(TicketStatus.PAID);
-        assertThat(ticketPort.findById(ticket.getId()))
-                .hasValueSatisfying(t -> assertThat(t.getStatus()).isEqualTo(TicketStatus.PAID));
+        assertThat(ticketPort.findAllById(List.of(ticket.getId())))
+                .extracting(Ticket::getStatus)
+                .containsExactly(TicketStatus.PAID);
     }
 
     @Test
@@ -49,25 +52,24 @@ class OutboxPatternTest extends IntegrationTestBase {
         // given
         String token = "outbox-token-2";
         int seatNumber = 2;
-        activeUserPort.activate(token, 300);
+        activeUserPort.activate(SHOW_ID, token, 300);
 
         // when
-        Ticket ticket = purchaseTicketUseCase.purchase(token, seatNumber);
+        Ticket ticket = purchaseTicketUseCase.purchase(SHOW_ID, token, seatNumber);
 
         // then - 비동기 리스너가 처리 완료될 때까지 대기
         await().atMost(5, SECONDS).untilAsserted(() -> {
             // DB 상태 SYNCED 전환 확인
-            assertThat(ticketPort.findById(ticket.getId()))
-                    .hasValueSatisfying(t ->
-                            assertThat(t.getStatus()).isEqualTo(TicketStatus.SYNCED)
-                    );
+            assertThat(ticketPort.findAllById(List.of(ticket.getId())))
+                    .extracting(Ticket::getStatus)
+                    .containsExactly(TicketStatus.SYNCED);
 
             // Redis 좌석 paid 전환 확인
-            assertThat(redisTemplate.opsForValue().get("seat:" + seatNumber))
+            assertThat(redisTemplate.opsForValue().get("show:{1}:seat:" + seatNumber))
                     .isEqualTo("paid:" + token);
 
             // active 유저 제거 확인
-            assertThat(activeUserPort.isActive(token)).isFalse();
+            assertThat(activeUserPort.isActive(SHOW_ID, token)).isFalse();
         });
 
         // event_publication 테이블에 미완료 레코드가 없어야 함
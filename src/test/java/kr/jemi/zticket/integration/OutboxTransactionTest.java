@@ -9,6 +9,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -26,11 +28,11 @@ class OutboxTransactionTest extends IntegrationTestBase {
     @Test
     @DisplayName("insert 성공 후 예외 발생 → 티켓 롤백된다")
     void insertSuccessThenThrow_ticketRolledBack() {
-        Ticket ticket = Ticket.create(1L, "token-1", 1);
+        Ticket ticket = Ticket.create(1L, SHOW_ID, "token-1", 1);
 
         assertThatThrownBy(() ->
                 transactionTemplate.execute(status -> {
-                    ticketPort.insert(ticket);
+                    ticketPort.insertAll(List.of(ticket));
                     throw new RuntimeException("insert 후 강제 예외");
                 })
         ).isInstanceOf(RuntimeException.class);
@@ -48,11 +50,11 @@ class OutboxTransactionTest extends IntegrationTestBase {
     @Test
     @DisplayName("insert 성공 + event publish 성공 후 예외 발생 → 티켓과 event_publication 모두 롤백된다")
     void insertAndPublishSuccessThenThrow_bothRolledBack() {
-        Ticket ticket = Ticket.create(2L, "token-2", 2);
+        Ticket ticket = Ticket.create(2L, SHOW_ID, "token-2", 2);
 
         assertThatThrownBy(() ->
                 transactionTemplate.execute(status -> {
-                    Ticket saved = ticketPort.insert(ticket);
+                    Ticket saved = ticketPort.insertAll(List.of(ticket)).getFirst();
                     eventPublisher.publishEvent(new TicketPaidEvent(saved.getId()));
                     throw new RuntimeException("insert+publish 후 강제 예외");
                 })
@@ -71,10 +73,10 @@ class OutboxTransactionTest extends IntegrationTestBase {
     @Test
     @DisplayName("정상 커밋 시 티켓과 event_publication 모두 저장된다")
     void normalCommit_bothPersisted() {
-        Ticket ticket = Ticket.create(3L, "token-3", 3);
+        Ticket ticket = Ticket.create(3L, SHOW_ID, "token-3", 3);
 
         transactionTemplate.execute(status -> {
-            Ticket saved = ticketPort.insert(ticket);
+            Ticket saved = ticketPort.insertAll(List.of(ticket)).getFirst();
             eventPublisher.publishEvent(new TicketPaidEvent(saved.getId()));
             return saved;
         });
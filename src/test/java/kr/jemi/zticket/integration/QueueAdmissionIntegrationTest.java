@@ -20,6 +20,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class QueueAdmissionIntegrationTest extends IntegrationTestBase {
 
+    private static final int ADMIT_LIMIT = 100;
+
     @Autowired
     EnterQueueUseCase enterQueueUseCase;
 
@@ -35,9 +37,9 @@ class QueueAdmissionIntegrationTest extends IntegrationTestBase {
     @Test
     @DisplayName("대기열 진입 + 순번: 여러 유저 enter -> 고유 순번 할당")
     void enter_and_rank_order() {
-        QueueToken t1 = enterQueueUseCase.enter();
-        QueueToken t2 = enterQueueUseCase.enter();
-        QueueToken t3 = enterQueueUseCase.enter();
+        QueueToken t1 = enterQueueUseCase.enter(SHOW_ID);
+        QueueToken t2 = enterQueueUseCase.enter(SHOW_ID);
+        QueueToken t3 = enterQueueUseCase.enter(SHOW_ID);
 
         assertThat(List.of(t1, t2, t3))
                 .extracting(QueueToken::rank)
@@ -45,18 +47,18 @@ class QueueAdmissionIntegrationTest extends IntegrationTestBase {
     }
 
     @Test
-    @DisplayName("배치 입장: enter 후 admitBatch -> active 상태 전환")
-    void admitBatch_activates_users() {
+    @DisplayName("입장: enter 후 removeExpired + admit -> active 상태 전환")
+    void admit_activates_users() {
         List<QueueToken> tokens = List.of(
-                enterQueueUseCase.enter(),
-                enterQueueUseCase.enter(),
-                enterQueueUseCase.enter()
+                enterQueueUseCase.enter(SHOW_ID),
+                enterQueueUseCase.enter(SHOW_ID),
+                enterQueueUseCase.enter(SHOW_ID)
         );
 
-        admitUsersUseCase.admitBatch();
+        removeExpiredAndAdmit();
 
         assertThat(tokens)
-                .filteredOn(t -> activeUserPort.isActive(t.token()))
+                .filteredOn(t -> activeUserPort.isActive(SHOW_ID, t.token()))
                 .as("3명 전원 active")
                 .hasSize(3);
     }
@@ -64,15 +66,15 @@ class QueueAdmissionIntegrationTest extends IntegrationTestBase {
     @Test
     @DisplayName("상태 조회: WAITING -> ACTIVE 라이프사이클")
     void status_lifecycle_waiting_active() {
-        QueueToken token = enterQueueUseCase.enter();
+        QueueToken token = enterQueueUseCase.enter(SHOW_ID);
 
-        assertThat(getQueueTokenUseCase.getQueueToken(token.token()).status())
+        assertThat(getQueueTokenUseCase.getQueueToken(SHOW_ID, token.token()).status())
                 .as("WAITING")
                 .isEqualTo(QueueStatus.WAITING);
 
-        admitUsersUseCase.admitBatch();
+        removeExpiredAndAdmit();
 
-        assertThat(getQueueTokenUseCase.getQueueToken(token.token()).status())
+        assertThat(getQueueTokenUseCase.getQueueToken(SHOW_ID, token.token()).status())
                 .as("ACTIVE")
                 .isEqualTo(QueueStatus.ACTIVE);
     }
@@ -80,34 +82,42 @@ class QueueAdmissionIntegrationTest extends IntegrationTestBase {
     @Test
     @DisplayName("active TTL 만료 후 상태 조회 시 QUEUE_TOKEN_NOT_FOUND 예외")
     void status_after_active_ttl_expired_throws() {
-        QueueToken token = enterQueueUseCase.enter();
-        admitUsersUseCase.admitBatch();
+        QueueToken token = enterQueueUseCase.enter(SHOW_ID);
+        removeExpiredAndAdmit();
 
         // active 키 직접 삭제하여 TTL 만료 시뮬레이션
-        redisTemplate.delete("active_user:" + token.token());
+        redisTemplate.delete("show:{1}:active_user:" + token.token());
 
-        assertThatThrownBy(() -> getQueueTokenUseCase.getQueueToken(token.token()))
+        assertThatThrownBy(() -> getQueueTokenUseCase.getQueueToken(SHOW_ID, token.token()))
                 .isInstanceOfSatisfying(BusinessException.class, e ->
                         assertThat(e.getErrorCode()).isEqualTo(ErrorCode.QUEUE_TOKEN_NOT_FOUND));
     }
 
     @Test
     @DisplayName("입장 상한: maxActiveUsers(10) 도달 시 추가 입장 불가")
-    void admitBatch_respects_max_active_users() {
+    void admit_respects_max_active_users() {
         List<QueueToken> tokens = new ArrayList<>();
         for (int i = 0; i < 15; i++) {
-            tokens.add(enterQueueUseCase.enter());
+            tokens.add(enterQueueUseCase.enter(SHOW_ID));
         }
 
-        admitUsersUseCase.admitBatch();
+        removeExpiredAndAdmit();
 
-        assertThat(activeUserPort.countActive())
+        assertThat(activeUserPort.countActive(SHOW_ID))
                 .as("active 유저 수")
                 .isEqualTo(10);
 
         assertThat(tokens)
-                .filteredOn(t -> activeUserPort.isActive(t.token()))
+                .filteredOn(t -> activeUserPort.isActive(SHOW_ID, t.token()))
                 .as("15명 중 10명만 active")
                 .hasSize(10);
     }
+
+    /**
+     * 입장 스케줄러의 lease 1회와 같은 순서로 잠수 유저를 제거한 뒤 허가 수만큼 입장시킨다.
+     */
+    private void removeExpiredAndAdmit() {
+        admitUsersUseCase.removeExpired(SHOW_ID);
+        admitUsersUseCase.admit(SHOW_ID, ADMIT_LIMIT);
+    }
 }
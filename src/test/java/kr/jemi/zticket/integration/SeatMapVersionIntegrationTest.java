@@ -0,0 +1,69 @@
+package kr.jemi.zticket.integration;
+
+import kr.jemi.zticket.seat.application.port.out.SeatPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class SeatMapVersionIntegrationTest extends IntegrationTestBase {
+
+    @Autowired
+    SeatPort seatPort;
+
+    @Test
+    @DisplayName("좌석 변경이 없으면 버전은 0이고 변경된 좌석도 없다")
+    void initial_version_is_zero() {
+        assertThat(seatPort.getSeatMapVersion(SHOW_ID)).isZero();
+        assertThat(seatPort.getChangedSeatNumbers(SHOW_ID, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("hold/pay/release마다 버전이 오르고, 기준 버전 이후 바뀐 좌석만 조회된다")
+    void changes_bump_version() {
+        seatPort.holdSeat(SHOW_ID, 1, "token-1", 300);
+        seatPort.holdSeat(SHOW_ID, 2, "token-2", 300);
+        long afterHolds = seatPort.getSeatMapVersion(SHOW_ID);
+
+        seatPort.paySeat(SHOW_ID, 2, "token-2");
+        seatPort.holdSeat(SHOW_ID, 3, "token-3", 300);
+        seatPort.releaseSeat(SHOW_ID, 3, "token-3");
+
+        assertThat(afterHolds).isEqualTo(2);
+        assertThat(seatPort.getSeatMapVersion(SHOW_ID)).isEqualTo(5);
+        assertThat(seatPort.getChangedSeatNumbers(SHOW_ID, afterHolds)).containsExactlyInAnyOrder(2, 3);
+        assertThat(seatPort.getChangedSeatNumbers(SHOW_ID, 0)).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("상태가 그대로인 재선점, 중복 결제, 남의 좌석 해제는 버전을 올리지 않는다")
+    void no_op_does_not_bump_version() {
+        seatPort.holdSeat(SHOW_ID, 1, "token-1", 300);
+        seatPort.holdSeat(SHOW_ID, 2, "token-2", 300);
+        seatPort.paySeat(SHOW_ID, 2, "token-2");
+        long version = seatPort.getSeatMapVersion(SHOW_ID);
+
+        seatPort.holdSeat(SHOW_ID, 1, "token-1", 300);
+        seatPort.holdSeat(SHOW_ID, 1, "token-other", 300);
+        seatPort.paySeat(SHOW_ID, 2, "token-2");
+        seatPort.releaseSeat(SHOW_ID, 1, "token-other");
+
+        assertThat(seatPort.getSeatMapVersion(SHOW_ID)).isEqualTo(version);
+        assertThat(seatPort.getChangedSeatNumbers(SHOW_ID, version)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("hold TTL 만료는 변경 조회 시 반영되어 버전이 오른다")
+    void expired_hold_is_reported_as_change() {
+        seatPort.holdSeat(SHOW_ID, 1, "token-1", 1);
+        long version = seatPort.getSeatMapVersion(SHOW_ID);
+
+        await().atMost(3, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(seatPort.getChangedSeatNumbers(SHOW_ID, version)).containsExactly(1));
+        assertThat(seatPort.getSeatMapVersion(SHOW_ID)).isEqualTo(version + 1);
+    }
+}
@@ -10,6 +10,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.List;
+
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -29,28 +31,27 @@ class SyncRecoveryIntegrationTest extends IntegrationTestBase {
     SeatPort seatPort;
 
     @Test
-    @DisplayName("Outbox 복구: insertAndPublish 후 리스너가 처리하면 Redis paid + DB SYNCED로 전환된다")
+    @DisplayName("Outbox 복구: insertAllAndPublish 후 리스너가 처리하면 Redis paid + DB SYNCED로 전환된다")
     void outbox_insert_and_publish_triggers_listener() {
         String token = "token-1";
         int seatNumber = 1;
 
-        activeUserPort.activate(token, 300);
-        seatPort.holdSeat(seatNumber, token, 300);
-        Ticket ticket = Ticket.create(seatNumber, token, seatNumber);
-        ticketWriter.insertAndPublish(ticket);
+        activeUserPort.activate(SHOW_ID, token, 300);
+        seatPort.holdSeat(SHOW_ID, seatNumber, token, 300);
+        Ticket ticket = Ticket.create(seatNumber, SHOW_ID, token, seatNumber);
+        ticketWriter.insertAllAndPublish(List.of(ticket), ticket.pullEvents());
 
         await().atMost(5, SECONDS).untilAsserted(() -> {
-            assertThat(redisTemplate.opsForValue().get("seat:" + seatNumber))
+            assertThat(redisTemplate.opsForValue().get("show:{1}:seat:" + seatNumber))
                     .as("Redis held -> paid 전환")
                     .isEqualTo("paid:" + token);
 
-            assertThat(ticketPort.findById(ticket.getId()))
+            assertThat(ticketPort.findAllById(List.of(ticket.getId())))
                     .as("DB PAID -> SYNCED 전환")
-                    .hasValueSatisfying(t ->
-                            assertThat(t.getStatus()).isEqualTo(TicketStatus.SYNCED)
-                    );
+                    .extracting(Ticket::getStatus)
+                    .containsExactly(TicketStatus.SYNCED);
 
-            assertThat(activeUserPort.isActive(token))
+            assertThat(activeUserPort.isActive(SHOW_ID, token))
                     .as("active 유저 제거")
                     .isFalse();
         });
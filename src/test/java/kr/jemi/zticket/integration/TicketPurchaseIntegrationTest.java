@@ -15,6 +15,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.List;
+
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -40,24 +42,23 @@ class TicketPurchaseIntegrationTest extends IntegrationTestBase {
         String token = "test-token-1";
         int seatNumber = 1;
 
-        activeUserPort.activate(token, 300);
+        activeUserPort.activate(SHOW_ID, token, 300);
 
-        Ticket ticket = purchaseTicketUseCase.purchase(token, seatNumber);
+        Ticket ticket = purchaseTicketUseCase.purchase(SHOW_ID, token, seatNumber);
         assertThat(ticket.getStatus()).isEqualTo(TicketStatus.PAID);
 
         // 비동기 후처리 완료 대기
         await().atMost(5, SECONDS).untilAsserted(() -> {
-            assertThat(redisTemplate.opsForValue().get("seat:" + seatNumber))
+            assertThat(redisTemplate.opsForValue().get("show:{1}:seat:" + seatNumber))
                     .as("Redis 좌석 상태")
                     .isEqualTo("paid:" + token);
 
-            assertThat(ticketPort.findById(ticket.getId()))
+            assertThat(ticketPort.findAllById(List.of(ticket.getId())))
                     .as("DB 티켓 상태")
-                    .hasValueSatisfying(dbTicket ->
-                            assertThat(dbTicket.getStatus()).isEqualTo(TicketStatus.SYNCED)
-                    );
+                    .extracting(Ticket::getStatus)
+                    .containsExactly(TicketStatus.SYNCED);
 
-            assertThat(activeUserPort.isActive(token))
+            assertThat(activeUserPort.isActive(SHOW_ID, token))
                     .as("active 유저 제거")
                     .isFalse();
         });
@@ -66,7 +67,7 @@ class TicketPurchaseIntegrationTest extends IntegrationTestBase {
     @Test
     @DisplayName("비활성 사용자 거부: NOT_ACTIVE_USER")
     void purchase_not_active_user_rejected() {
-        assertThatThrownBy(() -> purchaseTicketUseCase.purchase("inactive-token", 1))
+        assertThatThrownBy(() -> purchaseTicketUseCase.purchase(SHOW_ID, "inactive-token", 1))
                 .isInstanceOfSatisfying(BusinessException.class, e ->
                         assertThat(e.getErrorCode()).isEqualTo(ErrorCode.NOT_ACTIVE_USER)
                 );
@@ -79,31 +80,92 @@ class TicketPurchaseIntegrationTest extends IntegrationTestBase {
         String token2 = "token-2";
         int seatNumber = 1;
 
-        activeUserPort.activate(token1, 300);
-        activeUserPort.activate(token2, 300);
-        purchaseTicketUseCase.purchase(token1, seatNumber);
+        activeUserPort.activate(SHOW_ID, token1, 300);
+        activeUserPort.activate(SHOW_ID, token2, 300);
+        purchaseTicketUseCase.purchase(SHOW_ID, token1, seatNumber);
 
-        assertThatThrownBy(() -> purchaseTicketUseCase.purchase(token2, seatNumber))
+        assertThatThrownBy(() -> purchaseTicketUseCase.purchase(SHOW_ID, token2, seatNumber))
                 .isInstanceOfSatisfying(BusinessException.class, e ->
                         assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SEAT_ALREADY_HELD)
                 );
     }
 
+    @Test
+    @DisplayName("공연 분리: 다른 공연의 같은 좌석번호는 각각 구매되고, 입장 상태도 공연별로 관리된다")
+    void purchase_same_seat_in_other_show() {
+        long otherShowId = SHOW_ID + 1;
+        activeUserPort.activate(SHOW_ID, "token-1", 300);
+        activeUserPort.activate(otherShowId, "token-2", 300);
+
+        assertThatThrownBy(() -> purchaseTicketUseCase.purchase(otherShowId, "token-1", 1))
+                .isInstanceOfSatisfying(BusinessException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.NOT_ACTIVE_USER)
+                );
+
+        Ticket first = purchaseTicketUseCase.purchase(SHOW_ID, "token-1", 1);
+        Ticket second = purchaseTicketUseCase.purchase(otherShowId, "token-2", 1);
+
+        assertThat(first.getShowId()).isEqualTo(SHOW_ID);
+        assertThat(second.getShowId()).isEqualTo(otherShowId);
+        await().atMost(5, SECONDS).untilAsserted(() -> {
+            assertThat(redisTemplate.opsForValue().get("show:{1}:seat:1")).isEqualTo("paid:token-1");
+            assertThat(redisTemplate.opsForValue().get("show:{2}:seat:1")).isEqualTo("paid:token-2");
+        });
+    }
+
     @Test
     @DisplayName("좌석 현황 조회: 구매 후 비동기 후처리 완료 시 paid 상태")
     void getSeats_after_purchase() {
-        activeUserPort.activate("token-1", 300);
-        purchaseTicketUseCase.purchase("token-1", 3);
+        activeUserPort.activate(SHOW_ID, "token-1", 300);
+        purchaseTicketUseCase.purchase(SHOW_ID, "token-1", 3);
 
         await().atMost(5, SECONDS).untilAsserted(() -> {
-            Seats statuses = getSeatsUseCase.getSeats();
+            Seats statuses = getSeatsUseCase.getSeats(SHOW_ID);
             assertThat(statuses.of(3)).isEqualTo(new Seat(SeatStatus.PAID, "token-1"));
         });
 
-        Seats statuses = getSeatsUseCase.getSeats();
+        Seats statuses = getSeatsUseCase.getSeats(SHOW_ID);
         assertThat(statuses.of(1)).isEqualTo(new Seat(SeatStatus.AVAILABLE, null));
         assertThat(statuses.of(2)).isEqualTo(new Seat(SeatStatus.AVAILABLE, null));
         assertThat(statuses.of(4)).isEqualTo(new Seat(SeatStatus.AVAILABLE, null));
         assertThat(statuses.of(5)).isEqualTo(new Seat(SeatStatus.AVAILABLE, null));
     }
+
+    @Test
+    @DisplayName("단체 구매 E2E: 모든 좌석 DB PAID → 묶음 이벤트로 Redis paid, DB SYNCED")
+    void purchaseGroup_success_e2e() {
+        String token = "group-token";
+        activeUserPort.activate(SHOW_ID, token, 300);
+
+        List<Ticket> tickets = purchaseTicketUseCase.purchaseGroup(SHOW_ID, token, List.of(11, 12, 13));
+        assertThat(tickets).hasSize(3);
+
+        await().atMost(5, SECONDS).untilAsserted(() -> {
+            for (int seatNumber : List.of(11, 12, 13)) {
+                assertThat(redisTemplate.opsForValue().get("show:{1}:seat:" + seatNumber))
+                        .as("Redis 좌석 %d 상태", seatNumber)
+                        .isEqualTo("paid:" + token);
+            }
+            assertThat(ticketPort.findAllById(tickets.stream().map(Ticket::getId).toList()))
+                    .extracting(Ticket::getStatus)
+                    .containsOnly(TicketStatus.SYNCED);
+            assertThat(activeUserPort.isActive(SHOW_ID, token)).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("단체 구매: 한 좌석이라도 선점돼 있으면 아무 좌석도 선점하지 않는다")
+    void purchaseGroup_is_all_or_nothing() {
+        activeUserPort.activate(SHOW_ID, "token-1", 300);
+        activeUserPort.activate(SHOW_ID, "token-2", 300);
+        purchaseTicketUseCase.purchase(SHOW_ID, "token-1", 22);
+
+        assertThatThrownBy(() -> purchaseTicketUseCase.purchaseGroup(SHOW_ID, "token-2", List.of(21, 22, 23)))
+                .isInstanceOfSatisfying(BusinessException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SEAT_ALREADY_HELD)
+                );
+
+        assertThat(redisTemplate.hasKey("show:{1}:seat:21")).isFalse();
+        assertThat(redisTemplate.hasKey("show:{1}:seat:23")).isFalse();
+    }
 }
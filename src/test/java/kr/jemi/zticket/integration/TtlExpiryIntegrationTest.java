@@ -28,9 +28,9 @@ class TtlExpiryIntegrationTest extends IntegrationTestBase {
     void held_seat_expires_after_ttl() {
         String token = "token-1";
         int seatNumber = 1;
-        String seatKey = "seat:" + seatNumber;
+        String seatKey = "show:{1}:seat:" + seatNumber;
 
-        seatPort.holdSeat(seatNumber, token, 3);
+        seatPort.holdSeat(SHOW_ID, seatNumber, token, 3);
         assertThat(redisTemplate.hasKey(seatKey)).as("hold 직후 키 존재").isTrue();
 
         await().atMost(5, TimeUnit.SECONDS)
@@ -38,22 +38,39 @@ class TtlExpiryIntegrationTest extends IntegrationTestBase {
                         assertThat(redisTemplate.hasKey(seatKey)).as("TTL 만료 후 키 소멸").isFalse()
                 );
 
-        assertThat(seatPort.getStatuses(List.of(seatNumber)).of(seatNumber))
+        assertThat(seatPort.getStatuses(SHOW_ID, List.of(seatNumber)).of(seatNumber))
                 .as("좌석 available 복구")
                 .isEqualTo(new Seat(SeatStatus.AVAILABLE, null));
     }
 
+    @Test
+    @DisplayName("held 좌석 TTL 만료 알림: 좌석 조회나 카운트 조회 없이 카운터와 좌석 맵 버전이 갱신된다")
+    void expired_event_releases_hold_without_scan() {
+        seatPort.holdSeat(SHOW_ID, 1, "token-1", 1);
+        assertThat(redisTemplate.opsForValue().get("show:{1}:seat_available_count")).isEqualTo("49");
+        String version = redisTemplate.opsForValue().get("show:{1}:seat_map_version");
+
+        await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(redisTemplate.opsForValue().get("show:{1}:seat_available_count"))
+                        .as("만료 알림으로 카운터 복구").isEqualTo("50"));
+
+        assertThat(Long.parseLong(redisTemplate.opsForValue().get("show:{1}:seat_map_version")))
+                .isEqualTo(Long.parseLong(version) + 1);
+        assertThat(redisTemplate.opsForZSet().score("show:{1}:seat_hold_expiry", "1")).isNull();
+        assertThat(redisTemplate.opsForValue().getBit("show:{1}:seat_taken", 1)).isFalse();
+    }
+
     @Test
     @DisplayName("active 유저 TTL 만료: activate 후 TTL(3초) 대기 -> isActive=false")
     void active_user_expires_after_ttl() {
         String token = "token-1";
 
-        activeUserPort.activate(token, 3);
-        assertThat(activeUserPort.isActive(token)).as("활성화 직후").isTrue();
+        activeUserPort.activate(SHOW_ID, token, 3);
+        assertThat(activeUserPort.isActive(SHOW_ID, token)).as("활성화 직후").isTrue();
 
         await().atMost(5, TimeUnit.SECONDS)
                 .untilAsserted(() ->
-                        assertThat(activeUserPort.isActive(token)).as("TTL 만료 후 비활성").isFalse()
+                        assertThat(activeUserPort.isActive(SHOW_ID, token)).as("TTL 만료 후 비활성").isFalse()
                 );
     }
 
@@ -63,10 +80,10 @@ class TtlExpiryIntegrationTest extends IntegrationTestBase {
         String token = "token-1";
         int seatNumber = 1;
 
-        seatPort.holdSeat(seatNumber, token, 300);
-        seatPort.releaseSeat(seatNumber, token);
+        seatPort.holdSeat(SHOW_ID, seatNumber, token, 300);
+        seatPort.releaseSeat(SHOW_ID, seatNumber, token);
 
-        assertThat(redisTemplate.hasKey("seat:" + seatNumber))
+        assertThat(redisTemplate.hasKey("show:{1}:seat:" + seatNumber))
                 .as("자신의 held 키 삭제 성공").isFalse();
     }
 
@@ -77,10 +94,10 @@ class TtlExpiryIntegrationTest extends IntegrationTestBase {
         String tokenB = "token-B";
         int seatNumber = 1;
 
-        seatPort.holdSeat(seatNumber, tokenB, 300);
-        seatPort.releaseSeat(seatNumber, tokenA);
+        seatPort.holdSeat(SHOW_ID, seatNumber, tokenB, 300);
+        seatPort.releaseSeat(SHOW_ID, seatNumber, tokenA);
 
-        assertThat(redisTemplate.opsForValue().get("seat:" + seatNumber))
+        assertThat(redisTemplate.opsForValue().get("show:{1}:seat:" + seatNumber))
                 .as("B의 held 키가 그대로 남아있음").isEqualTo("held:" + tokenB);
     }
 
@@ -91,19 +108,19 @@ class TtlExpiryIntegrationTest extends IntegrationTestBase {
         String tokenB = "token-B";
         int seatNumber = 1;
 
-        seatPort.paySeat(seatNumber, tokenB);
-        seatPort.releaseSeat(seatNumber, tokenA);
+        seatPort.paySeat(SHOW_ID, seatNumber, tokenB);
+        seatPort.releaseSeat(SHOW_ID, seatNumber, tokenA);
 
-        assertThat(redisTemplate.opsForValue().get("seat:" + seatNumber))
+        assertThat(redisTemplate.opsForValue().get("show:{1}:seat:" + seatNumber))
                 .as("B의 paid 키가 그대로 남아있음").isEqualTo("paid:" + tokenB);
     }
 
     @Test
     @DisplayName("releaseSeat: 키가 존재하지 않아도 에러 없이 처리된다")
     void releaseSeat_no_error_when_key_not_exists() {
-        seatPort.releaseSeat(999, "token-1");
+        seatPort.releaseSeat(SHOW_ID, 999, "token-1");
 
-        assertThat(redisTemplate.hasKey("seat:999"))
+        assertThat(redisTemplate.hasKey("show:{1}:seat:999"))
                 .as("키가 없어도 에러 없음").isFalse();
     }
 
@@ -113,10 +130,10 @@ class TtlExpiryIntegrationTest extends IntegrationTestBase {
         String tokenA = "token-A";
         String tokenB = "token-B";
         int seatNumber = 1;
-        String seatKey = "seat:" + seatNumber;
+        String seatKey = "show:{1}:seat:" + seatNumber;
 
         // 1. A가 좌석 선점 (짧은 TTL)
-        seatPort.holdSeat(seatNumber, tokenA, 3);
+        seatPort.holdSeat(SHOW_ID, seatNumber, tokenA, 3);
 
         // 2. A의 스레드 장시간 멈춤 시뮬레이션 → held TTL 만료
         await().atMost(5, TimeUnit.SECONDS)
@@ -125,12 +142,12 @@ class TtlExpiryIntegrationTest extends IntegrationTestBase {
                 );
 
         // 3. B가 같은 좌석 선점 → DB INSERT 성공 → 비동기 처리 완료 (paid + SYNCED)
-        assertThat(seatPort.holdSeat(seatNumber, tokenB, 300))
+        assertThat(seatPort.holdSeat(SHOW_ID, seatNumber, tokenB, 300))
                 .as("B 선점 성공").isTrue();
-        seatPort.paySeat(seatNumber, tokenB);
+        seatPort.paySeat(SHOW_ID, seatNumber, tokenB);
 
         // 4. A의 스레드 재개 → DB INSERT UNIQUE 위반 실패 → catch 블록에서 releaseSeat 호출
-        seatPort.releaseSeat(seatNumber, tokenA);
+        seatPort.releaseSeat(SHOW_ID, seatNumber, tokenA);
 
         // 5. Lua 스크립트가 "held:A" != "paid:B" 이므로 삭제하지 않음
         assertThat(redisTemplate.opsForValue().get(seatKey))
@@ -144,11 +161,11 @@ class TtlExpiryIntegrationTest extends IntegrationTestBase {
         String token1 = "token-1";
         String token2 = "token-2";
         int seatNumber = 1;
-        String seatKey = "seat:" + seatNumber;
+        String seatKey = "show:{1}:seat:" + seatNumber;
 
-        assertThat(seatPort.holdSeat(seatNumber, token1, 3))
+        assertThat(seatPort.holdSeat(SHOW_ID, seatNumber, token1, 3))
                 .as("첫 번째 hold 성공").isTrue();
-        assertThat(seatPort.holdSeat(seatNumber, token2, 300))
+        assertThat(seatPort.holdSeat(SHOW_ID, seatNumber, token2, 300))
                 .as("중복 hold 실패").isFalse();
 
         await().atMost(5, TimeUnit.SECONDS)
@@ -156,7 +173,7 @@ class TtlExpiryIntegrationTest extends IntegrationTestBase {
                         assertThat(redisTemplate.hasKey(seatKey)).as("TTL 만료").isFalse()
                 );
 
-        assertThat(seatPort.holdSeat(seatNumber, token2, 300))
+        assertThat(seatPort.holdSeat(SHOW_ID, seatNumber, token2, 300))
                 .as("만료 후 재선점 성공").isTrue();
 
         assertThat(redisTemplate.opsForValue().get(seatKey))
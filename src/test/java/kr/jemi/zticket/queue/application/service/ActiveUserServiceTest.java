@@ -8,6 +8,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.*;
 
@@ -19,6 +21,8 @@ class ActiveUserServiceTest {
 
     private ActiveUserService activeUserService;
 
+    private static final long SHOW_ID = 1L;
+
     @BeforeEach
     void setUp() {
         activeUserService = new ActiveUserService(activeUserPort);
@@ -27,24 +31,32 @@ class ActiveUserServiceTest {
     @Test
     @DisplayName("isActive: active 유저는 true를 반환한다")
     void shouldReturnTrueForActiveUser() {
-        given(activeUserPort.isActive("token-1")).willReturn(true);
+        given(activeUserPort.isActive(SHOW_ID, "token-1")).willReturn(true);
 
-        assertThat(activeUserService.isActive("token-1")).isTrue();
+        assertThat(activeUserService.isActive(SHOW_ID, "token-1")).isTrue();
     }
 
     @Test
     @DisplayName("isActive: active가 아닌 유저는 false를 반환한다")
     void shouldReturnFalseForInactiveUser() {
-        given(activeUserPort.isActive("token-1")).willReturn(false);
+        given(activeUserPort.isActive(SHOW_ID, "token-1")).willReturn(false);
 
-        assertThat(activeUserService.isActive("token-1")).isFalse();
+        assertThat(activeUserService.isActive(SHOW_ID, "token-1")).isFalse();
     }
 
     @Test
     @DisplayName("deactivate: ActiveUserPort에 위임한다")
     void shouldDelegateDeactivate() {
-        activeUserService.deactivate("token-1");
+        activeUserService.deactivate(SHOW_ID, "token-1");
+
+        then(activeUserPort).should().deactivate(SHOW_ID, "token-1");
+    }
+
+    @Test
+    @DisplayName("deactivateBatch: ActiveUserPort에 한 번에 위임한다")
+    void shouldDelegateDeactivateBatch() {
+        activeUserService.deactivateBatch(SHOW_ID, List.of("token-1", "token-2"));
 
-        then(activeUserPort).should().deactivate("token-1");
+        then(activeUserPort).should().deactivateBatch(SHOW_ID, List.of("token-1", "token-2"));
     }
 }
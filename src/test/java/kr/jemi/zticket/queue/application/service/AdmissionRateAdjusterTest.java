@@ -0,0 +1,129 @@
+package kr.jemi.zticket.queue.application.service;
+
+import kr.jemi.zticket.queue.application.port.out.AdmissionRatePort;
+import kr.jemi.zticket.queue.application.port.out.ClusterLoadPort;
+import kr.jemi.zticket.queue.application.port.out.DownstreamLoadPort;
+import kr.jemi.zticket.queue.domain.AimdRate;
+import kr.jemi.zticket.queue.domain.DownstreamLoad;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionRateAdjusterTest {
+
+    @Mock
+    private DownstreamLoadPort downstreamLoadPort;
+
+    @Mock
+    private ClusterLoadPort clusterLoadPort;
+
+    @Mock
+    private AdmissionRatePort admissionRatePort;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private AdmissionRateAdjuster adjuster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adjuster = new AdmissionRateAdjuster(downstreamLoadPort, clusterLoadPort, admissionRatePort, meterRegistry,
+                20, 2, 100, 2, 0.5, 10_000, 500, 5, 20);
+    }
+
+    @Test
+    @DisplayName("저장된 속도가 없으면 초기 속도에서 시작하고, 모든 지표가 상한 안이면 올려서 저장한다")
+    void shouldIncreaseWhenHealthy() {
+        // given
+        given(downstreamLoadPort.read()).willReturn(new DownstreamLoad(100, 0, 2));
+        given(clusterLoadPort.findRecent()).willReturn(List.of());
+        given(admissionRatePort.find()).willReturn(Optional.empty());
+
+        // when
+        double rate = adjuster.adjust();
+
+        // then
+        assertThat(rate).isEqualTo(22);
+        then(admissionRatePort).should().save(new AimdRate.State(22, AimdRate.State.NEVER_DECREASED));
+        assertThat(meterRegistry.get("zticket.admission.rate").gauge().value()).isEqualTo(22);
+    }
+
+    @Test
+    @DisplayName("리더가 건강해도 다른 노드의 지표 하나라도 상한을 넘으면 속도를 줄인다")
+    void shouldDecreaseWhenAnyNodeExceedsLimit() {
+        // given - 다른 노드의 커넥션 대기만 상한 초과
+        given(downstreamLoadPort.read()).willReturn(new DownstreamLoad(100, 0, 2));
+        given(clusterLoadPort.findRecent()).willReturn(List.of(new DownstreamLoad(120, 8, 3)));
+        given(admissionRatePort.find()).willReturn(Optional.of(new AimdRate.State(20, AimdRate.State.NEVER_DECREASED)));
+
+        // when
+        double rate = adjuster.adjust();
+
+        // then
+        assertThat(rate).isEqualTo(10);
+        ArgumentCaptor<AimdRate.State> saved = ArgumentCaptor.forClass(AimdRate.State.class);
+        then(admissionRatePort).should().save(saved.capture());
+        assertThat(saved.getValue().rate()).isEqualTo(10);
+        assertThat(saved.getValue().decreasedAtMillis()).isPositive();
+    }
+
+    @Test
+    @DisplayName("이전 리더가 줄인 직후면 cooldown 동안 속도를 유지한다")
+    void shouldKeepCooldownAcrossLeaders() {
+        // given
+        AimdRate.State shared = new AimdRate.State(10, System.currentTimeMillis());
+        given(downstreamLoadPort.read()).willReturn(new DownstreamLoad(900, 0, 2));
+        given(clusterLoadPort.findRecent()).willReturn(List.of());
+        given(admissionRatePort.find()).willReturn(Optional.of(shared));
+
+        // when
+        double rate = adjuster.adjust();
+
+        // then
+        assertThat(rate).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("조절에 쓴 입력 지표를 전체 노드 중 최댓값으로 게이지에 노출한다")
+    void shouldExposeInputs() {
+        // given
+        given(downstreamLoadPort.read()).willReturn(new DownstreamLoad(650, 1, 4));
+        given(clusterLoadPort.findRecent()).willReturn(List.of(new DownstreamLoad(300, 3, 12)));
+        given(admissionRatePort.find()).willReturn(Optional.empty());
+
+        // when
+        adjuster.adjust();
+
+        // then
+        assertThat(meterRegistry.get("zticket.admission.input.purchase.p99").gauge().value()).isEqualTo(650);
+        assertThat(meterRegistry.get("zticket.admission.input.hikari.pending").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("zticket.admission.input.redis.p99").gauge().value()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("부하 보고는 이 노드의 지표를 공유 저장소에 올리기만 한다")
+    void shouldReportLocalLoad() {
+        // given
+        DownstreamLoad local = new DownstreamLoad(100, 0, 2);
+        given(downstreamLoadPort.read()).willReturn(local);
+
+        // when
+        adjuster.report();
+
+        // then
+        then(clusterLoadPort).should().report(anyString(), eq(local));
+        then(admissionRatePort).shouldHaveNoInteractions();
+    }
+}
@@ -1,7 +1,10 @@
 package kr.jemi.zticket.queue.application.service;
 
 import kr.jemi.zticket.queue.application.port.out.ActiveUserPort;
+import kr.jemi.zticket.queue.application.port.out.AdmissionThroughputPort;
 import kr.jemi.zticket.queue.application.port.out.AvailableSeatCountPort;
+import kr.jemi.zticket.queue.application.port.out.QueueStatusEventPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -13,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
 
@@ -28,249 +32,343 @@ class AdmissionServiceTest {
     @Mock
     private AvailableSeatCountPort availableSeatCountPort;
 
+    @Mock
+    private QueueStatusEventPort queueStatusEventPort;
+
+    @Mock
+    private AdmissionThroughputPort admissionThroughputPort;
+
+    @Mock
+    private AdmissionRateAdjuster admissionRateAdjuster;
+
+    private SimpleMeterRegistry meterRegistry;
+
     private AdmissionService admissionService;
 
+    private static final long SHOW_ID = 1L;
     private static final long ACTIVE_TTL_SECONDS = 300L;
     private static final int MAX_ACTIVE_USERS = 500;
-    private static final int BATCH_SIZE = 100;
-    private static final int FIND_EXPIRED_BATCH_SIZE = 5000;
+    private static final int LIMIT = 100;
+    private static final int SWEEP_SLICE_SIZE = 5000;
+    private static final long THROUGHPUT_WINDOW_MS = 10_000L;
 
     @BeforeEach
     void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
         admissionService = new AdmissionService(
-                waitingQueueOperator, activeUserPort, availableSeatCountPort,
-                ACTIVE_TTL_SECONDS, MAX_ACTIVE_USERS, BATCH_SIZE);
+                waitingQueueOperator, activeUserPort, availableSeatCountPort, queueStatusEventPort,
+                admissionThroughputPort, admissionRateAdjuster, meterRegistry,
+                ACTIVE_TTL_SECONDS, MAX_ACTIVE_USERS, THROUGHPUT_WINDOW_MS);
     }
 
     @Nested
-    @DisplayName("admitBatch() - removeExpired → peek → activate → remove")
-    class AdmitBatch {
+    @DisplayName("removeExpired() - 잠수 유저 제거")
+    class RemoveExpired {
 
         @Test
-        @DisplayName("removeExpired → peek → activate → remove 순서로 실행된다")
-        void shouldExecuteFourPhasesInOrder() {
+        @DisplayName("스크립트 1회에 SWEEP_SLICE_SIZE명까지 제거하고 제거 인원을 반환한다")
+        void shouldRemoveExpiredInSlice() {
             // given
-            List<String> expired = List.of("expired-1");
-            List<String> candidates = List.of("token-1", "token-2", "token-3");
-            given(waitingQueueOperator.findExpired(FIND_EXPIRED_BATCH_SIZE)).willReturn(expired, List.of());
-            given(activeUserPort.countActive()).willReturn(0);
-            given(availableSeatCountPort.getAvailableCount()).willReturn(1000);
-            given(waitingQueueOperator.peek(BATCH_SIZE)).willReturn(candidates);
-
-            // when
-            admissionService.admitBatch();
-
-            // then
-            InOrder inOrder = inOrder(waitingQueueOperator, activeUserPort);
-            inOrder.verify(waitingQueueOperator).findExpired(FIND_EXPIRED_BATCH_SIZE);
-            inOrder.verify(waitingQueueOperator).removeAll(expired);
-            inOrder.verify(waitingQueueOperator).peek(BATCH_SIZE);
-            inOrder.verify(activeUserPort).activateBatch(candidates, ACTIVE_TTL_SECONDS);
-            inOrder.verify(waitingQueueOperator).removeAll(candidates);
-        }
-
-        @Test
-        @DisplayName("activate가 모두 완료된 후에만 큐에서 제거한다 (유실 방지)")
-        void shouldRemoveOnlyAfterAllActivated() {
-            List<String> candidates = List.of("token-1");
-            given(waitingQueueOperator.findExpired(FIND_EXPIRED_BATCH_SIZE)).willReturn(List.of());
-            given(activeUserPort.countActive()).willReturn(0);
-            given(availableSeatCountPort.getAvailableCount()).willReturn(1000);
-            given(waitingQueueOperator.peek(anyInt())).willReturn(candidates);
+            given(waitingQueueOperator.removeExpired(SHOW_ID, SWEEP_SLICE_SIZE)).willReturn(7);
 
             // when
-            admissionService.admitBatch();
+            int swept = admissionService.removeExpired(SHOW_ID);
 
             // then
-            InOrder inOrder = inOrder(activeUserPort, waitingQueueOperator);
-            inOrder.verify(activeUserPort).activateBatch(candidates, ACTIVE_TTL_SECONDS);
-            inOrder.verify(waitingQueueOperator).removeAll(candidates);
+            assertThat(swept).isEqualTo(7);
+            then(waitingQueueOperator).should(never()).admit(eq(SHOW_ID), anyInt(), anyLong());
         }
 
         @Test
-        @DisplayName("잠수 유저가 없어도 removeAll은 빈 리스트로 호출된다")
-        void shouldCallRemoveAllWithEmptyListWhenNoExpired() {
+        @DisplayName("잠수 유저 제거 인원과 소요 시간을 기록한다")
+        void shouldRecordSweepMetrics() {
             // given
-            given(waitingQueueOperator.findExpired(FIND_EXPIRED_BATCH_SIZE)).willReturn(List.of());
-            given(activeUserPort.countActive()).willReturn(0);
-            given(availableSeatCountPort.getAvailableCount()).willReturn(1000);
-            given(waitingQueueOperator.peek(BATCH_SIZE)).willReturn(List.of("token-1"));
+            given(waitingQueueOperator.removeExpired(SHOW_ID, SWEEP_SLICE_SIZE)).willReturn(7);
 
             // when
-            admissionService.admitBatch();
+            admissionService.removeExpired(SHOW_ID);
 
-            // then - removeAll 2회: expired 빈 리스트 1회 + 입장 후 1회
-            then(waitingQueueOperator).should(times(2)).removeAll(anyList());
+            // then
+            assertThat(meterRegistry.summary("zticket.admission.sweep.size").totalAmount()).isEqualTo(7);
+            assertThat(meterRegistry.timer("zticket.admission.sweep.duration").count()).isEqualTo(1);
         }
     }
 
     @Nested
-    @DisplayName("admitBatch() - active 유저 상한 제어")
-    class AdmitBatchCapacity {
+    @DisplayName("admit() - active 유저 상한 제어")
+    class AdmitCapacity {
 
         @Test
         @DisplayName("maxActiveUsers에 도달하면 입장시키지 않는다")
         void shouldNotAdmitWhenMaxActiveReached() {
             // given
-            given(waitingQueueOperator.findExpired(FIND_EXPIRED_BATCH_SIZE)).willReturn(List.of());
-            given(activeUserPort.countActive()).willReturn(500);
+            given(activeUserPort.countActive(SHOW_ID)).willReturn(500);
 
             // when
-            admissionService.admitBatch();
+            admissionService.admit(SHOW_ID, LIMIT);
 
             // then
-            then(waitingQueueOperator).should(never()).peek(anyInt());
-            then(activeUserPort).should(never()).activate(anyString(), anyLong());
+            then(waitingQueueOperator).should(never()).admit(eq(SHOW_ID), anyInt(), anyLong());
         }
 
         @Test
         @DisplayName("빈 슬롯 수만큼만 입장시킨다")
         void shouldAdmitOnlyAvailableSlots() {
             // given - 현재 480명 active → 빈 슬롯 20개
-            given(waitingQueueOperator.findExpired(FIND_EXPIRED_BATCH_SIZE)).willReturn(List.of());
-            given(activeUserPort.countActive()).willReturn(480);
-            given(availableSeatCountPort.getAvailableCount()).willReturn(1000);
+            given(activeUserPort.countActive(SHOW_ID)).willReturn(480);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(1000);
             List<String> candidates = List.of("token-1", "token-2");
-            given(waitingQueueOperator.peek(20)).willReturn(candidates);
+            given(waitingQueueOperator.admit(SHOW_ID, 20, ACTIVE_TTL_SECONDS)).willReturn(candidates);
 
             // when
-            admissionService.admitBatch();
+            admissionService.admit(SHOW_ID, LIMIT);
 
             // then
-            then(waitingQueueOperator).should().peek(20);
+            then(waitingQueueOperator).should().admit(SHOW_ID, 20, ACTIVE_TTL_SECONDS);
         }
 
         @Test
         @DisplayName("잔여 좌석에서 active 유저 수를 차감하여 입장 인원을 결정한다")
         void shouldSubtractActiveUsersFromRemainingSeats() {
             // given - 잔여 좌석 5개, active 3명 → 입장 가능 = 2명
-            given(waitingQueueOperator.findExpired(FIND_EXPIRED_BATCH_SIZE)).willReturn(List.of());
-            given(activeUserPort.countActive()).willReturn(3);
-            given(availableSeatCountPort.getAvailableCount()).willReturn(5);
+            given(activeUserPort.countActive(SHOW_ID)).willReturn(3);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(5);
             List<String> candidates = List.of("token-1", "token-2");
-            given(waitingQueueOperator.peek(2)).willReturn(candidates);
+            given(waitingQueueOperator.admit(SHOW_ID, 2, ACTIVE_TTL_SECONDS)).willReturn(candidates);
 
             // when
-            admissionService.admitBatch();
+            admissionService.admit(SHOW_ID, LIMIT);
 
             // then
-            then(waitingQueueOperator).should().peek(2);
-            then(activeUserPort).should().activateBatch(candidates, ACTIVE_TTL_SECONDS);
+            then(waitingQueueOperator).should().admit(SHOW_ID, 2, ACTIVE_TTL_SECONDS);
         }
 
         @Test
         @DisplayName("잔여 좌석이 active 유저 수 이하이면 입장시키지 않는다")
         void shouldNotAdmitWhenRemainingSeatsLessThanActive() {
             // given
-            given(waitingQueueOperator.findExpired(FIND_EXPIRED_BATCH_SIZE)).willReturn(List.of());
-            given(activeUserPort.countActive()).willReturn(5);
-            given(availableSeatCountPort.getAvailableCount()).willReturn(3);
+            given(activeUserPort.countActive(SHOW_ID)).willReturn(5);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(3);
 
             // when
-            admissionService.admitBatch();
+            admissionService.admit(SHOW_ID, LIMIT);
 
             // then
-            then(waitingQueueOperator).should(never()).peek(anyInt());
+            then(waitingQueueOperator).should(never()).admit(eq(SHOW_ID), anyInt(), anyLong());
         }
 
         @Test
         @DisplayName("maxActiveUsers를 초과하면 toAdmit이 0이 된다")
         void shouldHandleOverCapacity() {
             // given
-            given(waitingQueueOperator.findExpired(FIND_EXPIRED_BATCH_SIZE)).willReturn(List.of());
-            given(activeUserPort.countActive()).willReturn(510);
+            given(activeUserPort.countActive(SHOW_ID)).willReturn(510);
 
             // when
-            admissionService.admitBatch();
+            admissionService.admit(SHOW_ID, LIMIT);
 
             // then
-            then(waitingQueueOperator).should(never()).peek(anyInt());
+            then(waitingQueueOperator).should(never()).admit(eq(SHOW_ID), anyInt(), anyLong());
         }
     }
 
     @Nested
-    @DisplayName("admitBatch() - batchSize 상한 제어")
-    class AdmitBatchSizeLimit {
+    @DisplayName("admit() - limit 상한 제어")
+    class AdmitLimit {
 
         @Test
-        @DisplayName("슬롯이 충분해도 batchSize를 초과하여 입장시키지 않는다")
-        void shouldNotExceedBatchSize() {
+        @DisplayName("슬롯이 충분해도 limit을 초과하여 입장시키지 않는다")
+        void shouldNotExceedLimit() {
             // given
-            given(waitingQueueOperator.findExpired(FIND_EXPIRED_BATCH_SIZE)).willReturn(List.of());
-            given(activeUserPort.countActive()).willReturn(0);
-            given(availableSeatCountPort.getAvailableCount()).willReturn(1000);
-            given(waitingQueueOperator.peek(BATCH_SIZE)).willReturn(List.of("token-1"));
+            given(activeUserPort.countActive(SHOW_ID)).willReturn(0);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(1000);
+            given(waitingQueueOperator.admit(SHOW_ID, LIMIT, ACTIVE_TTL_SECONDS)).willReturn(List.of("token-1"));
 
             // when
-            admissionService.admitBatch();
+            admissionService.admit(SHOW_ID, LIMIT);
 
             // then
-            then(waitingQueueOperator).should().peek(BATCH_SIZE);
+            then(waitingQueueOperator).should().admit(SHOW_ID, LIMIT, ACTIVE_TTL_SECONDS);
         }
 
         @Test
-        @DisplayName("빈 슬롯이 batchSize보다 적으면 빈 슬롯만큼만 입장시킨다")
-        void shouldAdmitFewerThanBatchSizeWhenSlotsLimited() {
+        @DisplayName("빈 슬롯이 limit보다 적으면 빈 슬롯만큼만 입장시킨다")
+        void shouldAdmitFewerThanLimitWhenSlotsLimited() {
             // given - active 470명 → 빈 슬롯 30개
-            given(waitingQueueOperator.findExpired(FIND_EXPIRED_BATCH_SIZE)).willReturn(List.of());
-            given(activeUserPort.countActive()).willReturn(470);
-            given(availableSeatCountPort.getAvailableCount()).willReturn(1000);
-            given(waitingQueueOperator.peek(30)).willReturn(List.of("token-1"));
+            given(activeUserPort.countActive(SHOW_ID)).willReturn(470);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(1000);
+            given(waitingQueueOperator.admit(SHOW_ID, 30, ACTIVE_TTL_SECONDS)).willReturn(List.of("token-1"));
 
             // when
-            admissionService.admitBatch();
+            admissionService.admit(SHOW_ID, LIMIT);
 
             // then
-            then(waitingQueueOperator).should().peek(30);
+            then(waitingQueueOperator).should().admit(SHOW_ID, 30, ACTIVE_TTL_SECONDS);
         }
     }
 
     @Nested
-    @DisplayName("admitBatch() - 대기열 비어있음")
-    class AdmitBatchEmptyQueue {
+    @DisplayName("admit() - 대기열 비어있음")
+    class AdmitEmptyQueue {
 
         @Test
-        @DisplayName("대기열이 비어있으면 activate와 remove를 실행하지 않는다")
+        @DisplayName("대기열이 비어있으면 입장 알림을 보내지 않는다")
         void shouldDoNothingWhenQueueIsEmpty() {
             // given
-            given(waitingQueueOperator.findExpired(FIND_EXPIRED_BATCH_SIZE)).willReturn(List.of());
-            given(activeUserPort.countActive()).willReturn(0);
-            given(availableSeatCountPort.getAvailableCount()).willReturn(1000);
-            given(waitingQueueOperator.peek(BATCH_SIZE)).willReturn(List.of());
+            given(activeUserPort.countActive(SHOW_ID)).willReturn(0);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(1000);
+            given(waitingQueueOperator.admit(SHOW_ID, LIMIT, ACTIVE_TTL_SECONDS)).willReturn(List.of());
 
             // when
-            admissionService.admitBatch();
+            admissionService.admit(SHOW_ID, LIMIT);
 
             // then
-            then(activeUserPort).should(never()).activateBatch(anyList(), anyLong());
-            then(waitingQueueOperator).should(times(1)).removeAll(List.of());
+            then(queueStatusEventPort).should(never()).publishAdmitted(anyLong(), anyList());
         }
     }
 
     @Nested
-    @DisplayName("admitBatch() - 잠수 유저 자연 회수 시나리오")
+    @DisplayName("admit() - 잠수 유저 자연 회수 시나리오")
     class StaleUserRecovery {
 
         @Test
         @DisplayName("잠수 유저 TTL 만료 후 다음 주기에 새 유저를 입장시킨다")
         void shouldAdmitNewUsersAfterStaleUserExpiry() {
             // 1주기 - maxActive 도달
-            given(waitingQueueOperator.findExpired(FIND_EXPIRED_BATCH_SIZE)).willReturn(List.of());
-            given(activeUserPort.countActive()).willReturn(500);
-            admissionService.admitBatch();
-            then(waitingQueueOperator).should(never()).peek(anyInt());
+            given(activeUserPort.countActive(SHOW_ID)).willReturn(500);
+            admissionService.admit(SHOW_ID, LIMIT);
+            then(waitingQueueOperator).should(never()).admit(eq(SHOW_ID), anyInt(), anyLong());
 
             // 2주기 - TTL 만료로 active 감소
-            given(activeUserPort.countActive()).willReturn(490);
-            given(availableSeatCountPort.getAvailableCount()).willReturn(1000);
+            given(activeUserPort.countActive(SHOW_ID)).willReturn(490);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(1000);
             List<String> newCandidates = List.of("new-1", "new-2", "new-3");
-            given(waitingQueueOperator.peek(10)).willReturn(newCandidates);
+            given(waitingQueueOperator.admit(SHOW_ID, 10, ACTIVE_TTL_SECONDS)).willReturn(newCandidates);
+
+            admissionService.admit(SHOW_ID, LIMIT);
+
+            // then
+            then(queueStatusEventPort).should().publishAdmitted(SHOW_ID, List.of("new-1", "new-2", "new-3"));
+        }
+    }
+
+    @Nested
+    @DisplayName("admit() - 상태 알림 발행")
+    class PublishStatusEvent {
+
+        @Test
+        @DisplayName("입장 처리가 끝난 뒤 입장한 토큰을 알린다")
+        void shouldPublishAdmittedAfterAdmit() {
+            // given
+            List<String> candidates = List.of("token-1", "token-2");
+            given(activeUserPort.countActive(SHOW_ID)).willReturn(0);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(1000);
+            given(waitingQueueOperator.admit(SHOW_ID, LIMIT, ACTIVE_TTL_SECONDS)).willReturn(candidates);
+
+            // when
+            admissionService.admit(SHOW_ID, LIMIT);
+
+            // then
+            InOrder inOrder = inOrder(waitingQueueOperator, queueStatusEventPort);
+            inOrder.verify(waitingQueueOperator).admit(SHOW_ID, LIMIT, ACTIVE_TTL_SECONDS);
+            inOrder.verify(queueStatusEventPort).publishAdmitted(SHOW_ID, candidates);
+        }
+
+        @Test
+        @DisplayName("잔여 좌석이 0이면 매진을 알리고 입장시키지 않는다")
+        void shouldPublishSoldOutWhenNoSeatsLeft() {
+            // given
+            given(activeUserPort.countActive(SHOW_ID)).willReturn(0);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(0);
+
+            // when
+            admissionService.admit(SHOW_ID, LIMIT);
+
+            // then
+            then(queueStatusEventPort).should().publishSoldOut(SHOW_ID);
+            then(waitingQueueOperator).should(never()).admit(eq(SHOW_ID), anyInt(), anyLong());
+            then(queueStatusEventPort).should(never()).publishAdmitted(anyLong(), anyList());
+        }
 
-            admissionService.admitBatch();
+        @Test
+        @DisplayName("매진이 이어지는 동안에는 매진 알림을 한 번만 보내고, 좌석이 풀렸다가 다시 매진되면 또 보낸다")
+        void shouldPublishSoldOutOncePerTransition() {
+            // given
+            given(activeUserPort.countActive(SHOW_ID)).willReturn(0);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(0, 0, 1, 0);
+
+            // when
+            for (int i = 0; i < 4; i++) {
+                admissionService.admit(SHOW_ID, 2);
+            }
+
+            // then
+            then(queueStatusEventPort).should(times(2)).publishSoldOut(SHOW_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("admit() - 허가 수만큼 입장")
+    class AdmitWithLimit {
+
+        @Test
+        @DisplayName("limit명까지만 입장시키고 입장한 인원을 반환한다")
+        void shouldAdmitUpToLimit() {
+            // given
+            given(activeUserPort.countActive(SHOW_ID)).willReturn(0);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(1000);
+            given(waitingQueueOperator.admit(SHOW_ID, 2, ACTIVE_TTL_SECONDS)).willReturn(List.of("token-1"));
+
+            // when
+            int admitted = admissionService.admit(SHOW_ID, 2);
+
+            // then
+            assertThat(admitted).isEqualTo(1);
+            then(waitingQueueOperator).should(never()).removeExpired(anyLong(), anyInt());
+        }
+
+        @Test
+        @DisplayName("limit이 남아도 active 유저 상한을 넘겨 입장시키지 않는다")
+        void shouldKeepMaxActiveCap() {
+            // given - active 499명 → 빈 슬롯 1개
+            given(activeUserPort.countActive(SHOW_ID)).willReturn(499);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(1000);
+            given(waitingQueueOperator.admit(SHOW_ID, 1, ACTIVE_TTL_SECONDS)).willReturn(List.of("token-1"));
+
+            // when
+            int admitted = admissionService.admit(SHOW_ID, 20);
+
+            // then
+            assertThat(admitted).isEqualTo(1);
+            then(waitingQueueOperator).should().admit(SHOW_ID, 1, ACTIVE_TTL_SECONDS);
+        }
+
+        @Test
+        @DisplayName("입장시킨 인원을 시간 상수와 함께 공유 처리량에 기록한다")
+        void shouldRecordThroughput() {
+            // given
+            given(activeUserPort.countActive(SHOW_ID)).willReturn(0);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(1000);
+            given(waitingQueueOperator.admit(SHOW_ID, 2, ACTIVE_TTL_SECONDS)).willReturn(List.of("token-1", "token-2"));
+
+            // when
+            admissionService.admit(SHOW_ID, 2);
+
+            // then
+            then(admissionThroughputPort).should().record(SHOW_ID, 2, THROUGHPUT_WINDOW_MS);
+        }
+
+        @Test
+        @DisplayName("매진으로 입장시키지 못해도 0명으로 기록하여 처리량이 내려가게 한다")
+        void shouldRecordZeroWhenSoldOut() {
+            // given
+            given(activeUserPort.countActive(SHOW_ID)).willReturn(0);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(0);
+
+            // when
+            admissionService.admit(SHOW_ID, 2);
 
             // then
-            then(activeUserPort).should().activateBatch(
-                    List.of("new-1", "new-2", "new-3"), ACTIVE_TTL_SECONDS);
+            then(admissionThroughputPort).should().record(SHOW_ID, 0, THROUGHPUT_WINDOW_MS);
         }
     }
 }
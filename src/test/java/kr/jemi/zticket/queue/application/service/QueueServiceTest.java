@@ -3,6 +3,7 @@ package kr.jemi.zticket.queue.application.service;
 import io.hypersistence.tsid.TSID;
 import kr.jemi.zticket.common.exception.BusinessException;
 import kr.jemi.zticket.common.exception.ErrorCode;
+import kr.jemi.zticket.common.show.ShowCatalog;
 import kr.jemi.zticket.queue.application.port.out.ActiveUserPort;
 import kr.jemi.zticket.queue.domain.QueueStatus;
 import kr.jemi.zticket.queue.domain.QueueToken;
@@ -15,6 +16,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
@@ -31,6 +34,8 @@ class QueueServiceTest {
     @Mock
     private AvailableSeatCountPort availableSeatCountPort;
 
+    private static final long SHOW_ID = 1L;
+
     private final TSID.Factory tsidFactory = TSID.Factory.newInstance256(0);
 
     private QueueService queueService;
@@ -38,7 +43,8 @@ class QueueServiceTest {
     @BeforeEach
     void setUp() {
         queueService = new QueueService(
-                waitingQueueOperator, activeUserPort, availableSeatCountPort, tsidFactory);
+                waitingQueueOperator, activeUserPort, availableSeatCountPort,
+                new ShowCatalog(List.of(SHOW_ID)), tsidFactory);
     }
 
     @Nested
@@ -49,28 +55,28 @@ class QueueServiceTest {
         @DisplayName("토큰을 생성하고 대기열에 등록 후 순번을 반환한다")
         void shouldEnqueueAndReturnRank() {
             // given
-            given(availableSeatCountPort.getAvailableCount()).willReturn(10);
-            given(waitingQueueOperator.enqueue(anyString())).willReturn(1L);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(10);
+            given(waitingQueueOperator.enqueue(eq(SHOW_ID), anyString())).willReturn(1L);
 
             // when
-            QueueToken token = queueService.enter();
+            QueueToken token = queueService.enter(SHOW_ID);
 
             // then
             assertThat(token.token()).isNotNull().isNotBlank();
             assertThat(token.rank()).isEqualTo(1L);
-            then(waitingQueueOperator).should().enqueue(token.token());
+            then(waitingQueueOperator).should().enqueue(SHOW_ID, token.token());
         }
 
         @Test
         @DisplayName("여러 번 enter()하면 매번 다른 토큰이 생성된다")
         void shouldGenerateUniqueTokens() {
             // given
-            given(availableSeatCountPort.getAvailableCount()).willReturn(10);
-            given(waitingQueueOperator.enqueue(anyString())).willReturn(1L, 2L);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(10);
+            given(waitingQueueOperator.enqueue(eq(SHOW_ID), anyString())).willReturn(1L, 2L);
 
             // when
-            QueueToken token1 = queueService.enter();
-            QueueToken token2 = queueService.enter();
+            QueueToken token1 = queueService.enter(SHOW_ID);
+            QueueToken token2 = queueService.enter(SHOW_ID);
 
             // then
             assertThat(token1.token()).isNotEqualTo(token2.token());
@@ -80,13 +86,23 @@ class QueueServiceTest {
         @DisplayName("매진 시 SOLD_OUT 예외를 던진다")
         void shouldThrowWhenSoldOut() {
             // given
-            given(availableSeatCountPort.getAvailableCount()).willReturn(0);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(0);
 
             // when & then
-            assertThatThrownBy(() -> queueService.enter())
+            assertThatThrownBy(() -> queueService.enter(SHOW_ID))
                     .isInstanceOfSatisfying(BusinessException.class, e ->
                             assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SOLD_OUT));
-            then(waitingQueueOperator).should(never()).enqueue(anyString());
+            then(waitingQueueOperator).should(never()).enqueue(eq(SHOW_ID), anyString());
+        }
+
+        @Test
+        @DisplayName("등록되지 않은 공연이면 SHOW_NOT_FOUND 예외를 던진다")
+        void shouldRejectUnknownShow() {
+            // when & then
+            assertThatThrownBy(() -> queueService.enter(SHOW_ID + 1))
+                    .isInstanceOfSatisfying(BusinessException.class, e ->
+                            assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SHOW_NOT_FOUND));
+            then(waitingQueueOperator).should(never()).enqueue(anyLong(), anyString());
         }
     }
 
@@ -98,10 +114,10 @@ class QueueServiceTest {
         @DisplayName("active 유저는 ACTIVE 상태를 반환한다")
         void shouldReturnActiveStatus() {
             // given
-            given(activeUserPort.isActive("token-1")).willReturn(true);
+            given(activeUserPort.isActive(SHOW_ID, "token-1")).willReturn(true);
 
             // when
-            QueueToken token = queueService.getQueueToken("token-1");
+            QueueToken token = queueService.getQueueToken(SHOW_ID, "token-1");
 
             // then
             assertThat(token.status()).isEqualTo(QueueStatus.ACTIVE);
@@ -112,12 +128,12 @@ class QueueServiceTest {
         @DisplayName("대기 중인 유저는 WAITING 상태와 순번을 반환한다")
         void shouldReturnWaitingStatus() {
             // given
-            given(activeUserPort.isActive("token-1")).willReturn(false);
-            given(availableSeatCountPort.getAvailableCount()).willReturn(10);
-            given(waitingQueueOperator.getRank("token-1")).willReturn(42L);
+            given(activeUserPort.isActive(SHOW_ID, "token-1")).willReturn(false);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(10);
+            given(waitingQueueOperator.getRank(SHOW_ID, "token-1")).willReturn(42L);
 
             // when
-            QueueToken token = queueService.getQueueToken("token-1");
+            QueueToken token = queueService.getQueueToken(SHOW_ID, "token-1");
 
             // then
             assertThat(token.status()).isEqualTo(QueueStatus.WAITING);
@@ -128,27 +144,27 @@ class QueueServiceTest {
         @DisplayName("대기 중인 유저의 heartbeat를 갱신한다")
         void shouldRefreshHeartbeatForWaitingUser() {
             // given
-            given(activeUserPort.isActive("token-1")).willReturn(false);
-            given(availableSeatCountPort.getAvailableCount()).willReturn(10);
-            given(waitingQueueOperator.getRank("token-1")).willReturn(42L);
+            given(activeUserPort.isActive(SHOW_ID, "token-1")).willReturn(false);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(10);
+            given(waitingQueueOperator.getRank(SHOW_ID, "token-1")).willReturn(42L);
 
             // when
-            queueService.getQueueToken("token-1");
+            queueService.getQueueToken(SHOW_ID, "token-1");
 
             // then
-            then(waitingQueueOperator).should().refresh("token-1");
+            then(waitingQueueOperator).should().refresh(SHOW_ID, "token-1");
         }
 
         @Test
         @DisplayName("대기열에 없는 유저는 QUEUE_TOKEN_NOT_FOUND 예외를 던진다")
         void shouldThrowWhenTokenNotFound() {
             // given
-            given(activeUserPort.isActive("token-1")).willReturn(false);
-            given(availableSeatCountPort.getAvailableCount()).willReturn(10);
-            given(waitingQueueOperator.getRank("token-1")).willReturn(null);
+            given(activeUserPort.isActive(SHOW_ID, "token-1")).willReturn(false);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(10);
+            given(waitingQueueOperator.getRank(SHOW_ID, "token-1")).willReturn(null);
 
             // when & then
-            assertThatThrownBy(() -> queueService.getQueueToken("token-1"))
+            assertThatThrownBy(() -> queueService.getQueueToken(SHOW_ID, "token-1"))
                     .isInstanceOfSatisfying(BusinessException.class, e ->
                             assertThat(e.getErrorCode()).isEqualTo(ErrorCode.QUEUE_TOKEN_NOT_FOUND));
         }
@@ -157,11 +173,11 @@ class QueueServiceTest {
         @DisplayName("매진 시 SOLD_OUT 상태를 반환한다")
         void shouldReturnSoldOutWhenNoSeatsAvailable() {
             // given
-            given(activeUserPort.isActive("token-1")).willReturn(false);
-            given(availableSeatCountPort.getAvailableCount()).willReturn(0);
+            given(activeUserPort.isActive(SHOW_ID, "token-1")).willReturn(false);
+            given(availableSeatCountPort.getAvailableCount(SHOW_ID)).willReturn(0);
 
             // when
-            QueueToken token = queueService.getQueueToken("token-1");
+            QueueToken token = queueService.getQueueToken(SHOW_ID, "token-1");
 
             // then
             assertThat(token.status()).isEqualTo(QueueStatus.SOLD_OUT);
@@ -171,13 +187,13 @@ class QueueServiceTest {
         @DisplayName("active 유저는 대기열 순번 조회를 하지 않는다 (불필요한 Redis 호출 방지)")
         void shouldNotCheckRankForActiveUser() {
             // given
-            given(activeUserPort.isActive("token-1")).willReturn(true);
+            given(activeUserPort.isActive(SHOW_ID, "token-1")).willReturn(true);
 
             // when
-            queueService.getQueueToken("token-1");
+            queueService.getQueueToken(SHOW_ID, "token-1");
 
             // then
-            then(waitingQueueOperator).should(never()).getRank(anyString());
+            then(waitingQueueOperator).should(never()).getRank(eq(SHOW_ID), anyString());
         }
     }
 }
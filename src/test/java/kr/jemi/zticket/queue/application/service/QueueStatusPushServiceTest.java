@@ -0,0 +1,223 @@
+package kr.jemi.zticket.queue.application.service;
+
+import kr.jemi.zticket.common.exception.BusinessException;
+import kr.jemi.zticket.common.exception.ErrorCode;
+import kr.jemi.zticket.queue.application.port.in.EstimateWaitUseCase;
+import kr.jemi.zticket.queue.application.port.in.GetQueueTokenUseCase;
+import kr.jemi.zticket.queue.application.port.in.QueueStatusListener;
+import kr.jemi.zticket.queue.domain.QueueToken;
+import kr.jemi.zticket.queue.domain.WaitEstimate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class QueueStatusPushServiceTest {
+
+    @Mock
+    private GetQueueTokenUseCase getQueueTokenUseCase;
+
+    @Mock
+    private WaitingQueueOperator waitingQueueOperator;
+
+    private QueueStatusPushService service;
+
+    /** 알림으로 줄어든 순번을 10ms마다 전달한다. */
+    private final EstimateWaitUseCase fastPoll = (showId, rank) -> WaitEstimate.unknown(10);
+
+    private static final long SHOW_ID = 1L;
+    private static final long QUEUE_TTL_SECONDS = 120;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("입장 알림에 토큰이 있으면 Redis를 다시 조회하지 않고 ACTIVE를 전달한 뒤 구독을 끝낸다")
+    void shouldSendActiveOnAdmitted() {
+        // given
+        service = new QueueStatusPushService(getQueueTokenUseCase, fastPoll, waitingQueueOperator, 60_000, QUEUE_TTL_SECONDS);
+        given(getQueueTokenUseCase.getQueueToken(SHOW_ID, "token-1")).willReturn(QueueToken.waiting("token-1", 1));
+        RecordingListener listener = new RecordingListener();
+        service.subscribe(SHOW_ID, "token-1", listener);
+        await().atMost(1, TimeUnit.SECONDS).until(() -> listener.statuses.size() == 1);
+
+        // when
+        service.notifyAdmitted(SHOW_ID, List.of("token-1", "token-2"));
+
+        // then
+        await().atMost(1, TimeUnit.SECONDS).until(() -> listener.completed);
+        assertThat(listener.statuses).containsExactly(
+                QueueToken.waiting("token-1", 1),
+                QueueToken.active("token-1"));
+        then(getQueueTokenUseCase).should(times(1)).getQueueToken(SHOW_ID, "token-1");
+        assertThat(service.subscriptionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 토큰이 입장하면 입장 인원만큼 순번을 줄여 전달하고, 상태 확인은 다시 하지 않는다")
+    void shouldAdvanceRankOnOthersAdmitted() {
+        // given
+        service = new QueueStatusPushService(getQueueTokenUseCase, fastPoll, waitingQueueOperator, 60_000, QUEUE_TTL_SECONDS);
+        given(getQueueTokenUseCase.getQueueToken(SHOW_ID, "token-1")).willReturn(QueueToken.waiting("token-1", 5));
+        RecordingListener listener = new RecordingListener();
+        service.subscribe(SHOW_ID, "token-1", listener);
+        await().atMost(1, TimeUnit.SECONDS).until(() -> listener.statuses.size() == 1);
+
+        // when
+        service.notifyAdmitted(SHOW_ID, List.of("token-2", "token-3"));
+        service.notifyAdmitted(2L, List.of("other-show"));
+
+        // then
+        await().atMost(1, TimeUnit.SECONDS).until(() -> listener.statuses.size() == 2);
+        assertThat(listener.statuses).last().isEqualTo(QueueToken.waiting("token-1", 3));
+        then(getQueueTokenUseCase).should(times(1)).getQueueToken(SHOW_ID, "token-1");
+        then(waitingQueueOperator).should(never()).getRank(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("heartbeat 주기마다 heartbeat를 갱신하고 ZRANK로 순번을 보정한다")
+    void shouldRefreshAndCorrectRankOnHeartbeat() {
+        // given - 잠수 제거로 앞사람이 빠져 실제 순번이 더 앞이다
+        service = new QueueStatusPushService(getQueueTokenUseCase, fastPoll, waitingQueueOperator, 50, QUEUE_TTL_SECONDS);
+        given(getQueueTokenUseCase.getQueueToken(SHOW_ID, "token-1")).willReturn(QueueToken.waiting("token-1", 10));
+        given(waitingQueueOperator.getRank(SHOW_ID, "token-1")).willReturn(7L);
+        RecordingListener listener = new RecordingListener();
+
+        // when
+        service.subscribe(SHOW_ID, "token-1", listener);
+
+        // then
+        await().atMost(1, TimeUnit.SECONDS).until(() -> listener.statuses.size() == 2);
+        assertThat(listener.statuses).last().isEqualTo(QueueToken.waiting("token-1", 7));
+        then(waitingQueueOperator).should(atLeastOnce()).refresh(SHOW_ID, "token-1");
+        then(getQueueTokenUseCase).should(times(1)).getQueueToken(SHOW_ID, "token-1");
+    }
+
+    @Test
+    @DisplayName("heartbeat 때 대기열에 없으면 전체 상태 확인으로 판정한다 (입장 알림 유실)")
+    void shouldCheckStatusWhenRemovedFromQueue() {
+        // given
+        service = new QueueStatusPushService(getQueueTokenUseCase, fastPoll, waitingQueueOperator, 50, QUEUE_TTL_SECONDS);
+        given(getQueueTokenUseCase.getQueueToken(SHOW_ID, "token-1")).willReturn(
+                QueueToken.waiting("token-1", 1),
+                QueueToken.active("token-1"));
+        given(waitingQueueOperator.getRank(SHOW_ID, "token-1")).willReturn(null);
+        RecordingListener listener = new RecordingListener();
+
+        // when
+        service.subscribe(SHOW_ID, "token-1", listener);
+
+        // then
+        await().atMost(1, TimeUnit.SECONDS).until(() -> listener.completed);
+        assertThat(listener.statuses).last().isEqualTo(QueueToken.active("token-1"));
+    }
+
+    @Test
+    @DisplayName("매진 알림을 받으면 상태를 확인해 SOLD_OUT을 전달하고 구독을 끝낸다")
+    void shouldSendSoldOutOnNotify() {
+        // given
+        service = new QueueStatusPushService(getQueueTokenUseCase, fastPoll, waitingQueueOperator, 60_000, QUEUE_TTL_SECONDS);
+        given(getQueueTokenUseCase.getQueueToken(SHOW_ID, "token-1")).willReturn(
+                QueueToken.waiting("token-1", 3),
+                QueueToken.soldOut("token-1"));
+        RecordingListener listener = new RecordingListener();
+        service.subscribe(SHOW_ID, "token-1", listener);
+        await().atMost(1, TimeUnit.SECONDS).until(() -> listener.statuses.size() == 1);
+
+        // when
+        service.notifySoldOut(SHOW_ID);
+
+        // then
+        await().atMost(1, TimeUnit.SECONDS).until(() -> listener.completed);
+        assertThat(listener.statuses).last().isEqualTo(QueueToken.soldOut("token-1"));
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 오류 코드를 전달하고 구독을 끝낸다")
+    void shouldSendErrorWhenTokenNotFound() {
+        // given
+        service = new QueueStatusPushService(getQueueTokenUseCase, fastPoll, waitingQueueOperator, 60_000, QUEUE_TTL_SECONDS);
+        given(getQueueTokenUseCase.getQueueToken(SHOW_ID, "token-1"))
+                .willThrow(new BusinessException(ErrorCode.QUEUE_TOKEN_NOT_FOUND));
+        RecordingListener listener = new RecordingListener();
+
+        // when
+        service.subscribe(SHOW_ID, "token-1", listener);
+
+        // then
+        await().atMost(1, TimeUnit.SECONDS).until(() -> listener.completed);
+        assertThat(listener.error.get()).isEqualTo(ErrorCode.QUEUE_TOKEN_NOT_FOUND);
+        assertThat(listener.statuses).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구독을 취소하면 대기 중이어도 바로 끝난다")
+    void shouldStopWhenCancelled() {
+        // given
+        service = new QueueStatusPushService(getQueueTokenUseCase, fastPoll, waitingQueueOperator, 60_000, QUEUE_TTL_SECONDS);
+        given(getQueueTokenUseCase.getQueueToken(SHOW_ID, "token-1")).willReturn(QueueToken.waiting("token-1", 1));
+        RecordingListener listener = new RecordingListener();
+        Runnable unsubscribe = service.subscribe(SHOW_ID, "token-1", listener);
+        await().atMost(1, TimeUnit.SECONDS).until(() -> listener.statuses.size() == 1);
+
+        // when
+        unsubscribe.run();
+
+        // then
+        await().atMost(1, TimeUnit.SECONDS).until(() -> listener.completed);
+        assertThat(service.subscriptionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("heartbeat 간격이 잠수 제거 기준 이상이면 생성하지 않는다")
+    void shouldRejectHeartbeatIntervalNotShorterThanQueueTtl() {
+        assertThatThrownBy(() -> new QueueStatusPushService(getQueueTokenUseCase, fastPoll, waitingQueueOperator,
+                QUEUE_TTL_SECONDS * 1000, QUEUE_TTL_SECONDS))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class RecordingListener implements QueueStatusListener {
+
+        private final List<QueueToken> statuses = new CopyOnWriteArrayList<>();
+        private final AtomicReference<ErrorCode> error = new AtomicReference<>();
+        private volatile boolean completed;
+
+        @Override
+        public void onStatus(QueueToken queueToken) {
+            statuses.add(queueToken);
+        }
+
+        @Override
+        public void onError(ErrorCode errorCode) {
+            error.set(errorCode);
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
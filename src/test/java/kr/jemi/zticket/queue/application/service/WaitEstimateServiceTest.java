@@ -0,0 +1,72 @@
+package kr.jemi.zticket.queue.application.service;
+
+import kr.jemi.zticket.queue.application.port.out.AdmissionThroughputPort;
+import kr.jemi.zticket.queue.domain.WaitEstimate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WaitEstimateServiceTest {
+
+    @Mock
+    private AdmissionThroughputPort admissionThroughputPort;
+
+    private static final long SHOW_ID = 1L;
+    private static final long MIN_POLL_MS = 1000L;
+    private static final long MAX_POLL_MS = 20_000L;
+    private static final long DEFAULT_POLL_MS = 5000L;
+
+    @Test
+    @DisplayName("저장된 처리량으로 예상 대기 시간을 계산한다")
+    void shouldEstimateFromThroughput() {
+        // given
+        WaitEstimateService service = service(1000);
+        given(admissionThroughputPort.find(SHOW_ID)).willReturn(20.0);
+
+        // when
+        WaitEstimate estimate = service.estimate(SHOW_ID, 200);
+
+        // then
+        assertThat(estimate).isEqualTo(new WaitEstimate(10L, 5000));
+    }
+
+    @Test
+    @DisplayName("처리량이 없으면 기본 간격을 권장한다")
+    void shouldFallBackWhenThroughputUnknown() {
+        // given
+        WaitEstimateService service = service(1000);
+        given(admissionThroughputPort.find(SHOW_ID)).willReturn(0.0);
+
+        // when
+        WaitEstimate estimate = service.estimate(SHOW_ID, 200);
+
+        // then
+        assertThat(estimate).isEqualTo(WaitEstimate.unknown(DEFAULT_POLL_MS));
+    }
+
+    @Test
+    @DisplayName("캐시 시간 안에는 처리량을 다시 읽지 않는다")
+    void shouldCacheThroughput() {
+        // given
+        WaitEstimateService service = service(60_000);
+        given(admissionThroughputPort.find(SHOW_ID)).willReturn(20.0);
+
+        // when
+        service.estimate(SHOW_ID, 1);
+        service.estimate(SHOW_ID, 2);
+        service.estimate(SHOW_ID, 3);
+
+        // then
+        then(admissionThroughputPort).should(times(1)).find(SHOW_ID);
+    }
+
+    private WaitEstimateService service(long cacheMs) {
+        return new WaitEstimateService(admissionThroughputPort, MIN_POLL_MS, MAX_POLL_MS, DEFAULT_POLL_MS, cacheMs);
+    }
+}
@@ -27,6 +27,7 @@ class WaitingQueueOperatorTest {
 
     private WaitingQueueOperator operator;
 
+    private static final long SHOW_ID = 1L;
     private static final long QUEUE_TTL_SECONDS = 60L;
 
     @BeforeEach
@@ -42,30 +43,30 @@ class WaitingQueueOperatorTest {
         @DisplayName("대기열에 등록하고 heartbeat를 등록한 뒤 순번을 반환한다")
         void shouldEnqueueAndRegisterHeartbeat() {
             // given
-            given(waitingQueuePort.enqueue("token-1")).willReturn(5L);
+            given(waitingQueuePort.enqueue(SHOW_ID, "token-1")).willReturn(5L);
 
             // when
-            long rank = operator.enqueue("token-1");
+            long rank = operator.enqueue(SHOW_ID, "token-1");
 
             // then
             assertThat(rank).isEqualTo(5L);
-            then(waitingQueuePort).should().enqueue("token-1");
-            then(waitingQueueHeartbeatPort).should().refresh("token-1");
+            then(waitingQueuePort).should().enqueue(SHOW_ID, "token-1");
+            then(waitingQueueHeartbeatPort).should().register(SHOW_ID, "token-1");
         }
 
         @Test
-        @DisplayName("enqueue → refresh 순서로 실행된다")
+        @DisplayName("enqueue → register 순서로 실행된다")
         void shouldEnqueueBeforeRegister() {
             // given
-            given(waitingQueuePort.enqueue("token-1")).willReturn(1L);
+            given(waitingQueuePort.enqueue(SHOW_ID, "token-1")).willReturn(1L);
 
             // when
-            operator.enqueue("token-1");
+            operator.enqueue(SHOW_ID, "token-1");
 
             // then
             InOrder inOrder = inOrder(waitingQueuePort, waitingQueueHeartbeatPort);
-            inOrder.verify(waitingQueuePort).enqueue("token-1");
-            inOrder.verify(waitingQueueHeartbeatPort).refresh("token-1");
+            inOrder.verify(waitingQueuePort).enqueue(SHOW_ID, "token-1");
+            inOrder.verify(waitingQueueHeartbeatPort).register(SHOW_ID, "token-1");
         }
     }
 
@@ -77,10 +78,10 @@ class WaitingQueueOperatorTest {
         @DisplayName("대기열에 있으면 순번을 반환한다")
         void shouldReturnRankWhenAlive() {
             // given
-            given(waitingQueuePort.getRank("token-1")).willReturn(10L);
+            given(waitingQueuePort.getRank(SHOW_ID, "token-1")).willReturn(10L);
 
             // when
-            Long rank = operator.getRank("token-1");
+            Long rank = operator.getRank(SHOW_ID, "token-1");
 
             // then
             assertThat(rank).isEqualTo(10L);
@@ -95,10 +96,10 @@ class WaitingQueueOperatorTest {
         @DisplayName("waitingQueueHeartbeatPort에 갱신을 위임한다")
         void shouldDelegateToWaitingQueueHeartbeatPort() {
             // when
-            operator.refresh("token-1");
+            operator.refresh(SHOW_ID, "token-1");
 
             // then
-            then(waitingQueueHeartbeatPort).should().refresh("token-1");
+            then(waitingQueueHeartbeatPort).should().refresh(SHOW_ID, "token-1");
         }
     }
 
@@ -111,34 +112,70 @@ class WaitingQueueOperatorTest {
         void shouldDelegateToWaitingQueuePort() {
             // given
             List<String> candidates = List.of("token-1", "token-2");
-            given(waitingQueuePort.peek(2)).willReturn(candidates);
+            given(waitingQueuePort.peek(SHOW_ID, 2)).willReturn(candidates);
 
             // when
-            List<String> result = operator.peek(2);
+            List<String> result = operator.peek(SHOW_ID, 2);
 
             // then
             assertThat(result).containsExactly("token-1", "token-2");
-            then(waitingQueuePort).should().peek(2);
+            then(waitingQueuePort).should().peek(SHOW_ID, 2);
         }
     }
 
     @Nested
-    @DisplayName("findExpired() - 만료 유저 조회")
-    class FindExpired {
+    @DisplayName("removeExpired() - 잠수 유저 제거")
+    class RemoveExpired {
 
         @Test
-        @DisplayName("waitingQueueHeartbeatPort에 cutoff과 size를 전달하여 만료 유저를 조회한다")
-        void shouldFindExpiredWithCutoffAndSize() {
+        @DisplayName("heartbeat 버퍼를 먼저 기록한 뒤 cutoff 이전 유저를 제거한다")
+        void shouldFlushBeforeRemoving() {
             // given
-            List<String> expired = List.of("token-1", "token-2");
-            given(waitingQueueHeartbeatPort.findExpired(anyLong(), eq(100))).willReturn(expired);
+            long before = System.currentTimeMillis() - QUEUE_TTL_SECONDS * 1000;
+            given(waitingQueuePort.removeExpired(eq(SHOW_ID), anyLong(), eq(100))).willReturn(3);
 
             // when
-            List<String> result = operator.findExpired(100);
+            int removed = operator.removeExpired(SHOW_ID, 100);
+
+            // then
+            assertThat(removed).isEqualTo(3);
+            InOrder inOrder = inOrder(waitingQueueHeartbeatPort, waitingQueuePort);
+            inOrder.verify(waitingQueueHeartbeatPort).flush();
+            inOrder.verify(waitingQueuePort).removeExpired(eq(SHOW_ID), longThat(cutoff -> cutoff >= before), eq(100));
+        }
+
+        @Test
+        @DisplayName("한 조각이 가득 차면 같은 cutoff로 다음 조각을 제거하고 총 인원을 반환한다")
+        void shouldContinueWhileSliceIsFull() {
+            // given
+            given(waitingQueuePort.removeExpired(eq(SHOW_ID), anyLong(), eq(100))).willReturn(100, 100, 40);
+
+            // when
+            int removed = operator.removeExpired(SHOW_ID, 100);
+
+            // then
+            assertThat(removed).isEqualTo(240);
+            then(waitingQueuePort).should(times(3)).removeExpired(eq(SHOW_ID), anyLong(), eq(100));
+            then(waitingQueueHeartbeatPort).should(times(1)).flush();
+        }
+    }
+
+    @Nested
+    @DisplayName("admit() - 입장 처리")
+    class Admit {
+
+        @Test
+        @DisplayName("waitingQueuePort에 입장 처리를 위임하고 입장한 토큰을 반환한다")
+        void shouldDelegateToWaitingQueuePort() {
+            // given
+            given(waitingQueuePort.admit(SHOW_ID, 2, 300L)).willReturn(List.of("token-1", "token-2"));
+
+            // when
+            List<String> result = operator.admit(SHOW_ID, 2, 300L);
 
             // then
             assertThat(result).containsExactly("token-1", "token-2");
-            then(waitingQueueHeartbeatPort).should().findExpired(anyLong(), eq(100));
+            then(waitingQueueHeartbeatPort).shouldHaveNoInteractions();
         }
     }
 
@@ -153,11 +190,11 @@ class WaitingQueueOperatorTest {
             List<String> tokens = List.of("token-1", "token-2");
 
             // when
-            operator.removeAll(tokens);
+            operator.removeAll(SHOW_ID, tokens);
 
             // then
-            then(waitingQueuePort).should().removeAll(tokens);
-            then(waitingQueueHeartbeatPort).should().removeAll(tokens);
+            then(waitingQueuePort).should().removeAll(SHOW_ID, tokens);
+            then(waitingQueueHeartbeatPort).should().removeAll(SHOW_ID, tokens);
         }
     }
 }
@@ -0,0 +1,84 @@
+package kr.jemi.zticket.queue.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AimdRateTest {
+
+    private static final long SECONDS = 1_000L;
+    private static final long COOLDOWN = 10 * SECONDS;
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("과부하가 아니면 increase씩 올린다")
+    void increases_additively() {
+        AimdRate rate = new AimdRate(2, 100, 2, 0.5, COOLDOWN);
+
+        AimdRate.State first = rate.next(rate.initial(20), false, NOW);
+        AimdRate.State second = rate.next(first, false, NOW + SECONDS);
+
+        assertThat(first.rate()).isEqualTo(22);
+        assertThat(second.rate()).isEqualTo(24);
+    }
+
+    @Test
+    @DisplayName("과부하면 decreaseFactor배로 줄이고 줄인 시각을 기록한다")
+    void decreases_multiplicatively() {
+        AimdRate rate = new AimdRate(2, 100, 2, 0.5, COOLDOWN);
+
+        AimdRate.State next = rate.next(rate.initial(20), true, NOW);
+
+        assertThat(next).isEqualTo(new AimdRate.State(10, NOW));
+    }
+
+    @Test
+    @DisplayName("줄인 뒤 cooldown 동안은 과부하여도 더 줄이지 않고, 올리지도 않는다")
+    void holds_during_cooldown() {
+        AimdRate rate = new AimdRate(2, 100, 2, 0.5, COOLDOWN);
+        AimdRate.State decreased = rate.next(rate.initial(20), true, NOW);
+
+        assertThat(rate.next(decreased, true, NOW + 5 * SECONDS).rate()).isEqualTo(10);
+        assertThat(rate.next(decreased, false, NOW + 5 * SECONDS).rate()).isEqualTo(10);
+        assertThat(rate.next(decreased, true, NOW + COOLDOWN).rate()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("저장소에서 읽은 상태로 이어서 조절하므로 다른 노드가 줄인 직후에도 cooldown을 지킨다")
+    void continues_from_shared_state() {
+        AimdRate rate = new AimdRate(2, 100, 2, 0.5, COOLDOWN);
+        AimdRate.State sharedByPreviousLeader = new AimdRate.State(10, NOW);
+
+        assertThat(rate.next(sharedByPreviousLeader, true, NOW + SECONDS))
+                .isEqualTo(sharedByPreviousLeader);
+    }
+
+    @Test
+    @DisplayName("min과 max 밖으로 벗어나지 않는다")
+    void clamps_to_bounds() {
+        AimdRate rate = new AimdRate(2, 4, 2, 0.5, 0);
+
+        AimdRate.State increased = rate.next(rate.initial(3), false, NOW);
+        AimdRate.State decreased = rate.next(increased, true, NOW + SECONDS);
+
+        assertThat(increased.rate()).isEqualTo(4);
+        assertThat(decreased.rate()).isEqualTo(2);
+        assertThat(rate.next(decreased, true, NOW + 2 * SECONDS).rate()).isEqualTo(2);
+        assertThat(rate.initial(500).rate()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("범위나 계수가 잘못되면 생성할 수 없다")
+    void rejects_invalid_settings() {
+        assertThatThrownBy(() -> new AimdRate(0, 100, 2, 0.5, COOLDOWN))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AimdRate(10, 5, 2, 0.5, COOLDOWN))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AimdRate(2, 100, 0, 0.5, COOLDOWN))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AimdRate(2, 100, 2, 1, COOLDOWN))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,68 @@
+package kr.jemi.zticket.queue.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    @Test
+    @DisplayName("빈 상태에서 시작하여 경과 시간에 비례해 허가가 쌓인다")
+    void refills_by_elapsed_time() {
+        TokenBucket bucket = new TokenBucket(20, 100, 0);
+
+        assertThat(bucket.take(0)).isZero();
+        assertThat(bucket.take(100 * MILLIS)).isEqualTo(2);
+        assertThat(bucket.take(350 * MILLIS)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("소수점 아래 허가는 버리지 않고 다음 호출로 넘긴다")
+    void carries_fraction_over() {
+        TokenBucket bucket = new TokenBucket(5, 100, 0);
+
+        assertThat(bucket.take(100 * MILLIS)).isZero();
+        assertThat(bucket.take(200 * MILLIS)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("오래 쉬어도 capacity를 넘겨 쌓이지 않는다")
+    void caps_at_capacity() {
+        TokenBucket bucket = new TokenBucket(20, 10, 0);
+
+        assertThat(bucket.take(60_000 * MILLIS)).isEqualTo(10);
+        assertThat(bucket.take(60_000 * MILLIS)).isZero();
+    }
+
+    @Test
+    @DisplayName("쓰지 못한 허가를 돌려놓으면 다음 호출에서 다시 꺼낼 수 있다")
+    void giveBack_restores_unused_permits() {
+        TokenBucket bucket = new TokenBucket(20, 10, 0);
+        int granted = bucket.take(250 * MILLIS);
+
+        bucket.giveBack(granted - 2);
+
+        assertThat(bucket.take(250 * MILLIS)).isEqualTo(granted - 2);
+    }
+
+    @Test
+    @DisplayName("속도를 바꾸면 그 전까지는 이전 속도로, 그 뒤로는 새 속도로 쌓인다")
+    void changeRate_applies_from_now_on() {
+        TokenBucket bucket = new TokenBucket(20, 100, 0);
+
+        bucket.changeRate(40, 100 * MILLIS);
+
+        assertThat(bucket.take(200 * MILLIS)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("rate나 capacity가 0 이하이면 생성할 수 없다")
+    void rejects_non_positive_settings() {
+        assertThatThrownBy(() -> new TokenBucket(0, 10, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(20, 0, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,41 @@
+package kr.jemi.zticket.queue.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WaitEstimateTest {
+
+    @Test
+    @DisplayName("예상 대기 시간은 순번을 초당 입장 인원으로 나눈 값을 올림한다")
+    void eta_is_rank_over_throughput() {
+        WaitEstimate estimate = WaitEstimate.of(250, 20, 1000, 20_000);
+
+        assertThat(estimate.etaSeconds()).isEqualTo(13);
+    }
+
+    @Test
+    @DisplayName("다음 확인은 남은 시간의 절반 뒤로 잡는다")
+    void next_poll_is_half_of_eta() {
+        WaitEstimate estimate = WaitEstimate.of(200, 20, 1000, 20_000);
+
+        assertThat(estimate.nextPollMs()).isEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("다음 확인 간격은 min과 max 사이로 제한한다")
+    void next_poll_is_clamped() {
+        assertThat(WaitEstimate.of(1, 20, 1000, 20_000).nextPollMs()).isEqualTo(1000);
+        assertThat(WaitEstimate.of(10_000, 20, 1000, 20_000).nextPollMs()).isEqualTo(20_000);
+    }
+
+    @Test
+    @DisplayName("처리량을 모르면 예상 시간 없이 기본 간격만 권장한다")
+    void unknown_has_no_eta() {
+        WaitEstimate estimate = WaitEstimate.unknown(5000);
+
+        assertThat(estimate.etaSeconds()).isNull();
+        assertThat(estimate.nextPollMs()).isEqualTo(5000);
+    }
+}
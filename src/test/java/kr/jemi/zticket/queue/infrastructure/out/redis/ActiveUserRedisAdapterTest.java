@@ -0,0 +1,77 @@
+package kr.jemi.zticket.queue.infrastructure.out.redis;
+
+import kr.jemi.zticket.integration.IntegrationTestBase;
+import kr.jemi.zticket.queue.application.port.out.ActiveUserPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ActiveUserRedisAdapterTest extends IntegrationTestBase {
+
+    @Autowired
+    ActiveUserPort activeUserPort;
+
+    @Test
+    @DisplayName("activateBatch는 TTL 키와 인덱스를 함께 생성한다")
+    void activateBatch_creates_keys_and_index() {
+        activeUserPort.activateBatch(SHOW_ID, List.of("token-1", "token-2", "token-3"), 300);
+
+        assertThat(activeUserPort.countActive(SHOW_ID)).isEqualTo(3);
+        assertThat(activeUserPort.isActive(SHOW_ID, "token-2")).isTrue();
+        assertThat(redisTemplate.opsForZSet().zCard("show:{1}:active_users")).isEqualTo(3);
+        assertThat(redisTemplate.getExpire("show:{1}:active_user:token-1", TimeUnit.SECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 다시 activate해도 인원 수는 늘지 않는다")
+    void activate_is_idempotent() {
+        activeUserPort.activate(SHOW_ID, "token-1", 300);
+        activeUserPort.activate(SHOW_ID, "token-1", 300);
+        activeUserPort.activateBatch(SHOW_ID, List.of("token-1"), 300);
+
+        assertThat(activeUserPort.countActive(SHOW_ID)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("deactivate는 TTL 키와 인덱스 항목을 함께 제거한다")
+    void deactivate_removes_key_and_index() {
+        activeUserPort.activateBatch(SHOW_ID, List.of("token-1", "token-2"), 300);
+
+        activeUserPort.deactivate(SHOW_ID, "token-1");
+
+        assertThat(activeUserPort.isActive(SHOW_ID, "token-1")).isFalse();
+        assertThat(activeUserPort.countActive(SHOW_ID)).isEqualTo(1);
+        assertThat(redisTemplate.opsForZSet().score("show:{1}:active_users", "token-1")).isNull();
+    }
+
+    @Test
+    @DisplayName("deactivateBatch는 여러 토큰의 TTL 키와 인덱스 항목을 한 번에 제거한다")
+    void deactivateBatch_removes_every_token() {
+        activeUserPort.activateBatch(SHOW_ID, List.of("token-1", "token-2", "token-3"), 300);
+
+        activeUserPort.deactivateBatch(SHOW_ID, List.of("token-1", "token-2"));
+
+        assertThat(activeUserPort.isActive(SHOW_ID, "token-1")).isFalse();
+        assertThat(activeUserPort.isActive(SHOW_ID, "token-2")).isFalse();
+        assertThat(activeUserPort.isActive(SHOW_ID, "token-3")).isTrue();
+        assertThat(activeUserPort.countActive(SHOW_ID)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL이 지난 유저는 인원 수에서 빠지고 인덱스에서도 정리된다")
+    void expired_users_are_pruned_from_count() {
+        activeUserPort.activate(SHOW_ID, "token-1", 1);
+        activeUserPort.activate(SHOW_ID, "token-2", 300);
+
+        await().atMost(3, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(activeUserPort.countActive(SHOW_ID)).isEqualTo(1));
+
+        assertThat(redisTemplate.opsForZSet().score("show:{1}:active_users", "token-1")).isNull();
+    }
+}
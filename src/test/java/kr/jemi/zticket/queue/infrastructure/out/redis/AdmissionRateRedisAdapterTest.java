@@ -0,0 +1,33 @@
+package kr.jemi.zticket.queue.infrastructure.out.redis;
+
+import kr.jemi.zticket.integration.IntegrationTestBase;
+import kr.jemi.zticket.queue.application.port.out.AdmissionRatePort;
+import kr.jemi.zticket.queue.domain.AimdRate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdmissionRateRedisAdapterTest extends IntegrationTestBase {
+
+    @Autowired
+    AdmissionRatePort admissionRatePort;
+
+    @Test
+    @DisplayName("저장한 속도와 마지막으로 줄인 시각을 그대로 읽고, 키에는 TTL이 걸린다")
+    void save_and_find() {
+        admissionRatePort.save(new AimdRate.State(12.5, 1_700_000_000_000L));
+
+        assertThat(admissionRatePort.find()).contains(new AimdRate.State(12.5, 1_700_000_000_000L));
+        assertThat(redisTemplate.getExpire("admission_rate", TimeUnit.SECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("저장된 값이 없으면 빈 값을 반환한다")
+    void find_returns_empty_when_absent() {
+        assertThat(admissionRatePort.find()).isEmpty();
+    }
+}
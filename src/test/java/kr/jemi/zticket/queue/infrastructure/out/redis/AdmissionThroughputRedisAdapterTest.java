@@ -0,0 +1,83 @@
+package kr.jemi.zticket.queue.infrastructure.out.redis;
+
+import kr.jemi.zticket.integration.IntegrationTestBase;
+import kr.jemi.zticket.queue.application.port.out.AdmissionThroughputPort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AdmissionThroughputRedisAdapterTest extends IntegrationTestBase {
+
+    private static final String KEY = "show:{1}:admission_throughput";
+    private static final long WINDOW_MS = 10_000;
+
+    @Autowired
+    AdmissionThroughputPort admissionThroughputPort;
+
+    @Test
+    @DisplayName("첫 기록은 기준 시각만 남기고, 다음 기록에서 경과 시간으로 나눈 처리량을 그대로 쓴다")
+    void first_sample_is_taken_as_is() throws InterruptedException {
+        admissionThroughputPort.record(SHOW_ID, 5, WINDOW_MS);
+        assertThat(admissionThroughputPort.find(SHOW_ID)).isZero();
+
+        Thread.sleep(100);
+        admissionThroughputPort.record(SHOW_ID, 5, WINDOW_MS);
+
+        // 10명 / 100ms 남짓
+        assertThat(admissionThroughputPort.find(SHOW_ID)).isBetween(50.0, 100.0);
+        assertThat(redisTemplate.getExpire(KEY, TimeUnit.SECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("직전 기록 시각은 공유되므로 다른 리더의 기록에 이어서 평균을 낸다")
+    void continues_from_shared_state() {
+        // 직전 리더가 1초 전에 초당 20명으로 기록하고 멈췄다
+        seed(20, 0, System.currentTimeMillis() - 1000);
+
+        admissionThroughputPort.record(SHOW_ID, 20, WINDOW_MS);
+
+        // 표본도 초당 20명 남짓이므로 평균이 그대로 유지된다
+        assertThat(admissionThroughputPort.find(SHOW_ID)).isCloseTo(20, within(1.0));
+    }
+
+    @Test
+    @DisplayName("처리량이 바뀌면 시간 상수에 따라 천천히 따라간다")
+    void follows_changes_gradually() {
+        seed(20, 0, System.currentTimeMillis() - WINDOW_MS);
+
+        // 10초 동안 입장 없음 → 시간 상수만큼 지났으므로 1 - e^-1 만큼 0에 다가간다
+        admissionThroughputPort.record(SHOW_ID, 0, WINDOW_MS);
+
+        assertThat(admissionThroughputPort.find(SHOW_ID)).isCloseTo(20 * Math.exp(-1), within(0.1));
+    }
+
+    @Test
+    @DisplayName("경과 시간이 0 이하이면 입장 인원을 다음 기록으로 넘긴다")
+    void carries_over_when_no_time_elapsed() {
+        seed(20, 3, System.currentTimeMillis() + 60_000);
+
+        admissionThroughputPort.record(SHOW_ID, 2, WINDOW_MS);
+
+        assertThat(redisTemplate.opsForHash().get(KEY, "pending")).isEqualTo("5");
+        assertThat(admissionThroughputPort.find(SHOW_ID)).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("저장된 값이 없으면 0을 반환한다")
+    void find_returns_zero_when_absent() {
+        assertThat(admissionThroughputPort.find(SHOW_ID)).isZero();
+    }
+
+    private void seed(double rate, long pending, long recordedAtMillis) {
+        redisTemplate.opsForHash().putAll(KEY, Map.of(
+                "rate", String.valueOf(rate),
+                "pending", String.valueOf(pending),
+                "at", String.valueOf(recordedAtMillis)));
+    }
+}
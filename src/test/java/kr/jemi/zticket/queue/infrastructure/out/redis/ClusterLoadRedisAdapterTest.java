@@ -0,0 +1,38 @@
+package kr.jemi.zticket.queue.infrastructure.out.redis;
+
+import kr.jemi.zticket.integration.IntegrationTestBase;
+import kr.jemi.zticket.queue.application.port.out.ClusterLoadPort;
+import kr.jemi.zticket.queue.domain.DownstreamLoad;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClusterLoadRedisAdapterTest extends IntegrationTestBase {
+
+    @Autowired
+    ClusterLoadPort clusterLoadPort;
+
+    @Test
+    @DisplayName("노드마다 마지막으로 보고한 값 하나씩만 읽는다")
+    void keeps_latest_per_node() {
+        clusterLoadPort.report("node-1", new DownstreamLoad(100, 0, 2));
+        clusterLoadPort.report("node-1", new DownstreamLoad(300, 1, 4));
+        clusterLoadPort.report("node-2", new DownstreamLoad(50, 2, 8));
+
+        assertThat(clusterLoadPort.findRecent()).containsExactlyInAnyOrder(
+                new DownstreamLoad(300, 1, 4),
+                new DownstreamLoad(50, 2, 8));
+    }
+
+    @Test
+    @DisplayName("보고가 끊긴 노드의 값은 빼고 지운다")
+    void drops_stale_nodes() {
+        clusterLoadPort.report("node-1", new DownstreamLoad(100, 0, 2));
+        redisTemplate.opsForHash().put("downstream_load", "node-gone", "900.0,9.0,90.0,1000");
+
+        assertThat(clusterLoadPort.findRecent()).containsExactly(new DownstreamLoad(100, 0, 2));
+        assertThat(redisTemplate.opsForHash().hasKey("downstream_load", "node-gone")).isFalse();
+    }
+}
@@ -2,7 +2,10 @@ package kr.jemi.zticket.queue.infrastructure.out.redis;
 
 import kr.jemi.zticket.integration.IntegrationTestBase;
 import kr.jemi.zticket.queue.application.port.out.WaitingQueueHeartbeatPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -13,39 +16,107 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 class WaitingQueueHeartbeatRedisAdapterTest extends IntegrationTestBase {
 
+    private static final String KEY = "show:{1}:waiting_queue_heartbeat";
+
     @Autowired
     WaitingQueueHeartbeatPort waitingQueueHeartbeatPort;
 
     @Autowired
     StringRedisTemplate redisTemplate;
 
-    @Test
-    @DisplayName("findExpired는 cutoff 이후에 갱신된 유저는 반환하지 않는다")
-    void findExpired_excludes_refreshed_after_cutoff() throws InterruptedException {
-        waitingQueueHeartbeatPort.refresh("token-1");
-        waitingQueueHeartbeatPort.refresh("token-2");
-        waitingQueueHeartbeatPort.refresh("token-3");
+    @Nested
+    @DisplayName("버퍼링된 refresh")
+    class BufferedRefresh {
 
-        Thread.sleep(2);
-        long cutoff = System.currentTimeMillis() - 1;
+        private SimpleMeterRegistry meterRegistry;
+        private WaitingQueueHeartbeatRedisAdapter adapter;
 
-        waitingQueueHeartbeatPort.refresh("token-3");
+        @BeforeEach
+        void setUp() {
+            meterRegistry = new SimpleMeterRegistry();
+            adapter = new WaitingQueueHeartbeatRedisAdapter(redisTemplate, meterRegistry, 3);
+        }
 
-        List<String> expired = waitingQueueHeartbeatPort.findExpired(cutoff, 100);
+        @Test
+        @DisplayName("같은 토큰의 여러 폴링은 flush 시 가장 최근 폴링 시각 하나로 기록된다")
+        void refresh_coalesces_by_token() throws InterruptedException {
+            redisTemplate.opsForZSet().add(KEY, "token-1", 1);
+            adapter.refresh(SHOW_ID, "token-1");
+            Thread.sleep(2);
+            long beforeLastPoll = System.currentTimeMillis();
+            adapter.refresh(SHOW_ID, "token-1");
 
-        assertThat(expired).containsExactlyInAnyOrder("token-1", "token-2");
-        assertThat(redisTemplate.opsForZSet().rank("waiting_queue_heartbeat", "token-1")).isNotNull();
-        assertThat(redisTemplate.opsForZSet().rank("waiting_queue_heartbeat", "token-2")).isNotNull();
-        assertThat(redisTemplate.opsForZSet().rank("waiting_queue_heartbeat", "token-3")).isNotNull();
-    }
+            assertThat(redisTemplate.opsForZSet().score(KEY, "token-1")).as("flush 전").isEqualTo(1);
+
+            adapter.flush();
+
+            assertThat(redisTemplate.opsForZSet().score(KEY, "token-1")).isGreaterThanOrEqualTo(beforeLastPoll);
+            assertThat(meterRegistry.summary("zticket.queue.heartbeat.flush.size").totalAmount()).isEqualTo(1);
+            assertThat(meterRegistry.timer("zticket.queue.heartbeat.flush.lag").count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("flush는 이미 기록된 더 최근 heartbeat를 덮어쓰지 않는다")
+        void flush_does_not_overwrite_newer_heartbeat() {
+            adapter.refresh(SHOW_ID, "token-1");
+            long newer = System.currentTimeMillis() + 60_000;
+            redisTemplate.opsForZSet().add(KEY, "token-1", newer);
+
+            adapter.flush();
+
+            assertThat(redisTemplate.opsForZSet().score(KEY, "token-1")).isEqualTo((double) newer);
+        }
+
+        @Test
+        @DisplayName("버퍼가 max-pending에 도달하면 폴링 스레드가 직접 flush한다")
+        void refresh_flushes_when_buffer_is_full() {
+            List.of("token-1", "token-2", "token-3").forEach(token -> redisTemplate.opsForZSet().add(KEY, token, 1));
+            adapter.refresh(SHOW_ID, "token-1");
+            adapter.refresh(SHOW_ID, "token-2");
+            assertThat(redisTemplate.opsForZSet().rangeByScore(KEY, 1, 1)).hasSize(3);
+
+            adapter.refresh(SHOW_ID, "token-3");
+
+            assertThat(redisTemplate.opsForZSet().rangeByScore(KEY, 1, 1)).isEmpty();
+            assertThat(meterRegistry.counter("zticket.queue.heartbeat.overflow.flush").count()).isEqualTo(1);
+            assertThat(meterRegistry.get("zticket.queue.heartbeat.pending").gauge().value()).isZero();
+        }
+
+        @Test
+        @DisplayName("removeAll은 아직 flush되지 않은 heartbeat도 버퍼에서 제거한다")
+        void removeAll_drops_buffered_heartbeat() {
+            adapter.register(SHOW_ID, "token-1");
+            adapter.refresh(SHOW_ID, "token-1");
+
+            adapter.removeAll(SHOW_ID, List.of("token-1"));
+            adapter.flush();
+
+            assertThat(redisTemplate.opsForZSet().score(KEY, "token-1")).isNull();
+        }
+
+        @Test
+        @DisplayName("버퍼에 담긴 뒤 다른 경로(입장·다른 노드의 잠수 제거)로 빠진 토큰은 flush가 되살리지 않는다")
+        void flush_does_not_recreate_removed_heartbeat() {
+            adapter.register(SHOW_ID, "token-1");
+            adapter.register(SHOW_ID, "token-2");
+            adapter.refresh(SHOW_ID, "token-1");
+            adapter.refresh(SHOW_ID, "token-2");
+            redisTemplate.opsForZSet().remove(KEY, "token-1");
+
+            adapter.flush();
+
+            assertThat(redisTemplate.opsForZSet().score(KEY, "token-1")).isNull();
+            assertThat(redisTemplate.opsForZSet().score(KEY, "token-2")).isNotNull();
+        }
 
-    @Test
-    @DisplayName("findExpired는 만료 유저가 없으면 빈 리스트를 반환한다")
-    void findExpired_returns_empty_when_none_expired() {
-        waitingQueueHeartbeatPort.refresh("token-1");
+        @Test
+        @DisplayName("등록되지 않은 토큰의 refresh는 heartbeat를 만들지 않는다")
+        void flush_does_not_create_unregistered_heartbeat() {
+            adapter.refresh(SHOW_ID, "token-1");
 
-        List<String> expired = waitingQueueHeartbeatPort.findExpired(0, 100);
+            adapter.flush();
 
-        assertThat(expired).isEmpty();
+            assertThat(redisTemplate.opsForZSet().score(KEY, "token-1")).isNull();
+        }
     }
 }
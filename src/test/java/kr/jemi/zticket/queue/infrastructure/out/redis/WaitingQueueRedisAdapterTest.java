@@ -12,17 +12,19 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 class WaitingQueueRedisAdapterTest extends IntegrationTestBase {
 
+    private static final String HEARTBEAT_KEY = "show:{1}:waiting_queue_heartbeat";
+
     @Autowired
     WaitingQueuePort waitingQueuePort;
 
     @Test
     @DisplayName("peekCandidates(0)은 빈 리스트를 반환한다")
     void peek_zero_returns_empty() {
-        waitingQueuePort.enqueue("token-1");
-        waitingQueuePort.enqueue("token-2");
-        waitingQueuePort.enqueue("token-3");
+        waitingQueuePort.enqueue(SHOW_ID, "token-1");
+        waitingQueuePort.enqueue(SHOW_ID, "token-2");
+        waitingQueuePort.enqueue(SHOW_ID, "token-3");
 
-        List<String> result = waitingQueuePort.peek(0);
+        List<String> result = waitingQueuePort.peek(SHOW_ID, 0);
 
         assertThat(result).isEmpty();
     }
@@ -30,11 +32,11 @@ class WaitingQueueRedisAdapterTest extends IntegrationTestBase {
     @Test
     @DisplayName("peekCandidates(1)은 FIFO 순서로 정확히 1건만 반환한다")
     void peek_one_returns_single() {
-        waitingQueuePort.enqueue("token-1");
-        waitingQueuePort.enqueue("token-2");
-        waitingQueuePort.enqueue("token-3");
+        waitingQueuePort.enqueue(SHOW_ID, "token-1");
+        waitingQueuePort.enqueue(SHOW_ID, "token-2");
+        waitingQueuePort.enqueue(SHOW_ID, "token-3");
 
-        List<String> result = waitingQueuePort.peek(1);
+        List<String> result = waitingQueuePort.peek(SHOW_ID, 1);
 
         assertThat(result).containsExactly("token-1");
     }
@@ -42,9 +44,9 @@ class WaitingQueueRedisAdapterTest extends IntegrationTestBase {
     @Test
     @DisplayName("peekCandidates(음수)도 빈 리스트를 반환한다")
     void peek_negative_returns_empty() {
-        waitingQueuePort.enqueue("token-1");
+        waitingQueuePort.enqueue(SHOW_ID, "token-1");
 
-        List<String> result = waitingQueuePort.peek(-1);
+        List<String> result = waitingQueuePort.peek(SHOW_ID, -1);
 
         assertThat(result).isEmpty();
     }
@@ -52,12 +54,49 @@ class WaitingQueueRedisAdapterTest extends IntegrationTestBase {
     @Test
     @DisplayName("remove는 waiting_queue에서 유저를 제거한다")
     void remove_deletes_from_queue() {
-        waitingQueuePort.enqueue("token-1");
-        waitingQueuePort.enqueue("token-2");
+        waitingQueuePort.enqueue(SHOW_ID, "token-1");
+        waitingQueuePort.enqueue(SHOW_ID, "token-2");
+
+        waitingQueuePort.removeAll(SHOW_ID, List.of("token-1"));
 
-        waitingQueuePort.removeAll(List.of("token-1"));
+        assertThat(waitingQueuePort.getRank(SHOW_ID, "token-1")).isNull();
+        assertThat(waitingQueuePort.getRank(SHOW_ID, "token-2")).isNotNull();
+    }
 
-        assertThat(waitingQueuePort.getRank("token-1")).isNull();
-        assertThat(waitingQueuePort.getRank("token-2")).isNotNull();
+    @Test
+    @DisplayName("removeExpired는 cutoff 이전 heartbeat를 limit명까지 대기열과 heartbeat에서 함께 제거한다")
+    void removeExpired_removes_from_queue_and_heartbeat() {
+        for (int i = 1; i <= 4; i++) {
+            waitingQueuePort.enqueue(SHOW_ID, "token-" + i);
+            redisTemplate.opsForZSet().add(HEARTBEAT_KEY, "token-" + i, i * 1000);
+        }
+
+        assertThat(waitingQueuePort.removeExpired(SHOW_ID, 3500, 2)).isEqualTo(2);
+        assertThat(waitingQueuePort.removeExpired(SHOW_ID, 3500, 2)).isEqualTo(1);
+
+        assertThat(waitingQueuePort.getRank(SHOW_ID, "token-1")).isNull();
+        assertThat(waitingQueuePort.getRank(SHOW_ID, "token-3")).isNull();
+        assertThat(waitingQueuePort.getRank(SHOW_ID, "token-4")).isEqualTo(1);
+        assertThat(redisTemplate.opsForZSet().range(HEARTBEAT_KEY, 0, -1)).containsExactly("token-4");
+    }
+
+    @Test
+    @DisplayName("admit는 앞에서 count명을 꺼내 active로 등록하고 대기열과 heartbeat에서 제거한다")
+    void admit_activates_and_removes_head() {
+        for (int i = 1; i <= 3; i++) {
+            waitingQueuePort.enqueue(SHOW_ID, "token-" + i);
+            redisTemplate.opsForZSet().add(HEARTBEAT_KEY, "token-" + i, i * 1000);
+        }
+
+        List<String> admitted = waitingQueuePort.admit(SHOW_ID, 2, 300);
+
+        assertThat(admitted).containsExactly("token-1", "token-2");
+        assertThat(redisTemplate.getExpire("show:{1}:active_user:token-1")).isPositive();
+        assertThat(redisTemplate.opsForZSet().range("show:{1}:active_users", 0, -1))
+                .containsExactlyInAnyOrder("token-1", "token-2");
+        assertThat(waitingQueuePort.getRank(SHOW_ID, "token-1")).isNull();
+        assertThat(waitingQueuePort.getRank(SHOW_ID, "token-3")).isEqualTo(1);
+        assertThat(redisTemplate.opsForZSet().range(HEARTBEAT_KEY, 0, -1)).containsExactly("token-3");
+        assertThat(waitingQueuePort.admit(SHOW_ID, 0, 300)).isEmpty();
     }
 }
@@ -0,0 +1,123 @@
+package kr.jemi.zticket.queue.infrastructure.out.redis;
+
+import kr.jemi.zticket.integration.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WaitingQueueSequenceRedisAdapterTest extends IntegrationTestBase {
+
+    private static final String HEARTBEAT_KEY = "show:{1}:waiting_queue_heartbeat";
+
+    private WaitingQueueSequenceRedisAdapter waitingQueueSequenceRedisAdapter;
+
+    @BeforeEach
+    void setUp() {
+        waitingQueueSequenceRedisAdapter = new WaitingQueueSequenceRedisAdapter(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("enqueue는 진입 순서대로 1부터 순번을 반환하고, 같은 토큰의 재진입은 기존 순번을 반환한다")
+    void enqueue_returns_fifo_rank() {
+        assertThat(waitingQueueSequenceRedisAdapter.enqueue(SHOW_ID, "token-1")).isEqualTo(1);
+        assertThat(waitingQueueSequenceRedisAdapter.enqueue(SHOW_ID, "token-2")).isEqualTo(2);
+        assertThat(waitingQueueSequenceRedisAdapter.enqueue(SHOW_ID, "token-3")).isEqualTo(3);
+
+        assertThat(waitingQueueSequenceRedisAdapter.enqueue(SHOW_ID, "token-2")).as("재진입").isEqualTo(2);
+        assertThat(waitingQueueSequenceRedisAdapter.getRank(SHOW_ID, "token-3")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("중간 유저가 빠지면 뒤 유저의 순번이 당겨지고, peek은 빠진 번호를 건너뛴다")
+    void removed_in_the_middle_shifts_rank() {
+        for (int i = 1; i <= 5; i++) {
+            waitingQueueSequenceRedisAdapter.enqueue(SHOW_ID, "token-" + i);
+        }
+
+        waitingQueueSequenceRedisAdapter.removeAll(SHOW_ID, List.of("token-2", "token-4"));
+
+        assertThat(waitingQueueSequenceRedisAdapter.getRank(SHOW_ID, "token-2")).isNull();
+        assertThat(waitingQueueSequenceRedisAdapter.getRank(SHOW_ID, "token-3")).isEqualTo(2);
+        assertThat(waitingQueueSequenceRedisAdapter.getRank(SHOW_ID, "token-5")).isEqualTo(3);
+        assertThat(waitingQueueSequenceRedisAdapter.peek(SHOW_ID, 3)).containsExactly("token-1", "token-3", "token-5");
+    }
+
+    @Test
+    @DisplayName("앞쪽 유저가 빠지면 cursor가 연속 구간만큼 당겨지고 removed 항목이 정리된다")
+    void removing_head_advances_cursor() {
+        for (int i = 1; i <= 5; i++) {
+            waitingQueueSequenceRedisAdapter.enqueue(SHOW_ID, "token-" + i);
+        }
+        waitingQueueSequenceRedisAdapter.removeAll(SHOW_ID, List.of("token-3"));
+
+        waitingQueueSequenceRedisAdapter.removeAll(SHOW_ID, List.of("token-1", "token-2"));
+
+        assertThat(redisTemplate.opsForValue().get("show:{1}:waiting_queue_cursor")).isEqualTo("3");
+        assertThat(redisTemplate.opsForZSet().zCard("show:{1}:waiting_queue_removed")).isZero();
+        assertThat(waitingQueueSequenceRedisAdapter.getRank(SHOW_ID, "token-4")).isEqualTo(1);
+        assertThat(waitingQueueSequenceRedisAdapter.peek(SHOW_ID, 1)).containsExactly("token-4");
+    }
+
+    @Test
+    @DisplayName("peek(0)과 빈 대기열의 peek은 빈 리스트를 반환한다")
+    void peek_empty() {
+        assertThat(waitingQueueSequenceRedisAdapter.peek(SHOW_ID, 3)).isEmpty();
+
+        waitingQueueSequenceRedisAdapter.enqueue(SHOW_ID, "token-1");
+
+        assertThat(waitingQueueSequenceRedisAdapter.peek(SHOW_ID, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모두 빠진 뒤 새로 진입한 유저는 순번 1을 받는다")
+    void enqueue_after_drain_starts_from_one() {
+        waitingQueueSequenceRedisAdapter.enqueue(SHOW_ID, "token-1");
+        waitingQueueSequenceRedisAdapter.enqueue(SHOW_ID, "token-2");
+        waitingQueueSequenceRedisAdapter.removeAll(SHOW_ID, List.of("token-1", "token-2"));
+
+        assertThat(waitingQueueSequenceRedisAdapter.enqueue(SHOW_ID, "token-3")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("removeExpired는 cutoff 이전 heartbeat를 limit명까지 대기열과 heartbeat에서 함께 제거한다")
+    void removeExpired_removes_from_queue_and_heartbeat() {
+        for (int i = 1; i <= 4; i++) {
+            waitingQueueSequenceRedisAdapter.enqueue(SHOW_ID, "token-" + i);
+            redisTemplate.opsForZSet().add(HEARTBEAT_KEY, "token-" + i, i * 1000);
+        }
+
+        assertThat(waitingQueueSequenceRedisAdapter.removeExpired(SHOW_ID, 3500, 2)).isEqualTo(2);
+        assertThat(waitingQueueSequenceRedisAdapter.removeExpired(SHOW_ID, 3500, 2)).isEqualTo(1);
+
+        assertThat(waitingQueueSequenceRedisAdapter.getRank(SHOW_ID, "token-1")).isNull();
+        assertThat(waitingQueueSequenceRedisAdapter.getRank(SHOW_ID, "token-3")).isNull();
+        assertThat(waitingQueueSequenceRedisAdapter.getRank(SHOW_ID, "token-4")).isEqualTo(1);
+        assertThat(redisTemplate.opsForZSet().range(HEARTBEAT_KEY, 0, -1)).containsExactly("token-4");
+        assertThat(waitingQueueSequenceRedisAdapter.peek(SHOW_ID, 3)).containsExactly("token-4");
+    }
+
+    @Test
+    @DisplayName("admit는 앞에서 count명을 꺼내 active로 등록하고 대기열과 heartbeat에서 제거한다")
+    void admit_activates_and_removes_head() {
+        for (int i = 1; i <= 3; i++) {
+            waitingQueueSequenceRedisAdapter.enqueue(SHOW_ID, "token-" + i);
+            redisTemplate.opsForZSet().add(HEARTBEAT_KEY, "token-" + i, i * 1000);
+        }
+
+        List<String> admitted = waitingQueueSequenceRedisAdapter.admit(SHOW_ID, 2, 300);
+
+        assertThat(admitted).containsExactly("token-1", "token-2");
+        assertThat(redisTemplate.getExpire("show:{1}:active_user:token-1")).isPositive();
+        assertThat(redisTemplate.opsForZSet().range("show:{1}:active_users", 0, -1))
+                .containsExactlyInAnyOrder("token-1", "token-2");
+        assertThat(waitingQueueSequenceRedisAdapter.getRank(SHOW_ID, "token-1")).isNull();
+        assertThat(waitingQueueSequenceRedisAdapter.getRank(SHOW_ID, "token-3")).isEqualTo(1);
+        assertThat(redisTemplate.opsForZSet().range(HEARTBEAT_KEY, 0, -1)).containsExactly("token-3");
+        assertThat(waitingQueueSequenceRedisAdapter.admit(SHOW_ID, 0, 300)).isEmpty();
+        assertThat(waitingQueueSequenceRedisAdapter.peek(SHOW_ID, 3)).containsExactly("token-3");
+    }
+}
@@ -0,0 +1,104 @@
+package kr.jemi.zticket.queue.infrastructure.out.redis;
+
+import kr.jemi.zticket.integration.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WaitingQueueShardedRedisAdapterTest extends IntegrationTestBase {
+
+    private static final int SHARD_COUNT = 4;
+    private static final String HEARTBEAT_KEY = "show:{1}:waiting_queue_heartbeat";
+
+    private WaitingQueueShardedRedisAdapter waitingQueueShardedRedisAdapter;
+
+    @BeforeEach
+    void setUp() {
+        waitingQueueShardedRedisAdapter = new WaitingQueueShardedRedisAdapter(redisTemplate, SHARD_COUNT);
+    }
+
+    @Test
+    @DisplayName("enqueue는 샤드와 관계없이 진입 순서대로 1부터 순번을 반환하고, 재진입은 기존 순번을 반환한다")
+    void enqueue_returns_global_fifo_rank() {
+        for (int i = 1; i <= 20; i++) {
+            assertThat(waitingQueueShardedRedisAdapter.enqueue(SHOW_ID, "token-" + i)).isEqualTo(i);
+        }
+
+        assertThat(waitingQueueShardedRedisAdapter.enqueue(SHOW_ID, "token-7")).as("재진입").isEqualTo(7);
+        assertThat(waitingQueueShardedRedisAdapter.getRank(SHOW_ID, "token-20")).isEqualTo(20);
+        long usedShards = IntStream.range(0, SHARD_COUNT)
+                .filter(shard -> redisTemplate.opsForZSet().zCard("show:{1:" + shard + "}:waiting_queue") > 0)
+                .count();
+        assertThat(usedShards).as("여러 샤드에 나뉘어 저장").isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("peek은 샤드별 앞쪽 토큰을 진입 순서로 병합하고, 제거된 토큰 뒤의 순번은 당겨진다")
+    void peek_merges_shards_in_fifo_order() {
+        for (int i = 1; i <= 10; i++) {
+            waitingQueueShardedRedisAdapter.enqueue(SHOW_ID, "token-" + i);
+        }
+
+        waitingQueueShardedRedisAdapter.removeAll(SHOW_ID, List.of("token-1", "token-3"));
+
+        assertThat(waitingQueueShardedRedisAdapter.peek(SHOW_ID, 4))
+                .containsExactly("token-2", "token-4", "token-5", "token-6");
+        assertThat(waitingQueueShardedRedisAdapter.getRank(SHOW_ID, "token-1")).isNull();
+        assertThat(waitingQueueShardedRedisAdapter.getRank(SHOW_ID, "token-4")).isEqualTo(2);
+        assertThat(waitingQueueShardedRedisAdapter.getRank(SHOW_ID, "token-10")).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("peek(0)과 빈 대기열의 peek은 빈 리스트를 반환한다")
+    void peek_empty() {
+        assertThat(waitingQueueShardedRedisAdapter.peek(SHOW_ID, 3)).isEmpty();
+
+        waitingQueueShardedRedisAdapter.enqueue(SHOW_ID, "token-1");
+
+        assertThat(waitingQueueShardedRedisAdapter.peek(SHOW_ID, 0)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("removeExpired는 cutoff 이전 heartbeat를 limit명까지 대기열과 heartbeat에서 함께 제거한다")
+    void removeExpired_removes_from_queue_and_heartbeat() {
+        for (int i = 1; i <= 4; i++) {
+            waitingQueueShardedRedisAdapter.enqueue(SHOW_ID, "token-" + i);
+            redisTemplate.opsForZSet().add(HEARTBEAT_KEY, "token-" + i, i * 1000);
+        }
+
+        assertThat(waitingQueueShardedRedisAdapter.removeExpired(SHOW_ID, 3500, 2)).isEqualTo(2);
+        assertThat(waitingQueueShardedRedisAdapter.removeExpired(SHOW_ID, 3500, 2)).isEqualTo(1);
+
+        assertThat(waitingQueueShardedRedisAdapter.getRank(SHOW_ID, "token-1")).isNull();
+        assertThat(waitingQueueShardedRedisAdapter.getRank(SHOW_ID, "token-3")).isNull();
+        assertThat(waitingQueueShardedRedisAdapter.getRank(SHOW_ID, "token-4")).isEqualTo(1);
+        assertThat(redisTemplate.opsForZSet().range(HEARTBEAT_KEY, 0, -1)).containsExactly("token-4");
+        assertThat(waitingQueueShardedRedisAdapter.peek(SHOW_ID, 3)).containsExactly("token-4");
+    }
+
+    @Test
+    @DisplayName("admit는 앞에서 count명을 꺼내 active로 등록하고 대기열과 heartbeat에서 제거한다")
+    void admit_activates_and_removes_head() {
+        for (int i = 1; i <= 3; i++) {
+            waitingQueueShardedRedisAdapter.enqueue(SHOW_ID, "token-" + i);
+            redisTemplate.opsForZSet().add(HEARTBEAT_KEY, "token-" + i, i * 1000);
+        }
+
+        List<String> admitted = waitingQueueShardedRedisAdapter.admit(SHOW_ID, 2, 300);
+
+        assertThat(admitted).containsExactly("token-1", "token-2");
+        assertThat(redisTemplate.getExpire("show:{1}:active_user:token-1")).isPositive();
+        assertThat(redisTemplate.opsForZSet().range("show:{1}:active_users", 0, -1))
+                .containsExactlyInAnyOrder("token-1", "token-2");
+        assertThat(waitingQueueShardedRedisAdapter.getRank(SHOW_ID, "token-1")).isNull();
+        assertThat(waitingQueueShardedRedisAdapter.getRank(SHOW_ID, "token-3")).isEqualTo(1);
+        assertThat(redisTemplate.opsForZSet().range(HEARTBEAT_KEY, 0, -1)).containsExactly("token-3");
+        assertThat(waitingQueueShardedRedisAdapter.admit(SHOW_ID, 0, 300)).isEmpty();
+        assertThat(waitingQueueShardedRedisAdapter.peek(SHOW_ID, 3)).containsExactly("token-3");
+    }
+}
@@ -1,7 +1,13 @@
 package kr.jemi.zticket.seat.application.service;
 
+import kr.jemi.zticket.common.exception.BusinessException;
+import kr.jemi.zticket.common.exception.ErrorCode;
+import kr.jemi.zticket.common.show.ShowCatalog;
+import kr.jemi.zticket.seat.application.port.out.SeatHoldExpiryEventPort;
 import kr.jemi.zticket.seat.application.port.out.SeatPort;
 import kr.jemi.zticket.seat.domain.Seat;
+import kr.jemi.zticket.seat.domain.SeatAvailability;
+import kr.jemi.zticket.seat.domain.SeatMap;
 import kr.jemi.zticket.seat.domain.SeatStatus;
 import kr.jemi.zticket.seat.domain.Seats;
 import org.junit.jupiter.api.DisplayName;
@@ -10,25 +16,44 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
 class SeatServiceTest {
 
+    private static final long SHOW_ID = 1L;
+
     @Mock
     private SeatPort seatPort;
 
+    @Mock
+    private SeatHoldExpiryEventPort seatHoldExpiryEventPort;
+
+    private PaidSeatCache paidSeatCache;
+
     private SeatService seatService;
 
     @BeforeEach
     void setUp() {
-        seatService = new SeatService(seatPort, 3);
+        paidSeatCache = new PaidSeatCache(3);
+        seatService = new SeatService(seatPort, seatHoldExpiryEventPort, paidSeatCache, new ShowCatalog(List.of(SHOW_ID)), 3);
     }
 
     @Test
@@ -40,14 +65,233 @@ class SeatServiceTest {
                 2, new Seat(SeatStatus.PAID, "token-2"),
                 3, new Seat(SeatStatus.AVAILABLE, null)
         ));
-        given(seatPort.getStatuses(anyList())).willReturn(portStatuses);
+        given(seatPort.getStatuses(eq(SHOW_ID), anyList())).willReturn(portStatuses);
 
         // when
-        Seats result = seatService.getSeats();
+        Seats result = seatService.getSeats(SHOW_ID);
 
         // then
         assertThat(result.of(1)).isEqualTo(new Seat(SeatStatus.HELD, "token-1"));
         assertThat(result.of(2)).isEqualTo(new Seat(SeatStatus.PAID, "token-2"));
         assertThat(result.of(3)).isEqualTo(new Seat(SeatStatus.AVAILABLE, null));
     }
+
+    @Test
+    @DisplayName("잔여 좌석 수는 전체 좌석 조회 없이 SeatPort 카운터를 반환한다")
+    void shouldReturnAvailableCountFromCounter() {
+        // given
+        given(seatPort.countAvailable(SHOW_ID)).willReturn(42);
+
+        // when
+        int result = seatService.getAvailableCount(SHOW_ID);
+
+        // then
+        assertThat(result).isEqualTo(42);
+        then(seatPort).should(never()).getStatuses(eq(SHOW_ID), anyList());
+    }
+
+    @Test
+    @DisplayName("기준 버전 이후 바뀐 좌석만 현재 버전과 함께 반환한다")
+    void shouldReturnChangedSeatsOnly() {
+        // given
+        given(seatPort.getSeatMapVersion(SHOW_ID)).willReturn(7L);
+        given(seatPort.getChangedSeatNumbers(SHOW_ID, 5)).willReturn(List.of(2));
+        given(seatPort.getStatuses(SHOW_ID, List.of(2)))
+                .willReturn(new Seats(Map.of(2, new Seat(SeatStatus.PAID, "token-2"))));
+
+        // when
+        SeatMap result = seatService.getSeatMapChangedSince(SHOW_ID, 5);
+
+        // then
+        assertThat(result.version()).isEqualTo(7);
+        assertThat(result.seats().seatNumbers()).containsExactly(2);
+        assertThat(result.seats().of(2)).isEqualTo(new Seat(SeatStatus.PAID, "token-2"));
+    }
+
+    @Test
+    @DisplayName("바뀐 좌석이 없으면 좌석 상태를 조회하지 않는다")
+    void shouldSkipStatusLookupWhenNothingChanged() {
+        // given
+        given(seatPort.getSeatMapVersion(SHOW_ID)).willReturn(7L);
+        given(seatPort.getChangedSeatNumbers(SHOW_ID, 7)).willReturn(List.of());
+
+        // when
+        SeatMap result = seatService.getSeatMapChangedSince(SHOW_ID, 7);
+
+        // then
+        assertThat(result.seats().seatNumbers()).isEmpty();
+        then(seatPort).should(never()).getStatuses(eq(SHOW_ID), anyList());
+    }
+
+    @Test
+    @DisplayName("기준 버전이 현재 버전보다 크면(Redis 초기화) 전체 좌석 맵을 반환한다")
+    void shouldFallBackToFullMapWhenVersionIsAhead() {
+        // given
+        given(seatPort.getSeatMapVersion(SHOW_ID)).willReturn(0L);
+        given(seatPort.getStatuses(SHOW_ID, List.of(1, 2, 3))).willReturn(new Seats(Map.of(
+                1, new Seat(SeatStatus.AVAILABLE, null),
+                2, new Seat(SeatStatus.AVAILABLE, null),
+                3, new Seat(SeatStatus.AVAILABLE, null)
+        )));
+
+        // when
+        SeatMap result = seatService.getSeatMapChangedSince(SHOW_ID, 42);
+
+        // then
+        assertThat(result.version()).isZero();
+        assertThat(result.seats().seatNumbers()).containsExactly(1, 2, 3);
+        then(seatPort).should(never()).getChangedSeatNumbers(SHOW_ID, 42);
+    }
+
+    @Test
+    @DisplayName("좌석 맵 버전이 같으면 비트셋을 다시 만들지 않고 공유한다")
+    void shouldReuseAvailabilityForSameVersion() {
+        // given
+        given(seatPort.getSeatMapVersion(SHOW_ID)).willReturn(7L, 7L, 8L);
+        given(seatPort.getStatuses(eq(SHOW_ID), anyList())).willReturn(new Seats(Map.of(
+                1, new Seat(SeatStatus.AVAILABLE, null),
+                2, new Seat(SeatStatus.AVAILABLE, null),
+                3, new Seat(SeatStatus.AVAILABLE, null)
+        )));
+
+        // when
+        SeatAvailability first = seatService.getSeatAvailability(SHOW_ID);
+        SeatAvailability second = seatService.getSeatAvailability(SHOW_ID);
+        SeatAvailability third = seatService.getSeatAvailability(SHOW_ID);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(third.version()).isEqualTo(8);
+        then(seatPort).should(times(2)).getStatuses(eq(SHOW_ID), anyList());
+    }
+
+    @Test
+    @DisplayName("만료 알림으로 표시된 공연마다 sweep을 한 번씩 하고, 한 공연이 실패해도 나머지는 처리한다")
+    void shouldExpireMarkedHoldsOncePerShow() {
+        // given
+        given(seatHoldExpiryEventPort.drainExpired()).willReturn(List.of(1L, 2L));
+        given(seatPort.releaseExpiredHolds(1L)).willThrow(new IllegalStateException("redis down"));
+        given(seatPort.releaseExpiredHolds(2L)).willReturn(List.of(3, 4));
+
+        // when & then
+        assertThatThrownBy(() -> seatService.expireMarkedHolds()).isInstanceOf(IllegalStateException.class);
+        then(seatPort).should(times(1)).releaseExpiredHolds(1L);
+        then(seatPort).should(times(1)).releaseExpiredHolds(2L);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀐 직후 동시에 몰린 조회는 비트셋을 한 번만 만들고 결과를 나눠 쓴다")
+    void shouldLoadAvailabilityOnceForConcurrentMisses() throws Exception {
+        // given - 첫 조회가 Redis 응답을 기다리는 동안 두 번째 조회가 들어온다
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(seatPort.getSeatMapVersion(SHOW_ID)).willReturn(7L);
+        given(seatPort.getStatuses(eq(SHOW_ID), anyList())).willAnswer(invocation -> {
+            loading.countDown();
+            release.await(1, TimeUnit.SECONDS);
+            return new Seats(Map.of(
+                    1, new Seat(SeatStatus.AVAILABLE, null),
+                    2, new Seat(SeatStatus.HELD, "token-1"),
+                    3, new Seat(SeatStatus.AVAILABLE, null)
+            ));
+        });
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<SeatAvailability> first = executor.submit(() -> seatService.getSeatAvailability(SHOW_ID));
+            assertThat(loading.await(1, TimeUnit.SECONDS)).isTrue();
+            Future<SeatAvailability> second = executor.submit(() -> seatService.getSeatAvailability(SHOW_ID));
+            Thread.sleep(50);
+            release.countDown();
+
+            // then
+            assertThat(second.get(1, TimeUnit.SECONDS)).isSameAs(first.get(1, TimeUnit.SECONDS));
+        }
+        then(seatPort).should(times(1)).getStatuses(eq(SHOW_ID), anyList());
+    }
+
+    @Test
+    @DisplayName("한 번 PAID로 읽힌 좌석은 다음 조회부터 Redis에 묻지 않고 캐시에서 채운다")
+    void shouldServePaidSeatsFromCache() {
+        // given
+        given(seatPort.getStatuses(SHOW_ID, List.of(1, 2, 3))).willReturn(new Seats(Map.of(
+                1, new Seat(SeatStatus.PAID, "token-1"),
+                2, new Seat(SeatStatus.HELD, "token-2"),
+                3, new Seat(SeatStatus.AVAILABLE, null)
+        )));
+        given(seatPort.getStatuses(SHOW_ID, List.of(2, 3))).willReturn(new Seats(Map.of(
+                2, new Seat(SeatStatus.AVAILABLE, null),
+                3, new Seat(SeatStatus.AVAILABLE, null)
+        )));
+
+        // when
+        seatService.getSeats(SHOW_ID);
+        Seats result = seatService.getSeats(SHOW_ID);
+
+        // then
+        assertThat(result.of(1)).isEqualTo(new Seat(SeatStatus.PAID, "token-1"));
+        assertThat(result.of(2)).isEqualTo(new Seat(SeatStatus.AVAILABLE, null));
+        assertThat(seatService.isPaid(SHOW_ID, 1)).isTrue();
+        then(seatPort).should().getStatuses(SHOW_ID, List.of(2, 3));
+    }
+
+    @Test
+    @DisplayName("결제 확정한 좌석은 캐시에 기록되고 같은 좌석의 기록은 덮어쓰지 않는다")
+    void shouldRecordPaidSeatOnce() {
+        // when
+        seatService.paySeat(SHOW_ID, 2, "token-1");
+        seatService.paySeat(SHOW_ID, 2, "token-2");
+
+        // then
+        then(seatPort).should().paySeat(SHOW_ID, 2, "token-1");
+        assertThat(seatService.isPaid(SHOW_ID, 2)).isTrue();
+        assertThat(seatService.isPaid(SHOW_ID, 3)).isFalse();
+        assertThat(paidSeatCache.ownerOf(SHOW_ID, 2)).isEqualTo("token-1");
+        assertThat(paidSeatCache.isPaid(2L, 2)).as("다른 공연의 같은 좌석").isFalse();
+    }
+
+    @Test
+    @DisplayName("좌석 맵 버전이 줄어들면(Redis 초기화) PAID 캐시와 비트셋 캐시를 버린다")
+    void shouldDropCachesWhenVersionGoesBackwards() {
+        // given - 버전 5에서 좌석 2가 판매되었다
+        given(seatPort.getSeatMapVersion(SHOW_ID)).willReturn(5L);
+        given(seatPort.getStatuses(eq(SHOW_ID), anyList())).willReturn(new Seats(Map.of(
+                1, new Seat(SeatStatus.AVAILABLE, null),
+                3, new Seat(SeatStatus.AVAILABLE, null)
+        )));
+        seatService.paySeat(SHOW_ID, 2, "token-1");
+        seatService.getSeatAvailability(SHOW_ID);
+
+        // when - FLUSHALL로 버전 키가 사라졌다
+        given(seatPort.getSeatMapVersion(SHOW_ID)).willReturn(0L);
+        SeatAvailability availability = seatService.getSeatAvailability(SHOW_ID);
+
+        // then
+        assertThat(seatService.isPaid(SHOW_ID, 2)).isFalse();
+        assertThat(availability.version()).isZero();
+        then(seatPort).should(times(2)).getStatuses(eq(SHOW_ID), anyList());
+    }
+
+    @Test
+    @DisplayName("여러 좌석을 한 번에 확정하면 Redis 호출은 한 번이고 모든 좌석이 캐시에 기록된다")
+    void shouldPaySeatsAtOnce() {
+        // when
+        seatService.paySeats(SHOW_ID, Map.of(2, "token-1", 3, "token-2"));
+
+        // then
+        then(seatPort).should(times(1)).paySeats(SHOW_ID, Map.of(2, "token-1", 3, "token-2"));
+        assertThat(paidSeatCache.ownerOf(SHOW_ID, 2)).isEqualTo("token-1");
+        assertThat(paidSeatCache.ownerOf(SHOW_ID, 3)).isEqualTo("token-2");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 공연의 좌석은 Redis를 조회하지 않고 SHOW_NOT_FOUND로 거절한다")
+    void shouldRejectUnknownShow() {
+        // when & then
+        assertThatThrownBy(() -> seatService.getSeatMap(99L))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SHOW_NOT_FOUND);
+        then(seatPort).shouldHaveNoInteractions();
+    }
 }
@@ -0,0 +1,45 @@
+package kr.jemi.zticket.seat.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatAvailabilityTest {
+
+    private final Seats seats = Seats.builder(10)
+            .put(1, SeatStatus.AVAILABLE, null)
+            .put(2, SeatStatus.HELD, "token-1")
+            .put(3, SeatStatus.PAID, "token-2")
+            .put(4, SeatStatus.AVAILABLE, null)
+            .put(9, SeatStatus.AVAILABLE, null)
+            .put(10, SeatStatus.HELD, "token-1")
+            .build();
+
+    @Test
+    @DisplayName("AVAILABLE 좌석만 1인 비트셋을 좌석 번호 순서(최상위 비트부터)로 만든다")
+    void packs_available_seats() {
+        SeatAvailability availability = SeatAvailability.of(3, 10, seats);
+
+        assertThat(availability.bitsFor("token-9")).containsExactly(0b1001_0000, 0b1000_0000);
+        assertThat(availability.version()).isEqualTo(3);
+        assertThat(availability.maxSeatNumber()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("요청한 토큰이 선점한 좌석만 덧씌우고 공용 비트셋은 바꾸지 않는다")
+    void overlays_own_held_seats() {
+        SeatAvailability availability = SeatAvailability.of(3, 10, seats);
+
+        assertThat(availability.bitsFor("token-1")).containsExactly(0b1101_0000, 0b1100_0000);
+        assertThat(availability.bitsFor(null)).containsExactly(0b1001_0000, 0b1000_0000);
+    }
+
+    @Test
+    @DisplayName("선점한 좌석이 없는 토큰은 공용 배열을 그대로 공유한다")
+    void shares_common_bits() {
+        SeatAvailability availability = SeatAvailability.of(3, 10, seats);
+
+        assertThat(availability.bitsFor("token-2")).isSameAs(availability.bitsFor(null));
+    }
+}
@@ -4,6 +4,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -53,4 +56,75 @@ class SeatsTest {
 
         assertThat(seats.seatNumbers()).containsExactly(1, 2, 3);
     }
+
+    @Nested
+    @DisplayName("builder")
+    class BuilderTest {
+
+        @Test
+        @DisplayName("put한 좌석만 포함하고 Map 생성자와 같은 결과를 낸다")
+        void builds_same_as_map() {
+            Seats seats = Seats.builder(5)
+                    .put(4, SeatStatus.PAID, "token-4")
+                    .put(2, SeatStatus.HELD, "token-2")
+                    .put(5, SeatStatus.AVAILABLE, null)
+                    .build();
+
+            assertThat(seats.size()).isEqualTo(3);
+            assertThat(seats.seatNumbers()).containsExactly(2, 4, 5);
+            assertThat(seats.of(2)).isEqualTo(new Seat(SeatStatus.HELD, "token-2"));
+            assertThat(seats.contains(1)).isFalse();
+            assertThatThrownBy(() -> seats.of(1)).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Seat와 같은 소유자 규칙을 검사한다")
+        void validates_owner_rule() {
+            assertThatThrownBy(() -> Seats.builder(3).put(1, SeatStatus.HELD, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> Seats.builder(3).put(1, SeatStatus.AVAILABLE, "token-1"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("범위를 벗어난 좌석 번호는 거부한다")
+        void rejects_out_of_range() {
+            assertThatThrownBy(() -> Seats.builder(3).put(4, SeatStatus.AVAILABLE, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> Seats.builder(3).put(0, SeatStatus.AVAILABLE, null))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("forEach: 좌석 번호 오름차순으로 상태와 소유자를 전달한다")
+    void forEach_visits_in_order() {
+        Seats seats = new Seats(Map.of(
+                3, new Seat(SeatStatus.AVAILABLE, null),
+                1, new Seat(SeatStatus.HELD, "token-1")
+        ));
+        List<String> visited = new ArrayList<>();
+
+        seats.forEach((seatNumber, status, owner) -> visited.add(seatNumber + ":" + status + ":" + owner));
+
+        assertThat(visited).containsExactly("1:HELD:token-1", "3:AVAILABLE:null");
+    }
+
+    @Test
+    @DisplayName("isAvailableFor: Seat.isAvailableFor와 같은 판단을 한다")
+    void isAvailableFor_matches_seat() {
+        Seats seats = new Seats(Map.of(
+                1, new Seat(SeatStatus.AVAILABLE, null),
+                2, new Seat(SeatStatus.HELD, "token-1"),
+                3, new Seat(SeatStatus.PAID, "token-1")
+        ));
+
+        for (int seatNumber : List.of(1, 2, 3)) {
+            for (String token : Arrays.asList("token-1", "token-2", null)) {
+                assertThat(seats.isAvailableFor(seatNumber, token))
+                        .as("seat=%d, token=%s", seatNumber, token)
+                        .isEqualTo(seats.of(seatNumber).isAvailableFor(token));
+            }
+        }
+    }
 }
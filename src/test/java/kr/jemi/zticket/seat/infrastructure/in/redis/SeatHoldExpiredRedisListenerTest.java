@@ -0,0 +1,74 @@
+package kr.jemi.zticket.seat.infrastructure.in.redis;
+
+import kr.jemi.zticket.seat.application.port.in.ExpireSeatHoldsUseCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+class SeatHoldExpiredRedisListenerTest {
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ExpireSeatHoldsUseCase expireSeatHoldsUseCase;
+
+    @Test
+    @DisplayName("이미 켜 둔 플래그는 유지하고 없는 플래그만 더한다")
+    void shouldKeepExistingFlags() {
+        assertThat(SeatHoldExpiredRedisListener.mergeFlags("Kg", "Ex")).isEqualTo("KgEx");
+        assertThat(SeatHoldExpiredRedisListener.mergeFlags("", "Ex")).isEqualTo("Ex");
+    }
+
+    @Test
+    @DisplayName("필요한 플래그가 모두 있으면(A 포함) 설정을 바꾸지 않는다")
+    void shouldNotChangeWhenAlreadyEnabled() {
+        assertThat(SeatHoldExpiredRedisListener.mergeFlags("xE", "Ex")).isEqualTo("xE");
+        assertThat(SeatHoldExpiredRedisListener.mergeFlags("AKE", "Ex")).isEqualTo("AKE");
+    }
+
+    @Test
+    @DisplayName("CONFIG 명령이 막혀 있어도 기동을 막지 않는다")
+    void shouldNotFailWhenConfigIsRejected() {
+        // given
+        given(redisTemplate.execute(any(RedisCallback.class)))
+                .willThrow(new RedisSystemException("ERR unknown command 'CONFIG'", null));
+        SeatHoldExpiredRedisListener listener = listener("Ex");
+
+        // when & then
+        assertThatCode(listener::enableExpiredEvents).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("keyspace-config가 비어 있으면 CONFIG 명령을 보내지 않는다")
+    void shouldSkipConfigWhenBlank() {
+        // given
+        SeatHoldExpiredRedisListener listener = listener("");
+
+        // when
+        listener.enableExpiredEvents();
+
+        // then
+        then(redisTemplate).shouldHaveNoInteractions();
+    }
+
+    private SeatHoldExpiredRedisListener listener(String keyspaceConfig) {
+        return new SeatHoldExpiredRedisListener(listenerContainer, redisTemplate, expireSeatHoldsUseCase, keyspaceConfig);
+    }
+}
@@ -0,0 +1,234 @@
+package kr.jemi.zticket.seat.infrastructure.in.web;
+
+import kr.jemi.zticket.seat.application.port.in.GetSeatsUseCase;
+import kr.jemi.zticket.seat.domain.Seat;
+import kr.jemi.zticket.seat.domain.SeatAvailability;
+import kr.jemi.zticket.seat.domain.SeatMap;
+import kr.jemi.zticket.seat.domain.SeatStatus;
+import kr.jemi.zticket.seat.domain.Seats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class SeatApiControllerTest {
+
+    private static final long SHOW_ID = 1L;
+    private static final String SEATS_URL = "/api/shows/1/seats";
+    private static final String COUNT_URL = "/api/shows/1/seats/available-count";
+
+    @Mock
+    private GetSeatsUseCase getSeatsUseCase;
+
+    private MockMvc mockMvc;
+
+    private final Seats seats = new Seats(Map.of(
+            1, new Seat(SeatStatus.AVAILABLE, null),
+            2, new Seat(SeatStatus.HELD, "token-1"),
+            3, new Seat(SeatStatus.HELD, "token-2")
+    ));
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(new SeatApiController(getSeatsUseCase)).build();
+    }
+
+    @Nested
+    @DisplayName("좌석 현황 (JSON)")
+    class SeatMapJson {
+
+        @Test
+        @DisplayName("좌석 맵 버전과 토큰으로 만든 weak ETag와 Vary: X-Queue-Token, Accept를 붙인다")
+        void shouldAttachTokenAwareETagAndVary() throws Exception {
+            // given
+            given(getSeatsUseCase.getSeatMapVersion(SHOW_ID)).willReturn(7L);
+            given(getSeatsUseCase.getSeatMap(SHOW_ID)).willReturn(new SeatMap(7, seats));
+
+            // when
+            MvcResult result = mockMvc.perform(get(SEATS_URL).header("X-Queue-Token", "token-1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-Seat-Map-Version", "7"))
+                    .andExpect(jsonPath("$[1].status").value("available"))
+                    .andExpect(jsonPath("$[2].status").value("unavailable"))
+                    .andReturn();
+
+            // then
+            String eTag = result.getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(eTag).startsWith("W/\"seats-7-");
+            assertThat(result.getResponse().getHeaders(HttpHeaders.VARY)).contains("X-Queue-Token", "Accept");
+        }
+
+        @Test
+        @DisplayName("If-None-Match가 같으면 좌석을 조회하지 않고 304와 Vary를 응답한다")
+        void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+            // given
+            given(getSeatsUseCase.getSeatMapVersion(SHOW_ID)).willReturn(7L);
+            given(getSeatsUseCase.getSeatMap(SHOW_ID)).willReturn(new SeatMap(7, seats));
+            String eTag = seatsETag("token-1");
+
+            // when
+            MvcResult result = mockMvc.perform(get(SEATS_URL)
+                            .header("X-Queue-Token", "token-1")
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified())
+                    .andReturn();
+
+            // then
+            assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+            assertThat(result.getResponse().getHeaders(HttpHeaders.VARY)).contains("X-Queue-Token", "Accept");
+            then(getSeatsUseCase).should(times(1)).getSeatMap(SHOW_ID);
+        }
+
+        @Test
+        @DisplayName("버전이 올라가면 이전 ETag로 요청해도 200으로 새 좌석 맵을 응답한다")
+        void shouldReturnOkWhenVersionChanged() throws Exception {
+            // given
+            given(getSeatsUseCase.getSeatMapVersion(SHOW_ID)).willReturn(7L, 8L);
+            given(getSeatsUseCase.getSeatMap(SHOW_ID)).willReturn(new SeatMap(7, seats), new SeatMap(8, seats));
+            String eTag = seatsETag("token-1");
+
+            // when & then
+            mockMvc.perform(get(SEATS_URL)
+                            .header("X-Queue-Token", "token-1")
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-Seat-Map-Version", "8"));
+        }
+
+        @Test
+        @DisplayName("같은 버전이라도 다른 토큰의 ETag로는 304를 받지 못한다 (본인 선점 좌석 표시가 다름)")
+        void shouldNotShareETagAcrossTokens() throws Exception {
+            // given
+            given(getSeatsUseCase.getSeatMapVersion(SHOW_ID)).willReturn(7L);
+            given(getSeatsUseCase.getSeatMap(SHOW_ID)).willReturn(new SeatMap(7, seats));
+            String otherTokenETag = seatsETag("token-2");
+
+            // when
+            MvcResult result = mockMvc.perform(get(SEATS_URL)
+                            .header("X-Queue-Token", "token-1")
+                            .header(HttpHeaders.IF_NONE_MATCH, otherTokenETag))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            // then
+            assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(otherTokenETag);
+        }
+
+        private String seatsETag(String token) throws Exception {
+            return mockMvc.perform(get(SEATS_URL).header("X-Queue-Token", token))
+                    .andReturn()
+                    .getResponse()
+                    .getHeader(HttpHeaders.ETAG);
+        }
+    }
+
+    @Nested
+    @DisplayName("좌석 현황 (비트셋)")
+    class SeatMapBits {
+
+        @Test
+        @DisplayName("JSON 좌석 맵의 ETag로는 304를 받지 못한다 (표현마다 ETag가 다름)")
+        void shouldSeparateETagFromJson() throws Exception {
+            // given
+            given(getSeatsUseCase.getSeatMapVersion(SHOW_ID)).willReturn(7L);
+            given(getSeatsUseCase.getSeatMap(SHOW_ID)).willReturn(new SeatMap(7, seats));
+            given(getSeatsUseCase.getSeatAvailability(SHOW_ID)).willReturn(SeatAvailability.of(7, 3, seats));
+            String jsonETag = mockMvc.perform(get(SEATS_URL).header("X-Queue-Token", "token-1"))
+                    .andReturn()
+                    .getResponse()
+                    .getHeader(HttpHeaders.ETAG);
+
+            // when
+            MvcResult result = mockMvc.perform(get(SEATS_URL)
+                            .accept(MediaType.APPLICATION_OCTET_STREAM)
+                            .header("X-Queue-Token", "token-1")
+                            .header(HttpHeaders.IF_NONE_MATCH, jsonETag))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-Seat-Count", "3"))
+                    .andReturn();
+
+            // then
+            assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).startsWith("W/\"seat-bits-7-");
+            assertThat(result.getResponse().getHeaders(HttpHeaders.VARY)).contains("X-Queue-Token", "Accept");
+            // 좌석 1(빈 좌석)과 좌석 2(본인 선점)만 1
+            assertThat(result.getResponse().getContentAsByteArray()).containsExactly((byte) 0b1100_0000);
+        }
+
+        @Test
+        @DisplayName("If-None-Match가 같으면 비트셋을 만들지 않고 304를 응답한다")
+        void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+            // given
+            given(getSeatsUseCase.getSeatMapVersion(SHOW_ID)).willReturn(7L);
+            given(getSeatsUseCase.getSeatAvailability(SHOW_ID)).willReturn(SeatAvailability.of(7, 3, seats));
+            String eTag = mockMvc.perform(get(SEATS_URL)
+                            .accept(MediaType.APPLICATION_OCTET_STREAM)
+                            .header("X-Queue-Token", "token-1"))
+                    .andReturn()
+                    .getResponse()
+                    .getHeader(HttpHeaders.ETAG);
+
+            // when & then
+            mockMvc.perform(get(SEATS_URL)
+                            .accept(MediaType.APPLICATION_OCTET_STREAM)
+                            .header("X-Queue-Token", "token-1")
+                            .header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified());
+            then(getSeatsUseCase).should(times(1)).getSeatAvailability(SHOW_ID);
+        }
+    }
+
+    @Nested
+    @DisplayName("잔여 좌석 수")
+    class AvailableCount {
+
+        @Test
+        @DisplayName("토큰과 무관한 ETag를 붙이고, If-None-Match가 같으면 카운터를 읽지 않고 304를 응답한다")
+        void shouldReturnNotModifiedWhenETagMatches() throws Exception {
+            // given
+            given(getSeatsUseCase.getSeatMapVersion(SHOW_ID)).willReturn(7L);
+
+            // when
+            mockMvc.perform(get(COUNT_URL).header(HttpHeaders.IF_NONE_MATCH, "\"available-count-7\""))
+                    .andExpect(status().isNotModified());
+
+            // then
+            then(getSeatsUseCase).should(never()).getAvailableCount(anyLong());
+        }
+
+        @Test
+        @DisplayName("좌석 맵의 ETag로는 304를 받지 못한다 (표현마다 ETag가 다름)")
+        void shouldSeparateETagFromSeatMap() throws Exception {
+            // given
+            given(getSeatsUseCase.getSeatMapVersion(SHOW_ID)).willReturn(7L);
+            given(getSeatsUseCase.getAvailableCount(SHOW_ID)).willReturn(1);
+
+            // when & then
+            mockMvc.perform(get(COUNT_URL).header(HttpHeaders.IF_NONE_MATCH, "\"seats-7\""))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, "\"available-count-7\""))
+                    .andExpect(jsonPath("$.count").value(1));
+        }
+    }
+}
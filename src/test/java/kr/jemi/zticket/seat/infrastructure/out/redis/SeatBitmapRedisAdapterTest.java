@@ -0,0 +1,182 @@
+package kr.jemi.zticket.seat.infrastructure.out.redis;
+
+import kr.jemi.zticket.integration.IntegrationTestBase;
+import kr.jemi.zticket.seat.domain.Seat;
+import kr.jemi.zticket.seat.domain.SeatStatus;
+import kr.jemi.zticket.seat.domain.Seats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class SeatBitmapRedisAdapterTest extends IntegrationTestBase {
+
+    private SeatBitmapRedisAdapter seatBitmapRedisAdapter;
+
+    @BeforeEach
+    void setUp() {
+        seatBitmapRedisAdapter = new SeatBitmapRedisAdapter(redisTemplate, 50);
+    }
+
+    @Test
+    @DisplayName("hold/pay 결과가 비트맵 한 번 조회로 Seat에 매핑된다")
+    void shouldMapBitmapToSeats() {
+        seatBitmapRedisAdapter.holdSeat(SHOW_ID, 1, "token-1", 300);
+        seatBitmapRedisAdapter.paySeat(SHOW_ID, 2, "token-2");
+
+        Seats result = seatBitmapRedisAdapter.getStatuses(SHOW_ID, List.of(1, 2, 3));
+
+        assertThat(result.of(1)).isEqualTo(new Seat(SeatStatus.HELD, "token-1"));
+        assertThat(result.of(2)).isEqualTo(new Seat(SeatStatus.PAID, "token-2"));
+        assertThat(result.of(3)).isEqualTo(new Seat(SeatStatus.AVAILABLE, null));
+    }
+
+    @Test
+    @DisplayName("같은 유저의 재선점은 성공하고, 다른 유저의 선점은 실패한다")
+    void shouldAllowReHoldOnlyBySameOwner() {
+        assertThat(seatBitmapRedisAdapter.holdSeat(SHOW_ID, 1, "token-1", 300)).isTrue();
+
+        assertThat(seatBitmapRedisAdapter.holdSeat(SHOW_ID, 1, "token-1", 300)).as("재선점").isTrue();
+        assertThat(seatBitmapRedisAdapter.holdSeat(SHOW_ID, 1, "token-2", 300)).as("다른 유저").isFalse();
+    }
+
+    @Test
+    @DisplayName("paid 좌석은 누구도 선점할 수 없고, release로도 해제되지 않는다")
+    void shouldProtectPaidSeat() {
+        seatBitmapRedisAdapter.holdSeat(SHOW_ID, 1, "token-1", 300);
+        seatBitmapRedisAdapter.paySeat(SHOW_ID, 1, "token-1");
+
+        seatBitmapRedisAdapter.releaseSeat(SHOW_ID, 1, "token-1");
+
+        assertThat(seatBitmapRedisAdapter.holdSeat(SHOW_ID, 1, "token-2", 300)).isFalse();
+        assertThat(seatBitmapRedisAdapter.getStatuses(SHOW_ID, List.of(1)).of(1))
+                .isEqualTo(new Seat(SeatStatus.PAID, "token-1"));
+    }
+
+    @Test
+    @DisplayName("releaseSeat: 자신의 held 좌석만 해제한다")
+    void shouldReleaseOnlyOwnHold() {
+        seatBitmapRedisAdapter.holdSeat(SHOW_ID, 1, "token-1", 300);
+
+        seatBitmapRedisAdapter.releaseSeat(SHOW_ID, 1, "token-2");
+        assertThat(seatBitmapRedisAdapter.getStatuses(SHOW_ID, List.of(1)).of(1).status()).isEqualTo(SeatStatus.HELD);
+
+        seatBitmapRedisAdapter.releaseSeat(SHOW_ID, 1, "token-1");
+        assertThat(seatBitmapRedisAdapter.getStatuses(SHOW_ID, List.of(1)).of(1))
+                .isEqualTo(new Seat(SeatStatus.AVAILABLE, null));
+    }
+
+    @Test
+    @DisplayName("hold TTL이 지나면 조회 시 AVAILABLE로 복구되고 다른 유저가 선점할 수 있다")
+    void shouldExpireHold() {
+        seatBitmapRedisAdapter.holdSeat(SHOW_ID, 1, "token-1", 1);
+
+        await().atMost(3, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(seatBitmapRedisAdapter.getStatuses(SHOW_ID, List.of(1)).of(1))
+                        .isEqualTo(new Seat(SeatStatus.AVAILABLE, null)));
+
+        assertThat(seatBitmapRedisAdapter.holdSeat(SHOW_ID, 1, "token-2", 300)).isTrue();
+    }
+    @Test
+    @DisplayName("paySeats: 여러 유저의 좌석을 한 번에 확정하고, 이미 확정된 좌석은 카운터를 다시 줄이지 않는다")
+    void shouldPayManySeatsAtOnce() {
+        seatBitmapRedisAdapter.holdSeat(SHOW_ID, 1, "token-1", 300);
+        seatBitmapRedisAdapter.paySeat(SHOW_ID, 3, "token-3");
+        Map<Integer, String> tokensBySeat = new LinkedHashMap<>();
+        tokensBySeat.put(1, "token-1");
+        tokensBySeat.put(2, "token-2");
+        tokensBySeat.put(3, "token-3");
+
+        seatBitmapRedisAdapter.paySeats(SHOW_ID, tokensBySeat);
+        seatBitmapRedisAdapter.paySeats(SHOW_ID, tokensBySeat);
+
+        Seats result = seatBitmapRedisAdapter.getStatuses(SHOW_ID, List.of(1, 2, 3));
+        assertThat(result.of(1)).isEqualTo(new Seat(SeatStatus.PAID, "token-1"));
+        assertThat(result.of(2)).isEqualTo(new Seat(SeatStatus.PAID, "token-2"));
+        assertThat(result.of(3)).isEqualTo(new Seat(SeatStatus.PAID, "token-3"));
+        assertThat(seatBitmapRedisAdapter.countAvailable(SHOW_ID)).isEqualTo(47);
+    }
+
+    @Test
+    @DisplayName("잔여 좌석 수는 hold/release/pay와 hold 만료를 반영한다")
+    void shouldMaintainAvailableCount() {
+        seatBitmapRedisAdapter.holdSeat(SHOW_ID, 1, "token-1", 300);
+        seatBitmapRedisAdapter.holdSeat(SHOW_ID, 1, "token-1", 300);
+        seatBitmapRedisAdapter.holdSeat(SHOW_ID, 2, "token-2", 300);
+        seatBitmapRedisAdapter.paySeat(SHOW_ID, 2, "token-2");
+        seatBitmapRedisAdapter.holdSeat(SHOW_ID, 3, "token-3", 1);
+        assertThat(seatBitmapRedisAdapter.countAvailable(SHOW_ID)).isEqualTo(47);
+
+        seatBitmapRedisAdapter.releaseSeat(SHOW_ID, 1, "token-1");
+        assertThat(seatBitmapRedisAdapter.countAvailable(SHOW_ID)).isEqualTo(48);
+
+        await().atMost(3, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(seatBitmapRedisAdapter.countAvailable(SHOW_ID)).isEqualTo(49));
+    }
+
+    @Test
+    @DisplayName("좌석 변경마다 버전이 오르고, hold 만료도 변경으로 조회된다")
+    void shouldTrackSeatMapVersion() {
+        seatBitmapRedisAdapter.holdSeat(SHOW_ID, 1, "token-1", 300);
+        seatBitmapRedisAdapter.holdSeat(SHOW_ID, 1, "token-1", 300);
+        seatBitmapRedisAdapter.holdSeat(SHOW_ID, 2, "token-2", 1);
+        long afterHolds = seatBitmapRedisAdapter.getSeatMapVersion(SHOW_ID);
+        seatBitmapRedisAdapter.paySeat(SHOW_ID, 1, "token-1");
+        seatBitmapRedisAdapter.paySeat(SHOW_ID, 1, "token-1");
+
+        assertThat(afterHolds).as("재선점은 버전을 올리지 않는다").isEqualTo(2);
+        assertThat(seatBitmapRedisAdapter.getChangedSeatNumbers(SHOW_ID, afterHolds)).containsExactly(1);
+
+        await().atMost(3, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(seatBitmapRedisAdapter.getChangedSeatNumbers(SHOW_ID, afterHolds))
+                        .containsExactlyInAnyOrder(1, 2));
+        assertThat(seatBitmapRedisAdapter.getSeatMapVersion(SHOW_ID)).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("holdSeats: 한 좌석이라도 다른 유저가 점유 중이면 아무 좌석도 선점하지 않는다")
+    void shouldHoldAllOrNothing() {
+        seatBitmapRedisAdapter.holdSeat(SHOW_ID, 2, "token-1", 300);
+
+        assertThat(seatBitmapRedisAdapter.holdSeats(SHOW_ID, List.of(1, 2, 3), "token-2", 300)).isFalse();
+        assertThat(seatBitmapRedisAdapter.countAvailable(SHOW_ID)).isEqualTo(49);
+
+        assertThat(seatBitmapRedisAdapter.holdSeats(SHOW_ID, List.of(1, 2, 3), "token-1", 300))
+                .as("자신이 선점한 좌석이 포함돼도 성공").isTrue();
+        Seats result = seatBitmapRedisAdapter.getStatuses(SHOW_ID, List.of(1, 2, 3));
+        for (int seatNumber : List.of(1, 2, 3)) {
+            assertThat(result.of(seatNumber)).isEqualTo(new Seat(SeatStatus.HELD, "token-1"));
+        }
+        assertThat(seatBitmapRedisAdapter.countAvailable(SHOW_ID)).isEqualTo(47);
+    }
+
+    @Test
+    @DisplayName("holdSeats: 같은 좌석 번호가 중복돼도 잔여 좌석 수는 한 번만 줄어든다")
+    void shouldHoldDuplicateSeatOnce() {
+        assertThat(seatBitmapRedisAdapter.holdSeats(SHOW_ID, List.of(3, 3), "token-1", 300)).isTrue();
+
+        assertThat(seatBitmapRedisAdapter.getStatuses(SHOW_ID, List.of(3)).of(3))
+                .isEqualTo(new Seat(SeatStatus.HELD, "token-1"));
+        assertThat(seatBitmapRedisAdapter.countAvailable(SHOW_ID)).isEqualTo(49);
+    }
+
+    @Test
+    @DisplayName("holdAnySeat: 구간에서 번호가 가장 작은 빈 좌석을 선점하고, 없으면 빈 결과를 반환한다")
+    void shouldHoldLowestFreeSeatInRange() {
+        seatBitmapRedisAdapter.holdSeat(SHOW_ID, 1, "token-1", 300);
+        seatBitmapRedisAdapter.paySeat(SHOW_ID, 2, "token-2");
+
+        assertThat(seatBitmapRedisAdapter.holdAnySeat(SHOW_ID, 1, 3, "token-3", 300)).hasValue(3);
+        assertThat(seatBitmapRedisAdapter.holdAnySeat(SHOW_ID, 1, 3, "token-4", 300)).isEmpty();
+        assertThat(seatBitmapRedisAdapter.getStatuses(SHOW_ID, List.of(3)).of(3))
+                .isEqualTo(new Seat(SeatStatus.HELD, "token-3"));
+        assertThat(seatBitmapRedisAdapter.countAvailable(SHOW_ID)).isEqualTo(47);
+    }
+}
@@ -0,0 +1,39 @@
+package kr.jemi.zticket.seat.infrastructure.out.redis;
+
+import kr.jemi.zticket.integration.IntegrationTestBase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SeatHoldExpiryEventRedisAdapterTest extends IntegrationTestBase {
+
+    private SeatHoldExpiryEventRedisAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        adapter = new SeatHoldExpiryEventRedisAdapter(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("같은 공연을 여러 번 표시해도 꺼낼 때는 한 번만 나오고, 꺼낸 뒤에는 비어 있다")
+    void shouldDrainEachShowOnce() {
+        adapter.markExpired(SHOW_ID);
+        adapter.markExpired(SHOW_ID);
+        adapter.markExpired(2L);
+
+        assertThat(adapter.drainExpired()).containsExactlyInAnyOrder(SHOW_ID, 2L);
+        assertThat(adapter.drainExpired()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 번에 꺼내는 수보다 많이 표시돼도 모두 꺼낸다")
+    void shouldDrainMoreThanOnePop() {
+        for (long showId = 1; showId <= 250; showId++) {
+            adapter.markExpired(showId);
+        }
+
+        assertThat(adapter.drainExpired()).hasSize(250);
+    }
+}
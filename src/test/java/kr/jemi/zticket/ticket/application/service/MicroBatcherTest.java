@@ -0,0 +1,154 @@
+package kr.jemi.zticket.ticket.application.service;
+
+import kr.jemi.zticket.ticket.application.service.MicroBatcher.Request;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MicroBatcherTest {
+
+    private static final int MAX_BATCH_WEIGHT = 4;
+    private static final long MAX_DELAY_MS = 500L;
+    private static final long TIMEOUT_MS = 5000L;
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+
+    private MicroBatcher<String, String> batcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        callers.shutdownNow();
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("요청 무게의 합이 상한에 닿으면 max-delay-ms를 기다리지 않고 묶음을 처리한다")
+    void shouldProcessWhenWeightReached() throws Exception {
+        // given - 요청 무게는 글자 수
+        batcher = batcher(TIMEOUT_MS, this::echo);
+
+        // when
+        Future<String> first = callers.submit(() -> batcher.submit("ab"));
+        Future<String> second = callers.submit(() -> batcher.submit("cd"));
+
+        // then
+        assertThat(first.get()).isEqualTo("AB");
+        assertThat(second.get()).isEqualTo("CD");
+        assertThat(batches).containsExactly(List.of("ab", "cd"));
+    }
+
+    @Test
+    @DisplayName("처리가 timeout-ms 안에 끝나지 않으면 기다리지 않고 실패한다")
+    void shouldTimeOutWhenProcessorIsStuck() {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        batcher = batcher(200, batch -> {
+            await(release);
+            echo(batch);
+        });
+
+        try {
+            // when & then
+            assertThatThrownBy(() -> batcher.submit("abcd"))
+                    .hasCauseInstanceOf(TimeoutException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("시간 초과로 떠난 요청이 아직 큐에 있으면 처리하지 않는다")
+    void shouldSkipTimedOutRequest() throws InterruptedException {
+        // given - 첫 묶음이 끝나기 전에 두 번째 요청이 시간 초과된다
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        batcher = batcher(1000, batch -> {
+            firstStarted.countDown();
+            await(release);
+            echo(batch);
+        });
+        callers.submit(() -> batcher.submit("abcd"));
+        firstStarted.await();
+
+        // when
+        assertThatThrownBy(() -> batcher.submit("efgh"))
+                .hasCauseInstanceOf(TimeoutException.class);
+        release.countDown();
+        batcher.shutdown();
+
+        // then
+        assertThat(batches).containsExactly(List.of("abcd"));
+    }
+
+    @Test
+    @DisplayName("처리 중 Error가 나도 호출자는 기다리지 않고 실패한다")
+    void shouldFailOnError() {
+        // given
+        batcher = batcher(TIMEOUT_MS, batch -> {
+            throw new AssertionError("처리 오류");
+        });
+
+        // when & then
+        assertThatThrownBy(() -> batcher.submit("abcd"))
+                .hasCauseInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    @DisplayName("processor가 결과를 채우지 않은 요청은 IllegalStateException으로 실패한다")
+    void shouldFailUncompletedRequest() {
+        // given
+        batcher = batcher(TIMEOUT_MS, batch -> {
+        });
+
+        // when & then
+        assertThatThrownBy(() -> batcher.submit("abcd"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("종료된 뒤에는 요청을 받지 않는다")
+    void shouldRejectAfterShutdown() throws InterruptedException {
+        // given
+        batcher = batcher(TIMEOUT_MS, this::echo);
+        batcher.shutdown();
+
+        // when & then
+        assertThatThrownBy(() -> batcher.submit("abcd"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(batches).isEmpty();
+    }
+
+    private MicroBatcher<String, String> batcher(long timeoutMs, Consumer<List<Request<String, String>>> processor) {
+        return new MicroBatcher<>("test-batcher", MAX_BATCH_WEIGHT, String::length,
+                MAX_DELAY_MS, timeoutMs, 1, processor);
+    }
+
+    private void echo(List<Request<String, String>> batch) {
+        batches.add(batch.stream().map(Request::item).toList());
+        batch.forEach(request -> request.result().complete(request.item().toUpperCase()));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
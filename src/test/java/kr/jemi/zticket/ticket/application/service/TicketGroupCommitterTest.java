@@ -0,0 +1,149 @@
+package kr.jemi.zticket.ticket.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.jemi.zticket.ticket.domain.Ticket;
+import kr.jemi.zticket.ticket.domain.TicketPaidEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketGroupCommitterTest {
+
+    private static final long SHOW_ID = 1L;
+    private static final int MAX_BATCH_SIZE = 5;
+    private static final long MAX_DELAY_MS = 500L;
+    private static final long COMMIT_TIMEOUT_MS = 5000L;
+
+    @Mock
+    private TicketWriter ticketWriter;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TicketGroupCommitter committer;
+
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        callers.shutdownNow();
+        if (committer != null) {
+            committer.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 구매를 한 번에 저장하고, 각 호출자에게 자기 티켓을 돌려준다")
+    void shouldCommitConcurrentPurchasesTogether() throws Exception {
+        // given
+        given(ticketWriter.insertAllAndPublish(anyList(), anyList())).willAnswer(inv -> inv.getArgument(0));
+        committer = committer();
+
+        // when
+        List<Future<Ticket>> results = purchaseConcurrently(1, 2, 3, 4, 5);
+
+        // then
+        for (int i = 0; i < results.size(); i++) {
+            assertThat(results.get(i).get().getSeatNumber()).isEqualTo(i + 1);
+        }
+        then(ticketWriter).should(times(1)).insertAllAndPublish(argThat(tickets -> tickets.size() == 5),
+                argThat(events -> events.size() == 5 && events.stream().allMatch(TicketPaidEvent.class::isInstance)));
+        assertThat(meterRegistry.get("zticket.ticket.group-commit.batch.size").summary().max()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("묶음 저장이 실패하면 티켓별로 다시 저장하여 실패한 좌석의 호출자만 실패한다")
+    void shouldIsolateFailedTicket() throws Exception {
+        // given - 3번 좌석이 unique key 위반
+        given(ticketWriter.insertAllAndPublish(anyList(), anyList())).willAnswer(inv -> {
+            List<Ticket> tickets = inv.getArgument(0);
+            if (tickets.stream().anyMatch(ticket -> ticket.getSeatNumber() == 3)) {
+                throw new DataIntegrityViolationException("uk_tickets_show_seat");
+            }
+            return tickets;
+        });
+        committer = committer();
+
+        // when
+        List<Future<Ticket>> results = purchaseConcurrently(1, 2, 3, 4, 5);
+
+        // then
+        for (int i = 0; i < results.size(); i++) {
+            Future<Ticket> result = results.get(i);
+            if (i + 1 == 3) {
+                assertThatThrownBy(result::get).hasCauseInstanceOf(DataIntegrityViolationException.class);
+            } else {
+                assertThat(result.get().getSeatNumber()).isEqualTo(i + 1);
+            }
+        }
+        assertThat(meterRegistry.get("zticket.ticket.group-commit.fallback").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("혼자 들어온 구매는 max-delay-ms 안에 저장된다")
+    void shouldFlushAloneAfterDelay() {
+        // given
+        given(ticketWriter.insertAllAndPublish(anyList(), anyList())).willAnswer(inv -> inv.getArgument(0));
+        committer = committer();
+
+        // when
+        Ticket saved = committer.commit(Ticket.create(1L, SHOW_ID, "token-1", 7));
+
+        // then
+        assertThat(saved.getSeatNumber()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("저장 중 Error가 나도 호출자는 기다리지 않고 실패한다")
+    void shouldFailOnError() {
+        // given
+        given(ticketWriter.insertAllAndPublish(anyList(), anyList())).willThrow(new AssertionError("writer 오류"));
+        committer = committer();
+
+        // when & then
+        assertThatThrownBy(() -> committer.commit(Ticket.create(1L, SHOW_ID, "token-1", 7)))
+                .hasCauseInstanceOf(AssertionError.class);
+    }
+
+    @Test
+    @DisplayName("종료된 뒤에는 구매를 받지 않는다")
+    void shouldRejectAfterShutdown() throws InterruptedException {
+        // given
+        committer = committer();
+        committer.shutdown();
+
+        // when & then
+        assertThatThrownBy(() -> committer.commit(Ticket.create(1L, SHOW_ID, "token-1", 7)))
+                .isInstanceOf(IllegalStateException.class);
+        then(ticketWriter).shouldHaveNoInteractions();
+    }
+
+    private TicketGroupCommitter committer() {
+        meterRegistry = new SimpleMeterRegistry();
+        return new TicketGroupCommitter(ticketWriter, meterRegistry, MAX_BATCH_SIZE, MAX_DELAY_MS, 1, COMMIT_TIMEOUT_MS);
+    }
+
+    private List<Future<Ticket>> purchaseConcurrently(int... seatNumbers) {
+        List<Future<Ticket>> results = new ArrayList<>();
+        for (int seatNumber : seatNumbers) {
+            Ticket ticket = Ticket.create(seatNumber, SHOW_ID, "token-" + seatNumber, seatNumber);
+            results.add(callers.submit(() -> committer.commit(ticket)));
+        }
+        return results;
+    }
+}
@@ -1,69 +1,55 @@
 package kr.jemi.zticket.ticket.application.service;
 
-import kr.jemi.zticket.ticket.application.port.out.ActiveUserCheckPort;
-import kr.jemi.zticket.ticket.application.port.out.SeatHoldPort;
-import kr.jemi.zticket.ticket.application.port.out.TicketPort;
-import kr.jemi.zticket.ticket.domain.Ticket;
-import kr.jemi.zticket.ticket.domain.TicketStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDateTime;
-import java.util.Optional;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class TicketPaidHandlerTest {
 
     @Mock
-    private SeatHoldPort seatHoldPort;
-
-    @Mock
-    private TicketPort ticketPort;
-
-    @Mock
-    private ActiveUserCheckPort activeUserCheckPort;
+    private TicketSyncProcessor ticketSyncProcessor;
 
     @InjectMocks
     private TicketPaidHandler handler;
 
     @Test
-    @DisplayName("정상 처리: paySeat → sync+update → deactivate 순서로 실행된다")
-    void shouldExecuteStepsInOrder() {
-        // given
-        Ticket ticket = new Ticket(1L, 7, TicketStatus.PAID, "token-1", LocalDateTime.now(), LocalDateTime.now());
-        given(ticketPort.findById(1)).willReturn(Optional.of(ticket));
-
+    @DisplayName("단건 결제 이벤트의 티켓을 동기화 processor에 넘긴다")
+    void shouldEnqueueSingleTicket() {
         // when
         handler.handle(1);
 
         // then
-        InOrder inOrder = inOrder(seatHoldPort, ticketPort, activeUserCheckPort);
-        inOrder.verify(seatHoldPort).paySeat(7, "token-1");
-        inOrder.verify(ticketPort).update(any(Ticket.class));
-        inOrder.verify(activeUserCheckPort).deactivate("token-1");
+        then(ticketSyncProcessor).should().sync(List.of(1L));
     }
 
     @Test
-    @DisplayName("존재하지 않는 ticketId이면 IllegalStateException이 발생한다")
-    void shouldThrowWhenTicketNotFound() {
+    @DisplayName("단체 구매 티켓은 한 번에 넘긴다")
+    void shouldEnqueueGroupTogether() {
+        // when
+        handler.handleGroup(List.of(1L, 2L));
+
+        // then
+        then(ticketSyncProcessor).should().sync(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("동기화가 실패하면 예외를 그대로 던져 이벤트가 완료 처리되지 않는다")
+    void shouldPropagateFailure() {
         // given
-        given(ticketPort.findById(0)).willReturn(Optional.empty());
+        willThrow(new IllegalStateException("티켓 없음: [0]")).given(ticketSyncProcessor).sync(List.of(0L));
 
         // when & then
         assertThatThrownBy(() -> handler.handle(0))
                 .isInstanceOf(IllegalStateException.class)
                 .hasMessageContaining("티켓 없음");
-
-        then(seatHoldPort).shouldHaveNoInteractions();
-        then(activeUserCheckPort).shouldHaveNoInteractions();
     }
 }
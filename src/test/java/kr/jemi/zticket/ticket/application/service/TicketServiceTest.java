@@ -5,7 +5,9 @@ import kr.jemi.zticket.ticket.application.port.out.ActiveUserCheckPort;
 import kr.jemi.zticket.ticket.application.port.out.SeatHoldPort;
 import kr.jemi.zticket.common.exception.BusinessException;
 import kr.jemi.zticket.common.exception.ErrorCode;
+import kr.jemi.zticket.common.show.ShowCatalog;
 import kr.jemi.zticket.ticket.domain.Ticket;
+import kr.jemi.zticket.ticket.domain.TicketGroup;
 import kr.jemi.zticket.ticket.domain.TicketStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +18,9 @@ import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.OptionalInt;
+
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
@@ -32,18 +37,24 @@ class TicketServiceTest {
     @Mock
     private TicketWriter ticketWriter;
 
+    @Mock
+    private TicketGroupCommitter ticketGroupCommitter;
+
     private final TSID.Factory tsidFactory = TSID.Factory.newInstance256(0);
 
     private TicketService ticketService;
 
+    private static final long SHOW_ID = 1L;
     private static final long HOLD_TTL_SECONDS = 300L;
     private static final int TOTAL_SEAT_COUNT = 1000;
+    private static final int MAX_GROUP_SIZE = 4;
 
     @BeforeEach
     void setUp() {
         ticketService = new TicketService(
-                seatHoldPort, activeUserCheckPort, ticketWriter, tsidFactory,
-                HOLD_TTL_SECONDS, TOTAL_SEAT_COUNT);
+                seatHoldPort, activeUserCheckPort, ticketWriter, ticketGroupCommitter,
+                new ShowCatalog(List.of(SHOW_ID)), tsidFactory,
+                HOLD_TTL_SECONDS, TOTAL_SEAT_COUNT, MAX_GROUP_SIZE);
     }
 
     @Nested
@@ -56,39 +67,40 @@ class TicketServiceTest {
             // given
             String token = "active-token";
             int seatNumber = 7;
-            given(activeUserCheckPort.isActive(token)).willReturn(true);
-            given(seatHoldPort.holdSeat(seatNumber, token, HOLD_TTL_SECONDS)).willReturn(true);
-            given(ticketWriter.insertAndPublish(any(Ticket.class)))
+            given(activeUserCheckPort.isActive(SHOW_ID, token)).willReturn(true);
+            given(seatHoldPort.holdSeat(SHOW_ID, seatNumber, token, HOLD_TTL_SECONDS)).willReturn(true);
+            given(ticketGroupCommitter.commit(any(Ticket.class)))
                     .willAnswer(inv -> inv.getArgument(0));
 
             // when
-            Ticket result = ticketService.purchase(token, seatNumber);
+            Ticket result = ticketService.purchase(SHOW_ID, token, seatNumber);
 
             // then
             assertThat(result.getStatus()).isEqualTo(TicketStatus.PAID);
+            assertThat(result.getShowId()).isEqualTo(SHOW_ID);
             assertThat(result.getSeatNumber()).isEqualTo(seatNumber);
             assertThat(result.getQueueToken()).isEqualTo(token);
         }
 
         @Test
-        @DisplayName("정상 구매 시 올바른 순서로 실행된다: isActive → holdSeat → insertAndPublish")
+        @DisplayName("정상 구매 시 올바른 순서로 실행된다: isActive → holdSeat → commit")
         void shouldExecuteInOrder() {
             // given
             String token = "active-token";
             int seatNumber = 7;
-            given(activeUserCheckPort.isActive(token)).willReturn(true);
-            given(seatHoldPort.holdSeat(seatNumber, token, HOLD_TTL_SECONDS)).willReturn(true);
-            given(ticketWriter.insertAndPublish(any(Ticket.class)))
+            given(activeUserCheckPort.isActive(SHOW_ID, token)).willReturn(true);
+            given(seatHoldPort.holdSeat(SHOW_ID, seatNumber, token, HOLD_TTL_SECONDS)).willReturn(true);
+            given(ticketGroupCommitter.commit(any(Ticket.class)))
                     .willAnswer(inv -> inv.getArgument(0));
 
             // when
-            ticketService.purchase(token, seatNumber);
+            ticketService.purchase(SHOW_ID, token, seatNumber);
 
             // then
-            InOrder inOrder = inOrder(activeUserCheckPort, seatHoldPort, ticketWriter);
-            inOrder.verify(activeUserCheckPort).isActive(token);
-            inOrder.verify(seatHoldPort).holdSeat(seatNumber, token, HOLD_TTL_SECONDS);
-            inOrder.verify(ticketWriter).insertAndPublish(any(Ticket.class));
+            InOrder inOrder = inOrder(activeUserCheckPort, seatHoldPort, ticketGroupCommitter);
+            inOrder.verify(activeUserCheckPort).isActive(SHOW_ID, token);
+            inOrder.verify(seatHoldPort).holdSeat(SHOW_ID, seatNumber, token, HOLD_TTL_SECONDS);
+            inOrder.verify(ticketGroupCommitter).commit(any(Ticket.class));
         }
     }
 
@@ -99,7 +111,7 @@ class TicketServiceTest {
         @Test
         @DisplayName("좌석 번호가 0이면 INVALID_SEAT_NUMBERS 예외가 발생한다")
         void shouldRejectZeroSeatNumber() {
-            assertThatThrownBy(() -> ticketService.purchase("token", 0))
+            assertThatThrownBy(() -> ticketService.purchase(SHOW_ID, "token", 0))
                     .isInstanceOf(BusinessException.class)
                     .extracting(e -> ((BusinessException) e).getErrorCode())
                     .isEqualTo(ErrorCode.INVALID_SEAT_NUMBERS);
@@ -110,13 +122,25 @@ class TicketServiceTest {
         @Test
         @DisplayName("좌석 번호가 총 좌석 수를 초과하면 INVALID_SEAT_NUMBERS 예외가 발생한다")
         void shouldRejectSeatNumberExceedingTotal() {
-            assertThatThrownBy(() -> ticketService.purchase("token", TOTAL_SEAT_COUNT + 1))
+            assertThatThrownBy(() -> ticketService.purchase(SHOW_ID, "token", TOTAL_SEAT_COUNT + 1))
                     .isInstanceOf(BusinessException.class)
                     .extracting(e -> ((BusinessException) e).getErrorCode())
                     .isEqualTo(ErrorCode.INVALID_SEAT_NUMBERS);
 
             then(activeUserCheckPort).shouldHaveNoInteractions();
         }
+
+        @Test
+        @DisplayName("등록되지 않은 공연이면 SHOW_NOT_FOUND 예외가 발생한다")
+        void shouldRejectUnknownShow() {
+            assertThatThrownBy(() -> ticketService.purchase(99L, "token", 7))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.SHOW_NOT_FOUND);
+
+            then(seatHoldPort).shouldHaveNoInteractions();
+            then(activeUserCheckPort).shouldHaveNoInteractions();
+        }
     }
 
     @Nested
@@ -127,16 +151,32 @@ class TicketServiceTest {
         @DisplayName("비활성 사용자가 구매 시도하면 NOT_ACTIVE_USER 예외가 발생한다")
         void shouldRejectNonActiveUser() {
             // given
-            given(activeUserCheckPort.isActive("expired-token")).willReturn(false);
+            given(activeUserCheckPort.isActive(SHOW_ID, "expired-token")).willReturn(false);
 
             // when & then
-            assertThatThrownBy(() -> ticketService.purchase("expired-token", 7))
+            assertThatThrownBy(() -> ticketService.purchase(SHOW_ID, "expired-token", 7))
                     .isInstanceOf(BusinessException.class)
                     .extracting(e -> ((BusinessException) e).getErrorCode())
                     .isEqualTo(ErrorCode.NOT_ACTIVE_USER);
 
-            then(seatHoldPort).shouldHaveNoInteractions();
-            then(ticketWriter).shouldHaveNoInteractions();
+            then(seatHoldPort).should(never()).holdSeat(eq(SHOW_ID), anyInt(), anyString(), anyLong());
+            then(ticketGroupCommitter).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("이미 판매된 좌석은 활성 사용자 검증과 Redis 선점 없이 SEAT_ALREADY_HELD 예외가 발생한다")
+        void shouldRejectSoldSeatBeforeTouchingRedis() {
+            // given
+            given(seatHoldPort.isSold(SHOW_ID, 7)).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> ticketService.purchase(SHOW_ID, "active-token", 7))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.SEAT_ALREADY_HELD);
+
+            then(activeUserCheckPort).shouldHaveNoInteractions();
+            then(seatHoldPort).should(never()).holdSeat(eq(SHOW_ID), anyInt(), anyString(), anyLong());
         }
     }
 
@@ -149,16 +189,16 @@ class TicketServiceTest {
         void shouldRejectAlreadyHeldSeat() {
             // given
             String token = "active-token";
-            given(activeUserCheckPort.isActive(token)).willReturn(true);
-            given(seatHoldPort.holdSeat(7, token, HOLD_TTL_SECONDS)).willReturn(false);
+            given(activeUserCheckPort.isActive(SHOW_ID, token)).willReturn(true);
+            given(seatHoldPort.holdSeat(SHOW_ID, 7, token, HOLD_TTL_SECONDS)).willReturn(false);
 
             // when & then
-            assertThatThrownBy(() -> ticketService.purchase(token, 7))
+            assertThatThrownBy(() -> ticketService.purchase(SHOW_ID, token, 7))
                     .isInstanceOf(BusinessException.class)
                     .extracting(e -> ((BusinessException) e).getErrorCode())
                     .isEqualTo(ErrorCode.SEAT_ALREADY_HELD);
 
-            then(ticketWriter).shouldHaveNoInteractions();
+            then(ticketGroupCommitter).shouldHaveNoInteractions();
         }
 
         @Test
@@ -166,16 +206,16 @@ class TicketServiceTest {
         void shouldPassConfiguredTtl() {
             // given
             String token = "active-token";
-            given(activeUserCheckPort.isActive(token)).willReturn(true);
-            given(seatHoldPort.holdSeat(7, token, HOLD_TTL_SECONDS)).willReturn(true);
-            given(ticketWriter.insertAndPublish(any()))
+            given(activeUserCheckPort.isActive(SHOW_ID, token)).willReturn(true);
+            given(seatHoldPort.holdSeat(SHOW_ID, 7, token, HOLD_TTL_SECONDS)).willReturn(true);
+            given(ticketGroupCommitter.commit(any()))
                     .willAnswer(inv -> inv.getArgument(0));
 
             // when
-            ticketService.purchase(token, 7);
+            ticketService.purchase(SHOW_ID, token, 7);
 
             // then
-            then(seatHoldPort).should().holdSeat(7, token, 300L);
+            then(seatHoldPort).should().holdSeat(SHOW_ID, 7, token, 300L);
         }
     }
 
@@ -189,19 +229,199 @@ class TicketServiceTest {
             // given
             String token = "active-token";
             int seatNumber = 7;
-            given(activeUserCheckPort.isActive(token)).willReturn(true);
-            given(seatHoldPort.holdSeat(seatNumber, token, HOLD_TTL_SECONDS)).willReturn(true);
-            given(ticketWriter.insertAndPublish(any(Ticket.class)))
+            given(activeUserCheckPort.isActive(SHOW_ID, token)).willReturn(true);
+            given(seatHoldPort.holdSeat(SHOW_ID, seatNumber, token, HOLD_TTL_SECONDS)).willReturn(true);
+            given(ticketGroupCommitter.commit(any(Ticket.class)))
                     .willThrow(new RuntimeException("DB connection failed"));
 
             // when & then
-            assertThatThrownBy(() -> ticketService.purchase(token, seatNumber))
+            assertThatThrownBy(() -> ticketService.purchase(SHOW_ID, token, seatNumber))
                     .isInstanceOf(BusinessException.class)
                     .extracting(e -> ((BusinessException) e).getErrorCode())
                     .isEqualTo(ErrorCode.INTERNAL_ERROR);
 
-            then(seatHoldPort).should().releaseSeat(seatNumber, token);
+            then(seatHoldPort).should().releaseSeat(SHOW_ID, seatNumber, token);
         }
     }
 
+    @Nested
+    @DisplayName("purchaseGroup() - 단체 구매")
+    class PurchaseGroup {
+
+        @Test
+        @DisplayName("정상 구매: 좌석을 한 번에 선점하고 티켓을 한 묶음으로 저장한다")
+        void shouldHoldAllAndInsertOnce() {
+            // given
+            String token = "active-token";
+            List<Integer> seats = List.of(3, 4, 5);
+            given(activeUserCheckPort.isActive(SHOW_ID, token)).willReturn(true);
+            given(seatHoldPort.holdSeats(SHOW_ID, seats, token, HOLD_TTL_SECONDS)).willReturn(true);
+            given(ticketWriter.insertAllAndPublish(any(TicketGroup.class)))
+                    .willAnswer(inv -> inv.<TicketGroup>getArgument(0).getTickets());
+
+            // when
+            List<Ticket> result = ticketService.purchaseGroup(SHOW_ID, token, seats);
+
+            // then
+            assertThat(result).extracting(Ticket::getSeatNumber).containsExactly(3, 4, 5);
+            assertThat(result).extracting(Ticket::getId).doesNotHaveDuplicates();
+            then(seatHoldPort).should(never()).holdSeat(eq(SHOW_ID), anyInt(), anyString(), anyLong());
+            then(ticketWriter).should().insertAllAndPublish(any(TicketGroup.class));
+        }
+
+        @Test
+        @DisplayName("최대 좌석 수를 넘으면 GROUP_SIZE_EXCEEDED 예외가 발생한다")
+        void shouldRejectTooManySeats() {
+            assertThatThrownBy(() -> ticketService.purchaseGroup(SHOW_ID, "token", List.of(1, 2, 3, 4, 5)))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.GROUP_SIZE_EXCEEDED);
+
+            then(activeUserCheckPort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("중복되거나 범위를 벗어난 좌석 번호는 INVALID_SEAT_NUMBERS 예외가 발생한다")
+        void shouldRejectInvalidSeatNumbers() {
+            assertThatThrownBy(() -> ticketService.purchaseGroup(SHOW_ID, "token", List.of(1, 1)))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.INVALID_SEAT_NUMBERS);
+            assertThatThrownBy(() -> ticketService.purchaseGroup(SHOW_ID, "token", List.of(1, TOTAL_SEAT_COUNT + 1)))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.INVALID_SEAT_NUMBERS);
+
+            then(activeUserCheckPort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("일괄 선점에 실패하면 SEAT_ALREADY_HELD 예외가 발생하고 DB에 저장하지 않는다")
+        void shouldRejectWhenAnySeatIsHeld() {
+            // given
+            String token = "active-token";
+            given(activeUserCheckPort.isActive(SHOW_ID, token)).willReturn(true);
+            given(seatHoldPort.holdSeats(SHOW_ID, List.of(3, 4), token, HOLD_TTL_SECONDS)).willReturn(false);
+
+            // when & then
+            assertThatThrownBy(() -> ticketService.purchaseGroup(SHOW_ID, token, List.of(3, 4)))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.SEAT_ALREADY_HELD);
+
+            then(ticketWriter).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("DB 저장 실패 시 선점한 좌석을 모두 해제한다")
+        void shouldReleaseAllOnDbFailure() {
+            // given
+            String token = "active-token";
+            given(activeUserCheckPort.isActive(SHOW_ID, token)).willReturn(true);
+            given(seatHoldPort.holdSeats(SHOW_ID, List.of(3, 4), token, HOLD_TTL_SECONDS)).willReturn(true);
+            given(ticketWriter.insertAllAndPublish(any(TicketGroup.class)))
+                    .willThrow(new RuntimeException("DB connection failed"));
+
+            // when & then
+            assertThatThrownBy(() -> ticketService.purchaseGroup(SHOW_ID, token, List.of(3, 4)))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.INTERNAL_ERROR);
+
+            then(seatHoldPort).should().releaseSeat(SHOW_ID, 3, token);
+            then(seatHoldPort).should().releaseSeat(SHOW_ID, 4, token);
+        }
+    }
+
+    @Nested
+    @DisplayName("purchaseAny() - 좌석 자동 배정 구매")
+    class PurchaseAny {
+
+        @Test
+        @DisplayName("정상 구매: 구간에서 배정된 좌석으로 PAID 티켓을 반환한다")
+        void shouldPurchaseAllocatedSeat() {
+            // given
+            String token = "active-token";
+            given(activeUserCheckPort.isActive(SHOW_ID, token)).willReturn(true);
+            given(seatHoldPort.holdAnySeat(SHOW_ID, 10, 20, token, HOLD_TTL_SECONDS)).willReturn(OptionalInt.of(12));
+            given(ticketGroupCommitter.commit(any(Ticket.class)))
+                    .willAnswer(inv -> inv.getArgument(0));
+
+            // when
+            Ticket result = ticketService.purchaseAny(SHOW_ID, token, 10, 20);
+
+            // then
+            assertThat(result.getSeatNumber()).isEqualTo(12);
+            assertThat(result.getStatus()).isEqualTo(TicketStatus.PAID);
+        }
+
+        @Test
+        @DisplayName("구간 끝이 총 좌석 수를 넘으면 총 좌석 수까지로 배정한다")
+        void shouldClampRangeToTotalSeatCount() {
+            // given
+            String token = "active-token";
+            given(activeUserCheckPort.isActive(SHOW_ID, token)).willReturn(true);
+            given(seatHoldPort.holdAnySeat(SHOW_ID, 1, TOTAL_SEAT_COUNT, token, HOLD_TTL_SECONDS))
+                    .willReturn(OptionalInt.of(1));
+            given(ticketGroupCommitter.commit(any(Ticket.class)))
+                    .willAnswer(inv -> inv.getArgument(0));
+
+            // when
+            ticketService.purchaseAny(SHOW_ID, token, 1, Integer.MAX_VALUE);
+
+            // then
+            then(seatHoldPort).should().holdAnySeat(SHOW_ID, 1, TOTAL_SEAT_COUNT, token, HOLD_TTL_SECONDS);
+        }
+
+        @Test
+        @DisplayName("구간이 비었거나 범위를 벗어나면 INVALID_SEAT_NUMBERS 예외가 발생한다")
+        void shouldRejectInvalidRange() {
+            assertThatThrownBy(() -> ticketService.purchaseAny(SHOW_ID, "token", 0, 10))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.INVALID_SEAT_NUMBERS);
+            assertThatThrownBy(() -> ticketService.purchaseAny(SHOW_ID, "token", 20, 10))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.INVALID_SEAT_NUMBERS);
+
+            then(seatHoldPort).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("구간에 빈 좌석이 없으면 NO_SEAT_AVAILABLE 예외가 발생하고 DB에 저장하지 않는다")
+        void shouldThrowWhenNoSeatLeft() {
+            // given
+            String token = "active-token";
+            given(activeUserCheckPort.isActive(SHOW_ID, token)).willReturn(true);
+            given(seatHoldPort.holdAnySeat(SHOW_ID, 1, 10, token, HOLD_TTL_SECONDS)).willReturn(OptionalInt.empty());
+
+            // when & then
+            assertThatThrownBy(() -> ticketService.purchaseAny(SHOW_ID, token, 1, 10))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.NO_SEAT_AVAILABLE);
+
+            then(ticketGroupCommitter).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("DB 저장 실패 시 배정된 좌석을 해제한다")
+        void shouldReleaseAllocatedSeatOnDbFailure() {
+            // given
+            String token = "active-token";
+            given(activeUserCheckPort.isActive(SHOW_ID, token)).willReturn(true);
+            given(seatHoldPort.holdAnySeat(SHOW_ID, 1, 10, token, HOLD_TTL_SECONDS)).willReturn(OptionalInt.of(3));
+            given(ticketGroupCommitter.commit(any(Ticket.class)))
+                    .willThrow(new RuntimeException("DB connection failed"));
+
+            // when & then
+            assertThatThrownBy(() -> ticketService.purchaseAny(SHOW_ID, token, 1, 10))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.INTERNAL_ERROR);
+
+            then(seatHoldPort).should().releaseSeat(SHOW_ID, 3, token);
+        }
+    }
 }
@@ -0,0 +1,223 @@
+package kr.jemi.zticket.ticket.application.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.jemi.zticket.ticket.application.port.out.ActiveUserCheckPort;
+import kr.jemi.zticket.ticket.application.port.out.SeatHoldPort;
+import kr.jemi.zticket.ticket.application.port.out.TicketPort;
+import kr.jemi.zticket.ticket.domain.Ticket;
+import kr.jemi.zticket.ticket.domain.TicketStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketSyncProcessorTest {
+
+    private static final long SHOW_ID = 1L;
+    private static final int CHUNK_SIZE = 5;
+    private static final long MAX_DELAY_MS = 500L;
+    private static final long TIMEOUT_MS = 5000L;
+
+    @Mock
+    private SeatHoldPort seatHoldPort;
+
+    @Mock
+    private TicketPort ticketPort;
+
+    @Mock
+    private ActiveUserCheckPort activeUserCheckPort;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private TicketSyncProcessor processor;
+
+    private final ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        callers.shutdownNow();
+        if (processor != null) {
+            processor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("정상 처리: paySeats → syncAll → deactivateBatch 순서로 실행된다")
+    void shouldExecuteStepsInOrder() {
+        // given
+        given(ticketPort.findAllById(List.of(1L))).willReturn(List.of(paid(1L, 7, "token-1")));
+        processor = processor();
+
+        // when
+        processor.sync(List.of(1L));
+
+        // then
+        InOrder inOrder = inOrder(seatHoldPort, ticketPort, activeUserCheckPort);
+        inOrder.verify(seatHoldPort).paySeats(SHOW_ID, Map.of(7, "token-1"));
+        inOrder.verify(ticketPort).syncAll(eq(List.of(1L)), any(LocalDateTime.class));
+        inOrder.verify(activeUserCheckPort).deactivateBatch(SHOW_ID, List.of("token-1"));
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 티켓을 한 chunk로 모아 조회·좌석 확정·UPDATE·토큰 제거를 한 번씩만 한다")
+    void shouldSyncConcurrentTicketsTogether() throws Exception {
+        // given
+        List<Ticket> tickets = new ArrayList<>();
+        for (long id = 1; id <= CHUNK_SIZE; id++) {
+            tickets.add(paid(id, (int) id, "token-" + id));
+        }
+        given(ticketPort.findAllById(anyList())).willReturn(tickets);
+        processor = processor();
+
+        // when
+        List<Future<?>> results = new ArrayList<>();
+        for (long id = 1; id <= CHUNK_SIZE; id++) {
+            long ticketId = id;
+            results.add(callers.submit(() -> processor.sync(List.of(ticketId))));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+
+        // then
+        then(ticketPort).should(times(1)).findAllById(argThat(ids -> ids.size() == CHUNK_SIZE));
+        then(seatHoldPort).should(times(1)).paySeats(eq(SHOW_ID), argThat(seats -> seats.size() == CHUNK_SIZE));
+        then(ticketPort).should(times(1)).syncAll(argThat(ids -> ids.size() == CHUNK_SIZE), any(LocalDateTime.class));
+        then(activeUserCheckPort).should(times(1)).deactivateBatch(eq(SHOW_ID), argThat(tokens -> tokens.size() == CHUNK_SIZE));
+        assertThat(meterRegistry.get("zticket.ticket.sync.chunk.size").summary().max()).isEqualTo(CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("단체 구매: 모든 좌석을 확정하고 토큰은 한 번만 비활성화한다")
+    void shouldSyncGroupAndDeactivateOnce() {
+        // given
+        given(ticketPort.findAllById(List.of(1L, 2L)))
+                .willReturn(List.of(paid(1L, 7, "token-1"), paid(2L, 8, "token-1")));
+        processor = processor();
+
+        // when
+        processor.sync(List.of(1L, 2L));
+
+        // then
+        then(seatHoldPort).should().paySeats(SHOW_ID, Map.of(7, "token-1", 8, "token-1"));
+        then(ticketPort).should().syncAll(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        then(activeUserCheckPort).should(times(1)).deactivateBatch(SHOW_ID, List.of("token-1"));
+    }
+
+    @Test
+    @DisplayName("이미 SYNCED인 티켓은 좌석 확정·UPDATE를 건너뛰고 토큰만 다시 제거한다")
+    void shouldOnlyDeactivateSyncedTicket() {
+        // given - 직전 처리가 SYNCED 변경 후 토큰 제거에서 실패했다
+        Ticket synced = paid(1L, 7, "token-1");
+        synced.sync();
+        given(ticketPort.findAllById(List.of(1L))).willReturn(List.of(synced));
+        processor = processor();
+
+        // when
+        processor.sync(List.of(1L));
+
+        // then
+        then(seatHoldPort).shouldHaveNoInteractions();
+        then(ticketPort).should(never()).syncAll(anyList(), any());
+        then(activeUserCheckPort).should().deactivateBatch(SHOW_ID, List.of("token-1"));
+    }
+
+    @Test
+    @DisplayName("chunk 동기화가 실패하면 요청별로 다시 처리하여 실패한 티켓의 호출자만 실패한다")
+    void shouldIsolateFailedRequest() throws Exception {
+        // given - 3번 좌석 확정이 실패
+        List<Ticket> tickets = new ArrayList<>();
+        for (long id = 1; id <= CHUNK_SIZE; id++) {
+            tickets.add(paid(id, (int) id, "token-" + id));
+        }
+        given(ticketPort.findAllById(anyList())).willReturn(tickets);
+        willAnswer(inv -> {
+            Map<Integer, String> seats = inv.getArgument(1);
+            if (seats.containsKey(3)) {
+                throw new QueryTimeoutException("redis timeout");
+            }
+            return null;
+        }).given(seatHoldPort).paySeats(anyLong(), anyMap());
+        processor = processor();
+
+        // when
+        List<Future<?>> results = new ArrayList<>();
+        for (long id = 1; id <= CHUNK_SIZE; id++) {
+            long ticketId = id;
+            results.add(callers.submit(() -> processor.sync(List.of(ticketId))));
+        }
+
+        // then
+        for (int i = 0; i < results.size(); i++) {
+            Future<?> result = results.get(i);
+            if (i + 1 == 3) {
+                assertThatThrownBy(result::get).hasCauseInstanceOf(QueryTimeoutException.class);
+            } else {
+                result.get();
+            }
+        }
+        then(ticketPort).should(times(CHUNK_SIZE - 1)).syncAll(argThat(ids -> ids.size() == 1), any(LocalDateTime.class));
+        then(activeUserCheckPort).should(never()).deactivateBatch(SHOW_ID, List.of("token-3"));
+        assertThat(meterRegistry.get("zticket.ticket.sync.fallback").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 ticketId이면 IllegalStateException이 발생한다")
+    void shouldThrowWhenTicketNotFound() {
+        // given
+        given(ticketPort.findAllById(List.of(0L))).willReturn(List.of());
+        processor = processor();
+
+        // when & then
+        assertThatThrownBy(() -> processor.sync(List.of(0L)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("티켓 없음");
+
+        then(seatHoldPort).shouldHaveNoInteractions();
+        then(activeUserCheckPort).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("좌석 확정이 실패하면 SYNCED로 바꾸지 않고 예외를 그대로 던진다")
+    void shouldNotSyncWhenPayFails() {
+        // given
+        given(ticketPort.findAllById(List.of(1L))).willReturn(List.of(paid(1L, 7, "token-1")));
+        willThrow(new QueryTimeoutException("redis timeout")).given(seatHoldPort).paySeats(anyLong(), anyMap());
+        processor = processor();
+
+        // when & then
+        assertThatThrownBy(() -> processor.sync(List.of(1L)))
+                .isInstanceOf(QueryTimeoutException.class);
+
+        then(ticketPort).should(never()).syncAll(anyList(), any());
+        then(activeUserCheckPort).shouldHaveNoInteractions();
+    }
+
+    private TicketSyncProcessor processor() {
+        meterRegistry = new SimpleMeterRegistry();
+        return new TicketSyncProcessor(seatHoldPort, ticketPort, activeUserCheckPort, meterRegistry,
+                CHUNK_SIZE, MAX_DELAY_MS, 1, TIMEOUT_MS);
+    }
+
+    private static Ticket paid(long id, int seatNumber, String token) {
+        return new Ticket(id, SHOW_ID, seatNumber, TicketStatus.PAID, token, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,85 @@
+package kr.jemi.zticket.ticket.infrastructure.out.persistence;
+
+import kr.jemi.zticket.integration.IntegrationTestBase;
+import kr.jemi.zticket.ticket.application.port.out.TicketPort;
+import kr.jemi.zticket.ticket.domain.Ticket;
+import kr.jemi.zticket.ticket.domain.TicketStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TicketJdbcAdapterTest extends IntegrationTestBase {
+
+    @Autowired
+    TicketPort ticketPort;
+
+    @Test
+    @DisplayName("insertAll한 티켓을 그대로 조회한다")
+    void insertAll_and_findAllById() {
+        Ticket ticket = Ticket.create(1L, SHOW_ID, "token-1", 7);
+
+        ticketPort.insertAll(List.of(ticket));
+
+        Ticket found = ticketPort.findAllById(List.of(1L)).getFirst();
+        assertThat(found.getShowId()).isEqualTo(SHOW_ID);
+        assertThat(found.getSeatNumber()).isEqualTo(7);
+        assertThat(found.getStatus()).isEqualTo(TicketStatus.PAID);
+        assertThat(found.getQueueToken()).isEqualTo("token-1");
+    }
+
+    @Test
+    @DisplayName("insertAll은 여러 티켓을 한 번에 저장한다")
+    void insertAll_saves_every_ticket() {
+        ticketPort.insertAll(List.of(
+                Ticket.create(1L, SHOW_ID, "token-1", 1),
+                Ticket.create(2L, SHOW_ID, "token-1", 2),
+                Ticket.create(3L, SHOW_ID, "token-2", 3)));
+
+        assertThat(ticketPort.findAllById(List.of(1L, 2L, 3L)))
+                .extracting(Ticket::getStatus)
+                .containsOnly(TicketStatus.PAID)
+                .hasSize(3);
+    }
+
+    @Test
+    @DisplayName("같은 공연의 같은 좌석은 다시 insertAll할 수 없다")
+    void insertAll_rejects_duplicate_seat() {
+        ticketPort.insertAll(List.of(Ticket.create(1L, SHOW_ID, "token-1", 7)));
+
+        assertThatThrownBy(() -> ticketPort.insertAll(List.of(Ticket.create(2L, SHOW_ID, "token-2", 7))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("syncAll은 PAID인 티켓만 한 번에 SYNCED로 바꾸고 바뀐 행 수를 반환한다")
+    void syncAll_changes_only_paid_tickets() {
+        ticketPort.insertAll(List.of(
+                Ticket.create(1L, SHOW_ID, "token-1", 7),
+                Ticket.create(2L, SHOW_ID, "token-2", 8),
+                Ticket.create(3L, SHOW_ID, "token-3", 9)));
+
+        int first = ticketPort.syncAll(List.of(1L, 2L), LocalDateTime.now());
+        int second = ticketPort.syncAll(List.of(1L, 2L), LocalDateTime.now());
+
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isZero();
+        assertThat(ticketPort.findAllById(List.of(1L, 2L, 3L)))
+                .filteredOn(ticket -> ticket.getStatus() == TicketStatus.PAID)
+                .extracting(Ticket::getId)
+                .containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("없는 id를 조회하면 빈 값을 반환한다")
+    void findAllById_returns_empty_when_absent() {
+        assertThat(ticketPort.findAllById(List.of(99L))).isEmpty();
+        assertThat(ticketPort.findAllById(List.of())).isEmpty();
+    }
+}